@@ -0,0 +1,97 @@
+package benchmarks;
+
+import client.utils.CurrencyConverter;
+import commons.Event;
+import commons.Expense;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CurrencyConverterBenchmark {
+
+    /**
+     * A day in the past, so that the converter uses the rate of that day
+     */
+    private static final String DAY = "2000-01-01";
+    private static final Path RATES = Path.of("client", "src", "main", "resources", "rates");
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    private int expenses;
+
+    private CurrencyConverter converter;
+    private Event event;
+    private boolean createdDay;
+
+    /**
+     * Writes the rate the converter caches on disk, so that every conversion hits the
+     * cache. The converter has no server, a conversion that misses the cache fails.
+     * @throws IOException if the rate could not be written
+     */
+    @Setup
+    public void setup() throws IOException {
+        createdDay = !Files.exists(RATES.resolve(DAY));
+        Path rate = RATES.resolve(Path.of(DAY, "EUR", "USD.txt"));
+        Files.createDirectories(rate.getParent());
+        Files.writeString(rate, "1.1");
+        converter = new CurrencyConverter(null);
+        event = SyntheticEvents.build(expenses);
+        Date day = java.sql.Date.valueOf(DAY);
+        for (Expense expense : event.getExpensesList()) {
+            expense.setDate(day);
+        }
+    }
+
+    /**
+     * Deletes the rates written by the setup, unless they were there before
+     * @throws IOException if the rates could not be deleted
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        if (!createdDay) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(RATES.resolve(DAY))) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Converts the amount of every expense of the event to another currency,
+     * as the overview does to show the total of an event
+     * @return the total in the other currency
+     */
+    @Benchmark
+    public double convertAll() {
+        double total = 0;
+        for (Expense expense : event.getExpensesList()) {
+            total += converter.convert(expense.getDate(), expense.getCurrency(), "USD",
+                    expense.getAmount());
+        }
+        return total;
+    }
+}
@@ -0,0 +1,154 @@
+package benchmarks;
+
+import commons.Event;
+import commons.Expense;
+import commons.Participant;
+import commons.ParticipantPayment;
+import commons.Tag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import server.Main;
+import server.api.EventService;
+import server.api.TagService;
+import server.database.EventRepository;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExpenseLookupBenchmark {
+
+    private static final int PARTICIPANTS = 20;
+    private static final int GUEST_EXPENSES = 10;
+
+    @Param({"100", "1000", "10000"})
+    private int expenses;
+
+    private ConfigurableApplicationContext context;
+    private EventRepository eventRepository;
+    private EventService eventService;
+    private TagService tagService;
+    private long inviteCode;
+    private long guest;
+
+    /**
+     * Starts the server on an in-memory database and stores an event with the benchmarked
+     * number of expenses. A guest pays, shares and tags the same few expenses whatever the
+     * size of the event, so a lookup that only reads the matching rows stays flat.
+     */
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(Main.class)
+                .properties("spring.datasource.url=jdbc:h2:mem:lookup" + expenses,
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "server.port=0",
+                        "archive.inactive-days=0")
+                .run();
+        eventRepository = context.getBean(EventRepository.class);
+        eventService = context.getBean(EventService.class);
+        tagService = context.getBean(TagService.class);
+        Event event = eventRepository.save(build());
+        inviteCode = event.getInviteCode();
+        guest = event.getParticipantsList().stream()
+                .filter(p -> p.getName().equals("guest"))
+                .findFirst().orElseThrow().getId();
+    }
+
+    /**
+     * Stops the server
+     */
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Finds the expenses paid by the guest with the indexed query
+     * @return the expenses
+     */
+    @Benchmark
+    public List<Expense> payee() {
+        return eventService.getExpensesInvolvingPayee(inviteCode, guest).getBody();
+    }
+
+    /**
+     * Finds the expenses shared by the guest with the indexed query
+     * @return the expenses
+     */
+    @Benchmark
+    public List<Expense> participant() {
+        return eventService.getExpensesInvolvingParticipant(inviteCode, guest).getBody();
+    }
+
+    /**
+     * Finds the expenses with the tag of the guest with the indexed query
+     * @return the expenses
+     */
+    @Benchmark
+    public List<Expense> tag() {
+        return tagService.getAllExpensesWithTag(inviteCode, "guest").getBody();
+    }
+
+    /**
+     * Loads the whole event and filters the expenses paid by the guest,
+     * as the lookups used to do, as a baseline
+     * @return the expenses
+     */
+    @Benchmark
+    public List<Expense> loadEventAndFilter() {
+        return eventRepository.findById(inviteCode).orElseThrow().getExpensesList().stream()
+                .filter(x -> x.getPayee().getId() == guest)
+                .toList();
+    }
+
+    /**
+     * Builds a synthetic event with the benchmarked number of expenses
+     * @return the event
+     */
+    private Event build() {
+        Event result = new Event("Benchmark", new Date(), new Date());
+        List<Participant> participants = new ArrayList<>();
+        for (int i = 0; i < PARTICIPANTS; i++) {
+            participants.add(new Participant("p" + i, "p" + i + "@mail.com", null, null));
+        }
+        Participant guest = new Participant("guest", "guest@mail.com", null, null);
+        Tag food = new Tag("food", "#93c47d");
+        Tag guestTag = new Tag("guest", "#e06666");
+        for (int i = 0; i < expenses; i++) {
+            boolean byGuest = i % (expenses / GUEST_EXPENSES) == 0;
+            Participant payee = byGuest ? guest : participants.get(i % PARTICIPANTS);
+            List<ParticipantPayment> split = new ArrayList<>();
+            for (int j = 1; j <= 3; j++) {
+                Participant debtor = byGuest && j == 1
+                        ? guest : participants.get((i + j) % PARTICIPANTS);
+                split.add(new ParticipantPayment(debtor, i % 7 + j));
+            }
+            result.getExpensesList().add(new Expense(i % 50 + 1, "EUR", "expense " + i, "",
+                    new Date(i * 60_000L), split, byGuest ? guestTag : food, payee));
+        }
+        result.getParticipantsList().addAll(participants);
+        result.getParticipantsList().add(guest);
+        result.getTagsList().add(food);
+        result.getTagsList().add(guestTag);
+        return result;
+    }
+}
@@ -0,0 +1,109 @@
+package benchmarks;
+
+import commons.Event;
+import commons.Expense;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FullEqualsBenchmark {
+
+    /**
+     * Two fully equal events, the copy has its lists in reverse order
+     * so that the comparison cannot match elements by position
+     */
+    @State(Scope.Benchmark)
+    public static class Events {
+
+        @Param({"10", "100", "1000", "10000", "100000"})
+        private int expenses;
+
+        private Event event;
+        private Event copy;
+
+        /**
+         * Builds the events
+         */
+        @Setup
+        public void setup() {
+            event = SyntheticEvents.build(expenses, SyntheticEvents.PARTICIPANTS, false);
+            copy = SyntheticEvents.build(expenses, SyntheticEvents.PARTICIPANTS, true);
+        }
+    }
+
+    /**
+     * The same events, in sizes the quadratic baseline can still compare
+     */
+    @State(Scope.Benchmark)
+    public static class SmallEvents {
+
+        @Param({"10", "100", "1000", "2000"})
+        private int expenses;
+
+        private Event event;
+        private Event copy;
+
+        /**
+         * Builds the events
+         */
+        @Setup
+        public void setup() {
+            event = SyntheticEvents.build(expenses, SyntheticEvents.PARTICIPANTS, false);
+            copy = SyntheticEvents.build(expenses, SyntheticEvents.PARTICIPANTS, true);
+        }
+    }
+
+    /**
+     * Compares the events with the hash based fullEquals
+     * @param events the events
+     * @return whether the events are equal
+     */
+    @Benchmark
+    public boolean fullEquals(Events events) {
+        return events.event.fullEquals(events.copy);
+    }
+
+    /**
+     * Compares the expenses of the events with the nested loops
+     * that fullEquals used before, as a baseline
+     * @param events the events
+     * @return whether the expenses are equal
+     */
+    @Benchmark
+    public boolean nestedLoops(SmallEvents events) {
+        return nestedLoops(events.event.getExpensesList(), events.copy.getExpensesList());
+    }
+
+    /**
+     * The quadratic comparison of expense lists that fullEquals used to do
+     * @param list the first list
+     * @param other the second list
+     * @return whether every expense has a fully equal expense in the other list
+     */
+    private static boolean nestedLoops(List<Expense> list, List<Expense> other) {
+        if (list.size() != other.size()) return false;
+        for (Expense e : list) {
+            if (other.stream().noneMatch(e::fullEquals)) return false;
+        }
+        for (Expense e : other) {
+            if (list.stream().noneMatch(o -> o.fullEquals(e))) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,64 @@
+package benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import commons.Event;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    private int expenses;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private Event event;
+    private byte[] json;
+
+    /**
+     * Builds the event and writes it once, for the benchmark that reads it
+     * @throws IOException if the event could not be written
+     */
+    @Setup
+    public void setup() throws IOException {
+        event = SyntheticEvents.build(expenses);
+        json = mapper.writeValueAsBytes(event);
+    }
+
+    /**
+     * Writes the event as JSON, as the server does when it sends an event
+     * @return the JSON
+     * @throws IOException if the event could not be written
+     */
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return mapper.writeValueAsBytes(event);
+    }
+
+    /**
+     * Reads the event from JSON, as the client does when it receives an event
+     * @return the event
+     * @throws IOException if the event could not be read
+     */
+    @Benchmark
+    public Event deserialize() throws IOException {
+        return mapper.readValue(json, Event.class);
+    }
+}
@@ -0,0 +1,69 @@
+package benchmarks;
+
+import client.utils.Debt;
+import commons.Event;
+import commons.Expense;
+import commons.Participant;
+import commons.ParticipantPayment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SettlementBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    private int expenses;
+
+    private Map<Participant, Double> shares;
+
+    /**
+     * Computes the shares of an event with one participant for every five expenses,
+     * the way the debts page does before it settles them
+     */
+    @Setup
+    public void setup() {
+        Event event = SyntheticEvents.build(expenses, Math.max(4, expenses / 5), false);
+        shares = new HashMap<>();
+        for (Participant participant : event.getParticipantsList()) {
+            shares.put(participant, 0.0);
+        }
+        for (Expense expense : event.getExpensesList()) {
+            for (ParticipantPayment payment : expense.getSplit()) {
+                if (!payment.getParticipant().equals(expense.getPayee())) {
+                    shares.merge(payment.getParticipant(), -payment.getPaymentAmount(),
+                            Double::sum);
+                    shares.merge(expense.getPayee(), payment.getPaymentAmount(), Double::sum);
+                }
+            }
+        }
+        shares.replaceAll((participant, share) -> Math.round(share * 100.0) / 100.0);
+    }
+
+    /**
+     * Settles the shares greedily, as the debts page does
+     * @return the debts
+     */
+    @Benchmark
+    public List<Debt> settle() {
+        return Debt.settle(shares);
+    }
+}
@@ -0,0 +1,83 @@
+package benchmarks;
+
+import commons.Event;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import server.api.EventService;
+import server.database.EventRepository;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShareBenchmark {
+
+    private static final long PARTICIPANT = 1;
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    private int expenses;
+
+    private EventService eventService;
+    private long inviteCode;
+
+    /**
+     * Builds the event and a service that reads it from memory, so that only
+     * the computations are measured and not the database
+     */
+    @Setup
+    public void setup() {
+        Event event = SyntheticEvents.build(expenses);
+        inviteCode = event.getInviteCode();
+        EventRepository repository = (EventRepository) Proxy.newProxyInstance(
+                EventRepository.class.getClassLoader(),
+                new Class<?>[] {EventRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "existsById" -> true;
+                    case "findById" -> Optional.of(event);
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        eventService = new EventService(repository, null, null);
+    }
+
+    /**
+     * Computes the balance of a participant
+     * @return the share of the participant
+     */
+    @Benchmark
+    public Double share() {
+        return eventService.getShare(inviteCode, PARTICIPANT).getBody();
+    }
+
+    /**
+     * Computes how much a participant owes the others
+     * @return the debt of the participant
+     */
+    @Benchmark
+    public Double debt() {
+        return eventService.getDebt(inviteCode, PARTICIPANT).getBody();
+    }
+
+    /**
+     * Computes how much the others owe a participant
+     * @return the amount owed to the participant
+     */
+    @Benchmark
+    public Double owed() {
+        return eventService.getOwed(inviteCode, PARTICIPANT).getBody();
+    }
+}
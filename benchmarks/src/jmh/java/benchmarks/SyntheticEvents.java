@@ -0,0 +1,81 @@
+package benchmarks;
+
+import commons.Event;
+import commons.Expense;
+import commons.Participant;
+import commons.ParticipantPayment;
+import commons.Tag;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Builds the synthetic events the benchmarks run on. The events are the same on every run,
+ * so that the results of different runs can be compared.
+ */
+final class SyntheticEvents {
+
+    /**
+     * The number of participants of an event, unless a benchmark asks for another number
+     */
+    static final int PARTICIPANTS = 20;
+
+    /**
+     * Private constructor, this class only has static methods
+     */
+    private SyntheticEvents() {
+    }
+
+    /**
+     * Builds an event with the default number of participants
+     * @param expenses the number of expenses of the event
+     * @return the event
+     */
+    static Event build(int expenses) {
+        return build(expenses, PARTICIPANTS, false);
+    }
+
+    /**
+     * Builds an event where every expense is paid by one participant and split
+     * between the three participants after them. All ids are set, as if the event
+     * was loaded from the server.
+     * @param expenses the number of expenses of the event
+     * @param participantCount the number of participants of the event, at least 4
+     * @param reversed whether the lists of the event should be in reverse order
+     * @return the event
+     */
+    static Event build(int expenses, int participantCount, boolean reversed) {
+        Event result = new Event("Benchmark", new Date(0), new Date(0));
+        List<Participant> participants = new ArrayList<>();
+        for (int i = 0; i < participantCount; i++) {
+            Participant participant = new Participant("p" + i, "p" + i + "@mail.com",
+                    null, null);
+            participant.setId(i);
+            participants.add(participant);
+        }
+        Tag tag = new Tag("food", "#93c47d");
+        tag.setId(1);
+        for (int i = 0; i < expenses; i++) {
+            List<ParticipantPayment> split = new ArrayList<>();
+            for (int j = 1; j <= 3; j++) {
+                Participant debtor = participants.get((i + j) % participantCount);
+                ParticipantPayment payment = new ParticipantPayment(debtor, i % 7 + j);
+                payment.setId(3L * i + j);
+                split.add(payment);
+            }
+            Expense expense = new Expense(i % 50 + 1, "EUR", "expense " + i, "",
+                    new Date(i * 60_000L), split, tag, participants.get(i % participantCount));
+            expense.setId(i);
+            result.getExpensesList().add(expense);
+        }
+        result.getParticipantsList().addAll(participants);
+        result.getTagsList().add(tag);
+        if (reversed) {
+            Collections.reverse(result.getExpensesList());
+            Collections.reverse(result.getParticipantsList());
+        }
+        return result;
+    }
+}
@@ -2,7 +2,14 @@ package admin;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import commons.Event;
+import commons.EventGenerator;
+import commons.EventListing;
+import commons.EventListingPage;
+import commons.EventSort;
+import commons.GeneratorSettings;
+import commons.ImportResult;
 import jakarta.ws.rs.core.Response;
 import org.json.JSONArray;
 import org.json.JSONException;
@@ -10,8 +17,10 @@ import org.json.JSONObject;
 
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.text.SimpleDateFormat;
 import java.time.LocalDateTime;
@@ -20,6 +29,11 @@ import java.util.*;
 
 public class AdminConsole {
 
+    /**
+     * The number of events shown on one page when browsing the events
+     */
+    public static final int PAGE_SIZE = 20;
+
     private List<Event> events;
 
     private ServerUtils utils;
@@ -102,6 +116,7 @@ public class AdminConsole {
         System.out.println("\t 3 - Import events from json file");
         System.out.println("\t 4 - Delete an event from the database");
         System.out.println("\t 5 - exit");
+        System.out.println("\t 6 - Generate synthetic events");
     }
     /**
      * show menu with options for user
@@ -125,33 +140,18 @@ public class AdminConsole {
                     printerMenu(userInput, adminConsole);
                     break;
                 case 2:
-                    adminConsole.updateEvents();
                     adminConsole.getDump(userInput);
                     showOptions(userInput, adminConsole);
                     break;
                 case 3:
-                    List<Event> importedEvents = adminConsole.readFromFile(new Scanner(System.in));
-                    if(importedEvents == null || importedEvents.isEmpty()) break;
-                    int succes = 0;
-                    int existed = 0;
-                    int error = 0;
-                    for(Event e: importedEvents) {
-                        Response response = adminConsole.setNewEvents(e);
-                        if (response.getStatus() == 200) {
-                            succes++;
-                        } else if (response.getStatus() == 404) {
-                            existed++;
-                        } else {
-                            error++;
-                        }
-                    }
-                    System.out.println(succes + " events where successfully imported");
-                    System.out.println(existed + " events already existed");
-                    System.out.println(error + " events encountered an error");
+                    adminConsole.importDump(new Scanner(System.in));
                     break;
                 case 4:
                     adminConsole.deleteEventMenu(userInput, adminConsole);
                     break;
+                case 6:
+                    adminConsole.generateEvents(userInput);
+                    break;
                 default:
                     running = false;
                     adminConsole.performExit();
@@ -178,38 +178,38 @@ public class AdminConsole {
         }
         switch (choseOption){
             case 1:
-                adminConsole.updateEvents();
-                adminConsole.printEvents();
+                adminConsole.showSorted(userInput, EventSort.CODE, "asc",
+                        adminConsole::printEvents);
                 showOptions(userInput, adminConsole);
                 break;
             case 2:
-                adminConsole.updateEvents();
-                adminConsole.orderByTitleAsc();
+                adminConsole.showSorted(userInput, EventSort.TITLE, "asc",
+                        adminConsole::orderByTitleAsc);
                 showOptions(userInput, adminConsole);
                 break;
             case 3:
-                adminConsole.updateEvents();
-                adminConsole.orderByTitleDesc();
+                adminConsole.showSorted(userInput, EventSort.TITLE, "desc",
+                        adminConsole::orderByTitleDesc);
                 showOptions(userInput, adminConsole);
                 break;
             case 4:
-                adminConsole.updateEvents();
-                adminConsole.orderByCreationRecent();
+                adminConsole.showSorted(userInput, EventSort.CREATED, "desc",
+                        adminConsole::orderByCreationRecent);
                 showOptions(userInput, adminConsole);
                 break;
             case 5:
-                adminConsole.updateEvents();
-                adminConsole.orderByCreationOld();
+                adminConsole.showSorted(userInput, EventSort.CREATED, "asc",
+                        adminConsole::orderByCreationOld);
                 showOptions(userInput, adminConsole);
                 break;
             case 6:
-                adminConsole.updateEvents();
-                adminConsole.orderByActivityRecent();
+                adminConsole.showSorted(userInput, EventSort.ACTIVITY, "desc",
+                        adminConsole::orderByActivityRecent);
                 showOptions(userInput, adminConsole);
                 break;
             case 7:
-                adminConsole.updateEvents();
-                adminConsole.orderByActivityOld();
+                adminConsole.showSorted(userInput, EventSort.ACTIVITY, "asc",
+                        adminConsole::orderByActivityOld);
                 showOptions(userInput, adminConsole);
                 break;
             case 8:
@@ -221,6 +221,88 @@ public class AdminConsole {
 
     }
 
+    /**
+     * Shows the events in the given order, a page at a time from the server. If the server
+     * can't list the events in pages, all events are downloaded and sorted here instead.
+     * @param userInput the scanner for the userInput
+     * @param sort the key to sort by
+     * @param direction asc or desc
+     * @param fallback prints the downloaded events in the same order
+     */
+    public void showSorted(Scanner userInput, EventSort sort, String direction,
+                           Runnable fallback) {
+        if (!browseEvents(userInput, sort, direction)) {
+            updateEvents();
+            fallback.run();
+        }
+    }
+
+    /**
+     * Lets the admin page through the events on the server. After every page the admin
+     * can go to the next page, stop, or enter text to only show the events with that
+     * text in their title.
+     * @param userInput the scanner for the userInput
+     * @param sort the key to sort by
+     * @param direction asc or desc
+     * @return false if the server couldn't give the first page, true otherwise
+     */
+    public boolean browseEvents(Scanner userInput, EventSort sort, String direction) {
+        String search = null;
+        String cursor = null;
+        boolean first = true;
+        while (true) {
+            EventListingPage page = fetchPage(sort, direction, search, cursor);
+            if (page == null) {
+                if (!first) System.out.println("Couldn't load the events from the server.");
+                return !first;
+            }
+            first = false;
+            printListing(page.getEvents());
+            System.out.println(page.getNext() == null
+                    ? "End of the list. Enter q to stop, or text to search the titles"
+                    : "Enter n for the next page, q to stop, or text to search the titles");
+            String answer = userInput.next();
+            if (answer.equalsIgnoreCase("n") && page.getNext() != null) {
+                cursor = page.getNext();
+            } else if (answer.equalsIgnoreCase("q") || answer.equalsIgnoreCase("n")) {
+                return true;
+            } else {
+                search = answer;
+                cursor = null;
+            }
+        }
+    }
+
+    /**
+     * Gets a page of events from the server
+     * @param sort the key to sort by
+     * @param direction asc or desc
+     * @param search text the titles should contain, or null for all events
+     * @param cursor the cursor of the page, or null for the first page
+     * @return the page, or null if the server couldn't give it
+     */
+    private EventListingPage fetchPage(EventSort sort, String direction,
+                                       String search, String cursor) {
+        try {
+            return utils.getEventPage(password, sort.getParam(), direction,
+                    search, cursor, PAGE_SIZE);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Prints a page of events
+     * @param listings the events on the page
+     */
+    private static void printListing(List<EventListing> listings) {
+        System.out.println("InviteCode\t\tTitle\t\tNr. Participants" +
+                "\t\tNr. Expenses\t\tLast Activity\n");
+        for (EventListing listing : listings) {
+            System.out.println(listing.toString());
+        }
+    }
+
     /**
      * Just prints the text for the printerMenu
      * Otherwise the method is too long
@@ -325,13 +407,11 @@ public class AdminConsole {
         LocalDateTime now = LocalDateTime.now();
         DateTimeFormatter timeFormat = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
         String formattedDateTime = now.format(timeFormat);
-        path = Path.of(path, "Splitty-Dump-" + formattedDateTime + ".json").toString();
-        FileWriter ewa = null;
-        try {
-            ewa = new FileWriter(path);
-            ewa.append(eventsToJson());
-            ewa.flush();
-            System.out.println("Fill has been succesfully saved to " + path);
+        Path file = Path.of(path, "Splitty-Dump-" + formattedDateTime + ".json");
+        try (InputStream in = utils.exportEvents(password);
+             OutputStream out = Files.newOutputStream(file)) {
+            in.transferTo(out);
+            System.out.println("Fill has been succesfully saved to " + file);
         } catch (IOException e) {
             System.out.println("Something went wrong");
             throw new RuntimeException(e);
@@ -421,6 +501,112 @@ public class AdminConsole {
         }
     }
 
+    /**
+     * Method to accept the filepath of a dump from a user and import it,
+     * streaming the file to the server in batches
+     * @param inputScanner scanner to read the filepath from
+     * @return the number of imported, duplicate and invalid events, or null if nothing
+     *      was imported
+     */
+    public ImportResult importDump(Scanner inputScanner) {
+        System.out.println("Enter the filepath containing" +
+                " the JSON for the event you would like to add (Or type 'cancel' to escape): ");
+        String line;
+        try {
+            line = inputScanner.nextLine();
+        }catch(NoSuchElementException n){
+            System.out.println("Unable to locate the requested file (empty filepath). ");
+            return null;
+        }
+        if(line.equals("cancel")){
+            return null;
+        }
+        Path file = Path.of(line);
+        if (!Files.isRegularFile(file)) {
+            System.out.println("Unable to locate the requested file. ");
+            return null;
+        }
+        try {
+            ImportResult result = new DumpImporter(utils, password).importFile(file);
+            System.out.println(result.getImported() + " events where successfully imported");
+            System.out.println(result.getDuplicates() + " events already existed");
+            System.out.println(result.getInvalid() + " events encountered an error");
+            return result;
+        } catch (IOException e) {
+            System.out.println("Unable to import JSON events. ");
+            return null;
+        }
+    }
+
+    /**
+     * Asks the admin for the settings of the synthetic event generator, and either lets the
+     * server generate and store the events, or writes them to a JSON file in the same format
+     * as a dump, so that they can be imported later
+     * @param userInput scanner to read the settings from
+     * @return the number of imported, duplicate and invalid events if the server stored them,
+     *      or null if they were written to a file or nothing was generated
+     */
+    public ImportResult generateEvents(Scanner userInput) {
+        GeneratorSettings settings;
+        try {
+            System.out.println("Enter the seed, and the number of events, participants, "
+                    + "expenses and tags of every event, separated by spaces:");
+            settings = new GeneratorSettings(Long.parseLong(userInput.next()),
+                    Integer.parseInt(userInput.next()), Integer.parseInt(userInput.next()),
+                    Integer.parseInt(userInput.next()), Integer.parseInt(userInput.next()));
+        } catch (NumberFormatException | NoSuchElementException e) {
+            System.out.println("These are not numbers.");
+            return null;
+        }
+        if (!settings.isValid()) {
+            System.out.println("Every event needs at least one participant, "
+                    + "and no number can be negative.");
+            return null;
+        }
+        System.out.println("Enter the folder to write the events to, "
+                + "or 'server' to store them on the server:");
+        String target = userInput.next();
+        if (!target.equals("server")) {
+            writeGenerated(settings, Path.of(target));
+            return null;
+        }
+        try {
+            ImportResult result = utils.generateEvents(settings, password);
+            System.out.println(result.getImported() + " events where successfully generated");
+            System.out.println(result.getDuplicates() + " events already existed");
+            return result;
+        } catch (RuntimeException e) {
+            System.out.println("The server could not generate the events.");
+            return null;
+        }
+    }
+
+    /**
+     * Writes synthetic events to a JSON file in the same format as a dump, generating
+     * them one at a time so that large amounts of events don't have to fit in memory
+     * @param settings the settings of the generator
+     * @param folder the folder to write the file to
+     * @return the file, or null if it could not be written
+     */
+    public Path writeGenerated(GeneratorSettings settings, Path folder) {
+        Path file = folder.resolve("Splitty-Generated-" + settings.getSeed() + ".json");
+        ObjectMapper mapper = new ObjectMapper()
+                .setDateFormat(new SimpleDateFormat("EEE MMM dd HH:mm:ss z yyyy",
+                        Locale.ENGLISH));
+        EventGenerator generator = new EventGenerator(settings);
+        try (OutputStream out = Files.newOutputStream(file);
+             SequenceWriter writer = mapper.writer().writeValuesAsArray(out)) {
+            while (generator.hasNext()) {
+                writer.write(generator.next());
+            }
+        } catch (IOException e) {
+            System.out.println("Unable to write the generated events.");
+            return null;
+        }
+        System.out.println("The generated events have been saved to " + file);
+        return file;
+    }
+
     /**
      * Method to accept a filepath from a user to import JSON data
      */
@@ -470,9 +656,7 @@ public class AdminConsole {
             try {
                 JSONObject tmpEvent = (JSONObject) object;
                 ObjectMapper objectMapper = new ObjectMapper();
-                SimpleDateFormat creationDateFormat = new
-                        SimpleDateFormat("EEE MMM dd HH:mm:ss z yyyy", Locale.ENGLISH);
-                objectMapper.setDateFormat(creationDateFormat);
+                objectMapper.setDateFormat(new DumpDateFormat());
                 try {
                     Event event = objectMapper.readValue(tmpEvent.toString(), Event.class);
                     events.add(event);
@@ -496,6 +680,16 @@ public class AdminConsole {
         return utils.setEvents(event, password);
     }
 
+    /**
+     * Method to add all imported events to the server in one bulk request
+     *
+     * @param events the events to be added/validated
+     * @return the number of imported, duplicate and invalid events
+     */
+    public ImportResult importEvents(List<Event> events){
+        return utils.importEvents(events, password);
+    }
+
     /**
      * Prints out all events in alphabetical order
      */
@@ -0,0 +1,45 @@
+package admin;
+
+import com.fasterxml.jackson.databind.util.StdDateFormat;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+
+/**
+ * The format of the dates in a dump. The export of the server writes ISO-8601 dates,
+ * and older dumps have dates like "Mon May 20 10:15:00 CEST 2024", so both are read,
+ * as well as dates written as numbers.
+ */
+public class DumpDateFormat extends StdDateFormat {
+
+    /**
+     * The format of the dates in dumps written by older versions of the admin console
+     */
+    public static final String LEGACY_PATTERN = "EEE MMM dd HH:mm:ss z yyyy";
+
+    /**
+     * Reads an ISO-8601 date or a number, and otherwise a date in the legacy format
+     * @param source the date as text
+     * @return the date
+     * @throws ParseException if the date is in neither format
+     */
+    @Override
+    public Date parse(String source) throws ParseException {
+        try {
+            return super.parse(source);
+        } catch (ParseException e) {
+            return new SimpleDateFormat(LEGACY_PATTERN, Locale.ENGLISH).parse(source.trim());
+        }
+    }
+
+    /**
+     * Jackson uses a copy of the format for every value it reads
+     * @return a copy of this format
+     */
+    @Override
+    public DumpDateFormat clone() {
+        return new DumpDateFormat();
+    }
+}
@@ -0,0 +1,341 @@
+package admin;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import commons.Event;
+import commons.ImportResult;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.zip.GZIPInputStream;
+
+public class DumpImporter {
+
+    /**
+     * The number of events that are uploaded in one request
+     */
+    public static final int BATCH_SIZE = 200;
+
+    /**
+     * The number of requests that can be uploading at the same time
+     */
+    public static final int PARALLEL_UPLOADS = 4;
+
+    /**
+     * The number of times a batch is tried before it is given up
+     */
+    public static final int ATTEMPTS = 3;
+
+    private final ServerUtils utils;
+    private final String password;
+    private final int batchSize;
+    private final int parallelUploads;
+    private final int attempts;
+    private final PrintStream out;
+    private final ObjectMapper mapper = new ObjectMapper()
+            .setDateFormat(new DumpDateFormat())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private ImportResult result;
+    private Checkpoint checkpoint;
+    private int failedBatches;
+
+    /**
+     * Constructor for an importer with the default batch size, parallelism and attempts
+     * @param utils the server utils that upload the events
+     * @param password the admin password
+     */
+    public DumpImporter(ServerUtils utils, String password) {
+        this(utils, password, BATCH_SIZE, PARALLEL_UPLOADS, ATTEMPTS, System.out);
+    }
+
+    /**
+     * Constructor for an importer
+     * @param utils the server utils that upload the events
+     * @param password the admin password
+     * @param batchSize the number of events that are uploaded in one request
+     * @param parallelUploads the number of requests that can be uploading at the same time
+     * @param attempts the number of times a batch is tried before it is given up
+     * @param out where the progress is reported
+     */
+    public DumpImporter(ServerUtils utils, String password, int batchSize,
+                        int parallelUploads, int attempts, PrintStream out) {
+        this.utils = utils;
+        this.password = password;
+        this.batchSize = Math.max(1, batchSize);
+        this.parallelUploads = Math.max(1, parallelUploads);
+        this.attempts = Math.max(1, attempts);
+        this.out = out;
+    }
+
+    /**
+     * Method to get the file in which the progress of importing a dump is kept
+     * @param dump the dump file
+     * @return the progress file next to the dump
+     */
+    public static Path checkpointOf(Path dump) {
+        return dump.resolveSibling(dump.getFileName() + ".progress");
+    }
+
+    /**
+     * Imports a dump file, which can be a JSON array or one event per line and can be
+     * compressed with gzip. The file is read one event at a time and uploaded in batches,
+     * several at the same time on virtual threads. The number of events confirmed by the
+     * server is kept next to the dump, so an interrupted import continues where it stopped.
+     * @param dump the dump file
+     * @return the number of imported, duplicate and invalid events
+     * @throws IOException if the dump could not be read
+     */
+    public ImportResult importFile(Path dump) throws IOException {
+        result = new ImportResult();
+        failedBatches = 0;
+        checkpoint = new Checkpoint(checkpointOf(dump));
+        if (checkpoint.confirmed() > 0) {
+            out.println("Resuming after " + checkpoint.confirmed() + " events");
+        }
+        try (InputStream in = open(dump);
+             JsonParser parser = mapper.getFactory().createParser(in);
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            readBatches(parser, executor, new Semaphore(parallelUploads));
+        }
+        if (failedBatches == 0) {
+            Files.deleteIfExists(checkpoint.file);
+        } else {
+            out.println(failedBatches + " batches could not be uploaded,"
+                    + " import the file again to resume");
+        }
+        return result;
+    }
+
+    /**
+     * Reads the events of the dump and hands them out in batches, skipping the events
+     * that were confirmed in an earlier run
+     * @param parser the parser of the dump
+     * @param executor the executor that uploads the batches
+     * @param slots the permits for uploading, which bound the number of parallel uploads
+     * @throws IOException if the dump could not be read
+     */
+    private void readBatches(JsonParser parser, ExecutorService executor, Semaphore slots)
+            throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.START_ARRAY) token = parser.nextToken();
+        long index = 0;
+        long start = checkpoint.confirmed();
+        List<Event> batch = new ArrayList<>();
+        while (token == JsonToken.START_OBJECT) {
+            if (index < start) {
+                parser.skipChildren();
+            } else {
+                read(parser, batch);
+            }
+            index++;
+            if (index > start && index - start == batchSize) {
+                upload(executor, slots, start, index, batch);
+                start = index;
+                batch = new ArrayList<>();
+            }
+            token = parser.nextToken();
+        }
+        if (index > start) {
+            upload(executor, slots, start, index, batch);
+        }
+    }
+
+    /**
+     * Reads one event, invalid events are counted and left out of the batch
+     * @param parser the parser, positioned at the start of the event
+     * @param batch the batch the event is added to
+     * @throws IOException if the dump could not be read
+     */
+    private void read(JsonParser parser, List<Event> batch) throws IOException {
+        JsonNode node = mapper.readTree(parser);
+        try {
+            batch.add(mapper.treeToValue(node, Event.class));
+        } catch (IOException | IllegalArgumentException e) {
+            out.println("Unable to import event. {Error with JSON formatting.} ");
+            synchronized (this) {
+                result.setInvalid(result.getInvalid() + 1);
+            }
+        }
+    }
+
+    /**
+     * Uploads a batch on a virtual thread, waiting first if too many uploads are running
+     * @param executor the executor that uploads the batch
+     * @param slots the permits for uploading
+     * @param start the position in the dump of the first event of the batch
+     * @param end the position in the dump after the last event of the batch
+     * @param batch the events of the batch
+     * @throws IOException if the import was interrupted while waiting
+     */
+    private void upload(ExecutorService executor, Semaphore slots, long start, long end,
+                        List<Event> batch) throws IOException {
+        try {
+            slots.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("The import was interrupted", e);
+        }
+        executor.execute(() -> {
+            try {
+                ImportResult uploaded = uploadWithRetries(batch);
+                if (uploaded == null) {
+                    failed();
+                } else {
+                    confirm(start, end, uploaded);
+                }
+            } finally {
+                slots.release();
+            }
+        });
+    }
+
+    /**
+     * Uploads a batch, trying again with a growing delay when it fails
+     * @param batch the events of the batch
+     * @return the result of the upload, or null if all attempts failed
+     */
+    private ImportResult uploadWithRetries(List<Event> batch) {
+        if (batch.isEmpty()) return new ImportResult();
+        for (int attempt = 1; attempt <= attempts; attempt++) {
+            try {
+                return utils.importEvents(batch, password);
+            } catch (RuntimeException e) {
+                out.println("Uploading a batch failed (attempt " + attempt + "): "
+                        + e.getMessage());
+            }
+            try {
+                Thread.sleep(250L * attempt);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Counts a batch that could not be uploaded
+     */
+    private synchronized void failed() {
+        failedBatches++;
+    }
+
+    /**
+     * Counts a batch that the server confirmed, and reports the progress
+     * @param start the position in the dump of the first event of the batch
+     * @param end the position in the dump after the last event of the batch
+     * @param uploaded the result of the upload
+     */
+    private synchronized void confirm(long start, long end, ImportResult uploaded) {
+        result.add(uploaded);
+        checkpoint.confirm(start, end);
+        out.printf("%d events done, %.0f events/s%n",
+                checkpoint.confirmed(), checkpoint.throughput());
+    }
+
+    /**
+     * Opens a dump file, decompressing it if it is compressed with gzip
+     * @param dump the dump file
+     * @return the stream with the content of the dump
+     * @throws IOException if the file could not be opened
+     */
+    private static InputStream open(Path dump) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(dump));
+        in.mark(2);
+        int first = in.read();
+        int second = in.read();
+        in.reset();
+        if (first == 0x1f && second == 0x8b) {
+            return new GZIPInputStream(in);
+        }
+        return in;
+    }
+
+    /**
+     * The number of events at the start of a dump that the server has confirmed.
+     * Batches can finish out of order, so a batch only counts once every batch
+     * before it has finished as well.
+     */
+    private static final class Checkpoint {
+
+        private final Path file;
+        private final TreeMap<Long, Long> finished = new TreeMap<>();
+        private final long startTime = System.nanoTime();
+        private final long resumedAt;
+        private long confirmed;
+
+        /**
+         * Constructor for a checkpoint, reading the progress of an earlier run if there is one
+         * @param file the file the progress is kept in
+         */
+        private Checkpoint(Path file) {
+            this.file = file;
+            long earlier = 0;
+            try {
+                if (Files.exists(file)) earlier = Long.parseLong(Files.readString(file).trim());
+            } catch (IOException | NumberFormatException e) {
+                earlier = 0;
+            }
+            confirmed = earlier;
+            resumedAt = earlier;
+        }
+
+        /**
+         * @return the number of events at the start of the dump that are confirmed
+         */
+        private long confirmed() {
+            return confirmed;
+        }
+
+        /**
+         * @return the number of events confirmed per second in this run
+         */
+        private double throughput() {
+            double seconds = (System.nanoTime() - startTime) / 1e9;
+            return seconds <= 0 ? 0 : (confirmed - resumedAt) / seconds;
+        }
+
+        /**
+         * Marks a batch as finished and saves the progress if it moved
+         * @param start the position of the first event of the batch
+         * @param end the position after the last event of the batch
+         */
+        private void confirm(long start, long end) {
+            finished.put(start, end);
+            long before = confirmed;
+            while (finished.containsKey(confirmed)) {
+                confirmed = finished.remove(confirmed);
+            }
+            if (confirmed != before) save();
+        }
+
+        /**
+         * Writes the progress to the file, replacing the old progress in one step
+         */
+        private void save() {
+            try {
+                Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+                Files.writeString(tmp, Long.toString(confirmed));
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                System.out.println("Couldn't save the import progress.");
+            }
+        }
+    }
+}
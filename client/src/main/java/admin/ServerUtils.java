@@ -17,19 +17,25 @@ package admin;
 
 import com.google.inject.Inject;
 import commons.*;
+import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.ClientBuilder;
 import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.client.WebTarget;
 import jakarta.ws.rs.core.GenericType;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.glassfish.jersey.client.ClientConfig;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 
 public class ServerUtils {
     private String server;
+    private Client client;
 
     /**
      * Constructor for the ServerUtils
@@ -62,6 +68,31 @@ public class ServerUtils {
     }
 
 
+    /**
+     * Method to retrieve one page of the events on the server, sorted and filtered
+     * by the server, so that not all events have to be downloaded
+     * @param password admin password string to allow endpoint access
+     * @param sort the key to sort by: code, title, created or activity
+     * @param direction asc or desc
+     * @param search text the titles should contain, or null for all events
+     * @param cursor the cursor of the page, or null for the first page
+     * @param size the maximum number of events on the page
+     * @return the page of events
+     */
+    public EventListingPage getEventPage(String password, String sort, String direction,
+                                         String search, String cursor, int size) {
+        WebTarget target = client() //
+                .target(server).path("api/admin/" + password + "/events") //
+                .queryParam("sort", sort) //
+                .queryParam("dir", direction) //
+                .queryParam("size", size);
+        if (search != null) target = target.queryParam("search", search);
+        if (cursor != null) target = target.queryParam("cursor", cursor);
+        return target.request(APPLICATION_JSON) //
+                .accept(APPLICATION_JSON) //
+                .get(EventListingPage.class);
+    }
+
     /**
      * Method that gets the event from the server with the given id.
      * @param i - id of the event.
@@ -112,6 +143,76 @@ public class ServerUtils {
     }
 
 
+    /**
+     * Method to add many events from a JSON import file in one request,
+     * the server stores them in batches
+     *
+     * @param events   list of events from JSON import
+     * @param password admin password string to allow endpoint access
+     * @return the number of imported, duplicate and invalid events
+     */
+    public ImportResult importEvents(List<Event> events, String password) {
+        return client() //
+                .target(server).path("api/admin/" + password + "/bulk")//
+                .request(APPLICATION_JSON) //
+                .accept(APPLICATION_JSON) //
+                .post(Entity.entity(events, APPLICATION_JSON), ImportResult.class);
+    }
+
+    /**
+     * Method to let the server generate synthetic events and store them straight away,
+     * for testing how the server copes with large events
+     *
+     * @param settings the settings of the generator
+     * @param password admin password string to allow endpoint access
+     * @return the number of imported, duplicate and invalid events
+     */
+    public ImportResult generateEvents(GeneratorSettings settings, String password) {
+        return client() //
+                .target(server).path("api/admin/" + password + "/generate")//
+                .request(APPLICATION_JSON) //
+                .accept(APPLICATION_JSON) //
+                .post(Entity.entity(settings, APPLICATION_JSON), ImportResult.class);
+    }
+
+    /**
+     * Method to stream all events from the server as a JSON array, for making a dump.
+     * The events are transferred compressed and decompressed while reading.
+     *
+     * @param password admin password string to allow endpoint access
+     * @return the stream with the JSON array of events, which the caller should close
+     * @throws IOException if the compressed stream could not be opened
+     */
+    public InputStream exportEvents(String password) throws IOException {
+        Response response = client() //
+                .target(server).path("api/admin/" + password + "/export")//
+                .queryParam("format", "json") //
+                .queryParam("gzip", true) //
+                .request(APPLICATION_JSON) //
+                .get();
+        if (response.getStatus() != Response.Status.OK.getStatusCode()) {
+            response.close();
+            throw new IOException("The server refused the export: " + response.getStatus());
+        }
+        InputStream body = response.readEntity(InputStream.class);
+        if ("gzip".equalsIgnoreCase(response.getHeaderString("Content-Encoding"))) {
+            return new GZIPInputStream(body);
+        }
+        return body;
+    }
+
+    /**
+     * Gets the client used for listing, imports and exports, which is shared between requests
+     * and threads instead of making a new one for every request
+     * @return the shared client
+     */
+    private synchronized Client client() {
+        if (client == null) {
+            client = ClientBuilder.newClient(new ClientConfig());
+        }
+        return client;
+    }
+
     /**
      * @return the current server
      */
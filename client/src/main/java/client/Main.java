@@ -15,12 +15,15 @@
  */
 package client;
 
+import client.debug.DebugOverlay;
 import client.scenes.*;
 import client.utils.Config;
 import com.google.inject.Injector;
 import javafx.application.Application;
 import javafx.stage.Stage;
 
+import java.nio.file.Path;
+
 import static com.google.inject.Guice.createInjector;
 
 public class Main extends Application {
@@ -28,6 +31,8 @@ public class Main extends Application {
     private static final Injector INJECTOR = createInjector(new MyModule());
     private static final MyFXML FXML = new MyFXML(INJECTOR);
 
+    private DebugOverlay overlay;
+
     /**
      * Main method of the client.
      * @param args array of arguments passed to the method.
@@ -70,15 +75,18 @@ public class Main extends Application {
         primaryStage.setOnCloseRequest(e -> {
             startScreen.getKey().stop();
         });
+        overlay = new DebugOverlay(Path.of("client", "timings.log"));
+        overlay.install(primaryStage);
     }
 
     /**
      * Method that runs when the application is terminated.
-     * Saves the config to file.
+     * Saves the config and the timings to file.
      * @throws Exception -
      */
     @Override
     public void stop() throws Exception {
+        if (overlay != null) overlay.writeLog();
         var config = INJECTOR.getInstance(Config.class);
         config.removeProperty("mail.password");
         config.saveProperties();
@@ -2,6 +2,7 @@ package client.commands;
 
 import client.scenes.MainCtrl;
 import client.utils.ServerUtils;
+import commons.EventChange;
 import commons.Expense;
 import commons.Participant;
 import commons.ParticipantPayment;
@@ -14,20 +15,14 @@ import java.util.List;
 public class EditExpenseCommand implements ICommand {
 
     double amount;
-    double priorAmount;
     String currency;
-    String priorCurrency;
     String title;
-    String priorTitle;
     Date date;
-    Date priorDate;
     List<ParticipantPayment> split;
-    List<ParticipantPayment> priorSplit;
     Tag tag;
-    Tag priorTag;
     Participant payee;
-    Participant priorPayee;
     Expense expense;
+    EventChange change;
     ServerUtils serverUtils;
     MainCtrl mainCtrl;
 
@@ -64,13 +59,6 @@ public class EditExpenseCommand implements ICommand {
         this.serverUtils = serverUtils;
         this.mainCtrl = mainCtrl;
         this.payee = payee;
-        priorAmount = expense.getAmount();
-        priorCurrency = expense.getCurrency();
-        priorTitle = expense.getTitle();
-        priorDate = expense.getDate();
-        priorSplit = expense.getSplit();
-        priorTag = expense.getTag();
-        priorPayee = expense.getPayee();
     }
 
     /**
@@ -87,27 +75,23 @@ public class EditExpenseCommand implements ICommand {
         expense.setCurrency(currency);
         expense.setAmount(amount);
 
-        serverUtils.updateExpense(mainCtrl.getEvent().getInviteCode(), expense);
+        change = serverUtils.updateExpense(mainCtrl.getEvent().getInviteCode(), expense);
 
     }
 
     /**
-     * Undoes the edits
-     * @throws WebApplicationException possible exception when adding to server
+     * Undoes the edits on the server, which keeps what the expense was before them,
+     * and brings the undo to every client showing the event. Only the change made by
+     * this command is undone, not the latest change of someone else.
+     * @throws WebApplicationException possible exception when undoing on the server,
+     *                                 a conflict if the expense was changed again since
      */
     @Override
     public void undo() throws WebApplicationException{
-        expense.setDate(priorDate);
-        expense.setSplit(priorSplit);
-        expense.setTag(priorTag);
-        expense.setPayee(priorPayee);
-        expense.setTitle(priorTitle);
-        expense.setCurrency(priorCurrency);
-        expense.setAmount(priorAmount);
-
-        serverUtils.updateExpense(mainCtrl.getEvent().getInviteCode(), expense);
-
-
+        if (change == null) {
+            return;
+        }
+        serverUtils.undo(mainCtrl.getEvent().getInviteCode(), change.getSequenceNumber());
     }
 
 }
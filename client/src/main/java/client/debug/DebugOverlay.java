@@ -0,0 +1,127 @@
+package client.debug;
+
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyCodeCombination;
+import javafx.scene.input.KeyCombination;
+import javafx.scene.input.KeyEvent;
+import javafx.stage.Stage;
+import javafx.stage.StageStyle;
+import javafx.util.Duration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+
+/**
+ * A small window on top of the client that shows the percentiles of the latest REST calls,
+ * exchange rate lookups and scene refreshes. It is toggled with F12, and the percentiles
+ * are written to the timings log every minute and when the client stops.
+ */
+public class DebugOverlay {
+
+    public static final KeyCombination TOGGLE = new KeyCodeCombination(KeyCode.F12);
+
+    private final Path log;
+    private final Label text = new Label();
+    private final Timeline refresh;
+    private final Timeline writer;
+    private Stage stage;
+    private long written;
+
+    /**
+     * Constructor for the debug overlay
+     * @param log the file the percentiles are appended to
+     */
+    public DebugOverlay(Path log) {
+        this.log = log;
+        text.setStyle("-fx-font-family: monospace; -fx-padding: 8;"
+                + " -fx-background-color: rgba(0, 0, 0, 0.8); -fx-text-fill: white;");
+        refresh = new Timeline(new KeyFrame(Duration.seconds(1), e -> update()));
+        refresh.setCycleCount(Timeline.INDEFINITE);
+        writer = new Timeline(new KeyFrame(Duration.minutes(1), e -> writeLog()));
+        writer.setCycleCount(Timeline.INDEFINITE);
+    }
+
+    /**
+     * Lets the overlay be toggled from every scene of a stage,
+     * and starts writing the timings log
+     * @param owner the main stage of the client
+     */
+    public void install(Stage owner) {
+        owner.addEventFilter(KeyEvent.KEY_PRESSED, e -> {
+            if (TOGGLE.match(e)) {
+                toggle(owner);
+                e.consume();
+            }
+        });
+        writer.play();
+    }
+
+    /**
+     * Shows the overlay if it is hidden, and hides it otherwise
+     * @param owner the stage the overlay stays on top of
+     */
+    public void toggle(Stage owner) {
+        if (stage == null) {
+            stage = new Stage(StageStyle.UTILITY);
+            stage.initOwner(owner);
+            stage.setTitle("Timings");
+            stage.setScene(new Scene(text));
+            stage.setOnHidden(e -> refresh.stop());
+        }
+        if (stage.isShowing()) {
+            stage.hide();
+        } else {
+            update();
+            stage.show();
+            refresh.play();
+        }
+    }
+
+    /**
+     * @return whether the overlay is shown
+     */
+    public boolean isShowing() {
+        return stage != null && stage.isShowing();
+    }
+
+    /**
+     * @return the text the overlay shows
+     */
+    public String getText() {
+        return text.getText();
+    }
+
+    /**
+     * Shows the current percentiles
+     */
+    private void update() {
+        text.setText(Timings.Summary.header() + "\n" + Timings.summaries().stream()
+                .map(Timings.Summary::format)
+                .collect(Collectors.joining("\n")));
+        if (stage != null) {
+            stage.sizeToScene();
+        }
+    }
+
+    /**
+     * Appends the current percentiles to the timings log,
+     * if anything was recorded since they were last written
+     */
+    public void writeLog() {
+        long total = Timings.total();
+        if (total == written) {
+            return;
+        }
+        try {
+            Timings.append(log);
+            written = total;
+        } catch (IOException e) {
+            System.err.println("Couldn't write the timings to " + log);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package client.debug;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the durations of the latest REST calls, exchange rate lookups and scene refreshes
+ * of the client, so that their percentiles can be shown in the debug overlay
+ * and written to the timings log
+ */
+public final class Timings {
+
+    static final int WINDOW = 256;
+
+    private static final Pattern ID = Pattern.compile("/\\d+(?=/|$)");
+    private static final Map<String, Window> WINDOWS = new ConcurrentHashMap<>();
+
+    /**
+     * Utility class, not to be instantiated
+     */
+    private Timings() {
+    }
+
+    /**
+     * Records how long an operation took
+     * @param name the name of the operation, for example "scene overview"
+     * @param nanos the duration in nanoseconds
+     */
+    public static void record(String name, long nanos) {
+        WINDOWS.computeIfAbsent(name, n -> new Window()).add(nanos);
+    }
+
+    /**
+     * Replaces the ids in the path of a request, so that all requests
+     * to the same endpoint are counted together
+     * @param path the path of the request
+     * @return the path with every number replaced by {id}
+     */
+    public static String endpointOf(String path) {
+        return ID.matcher(path).replaceAll("/{id}");
+    }
+
+    /**
+     * Gets the percentiles of the latest durations of every operation
+     * @return the summaries of all operations, sorted by name
+     */
+    public static List<Summary> summaries() {
+        return WINDOWS.entrySet().stream()
+                .map(e -> e.getValue().summarize(e.getKey()))
+                .sorted(Comparator.comparing(Summary::name))
+                .toList();
+    }
+
+    /**
+     * @return the number of durations recorded since the start of the client
+     */
+    public static long total() {
+        return WINDOWS.values().stream().mapToLong(Window::count).sum();
+    }
+
+    /**
+     * Appends the current percentiles of every operation to a log file, under the time
+     * they were written, so that the file can be attached to a bug report
+     * @param file the log file, which is created if it does not exist
+     * @throws IOException if the log file could not be written
+     */
+    public static void append(Path file) throws IOException {
+        StringBuilder text = new StringBuilder("# ").append(new Date()).append('\n')
+                .append(Summary.header()).append('\n');
+        for (Summary summary : summaries()) {
+            text.append(summary.format()).append('\n');
+        }
+        Files.writeString(file, text.append('\n'), StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Forgets all recorded durations
+     */
+    public static void reset() {
+        WINDOWS.clear();
+    }
+
+    /**
+     * The percentiles of the latest durations of one operation, in milliseconds
+     * @param name the name of the operation
+     * @param count the number of times the operation was recorded in total
+     * @param p50 the median of the latest durations
+     * @param p90 the 90th percentile of the latest durations
+     * @param p99 the 99th percentile of the latest durations
+     * @param max the longest of the latest durations
+     */
+    public record Summary(String name, long count, double p50, double p90, double p99,
+                          double max) {
+
+        /**
+         * @return the summary as one line of text
+         */
+        public String format() {
+            return String.format(Locale.ROOT, "%-40s %7d %9.1f %9.1f %9.1f %9.1f",
+                    name, count, p50, p90, p99, max);
+        }
+
+        /**
+         * @return the header of the columns written by {@link #format()}
+         */
+        public static String header() {
+            return String.format(Locale.ROOT, "%-40s %7s %9s %9s %9s %9s",
+                    "operation", "count", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        }
+    }
+
+    /**
+     * The latest durations of one operation, overwriting the oldest one when it is full
+     */
+    private static final class Window {
+
+        private final long[] nanos = new long[WINDOW];
+        private int size;
+        private int next;
+        private long count;
+
+        /**
+         * Adds a duration
+         * @param duration the duration in nanoseconds
+         */
+        synchronized void add(long duration) {
+            nanos[next] = duration;
+            next = (next + 1) % WINDOW;
+            size = Math.min(size + 1, WINDOW);
+            count++;
+        }
+
+        /**
+         * @return the number of durations added in total
+         */
+        synchronized long count() {
+            return count;
+        }
+
+        /**
+         * Computes the percentiles of the durations in the window
+         * @param name the name of the operation
+         * @return the summary of the durations
+         */
+        synchronized Summary summarize(String name) {
+            long[] sorted = Arrays.copyOf(nanos, size);
+            Arrays.sort(sorted);
+            return new Summary(name, count, millis(sorted, 0.5), millis(sorted, 0.9),
+                    millis(sorted, 0.99), millis(sorted, 1));
+        }
+
+        /**
+         * Gets a percentile of sorted durations, by the nearest rank
+         * @param sorted the sorted durations in nanoseconds
+         * @param fraction the percentile as a fraction
+         * @return the percentile in milliseconds
+         */
+        private static double millis(long[] sorted, double fraction) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(fraction * sorted.length);
+            return sorted[Math.max(rank, 1) - 1] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package client.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("splitty.client.RestCall")
+@Label("REST Call")
+@Description("A request to the server, from sending it until the response arrived")
+@Category({"Splitty", "Client"})
+@StackTrace(false)
+public class RestCallEvent extends Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Path")
+    String path;
+
+    @Label("Status")
+    int status;
+
+    /**
+     * Ends the call and commits this event if it is enabled
+     * @param method the HTTP method of the request
+     * @param path the path of the request
+     * @param status the status of the response
+     */
+    public void finish(String method, String path, int status) {
+        end();
+        if (shouldCommit()) {
+            this.method = method;
+            this.path = path;
+            this.status = status;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package client.jfr;
+
+import client.debug.Timings;
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.client.ClientResponseContext;
+import jakarta.ws.rs.client.ClientResponseFilter;
+
+/**
+ * Records every request of a client as a flight recorder event and in the timings of the
+ * debug overlay, when it is registered on the configuration of the client
+ */
+public class RestCallRecorder implements ClientRequestFilter, ClientResponseFilter {
+
+    private static final String EVENT = RestCallRecorder.class.getName() + ".event";
+    private static final String START = RestCallRecorder.class.getName() + ".start";
+
+    /**
+     * Starts recording a request that is about to be sent
+     * @param request the request
+     */
+    @Override
+    public void filter(ClientRequestContext request) {
+        RestCallEvent event = new RestCallEvent();
+        event.begin();
+        request.setProperty(EVENT, event);
+        request.setProperty(START, System.nanoTime());
+    }
+
+    /**
+     * Records a request of which the response arrived
+     * @param request the request
+     * @param response the response
+     */
+    @Override
+    public void filter(ClientRequestContext request, ClientResponseContext response) {
+        if (request.getProperty(EVENT) instanceof RestCallEvent event) {
+            event.finish(request.getMethod(), request.getUri().getPath(), response.getStatus());
+        }
+        if (request.getProperty(START) instanceof Long start) {
+            Timings.record("rest " + request.getMethod() + " "
+                    + Timings.endpointOf(request.getUri().getPath()), System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package client.jfr;
+
+import client.debug.Timings;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("splitty.client.SceneRefresh")
+@Label("Scene Refresh")
+@Description("A refresh of the content of a scene when it is shown")
+@Category({"Splitty", "Client"})
+@StackTrace(false)
+public class SceneRefreshEvent extends Event {
+
+    @Label("Scene")
+    String scene;
+
+    /**
+     * Records the refresh of a scene, as a flight recorder event
+     * and in the timings of the debug overlay
+     * @param scene the name of the scene
+     * @param refresh the refresh
+     */
+    public static void record(String scene, Runnable refresh) {
+        SceneRefreshEvent event = new SceneRefreshEvent();
+        event.begin();
+        long start = System.nanoTime();
+        refresh.run();
+        Timings.record("scene " + scene, System.nanoTime() - start);
+        event.end();
+        if (event.shouldCommit()) {
+            event.scene = scene;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package client.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("splitty.client.Settlement")
+@Label("Settlement")
+@Description("A computation of the debts that settle the balances of an event")
+@Category({"Splitty", "Client"})
+@StackTrace(false)
+public class SettlementEvent extends Event {
+
+    @Label("Participants")
+    int participants;
+
+    @Label("Debts")
+    int debts;
+
+    /**
+     * Ends the settlement and commits this event if it is enabled
+     * @param participants the number of participants with a balance
+     * @param debts the number of debts that settle the balances
+     */
+    public void finish(int participants, int debts) {
+        end();
+        if (shouldCommit()) {
+            this.participants = participants;
+            this.debts = debts;
+            commit();
+        }
+    }
+}
@@ -6,6 +6,7 @@ import commons.Event;
 import commons.Expense;
 import commons.Participant;
 import commons.ParticipantPayment;
+import commons.ParticipantSummary;
 import jakarta.mail.MessagingException;
 import jakarta.ws.rs.WebApplicationException;
 import javafx.animation.KeyFrame;
@@ -30,7 +31,6 @@ public class DebtsCtrl implements Initializable, NotificationSender {
     private final MainCtrl mainCtrl;
     private final LanguageManager languageManager;
     private final Alert alert;
-    private final CurrencyConverter currencyConverter;
     private final MailSender mailSender;
     @FXML
     private Label confirmation;
@@ -56,14 +56,12 @@ public class DebtsCtrl implements Initializable, NotificationSender {
                      ConfigInterface config,
                      LanguageManager languageManager,
                      ServerUtils serverUtils,
-                     CurrencyConverter currencyConverter,
                      Alert alert,
                      MailSender mailSender) {
         this.mainCtrl = mainCtrl;
         this.config = config;
         this.languageManager = languageManager;
         this.serverUtils = serverUtils;
-        this.currencyConverter = currencyConverter;
         this.alert = alert;
         this.mailSender = mailSender;
     }
@@ -187,30 +185,14 @@ public class DebtsCtrl implements Initializable, NotificationSender {
     public void setTitles(Event event) {
         Map<Participant, Double> shares = new HashMap<>();
         for (Participant participant : event.getParticipantsList()) {
-            shares.put(participant, calculateShare(participant));
-        }
-        PriorityQueue<DebtPair> positive = new PriorityQueue<>();
-        positive.addAll(shares.entrySet().stream().filter(x -> x.getValue() > 0)
-                .map(pair -> new DebtPair(pair.getKey(), pair.getValue())).toList());
-        PriorityQueue<DebtPair> negative = new PriorityQueue<>();
-        negative.addAll(shares.entrySet().stream().filter(x -> x.getValue() < 0)
-                .map(pair -> new DebtPair(pair.getKey(), Math.abs(pair.getValue()))).toList());
-        List<Debt> debts = new ArrayList<>();
-        while (!positive.isEmpty() && !negative.isEmpty()) {
-            DebtPair owed = positive.poll();
-            DebtPair owes = negative.poll();
-            if (owed.getValue() > owes.getValue()) {
-                debts.add(new Debt(owes.getKey(), owed.getKey(), owes.getValue()));
-                owed.setValue(owed.getValue() - owes.getValue());
-                positive.add(owed);
-            } else if (owed.getValue() < owes.getValue()) {
-                debts.add(new Debt(owes.getKey(), owed.getKey(), owed.getValue()));
-                owes.setValue(owes.getValue() - owed.getValue());
-                negative.add(owes);
-            } else {
-                debts.add(new Debt(owes.getKey(), owed.getKey(), owed.getValue()));
+            ParticipantSummary summary = getSummary(participant);
+            if (summary == null) {
+                showUnavailable();
+                return;
             }
+            shares.put(participant, Math.round(summary.getShare() * 100.0) / 100.0);
         }
+        List<Debt> debts = Debt.settle(shares);
         for (Debt debt : debts) {
             populateAccordion(event, debt);
         }
@@ -367,34 +349,27 @@ public class DebtsCtrl implements Initializable, NotificationSender {
     }
 
     /**
-     * Method that calculates the share per person and returns it as a double.
+     * Method that gets the share of a participant that the overview got from the server.
      *
-     * @param current - the participant to calculate the share for.
-     * @return - the share of that participant.
+     * @param participant - the participant.
+     * @return - the summary of the participant, or null if there is none.
      */
-    private double calculateShare(Participant current) {
-        double participantShare = 0;
-        Event curr = mainCtrl.getEvent();
-        List<Expense> expenses = curr.getExpensesList();
-        for (Expense expense : expenses) {
-            String currency = expense.getCurrency();
-            Date date = expense.getDate();
-            String base = getCurrency();
-            for (ParticipantPayment p : expense.getSplit()) {
-                if (p.getParticipant().equals(current)
-                        && !expense.getPayee().equals(current)) {
-                    participantShare -= currencyConverter.convert(date,
-                            currency, base, p.getPaymentAmount());
-                } else if (expense.getPayee().equals(current)
-                        && !p.getParticipant().equals(current)) {
-                    participantShare += currencyConverter.convert(date,
-                            currency, base, p.getPaymentAmount());
-                }
-            }
-        }
-        return Math.round(participantShare * 100.0) / 100.0;
+    private ParticipantSummary getSummary(Participant participant) {
+        if (mainCtrl.getOverviewCtrl() == null) return null;
+        return mainCtrl.getOverviewCtrl().getParticipantSummary(participant);
     }
 
+    /**
+     * Method that shows that the debts can't be settled,
+     * because the server couldn't provide the shares of the participants.
+     */
+    private void showUnavailable() {
+        menu.getPanes().clear();
+        TitledPane pane = new TitledPane();
+        pane.textProperty().bind(languageManager.bind("debts.sharesUnavailable"));
+        pane.setCollapsible(false);
+        menu.getPanes().add(pane);
+    }
 
     /**
      * Method that gets the currency from the config.
@@ -225,6 +225,10 @@ public class EditExpenseCtrl extends ExpenseCtrl {
                     throwAlert("addExpense.notFoundHeader",
                             "addExpense.notFoundBody");
                 }
+                case 409 -> {
+                    throwAlert("overview.undoConflictHeader",
+                            "overview.undoConflictBody");
+                }
             }
         }
     }
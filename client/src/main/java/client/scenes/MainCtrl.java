@@ -16,6 +16,7 @@
 package client.scenes;
 
 import client.commands.ICommand;
+import client.jfr.SceneRefreshEvent;
 import client.utils.ConfigInterface;
 import client.utils.LanguageManager;
 import com.google.inject.Inject;
@@ -199,7 +200,9 @@ public class MainCtrl {
             System.out.println("exception caught: Null Pointer Exception");
         }
         primaryStage.setScene(editTransfer);
-        if (editTransferCtrl != null) editTransferCtrl.refresh();
+        if (editTransferCtrl != null) {
+            SceneRefreshEvent.record("editTransfer", editTransferCtrl::refresh);
+        }
         if (editTransfer != null) editTransfer.setOnKeyPressed
             (e -> editTransferCtrl.keyPressed(e));
 
@@ -217,7 +220,7 @@ public class MainCtrl {
             System.out.println("exception caught: Null Pointer Exception");
         }
         primaryStage.setScene(transfer);
-        if (transferCtrl != null) transferCtrl.refresh();
+        if (transferCtrl != null) SceneRefreshEvent.record("transfer", transferCtrl::refresh);
         if (transferCtrl != null) transfer.setOnKeyPressed
                 (e -> transferCtrl.keyPressed(e));
     }
@@ -234,7 +237,7 @@ public class MainCtrl {
             System.out.println("exception caught: Null Pointer Exception");
         }
         primaryStage.setScene(debts);
-        if (debtsCtrl != null) debtsCtrl.refresh();
+        if (debtsCtrl != null) SceneRefreshEvent.record("debts", debtsCtrl::refresh);
     }
 
     /**
@@ -249,7 +252,7 @@ public class MainCtrl {
             System.out.println("exception caught: Null Pointer Exception");
         }
         primaryStage.setScene(invitation);
-        if (invitationCtrl != null) invitationCtrl.refresh();
+        if (invitationCtrl != null) SceneRefreshEvent.record("invitation", invitationCtrl::refresh);
         if (invitation != null) invitation.setOnKeyPressed(e -> invitationCtrl.keyPressed(e));
 
     }
@@ -265,7 +268,7 @@ public class MainCtrl {
             System.out.println("exception caught: Null Pointer Exception");
         }
         primaryStage.setScene(statistics);
-        if (statisticsCtrl != null) statisticsCtrl.setup();
+        if (statisticsCtrl != null) SceneRefreshEvent.record("statistics", statisticsCtrl::setup);
         if (statistics != null) statistics.setOnKeyPressed(e -> statisticsCtrl.keyPressed(e));
 
     }
@@ -282,7 +285,7 @@ public class MainCtrl {
             System.out.println("exception caught: Null Pointer Exception");
         }
         primaryStage.setScene(manageTags);
-        if (manageTagsCtrl != null) manageTagsCtrl.setup();
+        if (manageTagsCtrl != null) SceneRefreshEvent.record("manageTags", manageTagsCtrl::setup);
     }
 
     /**
@@ -297,8 +300,8 @@ public class MainCtrl {
             System.out.println("exception caught: Null Pointer Exception");
         }
         primaryStage.setScene(editTag);
-        if (editTagCtrl != null) editTagCtrl.refresh();
-        if (statisticsCtrl != null) statisticsCtrl.refresh();
+        if (editTagCtrl != null) SceneRefreshEvent.record("editTag", editTagCtrl::refresh);
+        if (statisticsCtrl != null) SceneRefreshEvent.record("statistics", statisticsCtrl::refresh);
         if (statistics != null) statistics.setOnKeyPressed(e -> statisticsCtrl.keyPressed(e));
 
     }
@@ -315,7 +318,7 @@ public class MainCtrl {
             System.out.println("exception caught: Null Pointer Exception");
         }
         primaryStage.setScene(editExpense);
-        if(editExpenseCtrl!=null) editExpenseCtrl.refresh();
+        if(editExpenseCtrl!=null) SceneRefreshEvent.record("editExpense", editExpenseCtrl::refresh);
         if (editExpense != null) editExpense.setOnKeyPressed(e -> editExpenseCtrl.keyPressed(e));
 
     }
@@ -402,7 +405,7 @@ public class MainCtrl {
             System.out.println("exception caught: Null Pointer Exception");
         }
         primaryStage.setScene(addExpense);
-        addExpenseCtrl.refresh();
+        SceneRefreshEvent.record("addExpense", addExpenseCtrl::refresh);
         if (addExpense != null) addExpense.setOnKeyPressed(e -> addExpenseCtrl.keyPressed(e));
 
     }
@@ -419,7 +422,7 @@ public class MainCtrl {
             System.out.println("exception caught: Null Pointer Exception");
         }
         primaryStage.setScene(overview);
-        if (overviewCtrl != null) overviewCtrl.refresh();
+        if (overviewCtrl != null) SceneRefreshEvent.record("overview", overviewCtrl::refresh);
         if (overview != null) overview.setOnKeyPressed(e -> overviewCtrl.keyPressed(e));
     }
 
@@ -462,7 +465,9 @@ public class MainCtrl {
         }catch(NullPointerException e){
             System.out.println("exception caught: Null Pointer Exception");
         }
-        if (startScreenCtrl != null) startScreenCtrl.refresh();
+        if (startScreenCtrl != null) {
+            SceneRefreshEvent.record("startScreen", startScreenCtrl::refresh);
+        }
         primaryStage.setScene(startScreen);
         if (startScreen != null) startScreen
                 .setOnKeyPressed(e -> startScreenCtrl.keyPressed(e));
@@ -523,7 +528,9 @@ public class MainCtrl {
             System.out.println("exception caught: Null Pointer Exception");
         }
         primaryStage.setScene(editparticipant);
-        if (overviewCtrl != null) editparticipantCtrl.refresh();
+        if (overviewCtrl != null) {
+            SceneRefreshEvent.record("editparticipant", editparticipantCtrl::refresh);
+        }
         if (editparticipant != null) editparticipant
                 .setOnKeyPressed(e -> editparticipantCtrl.keyPressed(e));
 
@@ -561,7 +568,7 @@ public class MainCtrl {
             System.out.println("exception caught: Null Pointer Exception");
         }
         primaryStage.setScene(settings);
-        if (settingsCtrl != null) settingsCtrl.refresh();
+        if (settingsCtrl != null) SceneRefreshEvent.record("settings", settingsCtrl::refresh);
         if (settings != null) settings.setOnKeyPressed(e -> settingsCtrl.keyPressed(e));
 
     }
@@ -19,6 +19,7 @@ import client.commands.ICommand;
 import client.utils.*;
 import com.google.inject.Inject;
 import commons.*;
+import jakarta.ws.rs.ProcessingException;
 import jakarta.ws.rs.WebApplicationException;
 import javafx.application.Platform;
 import javafx.collections.ObservableMap;
@@ -35,6 +36,7 @@ import org.springframework.messaging.simp.stomp.StompSession;
 
 import java.net.URL;
 import java.util.*;
+import java.util.function.Supplier;
 
 public class OverviewCtrl implements Initializable, LanguageSwitcher, NotificationSender {
 
@@ -98,8 +100,16 @@ public class OverviewCtrl implements Initializable, LanguageSwitcher, Notificati
     private StompSession.Subscription tagSubscription;
     private StompSession.Subscription participantSubscription;
     private StompSession.Subscription eventSubscription;
+    private StompSession.Subscription changeSubscription;
 
     private Map<Participant, StompSession.Subscription> participantSubscriptionMap;
+    private ExpensePager allPager;
+    private ExpensePager fromPager;
+    private ExpensePager includingPager;
+    private Participant filteredBy;
+    private long sumRequest;
+    private Map<Long, ParticipantSummary> participantSummaries = new HashMap<>();
+    private String summaryCurrency;
 
     @FXML
     private Label sumExpense;
@@ -157,39 +167,62 @@ public class OverviewCtrl implements Initializable, LanguageSwitcher, Notificati
     }
 
     /**
-     * Method that populates the lists related to expenses.
+     * Method that populates the lists related to expenses with their first pages,
+     * the next pages are loaded from the server when the user scrolls to them.
      */
     public void populateExpenses() {
-        if (mainCtrl != null && mainCtrl.getEvent() != null
-                && mainCtrl.getEvent().getExpensesList() != null) {
-            all.getItems().clear();
-            List<Expense> expenses = new ArrayList<>();
+        if (mainCtrl != null && mainCtrl.getEvent() != null) {
             List<Participant> participantsList = new ArrayList<>();
             try {
-                expenses = server.getAllExpenses(mainCtrl.getEvent().getInviteCode());
-                participantsList = server.getEvent(mainCtrl.getEvent().getInviteCode())
-                        .getParticipantsList();
-            } catch (WebApplicationException | NullPointerException e) {
+                participantsList = server.getAllParticipants(
+                        mainCtrl.getEvent().getInviteCode());
+            } catch (WebApplicationException | ProcessingException e) {
                 e.printStackTrace();
             }
-            for (Expense expense : expenses) {
-                if (!expenseSubscriptionMap.containsKey(expense))
-                    subscribeToExpense(expense);
-                if (!all.getItems().contains(expense))
-                    all.getItems().add(expense);
-            }
-            for (Participant participant : participantsList) {
-                if (!participantSubscriptionMap.containsKey(participant))
-                    subscribeToParticipant(participant);
-                if (!participants.getItems().contains(participant))
-                    participants.getItems().add(participant);
-            }
-            mainCtrl.getEvent().setExpensesList(expenses);
-            all.getItems().sort((o1, o2) -> -o1.getDate().compareTo(o2.getDate()));
-            all.refresh();
-            filterViews();
-            String base = getCurrency();
-            sumExpense.setText(String.format("%.2f %s", getSum(), base));
+            openPages();
+            subscribeToParticipants(participantsList);
+        }
+    }
+
+    /**
+     * Method that starts the lists of expenses over with new pagers,
+     * and shows their first pages and the total of the event.
+     */
+    private void openPages() {
+        allPager = pager(new ExpenseFilter());
+        show(all, firstPage(allPager));
+        filteredBy = null;
+        filterViews();
+        showSum();
+    }
+
+    /**
+     * Method that loads the pages of the lists of expenses that are loaded so far again,
+     * for changes that can't be applied to the loaded expenses one by one,
+     * like an undo or a renamed participant.
+     */
+    public void refreshExpenses() {
+        if (allPager == null) {
+            openPages();
+            return;
+        }
+        show(all, allPager.reload());
+        if (fromPager != null) show(from, fromPager.reload());
+        if (includingPager != null) show(including, includingPager.reload());
+        showSum();
+    }
+
+    /**
+     * Method that subscribes to updates of the given participants and shows them.
+     * @param participantsList - the participants of the event
+     */
+    private void subscribeToParticipants(List<Participant> participantsList) {
+        if (participantsList == null) return;
+        for (Participant participant : participantsList) {
+            if (!participantSubscriptionMap.containsKey(participant))
+                subscribeToParticipant(participant);
+            if (!participants.getItems().contains(participant))
+                participants.getItems().add(participant);
         }
     }
 
@@ -205,17 +238,123 @@ public class OverviewCtrl implements Initializable, LanguageSwitcher, Notificati
             } catch (WebApplicationException e) {
                 e.printStackTrace();
             }
-            participants.getItems().clear();
-            participants.getItems(). addAll(serverparticipants);
+            showParticipants(serverparticipants);
+        }
+    }
+
+    /**
+     * Method that fills the lists related to participants with the given participants.
+     * @param serverparticipants - the participants of the event
+     */
+    private void showParticipants(List<Participant> serverparticipants) {
+        participants.getItems().clear();
+        participants.getItems(). addAll(serverparticipants);
+        if (!expenseparticipants.getItems().equals(serverparticipants)) {
             Participant set = expenseparticipants.getValue();
             expenseparticipants.getItems().clear();
             expenseparticipants.getItems().addAll(serverparticipants);
             if (set != null && expenseparticipants.getItems().contains(set)) {
                 expenseparticipants.setValue(set);
             }
-            filterViews();
-            participants.refresh();
         }
+        filterViews();
+        fetchParticipantSummaries();
+        participants.refresh();
+    }
+
+    /**
+     * Method that gets the share, debt and owed amounts of all participants in one request,
+     * so the participant cells don't have to go through all expenses for each participant.
+     */
+    private void fetchParticipantSummaries() {
+        participantSummaries = new HashMap<>();
+        if (mainCtrl.getEvent() == null) return;
+        summaryCurrency = getCurrency();
+        try {
+            List<ParticipantSummary> summaries = server.getParticipantSummaries(
+                    mainCtrl.getEvent().getInviteCode(), summaryCurrency);
+            if (summaries == null) return;
+            for (ParticipantSummary summary : summaries) {
+                participantSummaries.put(summary.getParticipantId(), summary);
+            }
+        } catch (WebApplicationException | ProcessingException e) {
+            System.err.println("Couldn't get the participant summaries from the server.");
+        }
+    }
+
+    /**
+     * Method that gets the summary of a participant as last fetched from the server.
+     * @param participant - the participant
+     * @return - the summary, or null if there is none in the current currency.
+     */
+    public ParticipantSummary getParticipantSummary(Participant participant) {
+        if (participant == null || !getCurrency().equals(summaryCurrency)) return null;
+        return participantSummaries.get(participant.getId());
+    }
+
+    /**
+     * Method that populates the overview with the first pages of expenses,
+     * and the participants and tags from the cached snapshot of the event,
+     * so they can be shown without waiting for the server.
+     */
+    public void populateFromSnapshot() {
+        if (mainCtrl == null || mainCtrl.getEvent() == null) return;
+        openPages();
+        updateFromSnapshot();
+    }
+
+    /**
+     * Method that shows the participants and tags of the cached snapshot of the event,
+     * and reconciles them with the server in the background.
+     * Loads the event from the server directly if there is no snapshot.
+     */
+    private void updateFromSnapshot() {
+        int inviteCode = mainCtrl.getEvent().getInviteCode();
+        Event snapshot = server.getCachedEvent(inviteCode);
+        if (snapshot == null) {
+            showFullEvent(inviteCode);
+            return;
+        }
+        showSnapshot(snapshot);
+        server.reconcileEvent(inviteCode, fresh -> Platform.runLater(() -> {
+            if (mainCtrl.getEvent() != null && mainCtrl.getEvent().getInviteCode() == inviteCode)
+                showSnapshot(fresh);
+        }));
+    }
+
+    /**
+     * Method that fills the overview with the event fetched from the server in one request,
+     * for events that were opened from a summary and have no snapshot yet.
+     * @param inviteCode - invite code of the event
+     */
+    private void showFullEvent(int inviteCode) {
+        Event full = null;
+        try {
+            full = server.getEvent(inviteCode);
+        } catch (WebApplicationException e) {
+            e.printStackTrace();
+        }
+        if (full == null) {
+            populateParticipants();
+            return;
+        }
+        showSnapshot(full);
+    }
+
+    /**
+     * Method that fills the overview with the participants and tags of a copy of the event,
+     * the expenses are shown from the pages loaded from the server.
+     * @param snapshot - the copy of the event
+     */
+    private void showSnapshot(Event snapshot) {
+        List<Participant> participantsList = snapshot.getParticipantsList() == null
+                ? new ArrayList<>() : snapshot.getParticipantsList();
+        mainCtrl.getEvent().setTitle(snapshot.getTitle());
+        mainCtrl.getEvent().setParticipantsList(new ArrayList<>(participantsList));
+        if (snapshot.getTagsList() != null)
+            mainCtrl.getEvent().setTagsList(new ArrayList<>(snapshot.getTagsList()));
+        subscribeToParticipants(participantsList);
+        showParticipants(participantsList);
     }
 
     /**
@@ -253,15 +392,9 @@ public class OverviewCtrl implements Initializable, LanguageSwitcher, Notificati
                                 mainCtrl.getEvent().getInviteCode() + "/expenses", Expense.class,
                         expense -> {
                             Platform.runLater(() -> {
-                                all.getItems().add(expense);
-                                mainCtrl.getEvent().getExpensesList().add(expense);
-                                all.getItems().sort((o1, o2) ->
-                                        -o1.getDate().compareTo(o2.getDate()));
-                                filterViews();
-                                all.refresh();
+                                applyToPages(null, expense);
                                 populateParticipants();
-                                sumExpense.setText(String.format(
-                                        "%.2f %s", getSum(), getCurrency()));
+                                showSum();
                                 subscribeToExpense(expense);
                                 if (mainCtrl.getDebtsCtrl() != null)
                                     mainCtrl.getDebtsCtrl().refresh();
@@ -278,6 +411,13 @@ public class OverviewCtrl implements Initializable, LanguageSwitcher, Notificati
                             mainCtrl.getDebtsCtrl().refresh();
                             populateParticipants();
                         }));
+            if (changeSubscription == null)
+                changeSubscription = server.registerForMessages("/topic/events/" +
+                                mainCtrl.getEvent().getInviteCode() + "/changes",
+                        EventChange.class, change -> Platform.runLater(() -> {
+                            refreshExpenses();
+                            updateFromSnapshot();
+                        }));
             if (tagSubscription == null)
                 tagSubscription = server.registerForMessages("/topic/events/" +
                                 mainCtrl.getEvent().getInviteCode() + "/tags", Tag.class,
@@ -307,10 +447,10 @@ public class OverviewCtrl implements Initializable, LanguageSwitcher, Notificati
                         if (!"deleted".equals(part.getIban())) {
                             mainCtrl.getEvent().getParticipantsList().add(part);
                         }
+                        refreshExpenses();
+                        populateParticipants();
                         if (mainCtrl.getDebtsCtrl() != null)
                             mainCtrl.getDebtsCtrl().refresh();
-                        populateExpenses();
-                        populateParticipants();
                     }));
             participantSubscriptionMap.put(participant, subscription);
         }
@@ -332,7 +472,7 @@ public class OverviewCtrl implements Initializable, LanguageSwitcher, Notificati
                         if (!"deleted".equals(exp.getColor())) {
                             mainCtrl.getEvent().getTagsList().add(exp);
                         }
-                        populateExpenses();
+                        refreshExpenses();
                         populateParticipants();
                     }));
             tagSubscriptionMap.put(tag, subscription);
@@ -351,21 +491,12 @@ public class OverviewCtrl implements Initializable, LanguageSwitcher, Notificati
                     + expense.getId();
             var subscription = server.registerForMessages(dest, Expense.class,
                     exp -> Platform.runLater(() -> {
-                        all.getItems().remove(expense);
-                        mainCtrl.getEvent().getExpensesList().remove(expense);
-                        all.refresh();
-                        if (!"deleted".equals(exp.getDescription())) {
-                            all.getItems().add(exp);
-                            mainCtrl.getEvent().getExpensesList().add(exp);
-                            all.getItems().sort((o1, o2) ->
-                                    -o1.getDate().compareTo(o2.getDate()));
-                        }
-                        filterViews();
-                        all.refresh();
-                        mainCtrl.getDebtsCtrl().refresh();
+                        applyToPages(expense,
+                                "deleted".equals(exp.getDescription()) ? null : exp);
                         populateParticipants();
-                        String baseCurrency = getCurrency();
-                        sumExpense.setText(String.format("%.2f %s", getSum(), baseCurrency));
+                        showSum();
+                        if (mainCtrl.getDebtsCtrl() != null)
+                            mainCtrl.getDebtsCtrl().refresh();
                     }));
             expenseSubscriptionMap.put(expense, subscription);
         }
@@ -441,6 +572,10 @@ public class OverviewCtrl implements Initializable, LanguageSwitcher, Notificati
             eventSubscription.unsubscribe();
             eventSubscription = null;
         }
+        if (changeSubscription != null) {
+            changeSubscription.unsubscribe();
+            changeSubscription = null;
+        }
         if (tagSubscription != null) {
             tagSubscription.unsubscribe();
             tagSubscription = null;
@@ -527,12 +662,9 @@ public class OverviewCtrl implements Initializable, LanguageSwitcher, Notificati
         String language = config.getProperty("language");
         if (languages != null) languages.setValue(language);
         this.refreshLanguage();
-        all.setCellFactory(x ->
-                new ExpenseListCell(mainCtrl, languageManager, currencyConverter, config, server));
-        from.setCellFactory(x ->
-                new ExpenseListCell(mainCtrl, languageManager, currencyConverter, config, server));
-        including.setCellFactory(x ->
-                new ExpenseListCell(mainCtrl, languageManager, currencyConverter, config, server));
+        all.setCellFactory(x -> pagedCell(all, () -> allPager));
+        from.setCellFactory(x -> pagedCell(from, () -> fromPager));
+        including.setCellFactory(x -> pagedCell(including, () -> includingPager));
         Label fromLabel = new Label();
         Label includingLabel = new Label();
         participantFrom = new Label();
@@ -543,7 +675,7 @@ public class OverviewCtrl implements Initializable, LanguageSwitcher, Notificati
         fromTab.setGraphic(new HBox(fromLabel, participantFrom));
         includingTab.setGraphic(new HBox(includingLabel, participantIncluding));
         participants.setCellFactory(x -> new ParticipantCell(mainCtrl,
-                languageManager, config, currencyConverter));
+                languageManager, config));
         expenseparticipants.setConverter(new StringConverter<Participant>() {
             @Override
             public String toString(Participant participant) {
@@ -564,6 +696,7 @@ public class OverviewCtrl implements Initializable, LanguageSwitcher, Notificati
 
     /**
      * Method that filters the views to a specific participant.
+     * The pages loaded for the participant are kept as long as it stays selected.
      */
     public void filterViews() {
         Participant participant = expenseparticipants.getValue();
@@ -572,25 +705,123 @@ public class OverviewCtrl implements Initializable, LanguageSwitcher, Notificati
             including.getItems().clear();
             participantFrom.setText("");
             participantIncluding.setText("");
+            fromPager = null;
+            includingPager = null;
+            filteredBy = null;
             return;
         }
+        if (participant.equals(filteredBy) && fromPager != null) return;
+        filteredBy = participant;
         participantFrom.setText(participant.getName());
         participantIncluding.setText(participant.getName());
-        from.getItems().clear();
-        from.getItems().addAll(all.getItems().stream()
-                .filter(x -> x.getPayee().equals(participant)).toList());
-        including.getItems().clear();
-        including.getItems().addAll(all.getItems().stream()
-                .filter(x -> !(x.getSplit().stream()
-                        .map(ParticipantPayment::getParticipant)
-                        .filter(y -> y.equals(participant)).toList().isEmpty())).toList());
+        fromPager = pager(new ExpenseFilter(participant.getId(), null, null, null, null));
+        show(from, firstPage(fromPager));
+        includingPager = pager(new ExpenseFilter(null, participant.getId(), null, null, null));
+        show(including, firstPage(includingPager));
+    }
+
+    /**
+     * Method that creates a pager over the expenses of the current event.
+     * @param filter - the criteria the expenses have to meet
+     * @return - the pager, or null if there is no current event.
+     */
+    private ExpensePager pager(ExpenseFilter filter) {
+        if (mainCtrl.getEvent() == null) return null;
+        return new ExpensePager(server, mainCtrl.getEvent().getInviteCode(), filter);
+    }
+
+    /**
+     * Method that loads the first page of a list of expenses from the server.
+     * @param pager - the pager of the list
+     * @return - the expenses on the first page.
+     */
+    private List<Expense> firstPage(ExpensePager pager) {
+        return pager == null ? new ArrayList<>() : pager.next();
+    }
+
+    /**
+     * Method that shows the given expenses in a list, and subscribes to their updates.
+     * @param view - the list
+     * @param expenses - the expenses to show
+     */
+    private void show(ListView<Expense> view, List<Expense> expenses) {
+        for (Expense expense : expenses) {
+            subscribeToExpense(expense);
+        }
+        view.getItems().setAll(expenses);
+        view.refresh();
+    }
+
+    /**
+     * Method that applies an added, changed or deleted expense to the pages of the lists
+     * that are loaded, without loading them again.
+     * @param old - the expense as it was, or null if it was added
+     * @param changed - the expense as it is now, or null if it was deleted
+     */
+    private void applyToPages(Expense old, Expense changed) {
+        applyToPage(all, allPager, old, changed);
+        applyToPage(from, fromPager, old, changed);
+        applyToPage(including, includingPager, old, changed);
+    }
+
+    /**
+     * Method that applies an added, changed or deleted expense to the loaded pages of a list,
+     * expenses after the loaded pages are shown once the user scrolls to them.
+     * @param view - the list
+     * @param pager - the pager of the list
+     * @param old - the expense as it was, or null if it was added
+     * @param changed - the expense as it is now, or null if it was deleted
+     */
+    private void applyToPage(ListView<Expense> view, ExpensePager pager,
+                             Expense old, Expense changed) {
+        if (old != null) view.getItems().removeIf(e -> e.getId() == old.getId());
+        if (changed != null && pager != null && pager.covers(changed)) {
+            view.getItems().add(changed);
+            view.getItems().sort(ExpensePage.ORDER);
+        }
+        view.refresh();
+    }
+
+    /**
+     * Method that creates a cell for a paged list of expenses,
+     * which loads the next page when the last expense in the list becomes visible.
+     * @param view - the list the cell is part of
+     * @param pager - supplies the current pager of the list
+     * @return - the cell.
+     */
+    private ExpenseListCell pagedCell(ListView<Expense> view, Supplier<ExpensePager> pager) {
+        return new ExpenseListCell(mainCtrl, languageManager, currencyConverter, config, server) {
+            @Override
+            protected void updateItem(Expense item, boolean empty) {
+                super.updateItem(item, empty);
+                if (!empty && item != null && getIndex() == view.getItems().size() - 1)
+                    Platform.runLater(() -> loadMore(view, pager.get(), item));
+            }
+        };
+    }
+
+    /**
+     * Method that appends the next page of expenses to a list,
+     * if the given expense is still the last one in it.
+     * @param view - the list
+     * @param pager - the pager of the list
+     * @param last - the expense that was last when loading was triggered
+     */
+    void loadMore(ListView<Expense> view, ExpensePager pager, Expense last) {
+        if (pager == null || !pager.isAvailable() || pager.isExhausted()) return;
+        if (view.getItems().isEmpty() || view.getItems().getLast() != last) return;
+        List<Expense> page = pager.next();
+        for (Expense expense : page) {
+            subscribeToExpense(expense);
+        }
+        view.getItems().addAll(page);
     }
 
     /**
      * Removes a participant from the list
      */
     public void removeParticipant(Participant participant) {
-        List<Expense> expenses = mainCtrl.getEvent().getExpensesList();
+        List<Expense> expenses = involvedExpenses(participant);
         for (Expense e : expenses) {
             if (!e.getSplit().stream()
                     .filter(item -> item.getParticipant()
@@ -619,6 +850,27 @@ public class OverviewCtrl implements Initializable, LanguageSwitcher, Notificati
         participants.refresh();
     }
 
+    /**
+     * Method that loads the expenses a participant pays or takes part in from the server,
+     * without loading the other expenses of the event.
+     * @param participant - the participant
+     * @return - the expenses of the participant.
+     */
+    private List<Expense> involvedExpenses(Participant participant) {
+        List<Expense> expenses = new ArrayList<>();
+        for (ExpenseFilter filter : List.of(
+                new ExpenseFilter(participant.getId(), null, null, null, null),
+                new ExpenseFilter(null, participant.getId(), null, null, null))) {
+            ExpensePager pager = pager(filter);
+            while (pager != null && !pager.isExhausted()) {
+                for (Expense expense : pager.next()) {
+                    if (!expenses.contains(expense)) expenses.add(expense);
+                }
+            }
+        }
+        return expenses;
+    }
+
     /**
      * Extracted method that deals with expenses whos payee got deleted as well as
      * debts/transfers where the only participant left is the one who paid/received
@@ -702,24 +954,23 @@ public class OverviewCtrl implements Initializable, LanguageSwitcher, Notificati
     }
 
     /**
-     * method to calculate the sum of all expenses in the event
-     *
-     * @return double for the event total
+     * Method that shows the sum of all expenses in the event.
+     * The sum is computed by the server and fetched in the background;
+     * only the answer to the latest request is shown.
      */
-    public double getSum() {
-        double sum = 0;
-        if (mainCtrl.getEvent() == null) return sum;
-        List<Expense> expenses = mainCtrl.getEvent().getExpensesList();
-        for (Expense e : expenses) {
-            if(e.getDescription().equals("transfer") || e.getDescription().equals("settlement")){
-                continue;
-            }
-            String currency = e.getCurrency();
-            Date date = e.getDate();
-            String base = getCurrency();
-            sum += currencyConverter.convert(date, currency, base, e.getAmount());
+    private void showSum() {
+        String currency = getCurrency();
+        long request = ++sumRequest;
+        if (mainCtrl.getEvent() == null) {
+            sumExpense.setText(String.format("%.2f %s", 0.0, currency));
+            return;
         }
-        return sum;
+        server.fetchStatistics(mainCtrl.getEvent().getInviteCode(), currency,
+                statistics -> Platform.runLater(() -> {
+                    if (request != sumRequest) return;
+                    double total = statistics == null ? 0 : statistics.getTotal();
+                    sumExpense.setText(String.format("%.2f %s", total, currency));
+                }));
     }
 
     /**
@@ -3,7 +3,9 @@ package client.scenes;
 import client.utils.*;
 import com.google.inject.Inject;
 import commons.Event;
+import commons.EventSummary;
 import jakarta.ws.rs.WebApplicationException;
+import javafx.application.Platform;
 import javafx.collections.ObservableMap;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -20,6 +22,7 @@ import javafx.scene.layout.HBox;
 
 import java.net.URL;
 import java.util.*;
+import java.util.stream.Collectors;
 
 public class StartScreenCtrl implements Initializable, LanguageSwitcher {
 
@@ -130,23 +133,73 @@ public class StartScreenCtrl implements Initializable, LanguageSwitcher {
 
     }
 
+    /**
+     * Replaces the event in the list with a newer version of it.
+     * @param q the newer version of the event
+     */
+    private void replaceEvent(Event q) {
+        for (int i = 0; i < recentEvents.getItems().size(); i++) {
+            if(recentEvents.getItems().get(i).getInviteCode() == q.getInviteCode()) {
+                recentEvents.getItems().set(i, q);
+                recentEvents.refresh();
+            }
+        }
+    }
+
     /**
      * Method that returns a list containing the recent events from the config file.
+     * Events that have a cached snapshot are shown from the snapshot straight away
+     * and are reconciled with the server in the background, the others are shown
+     * from their summaries, which are fetched in a single request.
      * @return - the list of recent events.
      */
     private List<Event> getRecentEventsFromConfig() {
+        List<Integer> inviteCodes = getRecentInviteCodes();
+        Map<Integer, Event> events = new HashMap<>();
+        List<Integer> cachedCodes = new ArrayList<>();
+        List<Integer> uncachedCodes = new ArrayList<>();
+        for (int inviteCode : inviteCodes) {
+            Event cached = serverUtils.getCachedEvent(inviteCode);
+            if (cached == null) {
+                uncachedCodes.add(inviteCode);
+            } else {
+                cachedCodes.add(inviteCode);
+                events.put(inviteCode, cached);
+            }
+        }
+        try {
+            for (EventSummary summary : serverUtils.getEventSummaries(uncachedCodes)) {
+                events.put(summary.getInviteCode(), summary.toEvent());
+            }
+        }
+        catch (WebApplicationException e) {
+            e.printStackTrace();
+        }
+        serverUtils.reconcileEvents(cachedCodes, q -> Platform.runLater(() -> replaceEvent(q)));
+        return inviteCodes.stream()
+                .map(events::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Method that returns the invite codes of the recent events in the config file.
+     * @return - the invite codes of the recent events, without duplicates.
+     */
+    private List<Integer> getRecentInviteCodes() {
         String eventString = config.getProperty("recentEvents");
-        if (eventString == null) return new ArrayList<>();
-        List<Event> events = new ArrayList<>();
+        List<Integer> inviteCodes = new ArrayList<>();
+        if (eventString == null) return inviteCodes;
         for (String s : eventString.split(",")) {
             try {
-                events.add(serverUtils.getEvent(Integer.parseInt(s)));
+                int inviteCode = Integer.parseInt(s);
+                if (!inviteCodes.contains(inviteCode)) inviteCodes.add(inviteCode);
             }
-            catch (WebApplicationException | NumberFormatException e) {
+            catch (NumberFormatException e) {
                 e.printStackTrace();
             }
         }
-        return events;
+        return inviteCodes;
     }
 
     /**
@@ -1,13 +1,16 @@
 package client.scenes;
 
 import client.utils.ConfigInterface;
-import client.utils.CurrencyConverter;
 import client.utils.LanguageManager;
 import client.utils.ServerUtils;
 import com.google.inject.Inject;
 import commons.Event;
+import commons.EventChange;
+import commons.EventStatistics;
 import commons.Expense;
 import commons.Tag;
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.WebApplicationException;
 import javafx.application.Platform;
 import javafx.beans.binding.StringBinding;
 import javafx.collections.ObservableMap;
@@ -35,7 +38,6 @@ public class StatisticsCtrl implements Initializable {
     private final ConfigInterface config;
     private final MainCtrl mainCtrl;
     private final LanguageManager languageManager;
-    private final CurrencyConverter currencyConverter;
     @FXML
     public Button manageTags;
     private StompSession.Subscription subscription;
@@ -52,7 +54,10 @@ public class StatisticsCtrl implements Initializable {
     private Map<Tag, StompSession.Subscription> tagSubscriptionMap;
 
     private StompSession.Subscription expensesSubscription;
-    private Map<Expense, StompSession.Subscription> expenseSubscriptionMap;
+    private StompSession.Subscription expenseChangesSubscription;
+    private StompSession.Subscription changeSubscription;
+
+    private Map<Long, Tag> tags;
 
     private int invitecode;
 
@@ -67,13 +72,11 @@ public class StatisticsCtrl implements Initializable {
     public StatisticsCtrl(MainCtrl mainCtrl,
                           ConfigInterface config,
                           LanguageManager languageManager,
-                          ServerUtils serverUtils,
-                          CurrencyConverter currencyConverter) {
+                          ServerUtils serverUtils) {
         this.mainCtrl = mainCtrl;
         this.config = config;
         this.languageManager = languageManager;
         this.serverUtils = serverUtils;
-        this.currencyConverter = currencyConverter;
     }
 
     /**
@@ -89,23 +92,20 @@ public class StatisticsCtrl implements Initializable {
             language = "en";
         }
         this.refreshLanguage();
-        expenseSubscriptionMap = new HashMap<>();
         tagSubscriptionMap = new HashMap<>();
+        tags = new LinkedHashMap<>();
     }
 
 
     /**
-     * Extra setup to fix statistic refresh
+     * Extra setup to fix statistic refresh. The amounts come from the statistics of the
+     * server, so only the tags of the event that is already loaded are needed here.
      */
     public void setup() {
-        Event e = serverUtils.getEvent(mainCtrl.getEvent().getInviteCode());
         invitecode = mainCtrl.getEvent().getInviteCode();
-        mainCtrl.setEvent(e);
-        for (Expense expense : mainCtrl.getEvent().getExpensesList()) {
-            if (!expenseSubscriptionMap.containsKey(expense))
-                subscribeToExpense(expense);
-        }
+        tags = new LinkedHashMap<>();
         for (Tag tag : mainCtrl.getEvent().getTagsList()) {
+            tags.put(tag.getId(), tag);
             if (!tagSubscriptionMap.containsKey(tag))
                 subscribeToTag(tag);
         }
@@ -119,18 +119,25 @@ public class StatisticsCtrl implements Initializable {
      */
     private void subscribeToTag(Tag tag) {
         if (!tagSubscriptionMap.containsKey(tag)) {
-            String dest = "/topic/events/" +
-                    mainCtrl.getEvent().getInviteCode() + "/tags/"
-                    + tag.getId();
+            tags.put(tag.getId(), tag);
+            String dest = "/topic/events/" + invitecode + "/tags/" + tag.getId();
             var subscription = serverUtils.registerForMessages(dest, Tag.class,
-                    exp -> Platform.runLater(() -> {
-                        mainCtrl.setEvent(serverUtils.getEvent(invitecode));
-                        setStatistics();
-                    }));
+                    exp -> Platform.runLater(() -> onTagChange(exp)));
             tagSubscriptionMap.put(tag, subscription);
         }
     }
 
+    /**
+     * What the page needs to do when a tag is changed or deleted
+     *
+     * @param tag the tag as it is now
+     */
+    public void onTagChange(Tag tag) {
+        if ("deleted".equals(tag.getColor())) tags.remove(tag.getId());
+        else tags.put(tag.getId(), tag);
+        setStatistics();
+    }
+
     /**
      * Method that refreshes the language.
      */
@@ -190,6 +197,14 @@ public class StatisticsCtrl implements Initializable {
                                 mainCtrl.getEvent().getInviteCode() + "/expenses", Expense.class,
                         expense -> {
                             Platform.runLater(() -> {onNewExpenseReceive(expense);});});
+            if (expenseChangesSubscription == null)
+                expenseChangesSubscription = serverUtils.registerForMessages("/topic/events/"
+                                + mainCtrl.getEvent().getInviteCode() + "/expenses/*",
+                        Expense.class, exp -> Platform.runLater(() -> onExpenseChange(exp)));
+            if (changeSubscription == null)
+                changeSubscription = serverUtils.registerForMessages("/topic/events/"
+                                + mainCtrl.getEvent().getInviteCode() + "/changes",
+                        EventChange.class, change -> Platform.runLater(this::setStatistics));
         }
         pieChart.titleProperty().set(mainCtrl.getEvent().getTitle());
         cancel.setGraphic(new ImageView(new Image("icons/arrowback.png")));
@@ -204,39 +219,14 @@ public class StatisticsCtrl implements Initializable {
      * @param expense the expense that is received
      */
     public void onNewExpenseReceive(Expense expense) {
-        if (!mainCtrl.getEvent().getExpensesList().contains(expense)) {
-            mainCtrl.getEvent().getExpensesList().add(expense);
-        }
-        subscribeToExpense(expense);
         setStatistics();
     }
 
     /**
-     * Method that subscribes to updates for an expense.
-     *
-     * @param expense - the expense to subscribe to.
-     */
-    public void subscribeToExpense(Expense expense) {
-        if (!expenseSubscriptionMap.containsKey(expense)) {
-            String dest = "/topic/events/" +
-                    mainCtrl.getEvent().getInviteCode() + "/expenses/"
-                    + expense.getId();
-            var subscription = serverUtils.registerForMessages(dest, Expense.class,
-                    exp -> Platform.runLater(() -> {onExpenseChange(expense, exp);}));
-            expenseSubscriptionMap.put(expense, subscription);
-        }
-    }
-
-    /**
-     * What the system needs to do when an expense changes
-     * @param expense the expense old version changed
+     * What the system needs to do when an expense of the event is changed or deleted
      * @param exp the expense that changed
      */
-    public void onExpenseChange(Expense expense, Expense exp) {
-        mainCtrl.getEvent().getExpensesList().remove(expense);
-        if (!"deleted".equals(exp.getDescription())) {
-            mainCtrl.getEvent().getExpensesList().add(exp);
-        }
+    public void onExpenseChange(Expense exp) {
         setStatistics();
     }
 
@@ -244,16 +234,27 @@ public class StatisticsCtrl implements Initializable {
      * Back to the overview of the expenses of the Event
      */
     public void backToOverview() {
+        unsubscribe();
+        mainCtrl.showOverview();
+    }
+
+    /**
+     * Stops the updates of the event, as the page is left
+     */
+    private void unsubscribe() {
         subscription.unsubscribe();
-        if (expenseSubscriptionMap != null) {
-            expenseSubscriptionMap.values().stream().filter(Objects::nonNull)
-                    .forEach(StompSession.Subscription::unsubscribe);
-            expenseSubscriptionMap = new HashMap<>();
-        }
         if (expensesSubscription != null) {
             expensesSubscription.unsubscribe();
             expensesSubscription = null;
         }
+        if (expenseChangesSubscription != null) {
+            expenseChangesSubscription.unsubscribe();
+            expenseChangesSubscription = null;
+        }
+        if (changeSubscription != null) {
+            changeSubscription.unsubscribe();
+            changeSubscription = null;
+        }
         if (tagSubscription != null) {
             tagSubscription.unsubscribe();
             tagSubscription = null;
@@ -263,32 +264,13 @@ public class StatisticsCtrl implements Initializable {
                     .forEach(StompSession.Subscription::unsubscribe);
             tagSubscriptionMap = new HashMap<>();
         }
-        mainCtrl.showOverview();
     }
 
     /**
      * Manage the tags
      */
     public void showManageTagsScreen() {
-        subscription.unsubscribe();
-        if (expenseSubscriptionMap != null) {
-            expenseSubscriptionMap.values().stream().filter(Objects::nonNull)
-                    .forEach(StompSession.Subscription::unsubscribe);
-            expenseSubscriptionMap = new HashMap<>();
-        }
-        if (expensesSubscription != null) {
-            expensesSubscription.unsubscribe();
-            expensesSubscription = null;
-        }
-        if (tagSubscription != null) {
-            tagSubscription.unsubscribe();
-            tagSubscription = null;
-        }
-        if (tagSubscriptionMap != null) {
-            tagSubscriptionMap.values().stream().filter(Objects::nonNull)
-                    .forEach(StompSession.Subscription::unsubscribe);
-            tagSubscriptionMap = new HashMap<>();
-        }
+        unsubscribe();
         mainCtrl.showManageTags();
     }
 
@@ -298,99 +280,78 @@ public class StatisticsCtrl implements Initializable {
      */
     public void setStatistics() {
         pieChart.getData().clear();
-        List<Pair<Tag, Double>> legendList = new ArrayList<>();
-        List<Pair<Tag, List<Expense>>> stats = pairListMaker();
-
-        double total = 0;
-        for (Expense expense : mainCtrl.getEvent().getExpensesList()) {
-            if(expense.getDescription().equals("transfer")
-                    || expense.getDescription().equals("settlement")){
-                continue;
-            }
-            total += currencyConverter.convert(expense.getDate(),
-                    expense.getCurrency(),
-                    currency,
-                    expense.getAmount());
+        EventStatistics statistics = fetchStatistics();
+        if (statistics == null) showUnavailable();
+        else showStatistics(statistics);
+    }
+
+    /**
+     * Gets the statistics of the event, computed by the server.
+     *
+     * @return the statistics, or null if the server couldn't provide them
+     */
+    private EventStatistics fetchStatistics() {
+        try {
+            return serverUtils.getStatistics(mainCtrl.getEvent().getInviteCode(), currency);
+        } catch (WebApplicationException | ProcessingException e) {
+            System.err.println("Couldn't get the statistics from the server.");
+            return null;
         }
+    }
 
-        for (Pair<Tag, List<Expense>> pair : stats) {
-            if (pair.getKey() != null) {
-                String catagoryName = pair.getKey().getName();
-                double value = 0;
-                for (Expense expense : pair.getValue()) {
-                    if(expense.getDescription().equals("transfer")
-                            || expense.getDescription().equals("settlement")){
-                        continue;
-                    }
-                    value += currencyConverter.convert(expense.getDate(),
-                            expense.getCurrency(),
-                            currency,
-                            expense.getAmount());
-                }
-                PieChart.Data slice = new PieChart.Data(catagoryName, value);
-                pieChart.getData().add(slice);
-                try {
-                    slice.getNode().setStyle("-fx-pie-color: " + pair.getKey().getColor() + ";");
-                } catch (Exception e) {
-                    System.out.println(e);
-                }
-                legendList.add(new Pair<>(pair.getKey(), value));
-            }
+    /**
+     * Shows the statistics computed by the server in the chart and the legend.
+     *
+     * @param statistics the statistics of the event
+     */
+    private void showStatistics(EventStatistics statistics) {
+        List<Pair<Tag, Double>> legendList = new ArrayList<>();
+        for (Tag tag : tags.values()) {
+            Double value = statistics.getTags().get(tag.getId());
+            if (value != null) addSlice(tag, value, legendList);
         }
+        if (statistics.getUntagged() > 0)
+            addSlice(new Tag("NO TAG", "#000000"), statistics.getUntagged(), legendList);
+        updateOwnLegend(legendList, statistics.getTotal());
+        setChartTitle(statistics.getTotal());
+    }
 
-        updateOwnLegend(legendList, total);
-        StringBinding test = languageManager.bind("statistics.chartTitle");
-        pieChart.setTitle(mainCtrl.getEvent().getTitle() +
-                "\n" + test.getValue() + " " + String.format("%.2f %s", total, currency));
+    /**
+     * Shows that there are no statistics, because the server couldn't provide them.
+     */
+    private void showUnavailable() {
+        ownLegend.getChildren().clear();
+        pieChart.setTitle(mainCtrl.getEvent().getTitle() + "\n"
+                + languageManager.bind("statistics.unavailable").getValue());
     }
 
     /**
-     * Generate a list with Pairs with the right stats
+     * Adds a slice for a tag to the chart and to the list for the legend.
      *
-     * @return a list of Tag and the associate expenses
-     */
-    private List<Pair<Tag, List<Expense>>> pairListMaker() {
-        Event event = mainCtrl.getEvent();
-        List<Pair<Tag, List<Expense>>> stats = new ArrayList<>();
-        List<Tag> eventTagList = getTagsFromExpenses();
-        for (Tag tag : eventTagList) {
-            List<Expense> expensesWithTag = new ArrayList<>();
-            for (Expense expense : event.getExpensesList()) {
-                if(expense.getDescription().equals("transfer")
-                        || expense.getDescription().equals("settlement")){
-                    continue;
-                }
-                if (expense.getTag() != null && expense.getTag().equals(tag)) {
-                    expensesWithTag.add(expense);
-                }
-            }
-            stats.add(new Pair<>(tag, expensesWithTag));
-        }
-        List<Expense> expensesWithTag = new ArrayList<>();
-        for (Expense expense : event.getExpensesList()) {
-            if (expense.getTag() == null) {
-                expensesWithTag.add(expense);
-            }
-        }
-        if (eventTagList.contains(null)) {
-            stats.add(new Pair<>(new Tag("NO TAG", "#000000"), expensesWithTag));
+     * @param tag the tag
+     * @param value the amount spent on the tag
+     * @param legendList the list for the legend
+     */
+    private void addSlice(Tag tag, double value, List<Pair<Tag, Double>> legendList) {
+        PieChart.Data slice = new PieChart.Data(tag.getName(), value);
+        pieChart.getData().add(slice);
+        try {
+            slice.getNode().setStyle("-fx-pie-color: " + tag.getColor() + ";");
+        } catch (Exception e) {
+            System.out.println(e);
         }
-        return stats;
+        legendList.add(new Pair<>(tag, value));
     }
 
     /**
-     * get the tags that are in use from the expenses
+     * Sets the title of the chart to the title of the event and the total amount spent.
      *
-     * @return returns the list of tags that are in use
-     */
-    private List<Tag> getTagsFromExpenses() {
-        List<Tag> res = new ArrayList<>();
-        for (Expense expense : mainCtrl.getEvent().getExpensesList()) {
-            if (!res.contains(expense.getTag())) {
-                res.add(expense.getTag());
-            }
-        }
-        return res;
+     * @param total the total amount spent
+     */
+    private void setChartTitle(double total) {
+        StringBinding test = languageManager.bind("statistics.chartTitle");
+        pieChart.setTitle(mainCtrl.getEvent().getTitle() +
+                "\n" + test.getValue() + " " + String.format("%.2f %s", total, currency));
     }
 
     /**
@@ -417,25 +378,7 @@ public class StatisticsCtrl implements Initializable {
      * When the shortcut is used it goes back to the startmenu.
      */
     public void startMenu() {
-        subscription.unsubscribe();
-        if (expenseSubscriptionMap != null) {
-            expenseSubscriptionMap.values().stream().filter(Objects::nonNull)
-                    .forEach(StompSession.Subscription::unsubscribe);
-            expenseSubscriptionMap = new HashMap<>();
-        }
-        if (expensesSubscription != null) {
-            expensesSubscription.unsubscribe();
-            expensesSubscription = null;
-        }
-        if (tagSubscription != null) {
-            tagSubscription.unsubscribe();
-            tagSubscription = null;
-        }
-        if (tagSubscriptionMap != null) {
-            tagSubscriptionMap.values().stream().filter(Objects::nonNull)
-                    .forEach(StompSession.Subscription::unsubscribe);
-            tagSubscriptionMap = new HashMap<>();
-        }
+        unsubscribe();
         mainCtrl.showStartMenu();
     }
 
@@ -554,13 +497,22 @@ public class StatisticsCtrl implements Initializable {
     }
 
     /**
-     * return the ExpenseSubscriptionMap
+     * set the expenseChangesSubscription
+     *
+     * @param expenseChangesSubscription the subscription to the changes of the expenses
+     */
+    public void setExpenseChangesSubscription(
+            StompSession.Subscription expenseChangesSubscription) {
+        this.expenseChangesSubscription = expenseChangesSubscription;
+    }
+
+    /**
+     * set the changeSubscription
      *
-     * @param expenseSubscriptionMap the expenseSubscriptionMap of the controller
+     * @param changeSubscription the subscription to the undone and redone changes
      */
-    public void setExpenseSubscriptionMap(Map<Expense,
-            StompSession.Subscription> expenseSubscriptionMap) {
-        this.expenseSubscriptionMap = expenseSubscriptionMap;
+    public void setChangeSubscription(StompSession.Subscription changeSubscription) {
+        this.changeSubscription = changeSubscription;
     }
 
     /**
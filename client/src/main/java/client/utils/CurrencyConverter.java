@@ -1,5 +1,6 @@
 package client.utils;
 
+import client.debug.Timings;
 import com.google.inject.Inject;
 import jakarta.ws.rs.WebApplicationException;
 
@@ -74,32 +75,52 @@ public class CurrencyConverter {
 
     /**
      * Method that gets the rate from the cached file or from the server.
+     * Both lookups are timed for the debug overlay.
      * @param date - the date as a string
      * @param from - the currency to convert from
      * @param to - the currency to convert to
      * @return - the rate for the specified date and currency pair.
      */
     private double getRate(String date, String from, String to) {
+        long start = System.nanoTime();
         File file = new File(String.valueOf(Path.of("client", "src",
                 "main", "resources", "rates", date, from, to + ".txt")));
         try {
             if (file.equals(new File("null"))) throw new FileNotFoundException();
-            return new Scanner(file).nextDouble();
+            double rate = new Scanner(file).nextDouble();
+            Timings.record("rate hit", System.nanoTime() - start);
+            return rate;
         } catch (FileNotFoundException | NoSuchElementException e) {
-            double rate = serverUtils.getRate(date, from, to);
-            new File(String.valueOf(Path.of("client", "src",
-                    "main", "resources", "rates", date, from))).mkdirs();
-            PrintWriter pw;
             try {
-                pw = new PrintWriter(file);
-            } catch (FileNotFoundException ex) {
-                System.err.println("Couldn't print the rate to a file!");
-                return rate;
+                return fetchRate(file, date, from, to);
+            } finally {
+                Timings.record("rate miss", System.nanoTime() - start);
             }
-            pw.print(rate);
-            pw.flush();
+        }
+    }
+
+    /**
+     * Method that gets the rate from the server and caches it in a file.
+     * @param file - the file the rate is cached in
+     * @param date - the date as a string
+     * @param from - the currency to convert from
+     * @param to - the currency to convert to
+     * @return - the rate for the specified date and currency pair.
+     */
+    private double fetchRate(File file, String date, String from, String to) {
+        double rate = serverUtils.getRate(date, from, to);
+        new File(String.valueOf(Path.of("client", "src",
+                "main", "resources", "rates", date, from))).mkdirs();
+        PrintWriter pw;
+        try {
+            pw = new PrintWriter(file);
+        } catch (FileNotFoundException ex) {
+            System.err.println("Couldn't print the rate to a file!");
             return rate;
         }
+        pw.print(rate);
+        pw.flush();
+        return rate;
     }
 
     /**
@@ -1,7 +1,13 @@
 package client.utils;
 
+import client.jfr.SettlementEvent;
 import commons.Participant;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
 public class Debt {
     private Participant debtor;
     private Participant creditor;
@@ -19,6 +25,41 @@ public class Debt {
         this.sum = sum;
     }
 
+    /**
+     * Settles the shares of the participants of an event greedily: the participant who
+     * owes the most pays the participant who is owed the most, until everything is paid
+     * @param shares the share of every participant, negative if they owe money
+     * @return the debts that settle the shares
+     */
+    public static List<Debt> settle(Map<Participant, Double> shares) {
+        SettlementEvent event = new SettlementEvent();
+        event.begin();
+        PriorityQueue<DebtPair> positive = new PriorityQueue<>();
+        positive.addAll(shares.entrySet().stream().filter(x -> x.getValue() > 0)
+                .map(pair -> new DebtPair(pair.getKey(), pair.getValue())).toList());
+        PriorityQueue<DebtPair> negative = new PriorityQueue<>();
+        negative.addAll(shares.entrySet().stream().filter(x -> x.getValue() < 0)
+                .map(pair -> new DebtPair(pair.getKey(), Math.abs(pair.getValue()))).toList());
+        List<Debt> debts = new ArrayList<>();
+        while (!positive.isEmpty() && !negative.isEmpty()) {
+            DebtPair owed = positive.poll();
+            DebtPair owes = negative.poll();
+            if (owed.getValue() > owes.getValue()) {
+                debts.add(new Debt(owes.getKey(), owed.getKey(), owes.getValue()));
+                owed.setValue(owed.getValue() - owes.getValue());
+                positive.add(owed);
+            } else if (owed.getValue() < owes.getValue()) {
+                debts.add(new Debt(owes.getKey(), owed.getKey(), owed.getValue()));
+                owes.setValue(owes.getValue() - owed.getValue());
+                negative.add(owes);
+            } else {
+                debts.add(new Debt(owes.getKey(), owed.getKey(), owed.getValue()));
+            }
+        }
+        event.finish(shares.size(), debts.size());
+        return debts;
+    }
+
     /**
      * Getter for the debtor.
      * @return - the debtor.
@@ -0,0 +1,200 @@
+package client.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.inject.Inject;
+import commons.Event;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+public class EventCache {
+
+    /**
+     * Version of the snapshot file layout, bumped whenever it changes
+     * so that old snapshots are ignored instead of misread.
+     */
+    public static final int FORMAT = 1;
+
+    private static final int DEFAULT_LIMIT_MB = 50;
+
+    private final ConfigInterface config;
+    private final File root;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private long size = -1;
+
+    /**
+     * A snapshot of an event as it is stored on disk.
+     * @param format - the layout version of the snapshot file
+     * @param version - the version of the event on the server (its last activity)
+     * @param event - the event itself
+     */
+    public record Snapshot(int format, long version, Event event) {}
+
+    /**
+     * Constructor for the event cache with the default location.
+     * @param config - config
+     */
+    @Inject
+    public EventCache(ConfigInterface config) {
+        this(config, new File(String.valueOf(Path.of("client", "cache"))));
+    }
+
+    /**
+     * Constructor for the event cache with a specified location.
+     * @param config - config
+     * @param root - directory the snapshots are stored in
+     */
+    public EventCache(ConfigInterface config, File root) {
+        this.config = config;
+        this.root = root;
+    }
+
+    /**
+     * Method that gets the version of an event, which is the time of its last activity.
+     * @param event - the event
+     * @return - the version of the event, or 0 if it has never been active.
+     */
+    public static long version(Event event) {
+        if (event == null || event.getLastActivity() == null) return 0;
+        return event.getLastActivity().getTime();
+    }
+
+    /**
+     * Method that gets the snapshot of an event stored for a server.
+     * @param server - the address of the server
+     * @param inviteCode - invite code of the event
+     * @return - the stored event, or null if there is no usable snapshot.
+     */
+    public synchronized Event get(String server, int inviteCode) {
+        File file = file(server, inviteCode);
+        if (!file.exists()) return null;
+        try {
+            Snapshot snapshot = mapper.readValue(file, Snapshot.class);
+            if (snapshot.format() != FORMAT || snapshot.event() == null) {
+                delete(file);
+                return null;
+            }
+            file.setLastModified(System.currentTimeMillis());
+            return snapshot.event();
+        } catch (IOException e) {
+            System.err.println("Couldn't read the snapshot of event " + inviteCode + ".");
+            delete(file);
+            return null;
+        }
+    }
+
+    /**
+     * Method that stores a snapshot of an event for a server,
+     * and evicts the least recently used snapshots if the cache is over its size limit.
+     * @param server - the address of the server
+     * @param event - the event to store
+     */
+    public synchronized void put(String server, Event event) {
+        if (event == null) return;
+        File file = file(server, event.getInviteCode());
+        file.getParentFile().mkdirs();
+        long total = size() - file.length();
+        try {
+            mapper.writeValue(file, new Snapshot(FORMAT, version(event), event));
+        } catch (IOException e) {
+            System.err.println("Couldn't write the snapshot of event "
+                    + event.getInviteCode() + ".");
+            file.delete();
+            size = total;
+            return;
+        }
+        size = total + file.length();
+        if (size > getLimit()) evict();
+    }
+
+    /**
+     * Method that removes the snapshot of an event for a server.
+     * @param server - the address of the server
+     * @param inviteCode - invite code of the event
+     */
+    public synchronized void remove(String server, int inviteCode) {
+        delete(file(server, inviteCode));
+    }
+
+    /**
+     * Method that gets the size of all snapshots together.
+     * The snapshot files are only measured the first time,
+     * afterwards the size is kept up to date by the cache itself.
+     * @return - the size of the cache in bytes.
+     */
+    public synchronized long size() {
+        if (size < 0) size = snapshots().stream().mapToLong(File::length).sum();
+        return size;
+    }
+
+    /**
+     * Method that gets the size limit of the cache in bytes.
+     * @return - the size limit in bytes.
+     */
+    public long getLimit() {
+        int limit;
+        try {
+            limit = Integer.parseInt(config.getProperty("eventCacheLimit"));
+        } catch (NumberFormatException e) {
+            limit = DEFAULT_LIMIT_MB;
+            config.setProperty("eventCacheLimit", String.valueOf(DEFAULT_LIMIT_MB));
+        }
+        return limit * 1024L * 1024L;
+    }
+
+    /**
+     * Method that deletes the least recently used snapshots,
+     * until the snapshots of all servers together fit within the size limit.
+     * Only called once the cache is over its limit, as it lists every snapshot.
+     */
+    private void evict() {
+        List<File> files = snapshots();
+        size = files.stream().mapToLong(File::length).sum();
+        long limit = getLimit();
+        files.sort(Comparator.comparingLong(File::lastModified));
+        for (File file : files) {
+            if (size <= limit) break;
+            delete(file);
+        }
+    }
+
+    /**
+     * Method that lists the snapshot files of all servers.
+     * @return - the snapshot files.
+     */
+    private List<File> snapshots() {
+        List<File> files = new ArrayList<>();
+        File[] servers = root.listFiles(File::isDirectory);
+        if (servers == null) return files;
+        for (File dir : servers) {
+            File[] snapshots = dir.listFiles((d, name) -> name.endsWith(".json"));
+            if (snapshots != null) files.addAll(Arrays.asList(snapshots));
+        }
+        return files;
+    }
+
+    /**
+     * Method that deletes a snapshot file and subtracts it from the size of the cache.
+     * @param file - the snapshot file
+     */
+    private void delete(File file) {
+        long length = file.length();
+        if (file.delete() && size >= 0) size -= length;
+    }
+
+    /**
+     * Method that gets the file in which the snapshot of an event is stored.
+     * @param server - the address of the server
+     * @param inviteCode - invite code of the event
+     * @return - the snapshot file.
+     */
+    private File file(String server, int inviteCode) {
+        String dir = server == null ? "default" : server.replaceAll("[^A-Za-z0-9.-]", "_");
+        return new File(new File(root, dir), inviteCode + ".json");
+    }
+}
@@ -0,0 +1,108 @@
+package client.utils;
+
+import commons.Expense;
+import commons.ExpenseFilter;
+import commons.ExpensePage;
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.WebApplicationException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ExpensePager {
+
+    /**
+     * The number of expenses that are loaded at once.
+     */
+    public static final int PAGE_SIZE = 50;
+
+    private final ServerUtils server;
+    private final int inviteCode;
+    private final ExpenseFilter filter;
+    private String cursor;
+    private Expense last;
+    private boolean available;
+    private boolean exhausted;
+    private int loaded;
+
+    /**
+     * Constructor for a pager over the expenses of an event.
+     * @param server - the server utils
+     * @param inviteCode - invite code of the event
+     * @param filter - the criteria the expenses have to meet
+     */
+    public ExpensePager(ServerUtils server, int inviteCode, ExpenseFilter filter) {
+        this.server = server;
+        this.inviteCode = inviteCode;
+        this.filter = filter;
+    }
+
+    /**
+     * Method that loads the next page of expenses from the server.
+     * @return - the expenses on the next page, or an empty list if there are no more.
+     */
+    public List<Expense> next() {
+        if (exhausted) return new ArrayList<>();
+        ExpensePage page = null;
+        try {
+            page = server.getExpensePage(inviteCode, filter, cursor, PAGE_SIZE);
+        } catch (WebApplicationException | ProcessingException e) {
+            System.err.println("Couldn't load the expenses of event " + inviteCode + ".");
+        }
+        if (page == null || page.getExpenses() == null) {
+            exhausted = true;
+            return new ArrayList<>();
+        }
+        available = true;
+        loaded++;
+        cursor = page.getNext();
+        exhausted = cursor == null;
+        if (!page.getExpenses().isEmpty()) last = page.getExpenses().getLast();
+        return page.getExpenses();
+    }
+
+    /**
+     * Method that loads the pages that were loaded so far again from the start,
+     * for changes that can't be applied to the loaded expenses one by one, like an undo.
+     * @return - the expenses on those pages, at least those on the first page.
+     */
+    public List<Expense> reload() {
+        int pages = Math.max(loaded, 1);
+        cursor = null;
+        last = null;
+        exhausted = false;
+        loaded = 0;
+        List<Expense> expenses = new ArrayList<>();
+        while (loaded < pages && !exhausted) {
+            expenses.addAll(next());
+        }
+        return expenses;
+    }
+
+    /**
+     * Method that checks whether the server answered with pages.
+     * @return - true if at least one page was loaded.
+     */
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * Method that checks whether all pages have been loaded.
+     * @return - true if there are no more pages.
+     */
+    public boolean isExhausted() {
+        return exhausted;
+    }
+
+    /**
+     * Method that checks whether an expense belongs in the pages that are loaded so far,
+     * so that updates to expenses further down are left for when those pages are loaded.
+     * @param expense - the expense
+     * @return - true if the expense meets the filter and sorts within the loaded pages.
+     */
+    public boolean covers(Expense expense) {
+        if (!filter.matches(expense)) return false;
+        return exhausted || last != null && ExpensePage.ORDER.compare(expense, last) <= 0;
+    }
+}
@@ -1,10 +1,8 @@
 package client.utils;
 
 import client.scenes.MainCtrl;
-import commons.Event;
-import commons.Expense;
 import commons.Participant;
-import commons.ParticipantPayment;
+import commons.ParticipantSummary;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
@@ -14,12 +12,14 @@ import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 
-import java.util.Date;
-import java.util.List;
-
 public class ParticipantCell extends ListCell<Participant> {
+
+    /**
+     * What is shown instead of an amount that the server couldn't provide
+     */
+    static final String UNAVAILABLE = "-";
+
     private final ConfigInterface config;
-    private final CurrencyConverter currencyConverter;
     private Label participant;
     private Button edit;
     private Region autogrow;
@@ -43,12 +43,11 @@ public class ParticipantCell extends ListCell<Participant> {
      * Constructor for the ParticipantCell.
      */
     public ParticipantCell(MainCtrl mainCtrl, LanguageManager languageManager,
-                           ConfigInterface config, CurrencyConverter currencyConverter) {
+                           ConfigInterface config) {
         super();
         this.mainCtrl = mainCtrl;
         this.languageManager = languageManager;
         this.config = config;
-        this.currencyConverter = currencyConverter;
         shareLabel = new Label();
         owe = new Label();
         owed = new Label();
@@ -100,113 +99,63 @@ public class ParticipantCell extends ListCell<Participant> {
         } else {
             participant.setText(item.getName());
             participant.setStyle("-fx-font-weight: bold");
-            double itemShare = calculateShare(item);
-            double itemOwes = calculateOwe(item);
-            double itemOwed = calulateOwed(item);
-            share.setText(String.format("%.2f %s", itemShare, getCurrency()));
             shareLabel.setStyle("-fx-font-style: italic");
-            owe.setText(String.format("%.2f %s", itemOwes, getCurrency()));
             oweLabel.setStyle("-fx-font-style: italic");
-            owed.setText(String.format("%.2f %s", itemOwed, getCurrency()));
             owedLabel.setStyle("-fx-font-style: italic");
-            if (itemShare < -0.001) share.setStyle("-fx-text-fill: red");
-            else if (itemShare > 0.001) share.setStyle("-fx-text-fill: green");
-            else {
-                share.setStyle("-fx-text-fill: black");
-                share.setText("0.00 EUR");
-            }
+            ParticipantSummary summary = getSummary(item);
+            if (summary == null) showUnavailable();
+            else showSummary(summary);
             setGraphic(vBox);
 
         }
     }
 
     /**
-     * Calculates the amount of money a participant owes
-     * @param current the participant to calculate for
-     * @return double amount owed
+     * Shows the share, debt and owed amounts of a participant
+     * @param summary the summary of the participant
      */
-    protected double calculateOwe(Participant current){
-        double debt = 0;
-        List<Expense> expenses = mainCtrl.getEvent().getExpensesList();
-
-        for(Expense expense: expenses){
-            String currency = expense.getCurrency();
-            Date date = expense.getDate();
-            String base = getCurrency();
-            if(!expense.getPayee().equals(current)){
-                for(ParticipantPayment p: expense.getSplit()){
-                    if(p.getParticipant().equals(current)){
-                        debt += currencyConverter.convert(date,
-                                currency, base, p.getPaymentAmount());
-                    }
-                }
-            }
+    private void showSummary(ParticipantSummary summary) {
+        double itemShare = summary.getShare();
+        share.setText(String.format("%.2f %s", itemShare, getCurrency()));
+        owe.setText(String.format("%.2f %s", summary.getDebt(), getCurrency()));
+        owed.setText(String.format("%.2f %s", summary.getOwed(), getCurrency()));
+        if (itemShare < -0.001) share.setStyle("-fx-text-fill: red");
+        else if (itemShare > 0.001) share.setStyle("-fx-text-fill: green");
+        else {
+            share.setStyle("-fx-text-fill: black");
+            share.setText("0.00 EUR");
         }
-        return debt;
     }
 
     /**
-     * Method that gets the code of the currency that is currently set.
-     * @return - the currency code.
+     * Shows that the amounts of a participant are unknown,
+     * because the server couldn't provide its summary
      */
-    private String getCurrency() {
-        String currencyString = config.getProperty("currency");
-        if (currencyString == null || currencyString.isEmpty()) currencyString = "EUR";
-        return currencyString;
+    private void showUnavailable() {
+        share.setText(UNAVAILABLE);
+        share.setStyle("-fx-text-fill: black");
+        owe.setText(UNAVAILABLE);
+        owed.setText(UNAVAILABLE);
     }
 
     /**
-     * calculates the amount a participant is owed
-     * @param current participant to calculate the value for
-     * @return double value for amount owed
+     * Gets the summary of a participant that the overview fetched from the server
+     * @param current the participant
+     * @return the summary, or null if there is none
      */
-    protected double calulateOwed(Participant current){
-        double owed = 0;
-        List<Expense> expenses = mainCtrl.getEvent().getExpensesList();
-        for(Expense expense: expenses){
-            String currency = expense.getCurrency();
-            Date date = expense.getDate();
-            String base = getCurrency();
-            if(expense.getPayee().equals(current)){
-                for(ParticipantPayment p : expense.getSplit()){
-                    if(!p.getParticipant().equals(current)) {
-                        owed += currencyConverter.convert(date,
-                                currency, base, p.getPaymentAmount());
-                    }
-                }
-            }
-        }
-        return owed;
+    private ParticipantSummary getSummary(Participant current) {
+        if (mainCtrl == null || mainCtrl.getOverviewCtrl() == null) return null;
+        return mainCtrl.getOverviewCtrl().getParticipantSummary(current);
     }
 
-
     /**
-     * Calculate the share of the expense that the participant paid
-     *
-     * @param current participant to calculate the share for
-     * @return double of the share of the expense
+     * Method that gets the code of the currency that is currently set.
+     * @return - the currency code.
      */
-    protected double calculateShare(Participant current) {
-        double participantShare = 0;
-        Event curr = mainCtrl.getEvent();
-        List<Expense> expenses = curr.getExpensesList();
-        for (Expense expense : expenses) {
-            String currency = expense.getCurrency();
-            Date date = expense.getDate();
-            String base = getCurrency();
-            for (ParticipantPayment p : expense.getSplit()) {
-                if (p.getParticipant().equals(current)
-                        && !expense.getPayee().equals(current)) {
-                    participantShare -= currencyConverter.convert(date,
-                            currency, base, p.getPaymentAmount());
-                } else if (expense.getPayee().equals(current)
-                        && !p.getParticipant().equals(current)) {
-                    participantShare += currencyConverter.convert(date,
-                            currency, base, p.getPaymentAmount());
-                }
-            }
-        }
-        return participantShare;
+    private String getCurrency() {
+        String currencyString = config.getProperty("currency");
+        if (currencyString == null || currencyString.isEmpty()) currencyString = "EUR";
+        return currencyString;
     }
 
     /**
@@ -60,8 +60,7 @@ public class RecentEventCell extends ListCell<Event> {
             mainCtrl.getStartScreenCtrl().addRecentEvent(item);
             mainCtrl.setEvent(item);
             if (mainCtrl.getOverviewCtrl() != null) {
-                mainCtrl.getOverviewCtrl().populateExpenses();
-                mainCtrl.getOverviewCtrl().populateParticipants();
+                mainCtrl.getOverviewCtrl().populateFromSnapshot();
             }
             mainCtrl.showOverview();
         });
@@ -15,10 +15,15 @@
  */
 package client.utils;
 
+import client.jfr.RestCallRecorder;
 import com.google.inject.Inject;
 import commons.*;
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.ClientBuilder;
 import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.client.WebTarget;
 import jakarta.ws.rs.core.GenericType;
 import jakarta.ws.rs.core.Response;
 import org.glassfish.jersey.client.ClientConfig;
@@ -32,30 +37,37 @@ import org.springframework.web.socket.messaging.WebSocketStompClient;
 
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 
 public class ServerUtils {
 
     private final ConfigInterface config;
+    private final EventCache eventCache;
     private String server;
 
     private final List<ExecutorService> runningServices;
+    private final ExecutorService background = Executors.newVirtualThreadPerTaskExecutor();
 
     private StompSession session;
 
     /**
      * Constructor for the ServerUtils
      * @param config - config
+     * @param eventCache - the on-disk cache of event snapshots
      */
     @Inject
-    public ServerUtils(ConfigInterface config) {
+    public ServerUtils(ConfigInterface config, EventCache eventCache) {
         this.config = config;
+        this.eventCache = eventCache;
         runningServices = new ArrayList<>();
     }
 
@@ -73,13 +85,22 @@ public class ServerUtils {
         this.session = connect("ws://" + server.substring(7) + "/websocket");
     }
 
+    /**
+     * Creates a client for a request to the server, which records the request
+     * as a flight recorder event
+     * @return the client
+     */
+    private static Client newClient() {
+        return ClientBuilder.newClient(new ClientConfig().register(RestCallRecorder.class));
+    }
+
     /**
      * Method that sends a request to the server to create a new Event.
      * @param e - the event to be created
      * @return - the event that was created
      */
     public Event addEvent(Event e) {
-        return ClientBuilder.newClient(new ClientConfig())
+        return newClient()
                 .target(server).path("api/events")
                 .request(APPLICATION_JSON)
                 .accept(APPLICATION_JSON)
@@ -87,16 +108,113 @@ public class ServerUtils {
     }
 
     /**
-     * Method that gets the event from the server with the given id.
+     * Method that gets the event from the server with the given id,
+     * and stores a snapshot of it in the event cache in the background.
      * @param i - id of the event.
      * @return - the event with the given id from the server.
      */
     public Event getEvent(int i) {
-        return ClientBuilder.newClient(new ClientConfig())
+        Event event = newClient()
                 .target(server).path("api/events/" + i)
                 .request(APPLICATION_JSON)
                 .accept(APPLICATION_JSON)
                 .get(Event.class);
+        String address = server;
+        background.submit(() -> eventCache.put(address, event));
+        return event;
+    }
+
+    /**
+     * Method that gets the snapshot of an event from the event cache,
+     * without contacting the server.
+     * @param i - id of the event.
+     * @return - the cached event, or null if there is no snapshot of it.
+     */
+    public Event getCachedEvent(int i) {
+        return eventCache.get(server, i);
+    }
+
+    /**
+     * Method that gets the current version of an event from the server.
+     * @param i - id of the event.
+     * @return - the version of the event.
+     */
+    public long getEventVersion(int i) {
+        return newClient()
+                .target(server).path("api/events/" + i + "/version")
+                .request(APPLICATION_JSON)
+                .accept(APPLICATION_JSON)
+                .get(Long.class);
+    }
+
+    /**
+     * Checks in the background whether the cached snapshot of an event is outdated,
+     * and if so fetches the event again and passes it to the consumer.
+     * The consumer is called from a background thread.
+     * @param i - id of the event.
+     * @param consumer - consumer of the up-to-date event
+     */
+    public void reconcileEvent(int i, Consumer<Event> consumer) {
+        background.submit(() -> {
+            try {
+                long cached = EventCache.version(getCachedEvent(i));
+                if (cached == 0 || cached != getEventVersion(i)) {
+                    consumer.accept(getEvent(i));
+                }
+            } catch (WebApplicationException e) {
+                if (e.getResponse().getStatus() == 404) eventCache.remove(server, i);
+                e.printStackTrace();
+            } catch (ProcessingException e) {
+                System.err.println("Couldn't reach the server to update event " + i + ".");
+            }
+        });
+    }
+
+    /**
+     * Method that gets the summaries of multiple events from the server in one request.
+     * @param inviteCodes - ids of the events.
+     * @return - the summaries of the events that exist, in the requested order.
+     */
+    public List<EventSummary> getEventSummaries(List<Integer> inviteCodes) {
+        if (inviteCodes.isEmpty()) return new ArrayList<>();
+        return newClient()
+                .target(server).path("api/events/summaries")
+                .queryParam("ids", inviteCodes.stream()
+                        .map(String::valueOf)
+                        .collect(Collectors.joining(",")))
+                .request(APPLICATION_JSON)
+                .accept(APPLICATION_JSON)
+                .get(new GenericType<>() {
+                });
+    }
+
+    /**
+     * Checks in the background whether the cached snapshots of multiple events are outdated,
+     * using a single summaries request, and fetches only the events that changed.
+     * The consumer is called from a background thread.
+     * @param inviteCodes - ids of the events.
+     * @param consumer - consumer of the up-to-date events
+     */
+    public void reconcileEvents(List<Integer> inviteCodes, Consumer<Event> consumer) {
+        if (inviteCodes.isEmpty()) return;
+        background.submit(() -> {
+            try {
+                Map<Integer, Long> versions = new HashMap<>();
+                for (EventSummary summary : getEventSummaries(inviteCodes)) {
+                    versions.put(summary.getInviteCode(), EventCache.version(summary.toEvent()));
+                }
+                for (int i : inviteCodes) {
+                    Long version = versions.get(i);
+                    if (version == null) eventCache.remove(server, i);
+                    else if (version != EventCache.version(getCachedEvent(i)))
+                        consumer.accept(getEvent(i));
+                }
+            } catch (WebApplicationException e) {
+                e.printStackTrace();
+            } catch (ProcessingException e) {
+                System.err.println("Couldn't reach the server to update the recent events.");
+            }
+        });
     }
 
     /**
@@ -109,7 +227,7 @@ public class ServerUtils {
         runningServices.add(exec);
         exec.submit(() -> {
             while (!Thread.interrupted()) {
-                var res = ClientBuilder.newClient(new ClientConfig())
+                var res = newClient()
                         .target(server).path("api/events/" + i + "/updates")
                         .request(APPLICATION_JSON)
                         .accept(APPLICATION_JSON)
@@ -189,7 +307,7 @@ public class ServerUtils {
      * @return - a list of all expenses associated with that event.
      */
     public List<Expense> getAllExpenses(int id) {
-        return ClientBuilder.newClient(new ClientConfig()) //
+        return newClient() //
                 .target(server).path("api/events/" + id + "/expenses") //
                 .request(APPLICATION_JSON) //
                 .accept(APPLICATION_JSON) //
@@ -197,6 +315,84 @@ public class ServerUtils {
                 });
     }
 
+    /**
+     * Method that gets one page of the expenses of an event from the server, newest first.
+     * @param id - invite code of the event.
+     * @param filter - the criteria the expenses have to meet.
+     * @param cursor - the cursor of the page, or null for the first page.
+     * @param size - the maximum number of expenses on the page.
+     * @return - the page of expenses.
+     */
+    public ExpensePage getExpensePage(int id, ExpenseFilter filter, String cursor, int size) {
+        WebTarget target = newClient()
+                .target(server).path("api/events/" + id + "/expenses/page")
+                .queryParam("size", size);
+        if (cursor != null) target = target.queryParam("cursor", cursor);
+        if (filter.getPayee() != null) target = target.queryParam("payee", filter.getPayee());
+        if (filter.getParticipant() != null)
+            target = target.queryParam("participant", filter.getParticipant());
+        if (filter.getTag() != null) target = target.queryParam("tag", filter.getTag());
+        if (filter.getFrom() != null)
+            target = target.queryParam("from", filter.getFrom().getTime());
+        if (filter.getTo() != null) target = target.queryParam("to", filter.getTo().getTime());
+        return target.request(APPLICATION_JSON)
+                .accept(APPLICATION_JSON)
+                .get(ExpensePage.class);
+    }
+
+    /**
+     * Method that gets the amount spent per tag, per participant and in total in an event,
+     * computed by the server.
+     * @param id - invite code of the event.
+     * @param currency - the currency to express the amounts in.
+     * @return - the statistics of the event.
+     */
+    public EventStatistics getStatistics(int id, String currency) {
+        return newClient()
+                .target(server).path("api/events/" + id + "/statistics")
+                .queryParam("currency", currency)
+                .request(APPLICATION_JSON)
+                .accept(APPLICATION_JSON)
+                .get(EventStatistics.class);
+    }
+
+    /**
+     * Method that gets the statistics of an event in the background.
+     * The consumer is called from a background thread,
+     * with null if the statistics couldn't be fetched.
+     * @param id - invite code of the event.
+     * @param currency - the currency to express the amounts in.
+     * @param consumer - consumer of the statistics
+     */
+    public void fetchStatistics(int id, String currency, Consumer<EventStatistics> consumer) {
+        background.submit(() -> {
+            EventStatistics statistics = null;
+            try {
+                statistics = getStatistics(id, currency);
+            } catch (WebApplicationException | ProcessingException e) {
+                System.err.println("Couldn't get the statistics of event " + id + ".");
+            }
+            consumer.accept(statistics);
+        });
+    }
+
+    /**
+     * Method that gets how much each participant of an event owes and is owed,
+     * computed by the server in one pass.
+     * @param id - invite code of the event.
+     * @param currency - the currency to express the amounts in.
+     * @return - the summaries of all participants of the event.
+     */
+    public List<ParticipantSummary> getParticipantSummaries(int id, String currency) {
+        return newClient()
+                .target(server).path("api/events/" + id + "/statistics/participants")
+                .queryParam("currency", currency)
+                .request(APPLICATION_JSON)
+                .accept(APPLICATION_JSON)
+                .get(new GenericType<>() {
+                });
+    }
+
     /**
      * Method that adds a new participant to the server.
      * @param inviteCode - invite code of the event.
@@ -204,7 +400,7 @@ public class ServerUtils {
      * @return - the participant added to the server.
      */
     public Participant addParticipant(int inviteCode, Participant participant) {
-        return ClientBuilder.newClient(new ClientConfig())
+        return newClient()
                 .target(server).path("api/events/" + inviteCode + "/participants")
                 .request(APPLICATION_JSON)
                 .accept(APPLICATION_JSON)
@@ -218,7 +414,7 @@ public class ServerUtils {
      * @return - the participant added to the server.
      */
     public Participant removeParticipant(int inviteCode, Participant participant) {
-        return ClientBuilder.newClient(new ClientConfig())
+        return newClient()
                 .target(server)
                 .path("api/events/" + inviteCode + "/participants/" + participant.getId())
                 .request(APPLICATION_JSON)
@@ -233,7 +429,7 @@ public class ServerUtils {
      * @return - the participant added to the server.
      */
     public Participant updateParticipant(int inviteCode, Participant participant) {
-        return ClientBuilder.newClient(new ClientConfig())
+        return newClient()
                 .target(server)
                 .path("api/events/" + inviteCode + "/participants/" + participant.getId())
                 .request(APPLICATION_JSON)
@@ -247,7 +443,7 @@ public class ServerUtils {
      * @return - a list of all participants associated with that event.
      */
     public List<Participant> getAllParticipants(int id) {
-        return ClientBuilder.newClient(new ClientConfig()) //
+        return newClient() //
                 .target(server).path("api/events/" + id + "/participants") //
                 .request(APPLICATION_JSON) //
                 .accept(APPLICATION_JSON) //
@@ -265,7 +461,7 @@ public class ServerUtils {
     public ParticipantPayment addParticipantPayment(int inviteCode,
                                                     long expenseId,
                                                     ParticipantPayment pp) {
-        return ClientBuilder.newClient(new ClientConfig())
+        return newClient()
                 .target(server).path("api/events/" + inviteCode +
                         "/expenses/" + expenseId + "/participantpayment")
                 .request(APPLICATION_JSON)
@@ -280,7 +476,7 @@ public class ServerUtils {
      * @return - the expense that was added.
      */
     public Expense addExpense(int inviteCode, Expense expense) {
-        return ClientBuilder.newClient(new ClientConfig())
+        return newClient()
                 .target(server).path("api/events/" + inviteCode + "/expenses")
                 .request(APPLICATION_JSON)
                 .accept(APPLICATION_JSON)
@@ -293,7 +489,7 @@ public class ServerUtils {
      * @return - a list of all tags associated with that event.
      */
     public List<Tag> getAllTags(int id) {
-        return ClientBuilder.newClient(new ClientConfig()) //
+        return newClient() //
                 .target(server).path("api/events/" + id + "/tags") //
                 .request(APPLICATION_JSON) //
                 .accept(APPLICATION_JSON) //
@@ -308,7 +504,7 @@ public class ServerUtils {
      * @return - the tag that was added.
      */
     public Tag addTag(int id, Tag tag) {
-        return ClientBuilder.newClient(new ClientConfig())
+        return newClient()
                 .target(server).path("api/events/" + id + "/tags")
                 .request(APPLICATION_JSON)
                 .accept(APPLICATION_JSON)
@@ -321,7 +517,7 @@ public class ServerUtils {
      * @return - the updated event
      */
     public Event changeEvent(Event event) {
-        return ClientBuilder.newClient(new ClientConfig())
+        return newClient()
                 .target(server).path(String.format("/api/events/%s",
                         event.getInviteCode()))
                 .request(APPLICATION_JSON)
@@ -332,15 +528,15 @@ public class ServerUtils {
      * Method that updates the expense on the server.
      * @param id - the id of the event.
      * @param expense -
-     * @return
+     * @return the change as it was journaled, so that it can be undone
      */
-    public Expense updateExpense(int id, Expense expense) {
-        return ClientBuilder.newClient(new ClientConfig())
+    public EventChange updateExpense(int id, Expense expense) {
+        return newClient()
                 .target(server).path(String.format("/api/events/%s/expenses/%s",
                         id, expense.getId()))
                 .request(APPLICATION_JSON)
                 .accept(APPLICATION_JSON)
-                .put(Entity.entity(expense, APPLICATION_JSON), Expense.class);
+                .put(Entity.entity(expense, APPLICATION_JSON), EventChange.class);
     }
     /**
      * Method that updates the tag on the server.
@@ -349,7 +545,7 @@ public class ServerUtils {
      * @return the updated tag
      */
     public Tag updateTag(int id, Tag tag) {
-        return ClientBuilder.newClient(new ClientConfig())
+        return newClient()
                 .target(server).path(String.format("/api/events/%s/tags/%s",
                         id, tag.getId()))
                 .request(APPLICATION_JSON)
@@ -357,6 +553,35 @@ public class ServerUtils {
                 .put(Entity.entity(tag, APPLICATION_JSON), Tag.class);
     }
 
+    /**
+     * Method that undoes a change to an event on the server, as long as what it
+     * changed was not changed again since.
+     * @param id - the id of the event.
+     * @param entry - the sequence number of the change to undo.
+     * @return the change that undid it
+     */
+    public EventChange undo(int id, long entry) {
+        return newClient()
+                .target(server).path(String.format("/api/events/%s/undo", id))
+                .queryParam("entry", entry)
+                .request(APPLICATION_JSON)
+                .accept(APPLICATION_JSON)
+                .post(Entity.entity("", APPLICATION_JSON), EventChange.class);
+    }
+
+    /**
+     * Method that redoes the latest undone change to an event on the server.
+     * @param id - the id of the event.
+     * @return the change that redid it
+     */
+    public EventChange redo(int id) {
+        return newClient()
+                .target(server).path(String.format("/api/events/%s/redo", id))
+                .request(APPLICATION_JSON)
+                .accept(APPLICATION_JSON)
+                .post(Entity.entity("", APPLICATION_JSON), EventChange.class);
+    }
+
     /**
      * Method that gets an expense from the server.
      * @param eventID - the id of the event.
@@ -364,7 +589,7 @@ public class ServerUtils {
      * @return - the expense.
      */
     public Expense getExpense(int eventID, long expenseID) {
-        return ClientBuilder.newClient(new ClientConfig())
+        return newClient()
                 .target(server).path(String.format("/api/events/%s/expenses/%s",
                         eventID, expenseID))
                 .request(APPLICATION_JSON)
@@ -378,7 +603,7 @@ public class ServerUtils {
      * @param expenseID - the id of the expense.
      */
     public void removeExpense(int eventID, long expenseID) {
-        ClientBuilder.newClient(new ClientConfig())
+        newClient()
                 .target(server).path(String.format("/api/events/%s/expenses/%s",
                         eventID, expenseID))
                 .request(APPLICATION_JSON)
@@ -391,7 +616,7 @@ public class ServerUtils {
      * @param tagID - the id of the tag.
      */
     public void removeTag(int eventID, long tagID) {
-        ClientBuilder.newClient(new ClientConfig())
+        newClient()
                 .target(server).path(String.format("/api/events/%s/tags/%s",
                         eventID, tagID))
                 .request(APPLICATION_JSON)
@@ -407,7 +632,7 @@ public class ServerUtils {
      * @return - the rate for the requested day.
      */
     public double getRate(String date, String from, String to) {
-        return ClientBuilder.newClient(new ClientConfig()).target(server)
+        return newClient().target(server)
                 .path(String.format("api/rates/%s/%s/%s", date, from, to))
                 .request(APPLICATION_JSON)
                 .accept(APPLICATION_JSON)
@@ -421,7 +646,7 @@ public class ServerUtils {
      * @return
      */
     public Participant changeParticipant(Event event, Participant participant) {
-        return ClientBuilder.newClient(new ClientConfig())
+        return newClient()
                 .target(server).path(String.format("/api/events/%s/participants/%s",
                         event.getInviteCode(), participant.getId()))
                 .request(APPLICATION_JSON)
@@ -1,16 +1,27 @@
 package admin;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import commons.Event;
+import commons.EventGenerator;
+import commons.GeneratorSettings;
+import commons.ImportResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
+import java.io.FileNotFoundException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Scanner;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
 
 class AdminConsoleJSONImportTest {
 
@@ -79,6 +90,17 @@ class AdminConsoleJSONImportTest {
         assertEquals(event3,imports.get(2));
     }
 
+    @Test
+    public void importIsoDates() throws JsonProcessingException {
+        String iso = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build()
+                .writeValueAsString(List.of(event1, event2));
+        List<Event> imports = ac.importWithJson(new Scanner(iso));
+        assertEquals(2, imports.size());
+        assertEquals(date1, imports.get(0).getCreationDate());
+        assertEquals(activity2, imports.get(1).getLastActivity());
+    }
+
     @Test
     public void testEmptyFilepath(){
         String filePath = "";
@@ -92,4 +114,45 @@ class AdminConsoleJSONImportTest {
         Scanner s = new Scanner(filePath);
         assertEquals(null, ac.readFromFile(s));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testImportDumpCancel(){
+        assertNull(ac.importDump(new Scanner("cancel")));
+    }
+
+    @Test
+    public void testImportDumpInvalidFilepath(){
+        assertNull(ac.importDump(new Scanner("notAFile")));
+    }
+
+    @Test
+    public void writeGeneratedRoundTrip(@TempDir Path folder) throws FileNotFoundException {
+        GeneratorSettings settings = new GeneratorSettings(3, 2, 4, 10, 2);
+        Path file = ac.writeGenerated(settings, folder);
+        assertNotNull(file);
+        List<Event> events = ac.importWithJson(new Scanner(file.toFile()));
+        List<Event> expected = new EventGenerator(settings).generateAll();
+        assertEquals(2, events.size());
+        assertTrue(expected.get(0).fullEquals(events.get(0)));
+        assertTrue(expected.get(1).fullEquals(events.get(1)));
+    }
+
+    @Test
+    public void generateOnServer(){
+        ServerUtils server = mock(ServerUtils.class);
+        when(server.generateEvents(any(), anyString())).thenReturn(new ImportResult(2, 0, 0));
+        ac.setUtils(server);
+        ImportResult result = ac.generateEvents(new Scanner("3 2 4 10 2 server"));
+        assertEquals(new ImportResult(2, 0, 0), result);
+        verify(server).generateEvents(new GeneratorSettings(3, 2, 4, 10, 2), "");
+    }
+
+    @Test
+    public void generateInvalid(){
+        ServerUtils server = mock(ServerUtils.class);
+        ac.setUtils(server);
+        assertNull(ac.generateEvents(new Scanner("3 2 0 10 2 server")));
+        assertNull(ac.generateEvents(new Scanner("three")));
+        verifyNoInteractions(server);
+    }
+}
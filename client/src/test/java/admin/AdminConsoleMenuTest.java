@@ -1,15 +1,25 @@
 package admin;
 
 import commons.Event;
+import commons.EventListing;
+import commons.EventListingPage;
+import commons.EventSort;
+import commons.ImportResult;
 import jakarta.ws.rs.core.Response;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.stubbing.OngoingStubbing;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.testfx.framework.junit5.ApplicationExtension;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
@@ -157,5 +167,58 @@ class AdminConsoleMenuTest {
         assertEquals(ac.getEvents(),comparison);
     }
 
+    @Test
+    public void testImportEventsBulk(){
+        ac.setUtils(server);
+        ac.setPassword("pw");
+        ImportResult result = new ImportResult(2, 1, 0);
+        when(server.importEvents(List.of(event1, event2, event3), "pw")).thenReturn(result);
+        assertEquals(result, ac.importEvents(List.of(event1, event2, event3)));
+    }
+
+    @Test
+    public void testDumpStreamed(@TempDir Path dir) throws IOException {
+        ac.setUtils(server);
+        ac.setPassword("pw");
+        when(server.exportEvents("pw")).thenReturn(
+                new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8)));
+        ac.getDump(new Scanner(dir.toString()));
+        try (var files = Files.list(dir)) {
+            Path dump = files.findFirst().orElseThrow();
+            assertTrue(dump.getFileName().toString().startsWith("Splitty-Dump-"));
+            assertEquals("[]", Files.readString(dump));
+        }
+        verify(server, never()).getEvents(anyString());
+    }
 
-}
\ No newline at end of file
+    @Test
+    public void testBrowseEventsPaged(){
+        ac.setUtils(server);
+        ac.setPassword("pw");
+        EventListing a = new EventListing(1, "Aaa", date1, activity3, 0, 0);
+        EventListing b = new EventListing(2, "Bbb", date3, activity2, 0, 0);
+        when(server.getEventPage("pw", "title", "asc", null, null, AdminConsole.PAGE_SIZE))
+                .thenReturn(new EventListingPage(List.of(a), "Aaa_1"));
+        when(server.getEventPage("pw", "title", "asc", null, "Aaa_1", AdminConsole.PAGE_SIZE))
+                .thenReturn(new EventListingPage(List.of(b), null));
+        when(server.getEventPage("pw", "title", "asc", "bb", null, AdminConsole.PAGE_SIZE))
+                .thenReturn(new EventListingPage(List.of(b), null));
+
+        assertTrue(ac.browseEvents(new Scanner("n bb q"), EventSort.TITLE, "asc"));
+        verify(server).getEventPage("pw", "title", "asc", null, "Aaa_1", AdminConsole.PAGE_SIZE);
+        verify(server).getEventPage("pw", "title", "asc", "bb", null, AdminConsole.PAGE_SIZE);
+        verify(server, never()).getEvents(anyString());
+    }
+
+    @Test
+    public void testBrowseEventsFallback(){
+        ac.setUtils(server);
+        ac.setPassword("pw");
+        when(server.getEventPage(any(), any(), any(), any(), any(), anyInt()))
+                .thenThrow(new RuntimeException("not found"));
+        when(server.getEvents("pw")).thenReturn(new ArrayList<>(List.of(event1, event2, event3)));
+        ac.showSorted(new Scanner(""), EventSort.TITLE, "desc", ac::orderByTitleDesc);
+        verify(server).getEvents("pw");
+        assertEquals(List.of(event3, event2, event1), ac.getEvents());
+    }
+}
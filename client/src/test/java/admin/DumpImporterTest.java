@@ -0,0 +1,150 @@
+package admin;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import commons.Event;
+import commons.ImportResult;
+import jakarta.ws.rs.ProcessingException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class DumpImporterTest {
+
+    @TempDir
+    Path dir;
+
+    private ServerUtils server;
+    private List<String> uploaded;
+    private ByteArrayOutputStream output;
+    private DumpImporter importer;
+    private List<Event> events;
+
+    @BeforeEach
+    public void setup() {
+        server = mock(ServerUtils.class);
+        uploaded = Collections.synchronizedList(new ArrayList<>());
+        when(server.importEvents(anyList(), eq("pw"))).thenAnswer(invocation -> {
+            List<Event> batch = invocation.getArgument(0);
+            batch.forEach(e -> uploaded.add(e.getTitle()));
+            return new ImportResult(batch.size(), 0, 0);
+        });
+        output = new ByteArrayOutputStream();
+        importer = new DumpImporter(server, "pw", 2, 2, 2, new PrintStream(output));
+        events = new ArrayList<>();
+        for (String title : List.of("a", "b", "c", "d", "e")) {
+            events.add(new Event(title, new Date(1000), new Date(2000)));
+        }
+    }
+
+    private Path write(String name, byte[] content) throws IOException {
+        Path file = dir.resolve(name);
+        Files.write(file, content);
+        return file;
+    }
+
+    @Test
+    public void importJsonArray() throws IOException {
+        Path dump = write("dump.json", new ObjectMapper().writeValueAsBytes(events));
+        assertEquals(new ImportResult(5, 0, 0), importer.importFile(dump));
+        assertEquals(List.of("a", "b", "c", "d", "e"), uploaded.stream().sorted().toList());
+        verify(server, times(3)).importEvents(anyList(), eq("pw"));
+        assertFalse(Files.exists(DumpImporter.checkpointOf(dump)));
+        assertTrue(output.toString().contains("5 events done"));
+    }
+
+    @Test
+    public void importGzippedNdjson() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream gzip = new GZIPOutputStream(bytes)) {
+            for (Event event : events) {
+                gzip.write(new ObjectMapper().writeValueAsBytes(event));
+                gzip.write('\n');
+            }
+        }
+        Path dump = write("dump.ndjson.gz", bytes.toByteArray());
+        assertEquals(new ImportResult(5, 0, 0), importer.importFile(dump));
+    }
+
+    @Test
+    public void importOldDateFormat() throws IOException {
+        AdminConsole console = new AdminConsole();
+        console.getEvents().addAll(events);
+        Path dump = write("old.json", console.eventsToJson().getBytes());
+        assertEquals(new ImportResult(5, 0, 0), importer.importFile(dump));
+    }
+
+    @Test
+    public void importServerExport() throws IOException {
+        List<Date> dates = Collections.synchronizedList(new ArrayList<>());
+        when(server.importEvents(anyList(), eq("pw"))).thenAnswer(invocation -> {
+            List<Event> batch = invocation.getArgument(0);
+            batch.forEach(e -> dates.add(e.getLastActivity()));
+            return new ImportResult(batch.size(), 0, 0);
+        });
+        ObjectMapper spring = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+        byte[] export = spring.writeValueAsBytes(events);
+        assertTrue(new String(export).contains("1970-01-01T00:00:02.000"));
+        Path dump = write("export.json", export);
+        assertEquals(new ImportResult(5, 0, 0), importer.importFile(dump));
+        assertEquals(Collections.nCopies(5, new Date(2000)), dates);
+    }
+
+    @Test
+    public void invalidEventsCounted() throws IOException {
+        String json = "[{\"title\":\"a\",\"expensesList\":[]},{\"title\":{}},"
+                + "{\"title\":\"c\",\"expensesList\":[]}]";
+        Path dump = write("dump.json", json.getBytes());
+        assertEquals(new ImportResult(2, 0, 1), importer.importFile(dump));
+    }
+
+    @Test
+    public void retryFailedBatch() throws IOException {
+        when(server.importEvents(anyList(), eq("pw")))
+                .thenThrow(new ProcessingException("connection reset"))
+                .thenReturn(new ImportResult(1, 0, 0));
+        Path dump = write("dump.json", new ObjectMapper().writeValueAsBytes(events.subList(0, 1)));
+        assertEquals(new ImportResult(1, 0, 0), importer.importFile(dump));
+        verify(server, times(2)).importEvents(anyList(), eq("pw"));
+    }
+
+    @Test
+    public void resumeAfterFailure() throws IOException {
+        DumpImporter sequential = new DumpImporter(server, "pw", 2, 1, 1,
+                new PrintStream(output));
+        when(server.importEvents(anyList(), eq("pw"))).thenAnswer(invocation -> {
+            List<Event> batch = invocation.getArgument(0);
+            if (batch.get(0).getTitle().equals("c")) throw new ProcessingException("down");
+            batch.forEach(e -> uploaded.add(e.getTitle()));
+            return new ImportResult(batch.size(), 0, 0);
+        });
+        Path dump = write("dump.json", new ObjectMapper().writeValueAsBytes(events));
+        assertEquals(new ImportResult(3, 0, 0), sequential.importFile(dump));
+        assertEquals("2", Files.readString(DumpImporter.checkpointOf(dump)));
+
+        uploaded.clear();
+        setup();
+        assertEquals(new ImportResult(3, 0, 0), importer.importFile(dump));
+        assertEquals(List.of("c", "d", "e"), uploaded.stream().sorted().toList());
+        assertFalse(Files.exists(DumpImporter.checkpointOf(dump)));
+    }
+}
@@ -63,7 +63,8 @@ class EditExpenseCommandTest {
         doAnswer(invocation -> {
             Expense expense = (Expense) invocation.getArguments()[1];
             expenses.add(expense);
-            return null;
+            return new EventChange(7, "expense", "update", expense.getId(), null, null,
+                    null, "change", null);
         }).when(serverUtils).updateExpense(anyInt(),any());
         Tag newTag = new Tag("redTag", "red");
         ICommand edit = new EditExpenseCommand(20, "USD", "newTitle",
@@ -84,14 +85,18 @@ class EditExpenseCommandTest {
 
         spycommand.undo();
 
-        assertEquals(expense.getAmount(),15.0);
-        assertEquals(expense.getCurrency(), "EUR");
-        assertEquals(expense.getPayee(), p);
-        assertEquals(expense.getSplit(), split);
-        assertEquals(expense.getTag(), t);
-        assertEquals(expense.getTitle(),"ExpTitle");
-
         verify(mainCtrl, times(2)).getEvent();
-        verify(serverUtils, times(2)).updateExpense(anyInt(),any());    }
+        verify(serverUtils, times(1)).undo(e.getInviteCode(), 7L);
+        verify(serverUtils, times(1)).updateExpense(anyInt(),any());
+    }
+
+    @Test
+    public void undoWithoutChange(){
+        ICommand edit = new EditExpenseCommand(20, "USD", "newTitle",
+                null, split, t, p1, expense, serverUtils, mainCtrl);
+        edit.execute();
+        edit.undo();
+        verify(serverUtils, never()).undo(anyInt(), anyLong());
+    }
 
 }
\ No newline at end of file
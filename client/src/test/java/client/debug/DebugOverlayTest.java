@@ -0,0 +1,69 @@
+package client.debug;
+
+import javafx.stage.Stage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.testfx.api.FxRobot;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.framework.junit5.Start;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(ApplicationExtension.class)
+class DebugOverlayTest {
+
+    //Needed for the tests to run headless.
+    static {
+        System.setProperty("testfx.robot", "glass");
+        System.setProperty("testfx.headless", "true");
+        System.setProperty("prism.order", "sw");
+        System.setProperty("prism.text", "t2k");
+        System.setProperty("java.awt.headless", "true");
+    }
+
+    @TempDir
+    Path folder;
+
+    Stage stage;
+    DebugOverlay sut;
+
+    @Start
+    void start(Stage stage) {
+        this.stage = stage;
+        stage.show();
+    }
+
+    @BeforeEach
+    void setup() {
+        Timings.reset();
+        sut = new DebugOverlay(folder.resolve("timings.log"));
+    }
+
+    @Test
+    void toggle(FxRobot robot) {
+        Timings.record("scene overview", 3_000_000L);
+        robot.interact(() -> sut.toggle(stage));
+        assertTrue(sut.isShowing());
+        assertTrue(sut.getText().contains("scene overview"));
+        robot.interact(() -> sut.toggle(stage));
+        assertFalse(sut.isShowing());
+    }
+
+    @Test
+    void writeLogOnlyWhenRecorded() throws IOException {
+        Path log = folder.resolve("timings.log");
+        sut.writeLog();
+        assertFalse(Files.exists(log));
+        Timings.record("rate hit", 1_000_000L);
+        sut.writeLog();
+        long size = Files.size(log);
+        sut.writeLog();
+        assertEquals(size, Files.size(log));
+    }
+}
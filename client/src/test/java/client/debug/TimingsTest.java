@@ -0,0 +1,82 @@
+package client.debug;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingsTest {
+
+    @TempDir
+    Path folder;
+
+    @BeforeEach
+    void setup() {
+        Timings.reset();
+    }
+
+    @Test
+    void percentiles() {
+        for (int i = 1; i <= 100; i++) {
+            Timings.record("scene overview", i * 1_000_000L);
+        }
+        List<Timings.Summary> summaries = Timings.summaries();
+        assertEquals(1, summaries.size());
+        Timings.Summary summary = summaries.getFirst();
+        assertEquals("scene overview", summary.name());
+        assertEquals(100, summary.count());
+        assertEquals(50.0, summary.p50());
+        assertEquals(90.0, summary.p90());
+        assertEquals(99.0, summary.p99());
+        assertEquals(100.0, summary.max());
+    }
+
+    @Test
+    void rollingWindow() {
+        for (int i = 0; i < Timings.WINDOW; i++) {
+            Timings.record("rate miss", 500_000_000L);
+        }
+        for (int i = 0; i < Timings.WINDOW; i++) {
+            Timings.record("rate miss", 1_000_000L);
+        }
+        Timings.Summary summary = Timings.summaries().getFirst();
+        assertEquals(2L * Timings.WINDOW, summary.count());
+        assertEquals(1.0, summary.max());
+        assertEquals(2L * Timings.WINDOW, Timings.total());
+    }
+
+    @Test
+    void sortedByName() {
+        Timings.record("scene overview", 1);
+        Timings.record("rate hit", 1);
+        Timings.record("rest GET /api/events/{id}", 1);
+        assertEquals(List.of("rate hit", "rest GET /api/events/{id}", "scene overview"),
+                Timings.summaries().stream().map(Timings.Summary::name).toList());
+    }
+
+    @Test
+    void endpointOf() {
+        assertEquals("/api/events/{id}/expenses/{id}",
+                Timings.endpointOf("/api/events/123456/expenses/42"));
+        assertEquals("/api/currency/2024-04-01/EUR/USD",
+                Timings.endpointOf("/api/currency/2024-04-01/EUR/USD"));
+    }
+
+    @Test
+    void appendToLog() throws IOException {
+        Path log = folder.resolve("timings.log");
+        Timings.record("rate hit", 2_000_000L);
+        Timings.append(log);
+        Timings.append(log);
+        List<String> lines = Files.readAllLines(log);
+        assertEquals(2, lines.stream().filter(l -> l.startsWith("# ")).count());
+        assertEquals(2, lines.stream().filter(l -> l.startsWith("rate hit")).count());
+        assertTrue(lines.contains(Timings.Summary.header()));
+    }
+}
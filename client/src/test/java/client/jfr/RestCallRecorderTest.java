@@ -0,0 +1,80 @@
+package client.jfr;
+
+import client.debug.Timings;
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientResponseContext;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class RestCallRecorderTest {
+
+    @TempDir
+    Path folder;
+
+    @Test
+    public void recordCall() throws IOException {
+        Map<String, Object> properties = new HashMap<>();
+        ClientRequestContext request = mock(ClientRequestContext.class);
+        doAnswer(a -> properties.put(a.getArgument(0), a.getArgument(1)))
+                .when(request).setProperty(anyString(), any());
+        when(request.getProperty(anyString())).thenAnswer(a -> properties.get(a.getArgument(0)));
+        when(request.getMethod()).thenReturn("GET");
+        when(request.getUri()).thenReturn(URI.create("http://localhost:8080/api/events/1"));
+        ClientResponseContext response = mock(ClientResponseContext.class);
+        when(response.getStatus()).thenReturn(200);
+        Timings.reset();
+
+        List<RecordedEvent> events = record("splitty.client.RestCall", () -> {
+            RestCallRecorder recorder = new RestCallRecorder();
+            recorder.filter(request);
+            recorder.filter(request, response);
+        });
+        assertEquals(1, events.size());
+        assertEquals("GET", events.getFirst().getString("method"));
+        assertEquals("/api/events/1", events.getFirst().getString("path"));
+        assertEquals(200, events.getFirst().getInt("status"));
+        assertEquals(List.of("rest GET /api/events/{id}"),
+                Timings.summaries().stream().map(Timings.Summary::name).toList());
+    }
+
+    @Test
+    public void recordSceneRefresh() throws IOException {
+        boolean[] refreshed = {false};
+        Timings.reset();
+        List<RecordedEvent> events = record("splitty.client.SceneRefresh",
+                () -> SceneRefreshEvent.record("overview", () -> refreshed[0] = true));
+        assertTrue(refreshed[0]);
+        assertEquals(1, events.size());
+        assertEquals("overview", events.getFirst().getString("scene"));
+        assertEquals("scene overview", Timings.summaries().getFirst().name());
+    }
+
+    private List<RecordedEvent> record(String name, Runnable work) throws IOException {
+        Path file = folder.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(name);
+            recording.start();
+            work.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals(name))
+                .toList();
+    }
+}
@@ -5,6 +5,7 @@ import commons.Event;
 import commons.Expense;
 import commons.Participant;
 import commons.ParticipantPayment;
+import commons.ParticipantSummary;
 import jakarta.mail.MessagingException;
 import jakarta.ws.rs.WebApplicationException;
 import javafx.beans.binding.Bindings;
@@ -46,6 +47,7 @@ class DebtsCtrlTest {
         System.setProperty("java.awt.headless", "true");
     }
     MainCtrl mainCtrl;
+    OverviewCtrl overviewCtrl;
     LanguageManager languageManager;
     ServerUtils serverUtils;
     @Mock
@@ -94,7 +96,7 @@ class DebtsCtrlTest {
         when(alert.headerTextProperty()).thenReturn(sp);
         when(back.textProperty()).thenReturn(new SimpleStringProperty("Back"));
 
-        sut = new DebtsCtrl(mainCtrl,config,languageManager,serverUtils,currencyConverter,alert,mailSender);
+        sut = new DebtsCtrl(mainCtrl,config,languageManager,serverUtils,alert,mailSender);
         sut.setBack(back);
         sut.setNotificationLabel(confirmation);
         sut.setMenu(menu);
@@ -121,9 +123,36 @@ class DebtsCtrlTest {
 
         when(menu.getPanes()).thenReturn(menulist);
         when(mainCtrl.getEvent()).thenReturn(testEvent);
+        overviewCtrl = mock(OverviewCtrl.class);
+        when(mainCtrl.getOverviewCtrl()).thenReturn(overviewCtrl);
+        when(overviewCtrl.getParticipantSummary(any())).thenAnswer(a -> {
+            Participant participant = a.getArgument(0);
+            ParticipantSummary summary = new ParticipantSummary(participant.getId());
+            summary.addPart(participant.getId() == 0, 50.0);
+            return summary;
+        });
 
     }
 
+    @Test
+    void setTitles_withoutShares() {
+        when(overviewCtrl.getParticipantSummary(any())).thenReturn(null);
+
+        sut.setTitles(testEvent);
+
+        assertEquals(1, menulist.size());
+        assertFalse(((TitledPane) menulist.getFirst()).isCollapsible());
+        verify(languageManager).bind("debts.sharesUnavailable");
+    }
+
+    @Test
+    void setTitles_fromShares() {
+        sut.setTitles(testEvent);
+
+        assertEquals(1, menulist.size());
+        assertTrue(((TitledPane) menulist.getFirst()).getText().startsWith("p2: 50.00"));
+    }
+
     @Test
     void setTitles_shouldPopulateAccordionWithDebts() {
         // Given
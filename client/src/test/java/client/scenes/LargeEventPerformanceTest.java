@@ -0,0 +1,397 @@
+package client.scenes;
+
+import client.MyFXML;
+import client.MyModule;
+import client.utils.ConfigInterface;
+import client.utils.MailSender;
+import client.utils.ServerUtils;
+import com.google.inject.Injector;
+import com.google.inject.util.Modules;
+import commons.Event;
+import commons.EventGenerator;
+import commons.EventStatistics;
+import commons.Expense;
+import commons.ExpenseFilter;
+import commons.ExpensePage;
+import commons.GeneratorSettings;
+import commons.Participant;
+import commons.ParticipantPayment;
+import commons.ParticipantSummary;
+import javafx.scene.Parent;
+import javafx.scene.control.ChoiceBox;
+import javafx.scene.control.ListView;
+import javafx.scene.control.TextField;
+import javafx.stage.Stage;
+import javafx.util.Pair;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.function.Executable;
+import org.testfx.api.FxRobot;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.framework.junit5.Start;
+import org.testfx.util.WaitForAsyncUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Consumer;
+
+import static com.google.inject.Guice.createInjector;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Loads synthetic events of thousands of expenses into the real scenes of the client and
+ * checks that opening and filtering them stays within the budgets in performance.properties.
+ * The server is a stub that answers like the real one, from the generated events.
+ * Run with ./gradlew :client:performanceTest
+ */
+@Tag("performance")
+@ExtendWith(ApplicationExtension.class)
+class LargeEventPerformanceTest {
+
+    //Needed for the tests to run headless.
+    static {
+        System.setProperty("testfx.robot", "glass");
+        System.setProperty("testfx.headless", "true");
+        System.setProperty("prism.order", "sw");
+        System.setProperty("prism.text", "t2k");
+        System.setProperty("java.awt.headless", "true");
+    }
+
+    private static final Properties BUDGETS = budgets();
+    private static final Map<Integer, Event> GENERATED = new HashMap<>();
+    private static final int WARM_UP = 100;
+
+    Map<Integer, Event> events = new HashMap<>();
+    Map<Integer, List<Expense>> ordered = new HashMap<>();
+    ServerUtils server;
+    MainCtrl mainCtrl;
+    Pair<OverviewCtrl, Parent> overview;
+    Pair<ParticipantCtrl, Parent> participant;
+
+    @Start
+    void start(Stage stage) {
+        TestConfig config = new TestConfig();
+        config.setProperty("language", "en");
+        config.setProperty("currency", "EUR");
+        server = stubServer();
+        Injector injector = createInjector(Modules.override(new MyModule()).with(binder -> {
+            binder.bind(ConfigInterface.class).toInstance(config);
+            binder.bind(ServerUtils.class).toInstance(server);
+            binder.bind(MailSender.class).toInstance(mock(MailSender.class));
+        }));
+        MyFXML fxml = new MyFXML(injector);
+        overview = fxml.load(OverviewCtrl.class, "client", "scenes", "Overview.fxml");
+        participant = fxml.load(ParticipantCtrl.class, "client", "scenes", "Participant.fxml");
+        mainCtrl = injector.getInstance(MainCtrl.class);
+        mainCtrl.initialize(stage,
+                fxml.load(StartScreenCtrl.class, "client", "scenes", "StartScreen.fxml"),
+                participant, overview,
+                fxml.load(AddExpenseCtrl.class, "client", "scenes", "AddExpense.fxml"),
+                fxml.load(InvitationCtrl.class, "client", "scenes", "Invitation.fxml"),
+                fxml.load(EditParticipantCtrl.class, "client", "scenes", "EditParticipant.fxml"),
+                fxml.load(SettingsCtrl.class, "client", "scenes", "Settings.fxml"),
+                fxml.load(StatisticsCtrl.class, "client", "scenes", "Statistics.fxml"),
+                fxml.load(EditExpenseCtrl.class, "client", "scenes", "EditExpense.fxml"),
+                fxml.load(ConnectToServerCtrl.class, "client", "scenes", "ConnectToServer.fxml"),
+                fxml.load(DebtsCtrl.class, "client", "scenes", "Debts.fxml"),
+                fxml.load(ManageTagsCtrl.class, "client", "scenes", "ManageTags.fxml"),
+                fxml.load(EditTagCtrl.class, "client", "scenes", "EditTag.fxml"),
+                fxml.load(AddTransferCtrl.class, "client", "scenes", "AddTransfer.fxml"),
+                fxml.load(EditTransferCtrl.class, "client", "scenes", "EditTransfer.fxml"));
+    }
+
+    @Test
+    void overview(FxRobot robot) {
+        List<Executable> checks = new ArrayList<>();
+        for (int size : sizes()) {
+            Event event = event(size);
+            long before = usedMegabytes();
+            long refresh = millis(robot, () -> open(event));
+            long memory = usedMegabytes() - before;
+            ListView<?> all = (ListView<?>) overview.getValue().lookup("#all");
+            assertFalse(all.getItems().isEmpty());
+            if (size == WARM_UP) continue;
+            report("overview", size, refresh, memory);
+            checks.add(within("overview.refresh-ms", size, refresh));
+            checks.add(within("memory-mb", size, memory));
+        }
+        assertAll(checks);
+    }
+
+    @Test
+    void filter(FxRobot robot) {
+        List<Executable> checks = new ArrayList<>();
+        for (int size : sizes()) {
+            Event event = event(size);
+            robot.interact(() -> open(event));
+            @SuppressWarnings("unchecked")
+            ChoiceBox<Participant> payer = (ChoiceBox<Participant>) overview.getValue()
+                    .lookup("#expenseparticipants");
+            long filter = millis(robot, () -> payer.setValue(payer.getItems().getFirst()));
+            ListView<?> from = (ListView<?>) overview.getValue().lookup("#from");
+            assertFalse(from.getItems().isEmpty());
+            if (size == WARM_UP) continue;
+            report("filter", size, filter, 0);
+            checks.add(within("overview.filter-ms", size, filter));
+        }
+        assertAll(checks);
+    }
+
+    @Test
+    void statistics(FxRobot robot) {
+        List<Executable> checks = new ArrayList<>();
+        for (int size : sizes()) {
+            Event event = event(size);
+            robot.interact(() -> open(event));
+            long before = usedMegabytes();
+            long refresh = millis(robot, () -> mainCtrl.showStatistics());
+            long memory = usedMegabytes() - before;
+            if (size == WARM_UP) continue;
+            report("statistics", size, refresh, memory);
+            checks.add(within("statistics.refresh-ms", size, refresh));
+            checks.add(within("memory-mb", size, memory));
+        }
+        assertAll(checks);
+    }
+
+    @Test
+    void debts(FxRobot robot) {
+        List<Executable> checks = new ArrayList<>();
+        for (int size : sizes()) {
+            Event event = event(size);
+            robot.interact(() -> open(event));
+            long before = usedMegabytes();
+            long refresh = millis(robot, () -> mainCtrl.showDebts());
+            long memory = usedMegabytes() - before;
+            assertFalse(mainCtrl.getDebtsCtrl().getMenu().getPanes().isEmpty());
+            if (size == WARM_UP) continue;
+            report("debts", size, refresh, memory);
+            checks.add(within("debts.refresh-ms", size, refresh));
+            checks.add(within("memory-mb", size, memory));
+        }
+        assertAll(checks);
+    }
+
+    @Test
+    void addParticipant(FxRobot robot) {
+        List<Executable> checks = new ArrayList<>();
+        for (int size : sizes()) {
+            Event event = event(size);
+            robot.interact(() -> {
+                open(event);
+                mainCtrl.showParticipant();
+                field("#name").setText("Newcomer " + size);
+                field("#email").setText("newcomer@example.com");
+            });
+            int participants = event.getParticipantsList().size();
+            long add = millis(robot, () -> participant.getKey().ok());
+            assertEquals(participants + 1, event.getParticipantsList().size());
+            if (size == WARM_UP) continue;
+            report("participant", size, add, 0);
+            checks.add(within("participant.add-ms", size, add));
+        }
+        assertAll(checks);
+    }
+
+    /**
+     * Opens an event like a click on a recent event does
+     * @param event the event
+     */
+    private void open(Event event) {
+        mainCtrl.setEvent(event);
+        mainCtrl.getOverviewCtrl().populateFromSnapshot();
+        mainCtrl.showOverview();
+    }
+
+    /**
+     * Finds a text field of the participant scene
+     * @param id the id of the text field
+     * @return the text field
+     */
+    private TextField field(String id) {
+        return (TextField) participant.getValue().lookup(id);
+    }
+
+    /**
+     * Runs an action on the JavaFX thread and waits until the scene has been laid out
+     * and everything the action queued has run
+     * @param robot the robot of the test
+     * @param action the action
+     * @return the time it took in milliseconds
+     */
+    private static long millis(FxRobot robot, Runnable action) {
+        long start = System.nanoTime();
+        robot.interact(action);
+        WaitForAsyncUtils.waitForFxEvents();
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    /**
+     * @return the heap in use after a garbage collection, in megabytes
+     */
+    private static long usedMegabytes() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024);
+    }
+
+    private static void report(String name, int size, long millis, long megabytes) {
+        System.out.printf("%-12s %6d expenses: %6d ms %5d MB%n", name, size, millis, megabytes);
+    }
+
+    private static Executable within(String budget, int size, long value) {
+        long limit = Long.parseLong(budget(budget));
+        return () -> assertTrue(value <= limit, String.format(
+                "%s for %d expenses was %d, over the budget of %d", budget, size, value, limit));
+    }
+
+    /**
+     * @return the sizes to test, after a small event that warms up the scenes
+     */
+    private static int[] sizes() {
+        int[] sizes = Arrays.stream(budget("sizes").split(","))
+                .map(String::trim).mapToInt(Integer::parseInt).toArray();
+        int[] all = new int[sizes.length + 1];
+        all[0] = WARM_UP;
+        System.arraycopy(sizes, 0, all, 1, sizes.length);
+        return all;
+    }
+
+    private static String budget(String name) {
+        String key = "performance." + name;
+        return System.getProperty(key, BUDGETS.getProperty(key));
+    }
+
+    private static Properties budgets() {
+        Properties budgets = new Properties();
+        try (InputStream in = LargeEventPerformanceTest.class.getClassLoader()
+                .getResourceAsStream("performance.properties")) {
+            budgets.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return budgets;
+    }
+
+    /**
+     * Gets a generated event of the given size, with its own copy of the participants
+     * so that participants added by one test don't change the event of another
+     * @param size the number of expenses
+     * @return the event, known to the stub server
+     */
+    private Event event(int size) {
+        Event generated = GENERATED.computeIfAbsent(size, s -> {
+            GeneratorSettings settings = new GeneratorSettings(s, 1,
+                    Integer.parseInt(budget("participants")), s, 5);
+            settings.setCurrencies(List.of("EUR"));
+            return new EventGenerator(settings).next();
+        });
+        Event event = new Event(generated.getTitle(), generated.getCreationDate(),
+                generated.getLastActivity());
+        event.setInviteCode(generated.getInviteCode() + size);
+        event.setParticipantsList(new ArrayList<>(generated.getParticipantsList()));
+        event.setExpensesList(new ArrayList<>(generated.getExpensesList()));
+        event.setTagsList(new ArrayList<>(generated.getTagsList()));
+        events.put(event.getInviteCode(), event);
+        ordered.put(event.getInviteCode(), event.getExpensesList().stream()
+                .sorted(ExpensePage.ORDER).toList());
+        return event;
+    }
+
+    /**
+     * Creates a server that answers from the generated events like the real server does.
+     * It does not record the calls, so that it doesn't count towards the memory.
+     * @return the server
+     */
+    private ServerUtils stubServer() {
+        ServerUtils stub = mock(ServerUtils.class, withSettings().stubOnly());
+        when(stub.getEvent(anyInt())).thenAnswer(a -> events.get(a.<Integer>getArgument(0)));
+        when(stub.getAllExpenses(anyInt()))
+                .thenAnswer(a -> events.get(a.<Integer>getArgument(0)).getExpensesList());
+        when(stub.getAllParticipants(anyInt()))
+                .thenAnswer(a -> events.get(a.<Integer>getArgument(0)).getParticipantsList());
+        when(stub.getExpensePage(anyInt(), any(), any(), anyInt())).thenAnswer(a ->
+                page(a.getArgument(0), a.getArgument(1), a.getArgument(2), a.getArgument(3)));
+        when(stub.getParticipantSummaries(anyInt(), anyString()))
+                .thenAnswer(a -> summaries(events.get(a.<Integer>getArgument(0))));
+        when(stub.getStatistics(anyInt(), anyString())).thenAnswer(a ->
+                statistics(events.get(a.<Integer>getArgument(0)), a.getArgument(1)));
+        doAnswer(a -> {
+            a.<Consumer<EventStatistics>>getArgument(2).accept(
+                    statistics(events.get(a.<Integer>getArgument(0)), a.getArgument(1)));
+            return null;
+        }).when(stub).fetchStatistics(anyInt(), anyString(), any());
+        when(stub.addParticipant(anyInt(), any())).thenAnswer(a -> {
+            Event event = events.get(a.<Integer>getArgument(0));
+            Participant added = a.getArgument(1);
+            added.setId(event.getParticipantsList().size() + 1);
+            event.getParticipantsList().add(added);
+            return added;
+        });
+        return stub;
+    }
+
+    private ExpensePage page(int inviteCode, ExpenseFilter filter, String cursor, int size) {
+        Expense after = null;
+        if (cursor != null) {
+            after = new Expense();
+            after.setDate(ExpensePage.cursorDate(cursor));
+            after.setId((int) ExpensePage.cursorId(cursor));
+        }
+        List<Expense> page = new ArrayList<>();
+        boolean more = false;
+        for (Expense expense : ordered.get(inviteCode)) {
+            if (after != null && ExpensePage.ORDER.compare(expense, after) <= 0) continue;
+            if (filter != null && !filter.matches(expense)) continue;
+            if (page.size() == size) {
+                more = true;
+                break;
+            }
+            page.add(expense);
+        }
+        return new ExpensePage(page, more ? ExpensePage.cursorOf(page.getLast()) : null);
+    }
+
+    private static List<ParticipantSummary> summaries(Event event) {
+        Map<Long, ParticipantSummary> summaries = new LinkedHashMap<>();
+        for (Participant participant : event.getParticipantsList()) {
+            summaries.put(participant.getId(), new ParticipantSummary(participant.getId()));
+        }
+        for (Expense expense : event.getExpensesList()) {
+            ParticipantSummary payer = summaries.get(expense.getPayee().getId());
+            payer.setPaidCount(payer.getPaidCount() + 1);
+            for (ParticipantPayment payment : expense.getSplit()) {
+                ParticipantSummary summary = summaries.get(payment.getParticipant().getId());
+                summary.setInvolvedCount(summary.getInvolvedCount() + 1);
+                if (summary == payer) continue;
+                summary.addPart(false, payment.getPaymentAmount());
+                payer.addPart(true, payment.getPaymentAmount());
+            }
+        }
+        return new ArrayList<>(summaries.values());
+    }
+
+    private static EventStatistics statistics(Event event, String currency) {
+        EventStatistics statistics = new EventStatistics(currency);
+        for (Expense expense : event.getExpensesList()) {
+            statistics.add(expense.getTag() == null ? null : expense.getTag().getId(),
+                    expense.getPayee().getId(), expense.getAmount());
+        }
+        return statistics;
+    }
+}
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.messaging.simp.stomp.StompSession;
 import org.testfx.framework.junit5.ApplicationExtension;
 import org.testfx.framework.junit5.Start;
+import org.testfx.util.WaitForAsyncUtils;
 
 import java.net.URL;
 import java.util.*;
@@ -98,6 +99,16 @@ class OverviewCtrlTest {
         currencyConverter = mock(CurrencyConverter.class);
         alert = mock(Alert.class);
         sut = new OverviewCtrl(languageManager, config, server, mainCtrl, currencyConverter, alert);
+        doAnswer(mock -> {
+            EventStatistics statistics;
+            try {
+                statistics = server.getStatistics(mock.getArgument(0), mock.getArgument(1));
+            } catch (WebApplicationException e) {
+                statistics = null;
+            }
+            mock.<Consumer<EventStatistics>>getArgument(2).accept(statistics);
+            return null;
+        }).when(server).fetchStatistics(anyInt(), any(), any());
         all = new ListView<>();
         sut.setAll(all);
         from = new ListView<>();
@@ -158,8 +169,7 @@ class OverviewCtrlTest {
     void populateExpensesSuccess() {
         Event event = getEvent();
         mainCtrl.setEvent(event);
-        when(server.getAllExpenses(1)).thenReturn(event.getExpensesList());
-        when(server.getEvent(1)).thenReturn(event);
+        stubServer(event);
         expenseParticipant.setValue(tom);
         when(currencyConverter.convert(any(), any(), any(), anyDouble())).then(mock -> mock.getArguments()[3]);
 
@@ -170,7 +180,84 @@ class OverviewCtrlTest {
         assertEquals(List.of(expense2), including.getItems());
         assertEquals(Set.of(expense1, expense2), expenseSubscriptionMap.keySet());
         assertEquals(Set.of(bob, tom, mary), participantSubscriptionMap.keySet());
+        WaitForAsyncUtils.waitForFxEvents();
         assertEquals("25.00 EUR", sumExpense.getText());
+        verify(server, never()).getAllExpenses(anyInt());
+        verify(server, never()).getEvent(anyInt());
+    }
+
+    @Test
+    void populateExpensesPaged() {
+        Event event = getEvent();
+        mainCtrl.setEvent(event);
+        stubServer(event);
+        when(server.getExpensePage(eq(1), any(), isNull(), anyInt()))
+                .thenReturn(new ExpensePage(List.of(expense1), "next"));
+        when(server.getExpensePage(eq(1), any(), eq("next"), anyInt()))
+                .thenReturn(new ExpensePage(List.of(expense2), null));
+
+        sut.populateExpenses();
+
+        assertEquals(List.of(expense1), all.getItems());
+        assertEquals(Set.of(expense1), expenseSubscriptionMap.keySet());
+        WaitForAsyncUtils.waitForFxEvents();
+        assertEquals("25.00 EUR", sumExpense.getText());
+
+        ExpensePager pager = new ExpensePager(server, 1, new ExpenseFilter());
+        pager.next();
+        sut.loadMore(all, pager, expense1);
+
+        assertEquals(List.of(expense1, expense2), all.getItems());
+        assertEquals(Set.of(expense1, expense2), expenseSubscriptionMap.keySet());
+        assertTrue(pager.isExhausted());
+    }
+
+    @Test
+    void changesArePlacedInTheLoadedPages() {
+        Event event = getEvent();
+        mainCtrl.setEvent(event);
+        stubServer(event);
+        expenseParticipant.setValue(mary);
+        when(server.getExpensePage(eq(1), eq(new ExpenseFilter()), isNull(), anyInt()))
+                .thenReturn(new ExpensePage(List.of(expense1), "next"));
+        AtomicReference<Consumer<Expense>> lambda = new AtomicReference<>();
+        when(server.registerForMessages(any(), any(), any())).then(mock -> {
+            if (mock.getArgument(0).equals("/topic/events/1/expenses"))
+                lambda.set(mock.getArgument(2));
+            return null;
+        });
+        sut.refresh();
+        sut.populateExpenses();
+        clearInvocations(server);
+
+        Expense newer = new Expense(5.0, "EUR", "newer", "desc", java.sql.Date.valueOf("2025-01-01"),
+                new ArrayList<>(List.of(new ParticipantPayment(mary, 5.0))), null, mary);
+        newer.setId(3);
+        Expense older = new Expense(5.0, "EUR", "older", "desc", java.sql.Date.valueOf("2020-01-01"),
+                new ArrayList<>(List.of(new ParticipantPayment(mary, 5.0))), null, mary);
+        older.setId(4);
+        lambda.get().accept(newer);
+        lambda.get().accept(older);
+        WaitForAsyncUtils.waitForFxEvents();
+
+        assertEquals(List.of(newer, expense1), all.getItems());
+        assertEquals(List.of(newer, expense2, older), from.getItems());
+        verify(server, never()).getExpensePage(anyInt(), any(), any(), anyInt());
+    }
+
+    @Test
+    void refreshExpensesReloadsTheLoadedPages() {
+        Event event = getEvent();
+        mainCtrl.setEvent(event);
+        stubServer(event);
+        sut.populateExpenses();
+        event.getExpensesList().remove(expense1);
+
+        sut.refreshExpenses();
+
+        assertEquals(List.of(expense2), all.getItems());
+        WaitForAsyncUtils.waitForFxEvents();
+        assertEquals("15.00 EUR", sumExpense.getText());
     }
 
     @Test
@@ -189,16 +276,13 @@ class OverviewCtrlTest {
     }
 
     @Test
-    void populateExpensesNullExpenseList() {
+    void populateExpensesNoPages() {
         Event event = new Event("title", new Date(), new Date());
         event.getParticipantsList().addAll(List.of(bob, mary, tom));
         event.setInviteCode(1);
         event.setExpensesList(null);
         mainCtrl.setEvent(event);
-        when(server.getAllExpenses(1)).thenReturn(event.getExpensesList());
-        when(server.getEvent(1)).thenReturn(event);
         expenseParticipant.setValue(tom);
-        when(currencyConverter.convert(any(), any(), any(), anyDouble())).then(mock -> mock.getArguments()[3]);
 
         sut.populateExpenses();
 
@@ -207,15 +291,18 @@ class OverviewCtrlTest {
         assertEquals(List.of(), including.getItems());
         assertEquals(Set.of(), expenseSubscriptionMap.keySet());
         assertEquals(Set.of(), participantSubscriptionMap.keySet());
-        assertEquals("", sumExpense.getText());
+        WaitForAsyncUtils.waitForFxEvents();
+        assertEquals("0.00 EUR", sumExpense.getText());
     }
 
     @Test
     void populateExpensesWebApplicationException() {
         Event event = getEvent();
         mainCtrl.setEvent(event);
-        when(server.getAllExpenses(1)).thenThrow(WebApplicationException.class);
-        when(server.getEvent(1)).thenThrow(WebApplicationException.class);
+        when(server.getAllParticipants(1)).thenThrow(WebApplicationException.class);
+        when(server.getExpensePage(anyInt(), any(), any(), anyInt()))
+                .thenThrow(WebApplicationException.class);
+        when(server.getStatistics(anyInt(), any())).thenThrow(WebApplicationException.class);
         expenseParticipant.setValue(tom);
         when(currencyConverter.convert(any(), any(), any(), anyDouble())).then(mock -> mock.getArguments()[3]);
 
@@ -226,6 +313,7 @@ class OverviewCtrlTest {
         assertEquals(List.of(), including.getItems());
         assertEquals(Set.of(), expenseSubscriptionMap.keySet());
         assertEquals(Set.of(), participantSubscriptionMap.keySet());
+        WaitForAsyncUtils.waitForFxEvents();
         assertEquals("0.00 EUR", sumExpense.getText());
     }
 
@@ -233,8 +321,7 @@ class OverviewCtrlTest {
     void populateExpensesAlreadyThere() {
         Event event = getEvent();
         mainCtrl.setEvent(event);
-        when(server.getAllExpenses(1)).thenReturn(event.getExpensesList());
-        when(server.getEvent(1)).thenReturn(event);
+        stubServer(event);
         expenseParticipant.setValue(tom);
         when(currencyConverter.convert(any(), any(), any(), anyDouble())).then(mock -> mock.getArguments()[3]);
         all.getItems().add(expense1);
@@ -249,6 +336,7 @@ class OverviewCtrlTest {
         assertEquals(List.of(expense2), including.getItems());
         assertEquals(Set.of(expense1, expense2), expenseSubscriptionMap.keySet());
         assertEquals(Set.of(bob, tom, mary), participantSubscriptionMap.keySet());
+        WaitForAsyncUtils.waitForFxEvents();
         assertEquals("25.00 EUR", sumExpense.getText());
     }
 
@@ -394,20 +482,22 @@ class OverviewCtrlTest {
         ), null, tom);
         DebtsCtrl debtsCtrl = mock(DebtsCtrl.class);
         mainCtrl.setDebtsCtrl(debtsCtrl);
-        when(currencyConverter.convert(any(), any(), any(), anyDouble())).then(mock -> mock.getArgument(3));
+        stubServer(event);
 
         sut.refresh();
+        sut.populateExpenses();
 
         assertFalse(all.getItems().contains(expense3));
-        assertFalse(event.getExpensesList().contains(expense3));
-        assertEquals("", sumExpense.getText());
+        WaitForAsyncUtils.waitForFxEvents();
+        assertEquals("25.00 EUR", sumExpense.getText());
         assertFalse(expenseSubscriptionMap.containsKey(expense3));
 
+        event.getExpensesList().add(expense3);
         lambda.get().accept(expense3);
         Thread.sleep(100);
 
         assertTrue(all.getItems().contains(expense3));
-        assertTrue(event.getExpensesList().contains(expense3));
+        WaitForAsyncUtils.waitForFxEvents();
         assertEquals("75.00 EUR", sumExpense.getText());
         assertTrue(expenseSubscriptionMap.containsKey(expense3));
         verify(debtsCtrl).refresh();
@@ -484,7 +574,6 @@ class OverviewCtrlTest {
         DebtsCtrl debtsCtrl = mock(DebtsCtrl.class);
         mainCtrl.setDebtsCtrl(debtsCtrl);
         when(server.getAllParticipants(1)).thenReturn(event.getParticipantsList());
-        when(server.getEvent(1)).thenReturn(event);
 
         sut.populateExpenses();
 
@@ -512,7 +601,6 @@ class OverviewCtrlTest {
         DebtsCtrl debtsCtrl = mock(DebtsCtrl.class);
         mainCtrl.setDebtsCtrl(debtsCtrl);
         when(server.getAllParticipants(1)).thenReturn(event.getParticipantsList());
-        when(server.getEvent(1)).thenReturn(event);
 
         sut.populateExpenses();
 
@@ -593,15 +681,14 @@ class OverviewCtrlTest {
                 lambda.set(mock.getArgument(2));
             return null;
         });
-        when(server.getAllExpenses(1)).thenReturn(event.getExpensesList());
-        when(server.getEvent(1)).thenReturn(event);
-        when(currencyConverter.convert(any(), any(), any(), anyDouble())).then(mock -> mock.getArguments()[3]);
+        stubServer(event);
         DebtsCtrl debtsCtrl = mock(DebtsCtrl.class);
         mainCtrl.setDebtsCtrl(debtsCtrl);
 
         sut.populateExpenses();
 
         assertTrue(all.getItems().contains(expense1));
+        WaitForAsyncUtils.waitForFxEvents();
         assertEquals("25.00 EUR", sumExpense.getText());
 
         Expense expense3 = new Expense(50.0, "CHF", "exp3", "desc", java.sql.Date.valueOf("2025-01-01"), List.of(
@@ -609,13 +696,13 @@ class OverviewCtrlTest {
                 new ParticipantPayment(bob, 25.0)
         ), null, tom);
         expense3.setId(3);
+        event.getExpensesList().set(0, expense3);
         lambda.get().accept(expense3);
         Thread.sleep(100);
 
         assertFalse(all.getItems().contains(expense1));
-        assertFalse(event.getExpensesList().contains(expense1));
         assertTrue(all.getItems().contains(expense3));
-        assertTrue(event.getExpensesList().contains(expense3));
+        WaitForAsyncUtils.waitForFxEvents();
         assertEquals("65.00 EUR", sumExpense.getText());
     }
 
@@ -630,15 +717,14 @@ class OverviewCtrlTest {
                 lambda.set(mock.getArgument(2));
             return null;
         });
-        when(server.getAllExpenses(1)).thenReturn(event.getExpensesList());
-        when(server.getEvent(1)).thenReturn(event);
-        when(currencyConverter.convert(any(), any(), any(), anyDouble())).then(mock -> mock.getArguments()[3]);
+        stubServer(event);
         DebtsCtrl debtsCtrl = mock(DebtsCtrl.class);
         mainCtrl.setDebtsCtrl(debtsCtrl);
 
         sut.populateExpenses();
 
         assertTrue(all.getItems().contains(expense1));
+        WaitForAsyncUtils.waitForFxEvents();
         assertEquals("25.00 EUR", sumExpense.getText());
 
         Expense expense3 = new Expense(50.0, "CHF", "exp3", "deleted", java.sql.Date.valueOf("2025-01-01"), List.of(
@@ -646,13 +732,13 @@ class OverviewCtrlTest {
                 new ParticipantPayment(bob, 25.0)
         ), null, tom);
         expense3.setId(3);
+        event.getExpensesList().remove(expense1);
         lambda.get().accept(expense3);
         Thread.sleep(100);
 
         assertFalse(all.getItems().contains(expense1));
-        assertFalse(event.getExpensesList().contains(expense1));
         assertFalse(all.getItems().contains(expense3));
-        assertFalse(event.getExpensesList().contains(expense3));
+        WaitForAsyncUtils.waitForFxEvents();
         assertEquals("15.00 EUR", sumExpense.getText());
     }
 
@@ -804,9 +890,7 @@ class OverviewCtrlTest {
     void removeParticipant() {
         Event event = getEvent();
         mainCtrl.setEvent(event);
-        when(server.getEvent(1)).thenReturn(event);
-        when(server.getAllParticipants(1)).thenReturn(event.getParticipantsList());
-        when(server.getAllExpenses(1)).thenReturn(event.getExpensesList());
+        stubServer(event);
         when(alert.showAndWait()).thenReturn(Optional.of(ButtonType.OK));
         StringProperty sp = new SimpleStringProperty();
         when(alert.contentTextProperty()).thenReturn(sp);
@@ -842,9 +926,7 @@ class OverviewCtrlTest {
         )), null, coati);
         event.getParticipantsList().add(coati);
         event.getExpensesList().add(expense3);
-        when(server.getEvent(1)).thenReturn(event);
-        when(server.getAllParticipants(1)).thenReturn(event.getParticipantsList());
-        when(server.getAllExpenses(1)).thenReturn(event.getExpensesList());
+        stubServer(event);
         when(alert.showAndWait()).thenReturn(Optional.of(ButtonType.OK));
         StringProperty sp = new SimpleStringProperty();
         when(alert.contentTextProperty()).thenReturn(sp);
@@ -998,6 +1080,24 @@ class OverviewCtrlTest {
         return event;
     }
 
+    /**
+     * Lets the server answer from the expenses of an event, in one page per list
+     * @param event the event as it is stored on the server
+     */
+    private void stubServer(Event event) {
+        when(server.getAllParticipants(1)).thenReturn(event.getParticipantsList());
+        when(server.getExpensePage(eq(1), any(), any(), anyInt())).then(mock -> new ExpensePage(
+                event.getExpensesList().stream()
+                        .filter(mock.<ExpenseFilter>getArgument(1)::matches)
+                        .sorted(ExpensePage.ORDER).toList(), null));
+        when(server.getStatistics(eq(1), any())).then(mock -> {
+            EventStatistics statistics = new EventStatistics("EUR");
+            statistics.setTotal(event.getExpensesList().stream()
+                    .mapToDouble(Expense::getAmount).sum());
+            return statistics;
+        });
+    }
+
     @Test
     void addToHistory() {
         MainCtrl mainCtrl2 = mock(MainCtrl.class);
@@ -5,6 +5,7 @@ import client.utils.LanguageComboBox;
 import client.utils.LanguageManager;
 import client.utils.ServerUtils;
 import commons.Event;
+import commons.EventSummary;
 import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.Response;
 import javafx.beans.binding.Bindings;
@@ -174,12 +175,31 @@ class StartScreenCtrlTest {
     @Test
     void refreshTest() {
         config.setProperty("recentEvents", "1");
-        Event event = new Event("1", new Date(), new Date());
-        when(serverUtils.getEvent(1)).thenReturn(event);
+        EventSummary summary = new EventSummary(1, "1", new Date(), 2, 10);
+        when(serverUtils.getEventSummaries(List.of(1))).thenReturn(List.of(summary));
 
         sut.refresh();
 
         verify(languageManager).changeLanguage(Locale.ENGLISH);
+        verify(serverUtils, never()).getEvent(1);
+        assertEquals(1, eventsList.getFirst().getInviteCode());
+        assertEquals("1", eventsList.getFirst().getTitle());
+    }
+
+    /**
+     * Tests that events with a cached snapshot are shown from the snapshot
+     * and reconciled in the background instead of fetched.
+     */
+    @Test
+    void refreshFromSnapshotTest() {
+        config.setProperty("recentEvents", "1");
+        Event event = new Event("1", new Date(), new Date());
+        when(serverUtils.getCachedEvent(1)).thenReturn(event);
+
+        sut.refresh();
+
+        verify(serverUtils, never()).getEvent(1);
+        verify(serverUtils).reconcileEvents(eq(List.of(1)), any());
         assertEquals(event, eventsList.getFirst());
     }
 
@@ -1,12 +1,13 @@
 package client.scenes;
 
 import client.utils.ConfigInterface;
-import client.utils.CurrencyConverter;
 import client.utils.LanguageManager;
 import client.utils.ServerUtils;
 import commons.Event;
+import commons.EventStatistics;
 import commons.Expense;
 import commons.Tag;
+import jakarta.ws.rs.WebApplicationException;
 import javafx.beans.binding.StringBinding;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
@@ -32,6 +33,7 @@ import java.util.ResourceBundle;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(ApplicationExtension.class)
@@ -68,8 +70,7 @@ public class StatisticsCtrlTest {
     Map<Tag, StompSession.Subscription> tagSubscriptionMap;
 
     StompSession.Subscription expensesSubscription;
-    Map<Expense, StompSession.Subscription> expenseSubscriptionMap;
-    CurrencyConverter currencyConverter;
+    StompSession.Subscription expenseChangesSubscription;
 
     StringProperty sp;
     StompSession session;
@@ -81,10 +82,8 @@ public class StatisticsCtrlTest {
         mainCtrl = mock(MainCtrl.class);
         serverUtils = mock(ServerUtils.class);
         languageManager = mock(LanguageManager.class);
-        currencyConverter = mock(CurrencyConverter.class);
         config = new TestConfig();
-        sut = new StatisticsCtrl(mainCtrl, config, languageManager,
-                serverUtils, currencyConverter);
+        sut = new StatisticsCtrl(mainCtrl, config, languageManager, serverUtils);
 
         manageTags = mock(Button.class);
         currency = "";
@@ -95,7 +94,7 @@ public class StatisticsCtrlTest {
         tagSubscription = mock(StompSession.Subscription.class);
         expensesSubscription = mock(StompSession.Subscription.class);
         tagSubscriptionMap = mock(HashMap.class);
-        expenseSubscriptionMap = mock(HashMap.class);
+        expenseChangesSubscription = mock(StompSession.Subscription.class);
 
         sp = new SimpleStringProperty("Hello");
         when(pieChart.titleProperty()).thenReturn(sp);
@@ -114,7 +113,7 @@ public class StatisticsCtrlTest {
         sut.setTagSubscription(tagSubscription);
         sut.setExpensesSubscription(expensesSubscription);
         sut.setTagSubscriptionMap(tagSubscriptionMap);
-        sut.setExpenseSubscriptionMap(expenseSubscriptionMap);
+        sut.setExpenseChangesSubscription(expenseChangesSubscription);
 
         doNothing().when(manageTags).setGraphic(any(Node.class));
         doNothing().when(cancel).setGraphic(any(Node.class));
@@ -174,7 +173,6 @@ public class StatisticsCtrlTest {
         test.addExpense(new Expense(1, "EUR", "Title", "Desc", null, null, null, null));
         test.addExpense(new Expense(1, "EUR", "Title", "Desc", null, null, newTag, null));
         test.setInviteCode(1);
-        when(serverUtils.getEvent(1)).thenReturn(test);
         when(mainCtrl.getEvent()).thenReturn(test);
         when(languageManager.bind("statistics.chartTitle")).thenReturn(new StringBinding() {
             @Override
@@ -184,8 +182,89 @@ public class StatisticsCtrlTest {
         });
         sut.setTagSubscription(null);
         sut.setExpensesSubscription(null);
+        sut.setExpenseChangesSubscription(null);
         sut.setup();
         verify(serverUtils).registerForMessages(eq("/topic/events/1/tags/1"), eq(Tag.class), any());
+        verify(serverUtils).registerForMessages(eq("/topic/events/1/expenses/*"),
+                eq(Expense.class), any());
+        verify(serverUtils, never()).getEvent(anyInt());
+        verify(serverUtils).getStatistics(eq(1), any());
+    }
+
+    @Test
+    void onTagChange() {
+        Event test = new Event("test", null, null);
+        Tag newTag = new Tag("TAG", "blue");
+        newTag.setId(1);
+        test.addTag(newTag);
+        test.setInviteCode(1);
+        EventStatistics statistics = new EventStatistics("EUR");
+        statistics.add(1L, null, 5);
+        when(mainCtrl.getEvent()).thenReturn(test);
+        when(serverUtils.getStatistics(eq(1), any())).thenReturn(statistics);
+        when(languageManager.bind("statistics.chartTitle")).thenReturn(new StringBinding() {
+            @Override
+            protected String computeValue() {
+                return "total";
+            }
+        });
+        sut.setup();
+
+        Tag renamed = new Tag("Food", "#00ff00");
+        renamed.setId(1);
+        sut.onTagChange(renamed);
+
+        verify(serverUtils, never()).getEvent(anyInt());
+        assertEquals(1, pieChart.getData().size());
+        assertEquals("Food", pieChart.getData().getFirst().getName());
+    }
+
+    @Test
+    void setStatisticsFromServer() {
+        Event test = new Event("test", null, null);
+        Tag newTag = new Tag("TAG", "blue");
+        newTag.setId(1);
+        test.addTag(newTag);
+        test.setInviteCode(1);
+        EventStatistics statistics = new EventStatistics("EUR");
+        statistics.add(1L, null, 5);
+        statistics.add(null, null, 2);
+        when(mainCtrl.getEvent()).thenReturn(test);
+        when(serverUtils.getStatistics(eq(1), any())).thenReturn(statistics);
+        when(languageManager.bind("statistics.chartTitle")).thenReturn(new StringBinding() {
+            @Override
+            protected String computeValue() {
+                return "total";
+            }
+        });
+
+        sut.setStatistics();
+
+        assertEquals(2, pieChart.getData().size());
+        assertEquals("TAG", pieChart.getData().getFirst().getName());
+        assertEquals(5, pieChart.getData().getFirst().getPieValue());
+        assertEquals(2, ownLegend.getChildren().size());
+    }
+
+    @Test
+    void setStatisticsUnavailable() {
+        Event test = new Event("test", null, null);
+        test.setInviteCode(1);
+        test.addExpense(new Expense(1, "EUR", "Title", "Desc", null, null, null, null));
+        when(mainCtrl.getEvent()).thenReturn(test);
+        when(serverUtils.getStatistics(eq(1), any())).thenThrow(WebApplicationException.class);
+        when(languageManager.bind("statistics.unavailable")).thenReturn(new StringBinding() {
+            @Override
+            protected String computeValue() {
+                return "unavailable";
+            }
+        });
+
+        sut.setStatistics();
+
+        assertEquals(0, pieChart.getData().size());
+        assertEquals(0, ownLegend.getChildren().size());
+        verify(pieChart).setTitle("test\nunavailable");
     }
 
     @Test
@@ -200,7 +279,6 @@ public class StatisticsCtrlTest {
         test.addExpense(new Expense(1, "EUR", "Title", "Desc", null, null, newTag, null));
         test.setInviteCode(1);
 
-        when(serverUtils.getEvent(1)).thenReturn(test);
         when(mainCtrl.getEvent()).thenReturn(test);
         when(languageManager.bind("statistics.chartTitle")).thenReturn(new StringBinding() {
             @Override
@@ -214,17 +292,14 @@ public class StatisticsCtrlTest {
         testSut.setExpensesSubscription(null);
         testSut.setup();
 
-        Event testEvent = testSut.getMainCtrl().getEvent();
-        assertEquals(testEvent.getExpensesList().size(),2);
-
         Expense expense2 = new Expense(1, "EUR", "NewTitle", "Desc", null, null, null, null);
         expense2.setId(1);
 
-        testSut.onExpenseChange(expense1,expense2);
+        clearInvocations(serverUtils);
+        testSut.onExpenseChange(expense2);
 
         verify(testSut, atLeastOnce()).setStatistics();
-        assertEquals(testEvent.getExpensesList().size(),2);
-        assertTrue(testEvent.getExpensesList().contains(expense2));
+        verify(serverUtils).getStatistics(eq(1), any());
     }
 
     @Test
@@ -239,7 +314,6 @@ public class StatisticsCtrlTest {
         test.addExpense(new Expense(1, "EUR", "Title", "Desc", null, null, newTag, null));
         test.setInviteCode(1);
 
-        when(serverUtils.getEvent(1)).thenReturn(test);
         when(mainCtrl.getEvent()).thenReturn(test);
         when(languageManager.bind("statistics.chartTitle")).thenReturn(new StringBinding() {
             @Override
@@ -253,18 +327,14 @@ public class StatisticsCtrlTest {
         testSut.setExpensesSubscription(null);
         testSut.setup();
 
-        Event testEvent = testSut.getMainCtrl().getEvent();
-        assertEquals(testEvent.getExpensesList().size(),2);
-
         Expense expense2 = new Expense(1, "EUR", "NewTitle", "Desc", null, null, null, null);
         expense2.setId(2);
 
+        clearInvocations(serverUtils);
         testSut.onNewExpenseReceive(expense2);
 
-        verify(testSut, atLeastOnce()).subscribeToExpense(expense2);
         verify(testSut, atLeastOnce()).setStatistics();
-        assertEquals(testEvent.getExpensesList().size(),3);
-        assertTrue(testEvent.getExpensesList().contains(expense2));
+        verify(serverUtils).getStatistics(eq(1), any());
     }
 
     @Test
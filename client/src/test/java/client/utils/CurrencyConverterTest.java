@@ -1,5 +1,6 @@
 package client.utils;
 
+import client.debug.Timings;
 import jakarta.ws.rs.WebApplicationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -44,8 +45,10 @@ class CurrencyConverterTest {
         PrintWriter pw = new PrintWriter(file);
         pw.print(2.0);
         pw.flush();
+        Timings.reset();
         double result = sut.convert(java.sql.Date.valueOf("2024-04-01"), "EUR", "USD", 42);
         assertEquals(84.0, result);
+        assertEquals("rate hit", Timings.summaries().getFirst().name());
     }
 
     @Test
@@ -73,10 +76,12 @@ class CurrencyConverterTest {
         file.delete();
         when(serverUtils.getRate("2024-04-01", "EUR", "USD")).thenReturn(2.0);
 
+        Timings.reset();
         var response = sut.convert(java.sql.Date.valueOf("2024-04-01"), "EUR", "USD", 42);
 
         assertEquals(84.0, response);
         assertTrue(file.exists());
+        assertEquals("rate miss", Timings.summaries().getFirst().name());
     }
 
     @Test
@@ -3,6 +3,9 @@ package client.utils;
 import commons.Participant;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class DebtTest {
@@ -61,4 +64,25 @@ class DebtTest {
         debt.setSum(2.9);
         assertEquals(2.9, debt.getSum());
     }
-}
\ No newline at end of file
+
+    @Test
+    void settle() {
+        bob.setId(1);
+        mary.setId(2);
+        tom.setId(3);
+        List<Debt> debts = Debt.settle(Map.of(bob, 30.0, mary, -20.0, tom, -10.0));
+        assertEquals(2, debts.size());
+        assertEquals(mary, debts.get(0).getDebtor());
+        assertEquals(bob, debts.get(0).getCreditor());
+        assertEquals(20.0, debts.get(0).getSum());
+        assertEquals(tom, debts.get(1).getDebtor());
+        assertEquals(10.0, debts.get(1).getSum());
+    }
+
+    @Test
+    void settleNothing() {
+        bob.setId(1);
+        mary.setId(2);
+        assertTrue(Debt.settle(Map.of(bob, 0.0, mary, 5.0)).isEmpty());
+    }
+}
@@ -0,0 +1,124 @@
+package client.utils;
+
+import client.scenes.TestConfig;
+import commons.Event;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventCacheTest {
+
+    @TempDir
+    File root;
+
+    TestConfig config;
+    EventCache sut;
+
+    @BeforeEach
+    void setup() {
+        config = new TestConfig();
+        sut = new EventCache(config, root);
+    }
+
+    /**
+     * Tests that a stored snapshot can be read back.
+     */
+    @Test
+    void putAndGet() {
+        Event event = new Event("title", new Date(1000), new Date(2000));
+        event.setInviteCode(3);
+
+        sut.put("http://localhost:8080", event);
+        Event cached = sut.get("http://localhost:8080", 3);
+
+        assertNotNull(cached);
+        assertEquals("title", cached.getTitle());
+        assertEquals(2000, EventCache.version(cached));
+    }
+
+    /**
+     * Tests that snapshots are stored separately per server.
+     */
+    @Test
+    void perServer() {
+        Event event = new Event("title", new Date(), new Date());
+        event.setInviteCode(3);
+
+        sut.put("http://localhost:8080", event);
+
+        assertNull(sut.get("http://localhost:8081", 3));
+    }
+
+    /**
+     * Tests that a snapshot can be removed.
+     */
+    @Test
+    void remove() {
+        Event event = new Event("title", new Date(), new Date());
+        event.setInviteCode(3);
+
+        sut.put("http://localhost:8080", event);
+        sut.remove("http://localhost:8080", 3);
+
+        assertNull(sut.get("http://localhost:8080", 3));
+    }
+
+    /**
+     * Tests that the version of an event without activity is 0.
+     */
+    @Test
+    void versionWithoutActivity() {
+        assertEquals(0, EventCache.version(new Event("title", null, null)));
+        assertEquals(0, EventCache.version(null));
+    }
+
+    /**
+     * Tests that the least recently used snapshots are evicted when the cache is full.
+     */
+    @Test
+    void evictsWhenOverLimit() {
+        config.setProperty("eventCacheLimit", "0");
+        Event event = new Event("title", new Date(), new Date());
+        event.setInviteCode(3);
+
+        sut.put("http://localhost:8080", event);
+
+        assertNull(sut.get("http://localhost:8080", 3));
+    }
+
+    /**
+     * Tests that the size of the cache follows the snapshots that are stored and removed.
+     */
+    @Test
+    void tracksSize() {
+        Event first = new Event("first", new Date(), new Date());
+        first.setInviteCode(3);
+        Event second = new Event("second", new Date(), new Date());
+        second.setInviteCode(4);
+
+        sut.put("http://localhost:8080", first);
+        long one = sut.size();
+        sut.put("http://localhost:8080", second);
+        sut.put("http://localhost:8080", second);
+        sut.remove("http://localhost:8080", 3);
+
+        assertTrue(one > 0);
+        assertEquals(new File(new File(root, "http___localhost_8080"), "4.json").length(),
+                sut.size());
+        assertEquals(sut.size(), new EventCache(config, root).size());
+    }
+
+    /**
+     * Tests that the default limit is written to the config when it is missing.
+     */
+    @Test
+    void defaultLimit() {
+        assertEquals(50L * 1024 * 1024, sut.getLimit());
+        assertEquals("50", config.getProperty("eventCacheLimit"));
+    }
+}
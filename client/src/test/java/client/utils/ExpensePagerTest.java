@@ -0,0 +1,103 @@
+package client.utils;
+
+import commons.Expense;
+import commons.ExpenseFilter;
+import commons.ExpensePage;
+import commons.Participant;
+import jakarta.ws.rs.WebApplicationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ExpensePagerTest {
+
+    private ServerUtils server;
+    private ExpensePager sut;
+    private Participant payee;
+    private Expense newest;
+    private Expense oldest;
+
+    @BeforeEach
+    void setup() {
+        server = mock(ServerUtils.class);
+        sut = new ExpensePager(server, 1, new ExpenseFilter());
+        payee = new Participant("payee", null, null, null);
+        newest = new Expense(10, "EUR", "newest", "desc", new Date(2000),
+                new ArrayList<>(), null, payee);
+        newest.setId(2);
+        oldest = new Expense(10, "EUR", "oldest", "desc", new Date(1000),
+                new ArrayList<>(), null, payee);
+        oldest.setId(1);
+    }
+
+    @Test
+    void pages() {
+        when(server.getExpensePage(eq(1), any(), isNull(), anyInt()))
+                .thenReturn(new ExpensePage(List.of(newest), "next"));
+        when(server.getExpensePage(eq(1), any(), eq("next"), anyInt()))
+                .thenReturn(new ExpensePage(List.of(oldest), null));
+
+        assertEquals(List.of(newest), sut.next());
+        assertTrue(sut.isAvailable());
+        assertFalse(sut.isExhausted());
+        assertEquals(List.of(oldest), sut.next());
+        assertTrue(sut.isExhausted());
+        assertEquals(List.of(), sut.next());
+        verify(server, times(2)).getExpensePage(anyInt(), any(), any(), anyInt());
+    }
+
+    @Test
+    void unavailable() {
+        when(server.getExpensePage(anyInt(), any(), any(), anyInt()))
+                .thenThrow(new WebApplicationException(404));
+
+        assertEquals(List.of(), sut.next());
+        assertFalse(sut.isAvailable());
+        assertTrue(sut.isExhausted());
+    }
+
+    @Test
+    void covers() {
+        when(server.getExpensePage(eq(1), any(), isNull(), anyInt()))
+                .thenReturn(new ExpensePage(List.of(newest), "next"));
+        assertFalse(sut.covers(newest));
+
+        sut.next();
+
+        Expense added = new Expense(10, "EUR", "added", "desc", new Date(3000),
+                new ArrayList<>(), null, payee);
+        assertTrue(sut.covers(added));
+        assertTrue(sut.covers(newest));
+        assertFalse(sut.covers(oldest));
+    }
+
+    @Test
+    void reload() {
+        when(server.getExpensePage(eq(1), any(), isNull(), anyInt()))
+                .thenReturn(new ExpensePage(List.of(newest), "next"));
+        when(server.getExpensePage(eq(1), any(), eq("next"), anyInt()))
+                .thenReturn(new ExpensePage(List.of(oldest), "last"));
+        sut.next();
+        sut.next();
+
+        assertEquals(List.of(newest, oldest), sut.reload());
+        assertFalse(sut.isExhausted());
+        assertTrue(sut.covers(oldest));
+        verify(server, times(4)).getExpensePage(anyInt(), any(), any(), anyInt());
+    }
+
+    @Test
+    void reloadBeforeFirstPage() {
+        when(server.getExpensePage(eq(1), any(), isNull(), anyInt()))
+                .thenReturn(new ExpensePage(List.of(newest), null));
+
+        assertEquals(List.of(newest), sut.reload());
+        assertTrue(sut.isExhausted());
+    }
+}
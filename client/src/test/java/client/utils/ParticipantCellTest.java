@@ -1,10 +1,12 @@
 package client.utils;
 
 import client.scenes.MainCtrl;
+import client.scenes.OverviewCtrl;
 import client.scenes.TestConfig;
 import commons.Event;
 import commons.Expense;
 import commons.Participant;
+import commons.ParticipantSummary;
 import commons.Tag;
 import javafx.beans.binding.StringBinding;
 import javafx.beans.property.SimpleStringProperty;
@@ -112,7 +114,7 @@ class ParticipantCellTest {
         doNothing().when(oweLabel).setStyle(any());
         doNothing().when(owedLabel).setStyle(any());
 
-        sut = new ParticipantCell(mainCtrl, languageManager, new TestConfig(), mock(CurrencyConverter.class));
+        sut = new ParticipantCell(mainCtrl, languageManager, new TestConfig());
 
         sut.setParticipant(participant);
         sut.setEdit(edit);
@@ -136,8 +138,36 @@ class ParticipantCellTest {
         boolean empty = false;
         sut.updateItem(item, empty);
         assertEquals(participant.getText(), item.getName());
-        assertEquals(share.getText(), "0.00 EUR");
-        assertEquals(owe.getText(), "0.00 EUR");
-        assertEquals(owed.getText(), "0.00 EUR");
+        assertEquals(share.getText(), ParticipantCell.UNAVAILABLE);
+        assertEquals(owe.getText(), ParticipantCell.UNAVAILABLE);
+        assertEquals(owed.getText(), ParticipantCell.UNAVAILABLE);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void updateWithoutShare(){
+        OverviewCtrl overviewCtrl = mock(OverviewCtrl.class);
+        when(mainCtrl.getOverviewCtrl()).thenReturn(overviewCtrl);
+
+        sut.updateItem(item, false);
+
+        assertEquals(ParticipantCell.UNAVAILABLE, share.getText());
+        assertEquals(ParticipantCell.UNAVAILABLE, owe.getText());
+        assertEquals(ParticipantCell.UNAVAILABLE, owed.getText());
+    }
+
+    @Test
+    public void updateFromSummary(){
+        OverviewCtrl overviewCtrl = mock(OverviewCtrl.class);
+        ParticipantSummary summary = new ParticipantSummary(0);
+        summary.addPart(true, 10);
+        summary.addPart(false, 4);
+        when(mainCtrl.getOverviewCtrl()).thenReturn(overviewCtrl);
+        when(overviewCtrl.getParticipantSummary(item)).thenReturn(summary);
+
+        sut.updateItem(item, false);
+
+        assertEquals("6.00 EUR", share.getText());
+        assertEquals("4.00 EUR", owe.getText());
+        assertEquals("10.00 EUR", owed.getText());
+    }
+}
@@ -0,0 +1,141 @@
+package commons;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+public final class ContentHash {
+
+    private static final char SEPARATOR = '\u001f';
+    private static final String NULL = "\u0000";
+
+    /**
+     * Utility class, not meant to be instantiated
+     */
+    private ContentHash() {
+    }
+
+    /**
+     * Computes the canonical content hash of an event. Two events that are
+     * equal according to {@link Event#fullEquals(Object)} (apart from their invite code)
+     * always have the same hash, regardless of the order of their participants,
+     * expenses and tags. Different events can collide, so a matching hash
+     * still needs to be confirmed with a full comparison.
+     * @param event the event to hash
+     * @return the hash as a hexadecimal SHA-256 digest
+     */
+    public static String of(Event event) {
+        StringBuilder builder = new StringBuilder();
+        append(builder, event.getTitle());
+        append(builder, seconds(event.getCreationDate()));
+        append(builder, seconds(event.getLastActivity()));
+        append(builder, sorted(event.getParticipantsList(), ContentHash::participant));
+        append(builder, sorted(event.getTagsList(), ContentHash::tag));
+        append(builder, sorted(event.getExpensesList(), ContentHash::expense));
+        return sha256(builder.toString());
+    }
+
+    /**
+     * Canonical form of a participant, based on the attributes compared by fullEquals
+     * @param participant the participant
+     * @return the canonical form of the participant
+     */
+    private static String participant(Participant participant) {
+        if (participant == null) return NULL;
+        StringBuilder builder = new StringBuilder();
+        append(builder, participant.getName());
+        append(builder, participant.getEmail());
+        append(builder, participant.getIban());
+        append(builder, participant.getBic());
+        return builder.toString();
+    }
+
+    /**
+     * Canonical form of a tag, based on the attributes compared by fullEquals
+     * @param tag the tag
+     * @return the canonical form of the tag
+     */
+    private static String tag(Tag tag) {
+        if (tag == null) return NULL;
+        StringBuilder builder = new StringBuilder();
+        append(builder, tag.getName());
+        append(builder, tag.getColor());
+        return builder.toString();
+    }
+
+    /**
+     * Canonical form of an expense. The split only contributes its amounts,
+     * because fullEquals compares the participants of a split by id.
+     * @param expense the expense
+     * @return the canonical form of the expense
+     */
+    private static String expense(Expense expense) {
+        if (expense == null) return NULL;
+        StringBuilder builder = new StringBuilder();
+        append(builder, String.valueOf(expense.getAmount()));
+        append(builder, expense.getCurrency());
+        append(builder, expense.getTitle());
+        append(builder, expense.getDescription());
+        append(builder, seconds(expense.getDate()));
+        append(builder, "[" + tag(expense.getTag()) + "]");
+        append(builder, "[" + participant(expense.getPayee()) + "]");
+        append(builder, sorted(expense.getSplit(),
+                p -> p == null ? NULL : String.valueOf(p.getPaymentAmount() + 0.0)));
+        return builder.toString();
+    }
+
+    /**
+     * Joins the canonical forms of the elements of a list in sorted order,
+     * so that the result does not depend on the order of the list
+     * @param list the list, can be null
+     * @param canonical the function giving the canonical form of an element
+     * @param <T> the type of the elements
+     * @return the sorted canonical forms of the elements
+     */
+    private static <T> String sorted(List<T> list, Function<T, String> canonical) {
+        if (list == null) return NULL;
+        return "[" + String.join("|", list.stream()
+                .map(canonical)
+                .map(s -> Integer.toHexString(s.length()) + ":" + s)
+                .sorted()
+                .toList()) + "]";
+    }
+
+    /**
+     * Converts a date to whole seconds, the precision used by fullEquals
+     * @param date the date, can be null
+     * @return the number of seconds since the epoch, or a null marker
+     */
+    private static String seconds(Date date) {
+        if (date == null) return NULL;
+        return String.valueOf(Math.floorDiv(date.getTime(), 1000L));
+    }
+
+    /**
+     * Appends a value followed by a separator
+     * @param builder the builder to append to
+     * @param value the value, can be null
+     */
+    private static void append(StringBuilder builder, String value) {
+        builder.append(Objects.requireNonNullElse(value, NULL)).append(SEPARATOR);
+    }
+
+    /**
+     * Computes the SHA-256 digest of a string
+     * @param value the string
+     * @return the digest in hexadecimal
+     */
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
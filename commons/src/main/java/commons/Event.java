@@ -10,19 +10,30 @@ import java.util.List;
 import java.util.Objects;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_event_content_hash", columnList = "content_hash"),
+    @Index(name = "idx_event_title", columnList = "title, invite_code"),
+    @Index(name = "idx_event_creation_date", columnList = "creation_date, invite_code"),
+    @Index(name = "idx_event_last_activity", columnList = "last_activity, invite_code")
+})
 public class Event {
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
     private int inviteCode;
     private String title;
     @OneToMany (fetch = FetchType.EAGER, cascade = CascadeType.ALL)
+    @JoinColumn(name = "event_id", nullable = false, updatable = false)
     private List<Expense> expensesList;
     @OneToMany (fetch = FetchType.EAGER, cascade = CascadeType.ALL)
+    @JoinColumn(name = "event_id", nullable = false, updatable = false)
     private List<Participant> participantsList;
     @OneToMany (fetch = FetchType.EAGER, cascade = CascadeType.ALL)
+    @JoinColumn(name = "event_id", nullable = false, updatable = false)
     private List<Tag> tagsList;
     private Date creationDate;
     private Date lastActivity;
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
 
     /**
      * Empty constructor for object mapper
@@ -172,6 +183,38 @@ public class Event {
         this.lastActivity = lastActivity;
     }
 
+    /**
+     * @return the content hash of the event, as it was last stored
+     */
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    /**
+     * @param contentHash set the content hash of the event
+     */
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    /**
+     * Recomputes the content hash of the event from its current content,
+     * which is done when events are compared on import
+     * @return the new content hash
+     */
+    public String updateContentHash() {
+        contentHash = ContentHash.of(this);
+        return contentHash;
+    }
+
+    /**
+     * Forgets the content hash after the content of the event changed,
+     * so that it is recomputed the next time events are compared
+     */
+    public void clearContentHash() {
+        contentHash = null;
+    }
+
     /**
      * An equals method to compare 2 event by event id
      * @param o The object to compare to the event
@@ -225,48 +268,8 @@ public class Event {
      * @return a boolean to tell if they are equal
      */
     public boolean tagsEquals(List<Tag> tagsList, List<Tag> list) {
-        if (tagsList == null && list == null) {
-            return true;
-        }
-        if (tagsList == null || list == null) {
-            return false;
-        }
-        if (tagsList.size() == list.size()) {
-            for (Tag p : tagsList) {
-                boolean isThere = false;
-                for (Tag p2 : list) {
-                    if (p.fullEquals(p2)) {
-                        isThere = true;
-                    }
-                }
-                if (!isThere) {
-                    return false;
-                }
-            }
-            if (checkOtherWayAroundTags(tagsList, list)) return false;
-        } else return false;
-        return true;
-    }
-
-    /**
-     * to Really check equivalents and check both sides the other way around
-     * @param tagsList tagsList list from one Event
-     * @param list tagsList list from other Event
-     * @return if they are equal
-     */
-    private static boolean checkOtherWayAroundTags(List<Tag> tagsList, List<Tag> list) {
-        for (Tag p : list) {
-            boolean isThere = false;
-            for (Tag p2 : tagsList) {
-                if (p2.fullEquals(p)) {
-                    isThere = true;
-                }
-            }
-            if (!isThere) {
-                return true;
-            }
-        }
-        return false;
+        return FullEquality.sameElements(tagsList, list,
+                Tag::fullEquals, Tag::fullHashCode);
     }
 
     /**
@@ -276,49 +279,8 @@ public class Event {
      * @return a boolean to tell if they are equal
      */
     public boolean expensesEquals(List<Expense> expensesList, List<Expense> list) {
-        if (expensesList == null && list == null) {
-            return true;
-        }
-        if (expensesList == null || list == null) {
-            return false;
-        }
-        if (expensesList.size() == list.size()) {
-            for (Expense p : expensesList) {
-                boolean isThere = false;
-                for (Expense p2 : list) {
-                    if (p.fullEquals(p2)) {
-                        isThere = true;
-                    }
-                }
-                if (!isThere) {
-                    return false;
-                }
-            }
-            if (otherWayAroundCheckExpenselist(expensesList, list)) return false;
-        } else return false;
-        return true;
-    }
-
-    /**
-     * to Really check equivalents and check both sides the other way around
-     * @param expensesList expensesList list from one Event
-     * @param list expensesList list from other Event
-     * @return if they are equal
-     */
-    private static boolean otherWayAroundCheckExpenselist(List<Expense> expensesList,
-                                                          List<Expense> list) {
-        for (Expense p : list) {
-            boolean isThere = false;
-            for (Expense p2 : expensesList) {
-                if (p2.fullEquals(p)) {
-                    isThere = true;
-                }
-            }
-            if (!isThere) {
-                return true;
-            }
-        }
-        return false;
+        return FullEquality.sameElements(expensesList, list,
+                Expense::fullEquals, Expense::fullHashCode);
     }
 
     /**
@@ -328,50 +290,8 @@ public class Event {
      * @return a boolean to tell if they are equal
      */
     public boolean participantsEquals(List<Participant> participantsList, List<Participant> list) {
-        if (participantsList == null && list == null) {
-            return true;
-        }
-        if (participantsList == null || list == null) {
-            return false;
-        }
-        if (participantsList.size() == list.size()) {
-            for (Participant p : participantsList) {
-                boolean isThere = false;
-                for (Participant p2 : list) {
-                    if (p.fullEquals(p2)) {
-                        isThere = true;
-                    }
-                }
-                if (!isThere) {
-                    return false;
-                }
-            }
-
-            if (otherWayAroundCheckParticipants(participantsList, list)) return false;
-        } else return false;
-        return true;
-    }
-
-    /**
-     * to Really check equivalents and check both sides the other way around
-     * @param participantsList participantsList list from one Event
-     * @param list participantsList list from other Event
-     * @return if they are equal
-     */
-    private static boolean otherWayAroundCheckParticipants(List<Participant> participantsList,
-                                                           List<Participant> list) {
-        for (Participant p : list) {
-            boolean isThere = false;
-            for (Participant p2 : participantsList) {
-                if (p2.fullEquals(p)) {
-                    isThere = true;
-                }
-            }
-            if (!isThere) {
-                return true;
-            }
-        }
-        return false;
+        return FullEquality.sameElements(participantsList, list,
+                Participant::fullEquals, Participant::fullHashCode);
     }
 
     /**
@@ -0,0 +1,208 @@
+package commons;
+
+import java.util.Date;
+import java.util.Objects;
+
+public class EventChange {
+
+    private long sequenceNumber;
+    private String type;
+    private String operation;
+    private long entityId;
+    private Long parentId;
+    private String state;
+    private Date date;
+    private String action;
+    private Long reverts;
+
+    /**
+     * Empty constructor for object mapper
+     */
+    @SuppressWarnings("unused")
+    public EventChange() {
+    }
+
+    /**
+     * Constructor for one change to an event, as listed in its change feed
+     * @param sequenceNumber the number of the change within the event, starting at 1
+     * @param type what was changed: expense, participant, tag or payment
+     * @param operation how it was changed: add, update or delete
+     * @param entityId the id of what was changed
+     * @param parentId the id of the expense of a changed payment, null for the other types
+     * @param state what was changed as JSON, after the change for an add or update
+     *              and before the change for a delete
+     * @param date when the change was made
+     * @param action why the change was made: change, undo or redo
+     * @param reverts the number of the change that is undone or redone, null for a change
+     */
+    public EventChange(long sequenceNumber, String type, String operation, long entityId,
+                       Long parentId, String state, Date date, String action, Long reverts) {
+        this.sequenceNumber = sequenceNumber;
+        this.type = type;
+        this.operation = operation;
+        this.entityId = entityId;
+        this.parentId = parentId;
+        this.state = state;
+        this.date = date;
+        this.action = action;
+        this.reverts = reverts;
+    }
+
+    /**
+     * @return the number of the change within the event, starting at 1
+     */
+    public long getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    /**
+     * @param sequenceNumber sets the number of the change within the event
+     */
+    public void setSequenceNumber(long sequenceNumber) {
+        this.sequenceNumber = sequenceNumber;
+    }
+
+    /**
+     * @return what was changed: expense, participant, tag or payment
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * @param type sets what was changed
+     */
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    /**
+     * @return how it was changed: add, update or delete
+     */
+    public String getOperation() {
+        return operation;
+    }
+
+    /**
+     * @param operation sets how it was changed
+     */
+    public void setOperation(String operation) {
+        this.operation = operation;
+    }
+
+    /**
+     * @return the id of what was changed
+     */
+    public long getEntityId() {
+        return entityId;
+    }
+
+    /**
+     * @param entityId sets the id of what was changed
+     */
+    public void setEntityId(long entityId) {
+        this.entityId = entityId;
+    }
+
+    /**
+     * @return the id of the expense of a changed payment, null for the other types
+     */
+    public Long getParentId() {
+        return parentId;
+    }
+
+    /**
+     * @param parentId sets the id of the expense of a changed payment
+     */
+    public void setParentId(Long parentId) {
+        this.parentId = parentId;
+    }
+
+    /**
+     * @return what was changed as JSON, after the change for an add or update
+     *         and before the change for a delete
+     */
+    public String getState() {
+        return state;
+    }
+
+    /**
+     * @param state sets what was changed as JSON
+     */
+    public void setState(String state) {
+        this.state = state;
+    }
+
+    /**
+     * @return when the change was made
+     */
+    public Date getDate() {
+        return date;
+    }
+
+    /**
+     * @param date sets when the change was made
+     */
+    public void setDate(Date date) {
+        this.date = date;
+    }
+
+    /**
+     * @return why the change was made: change, undo or redo
+     */
+    public String getAction() {
+        return action;
+    }
+
+    /**
+     * @param action sets why the change was made
+     */
+    public void setAction(String action) {
+        this.action = action;
+    }
+
+    /**
+     * @return the number of the change that is undone or redone, null for a change
+     */
+    public Long getReverts() {
+        return reverts;
+    }
+
+    /**
+     * @param reverts sets the number of the change that is undone or redone
+     */
+    public void setReverts(Long reverts) {
+        this.reverts = reverts;
+    }
+
+    /**
+     * Equals method of the change - based on all attributes.
+     * @param o - Object to check equality with.
+     * @return true if equal and false otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EventChange that = (EventChange) o;
+        return sequenceNumber == that.sequenceNumber
+                && entityId == that.entityId
+                && Objects.equals(type, that.type)
+                && Objects.equals(operation, that.operation)
+                && Objects.equals(parentId, that.parentId)
+                && Objects.equals(state, that.state)
+                && Objects.equals(date, that.date)
+                && Objects.equals(action, that.action)
+                && Objects.equals(reverts, that.reverts);
+    }
+
+    /**
+     * Function to hash the change
+     * @return returns a hashcode of the change
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(sequenceNumber, type, operation, entityId, parentId, state, date,
+                action, reverts);
+    }
+}
@@ -0,0 +1,186 @@
+package commons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Generates synthetic events for testing and benchmarks. The payees, the sizes and amounts
+ * of the splits and the currencies are skewed the way real events are: a few participants
+ * pay most expenses, most expenses are split between a few participants and one currency
+ * is used far more than the others. The same settings always give the same events.
+ */
+public class EventGenerator {
+
+    private static final String[] COLORS = {
+        "#93c47d", "#4a86e8", "#e06666", "#f6b26b", "#8e7cc3", "#76a5af", "#ffd966"
+    };
+
+    /**
+     * The chance that an expense has no tag
+     */
+    private static final double UNTAGGED = 0.1;
+
+    private final GeneratorSettings settings;
+    private final Random random;
+    private final double[] participantWeights;
+    private final double[] currencyWeights;
+    private int generated;
+
+    /**
+     * Constructor for a generator
+     * @param settings the settings of the events
+     * @throws IllegalArgumentException if the settings are invalid
+     */
+    public EventGenerator(GeneratorSettings settings) {
+        if (!settings.isValid()) {
+            throw new IllegalArgumentException("Invalid generator settings");
+        }
+        this.settings = settings;
+        this.random = new Random(settings.getSeed());
+        this.participantWeights = zipf(settings.getParticipants(), settings.getSkew());
+        this.currencyWeights = zipf(settings.getCurrencies().size(), settings.getSkew());
+    }
+
+    /**
+     * Generates all events of the settings
+     * @return the events
+     */
+    public List<Event> generateAll() {
+        List<Event> events = new ArrayList<>();
+        while (hasNext()) {
+            events.add(next());
+        }
+        return events;
+    }
+
+    /**
+     * @return true if not all events of the settings have been generated yet
+     */
+    public boolean hasNext() {
+        return generated < settings.getEvents();
+    }
+
+    /**
+     * Generates the next event. All participants, expenses, tags and payments get ids,
+     * like an event in an export of the server, so that it can be imported.
+     * @return the event
+     */
+    public Event next() {
+        generated++;
+        Event event = new Event("Synthetic event " + generated, settings.getFrom(),
+                settings.getTo());
+        for (int i = 0; i < settings.getParticipants(); i++) {
+            Participant participant = new Participant("participant " + (i + 1),
+                    "participant" + (i + 1) + "@example.com",
+                    "NL91ABNA0417164300", "ABNANL2A");
+            participant.setId(i + 1);
+            event.getParticipantsList().add(participant);
+        }
+        for (int i = 0; i < settings.getTags(); i++) {
+            Tag tag = new Tag("tag " + (i + 1), COLORS[i % COLORS.length]);
+            tag.setId(i + 1);
+            event.getTagsList().add(tag);
+        }
+        long paymentId = 1;
+        for (int i = 0; i < settings.getExpenses(); i++) {
+            Expense expense = expense(event, i + 1);
+            for (ParticipantPayment payment : expense.getSplit()) {
+                payment.setId(paymentId++);
+            }
+            event.getExpensesList().add(expense);
+        }
+        event.updateContentHash();
+        return event;
+    }
+
+    /**
+     * Generates an expense with a skewed payee, split and currency
+     * @param event the event with the participants and tags
+     * @param id the id of the expense
+     * @return the expense
+     */
+    private Expense expense(Event event, int id) {
+        List<Participant> participants = event.getParticipantsList();
+        Participant payee = participants.get(pick(participantWeights));
+        long cents = Math.max(1, Math.round(Math.exp(7 + 1.2 * random.nextGaussian())));
+        String currency = settings.getCurrencies().get(pick(currencyWeights));
+        long span = settings.getTo().getTime() - settings.getFrom().getTime();
+        Date date = new Date(settings.getFrom().getTime()
+                + (long) (random.nextDouble() * (span + 1)));
+        List<Tag> tags = event.getTagsList();
+        Tag tag = tags.isEmpty() || random.nextDouble() < UNTAGGED
+                ? null : tags.get(random.nextInt(tags.size()));
+        Expense expense = new Expense(cents / 100.0, currency, "expense " + id, "",
+                date, split(participants, cents), tag, payee);
+        expense.setId(id);
+        return expense;
+    }
+
+    /**
+     * Splits an amount between a skewed number of participants, with skewed shares
+     * @param participants the participants of the event
+     * @param cents the amount in cents
+     * @return the payments of the split, which add up to the amount
+     */
+    private List<ParticipantPayment> split(List<Participant> participants, long cents) {
+        int size = 1 + (int) (Math.pow(random.nextDouble(), 1 + settings.getSkew())
+                * participants.size());
+        Set<Integer> debtors = new LinkedHashSet<>();
+        for (int i = 0; i < 4 * size && debtors.size() < size; i++) {
+            debtors.add(pick(participantWeights));
+        }
+        for (int i = 0; debtors.size() < Math.min(size, participants.size()); i++) {
+            debtors.add(i);
+        }
+        double[] shares = new double[debtors.size()];
+        for (int i = 0; i < shares.length; i++) {
+            shares[i] = 0.01 + Math.pow(random.nextDouble(), settings.getSkew());
+        }
+        double total = Arrays.stream(shares).sum();
+        List<ParticipantPayment> split = new ArrayList<>();
+        long remaining = cents;
+        int i = 0;
+        for (int debtor : debtors) {
+            long share = i == shares.length - 1
+                    ? remaining : Math.round(cents * shares[i] / total);
+            share = Math.min(share, remaining);
+            remaining -= share;
+            split.add(new ParticipantPayment(participants.get(debtor), share / 100.0));
+            i++;
+        }
+        return split;
+    }
+
+    /**
+     * Picks an index by its weight
+     * @param cumulative the cumulative weights of the indexes
+     * @return the index
+     */
+    private int pick(double[] cumulative) {
+        double roll = random.nextDouble() * cumulative[cumulative.length - 1];
+        int index = Arrays.binarySearch(cumulative, roll);
+        return Math.min(cumulative.length - 1, index < 0 ? -index - 1 : index + 1);
+    }
+
+    /**
+     * Computes the cumulative weights of a Zipf distribution, where the weight of
+     * the k-th index is 1 / k^skew
+     * @param size the number of indexes
+     * @param skew the exponent, 0 gives every index the same weight
+     * @return the cumulative weights
+     */
+    static double[] zipf(int size, double skew) {
+        double[] cumulative = new double[size];
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += 1 / Math.pow(i + 1, skew);
+            cumulative[i] = sum;
+        }
+        return cumulative;
+    }
+}
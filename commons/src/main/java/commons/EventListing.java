@@ -0,0 +1,165 @@
+package commons;
+
+import java.util.Date;
+import java.util.Objects;
+
+public class EventListing {
+
+    private int inviteCode;
+    private String title;
+    private Date creationDate;
+    private Date lastActivity;
+    private int participantCount;
+    private int expenseCount;
+
+    /**
+     * Empty constructor for object mapper
+     */
+    @SuppressWarnings("unused")
+    public EventListing() {
+    }
+
+    /**
+     * Constructor for an event in the admin list of events
+     * @param inviteCode The invite code of the event
+     * @param title The title of the event
+     * @param creationDate The creation date of the event
+     * @param lastActivity The last activity of the event
+     * @param participantCount The number of participants in the event
+     * @param expenseCount The number of expenses in the event
+     */
+    public EventListing(int inviteCode, String title, Date creationDate, Date lastActivity,
+                        int participantCount, int expenseCount) {
+        this.inviteCode = inviteCode;
+        this.title = title;
+        this.creationDate = creationDate;
+        this.lastActivity = lastActivity;
+        this.participantCount = participantCount;
+        this.expenseCount = expenseCount;
+    }
+
+    /**
+     * @return the invite code of the event
+     */
+    public int getInviteCode() {
+        return inviteCode;
+    }
+
+    /**
+     * @param inviteCode sets the invite code of the event
+     */
+    public void setInviteCode(int inviteCode) {
+        this.inviteCode = inviteCode;
+    }
+
+    /**
+     * @return the title of the event
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * @param title sets the title of the event
+     */
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    /**
+     * @return the creation date of the event
+     */
+    public Date getCreationDate() {
+        return creationDate;
+    }
+
+    /**
+     * @param creationDate sets the creation date of the event
+     */
+    public void setCreationDate(Date creationDate) {
+        this.creationDate = creationDate;
+    }
+
+    /**
+     * @return the last time the event was managed
+     */
+    public Date getLastActivity() {
+        return lastActivity;
+    }
+
+    /**
+     * @param lastActivity sets the last time the event was managed
+     */
+    public void setLastActivity(Date lastActivity) {
+        this.lastActivity = lastActivity;
+    }
+
+    /**
+     * @return the number of participants in the event
+     */
+    public int getParticipantCount() {
+        return participantCount;
+    }
+
+    /**
+     * @param participantCount sets the number of participants in the event
+     */
+    public void setParticipantCount(int participantCount) {
+        this.participantCount = participantCount;
+    }
+
+    /**
+     * @return the number of expenses in the event
+     */
+    public int getExpenseCount() {
+        return expenseCount;
+    }
+
+    /**
+     * @param expenseCount sets the number of expenses in the event
+     */
+    public void setExpenseCount(int expenseCount) {
+        this.expenseCount = expenseCount;
+    }
+
+    /**
+     * Equals method of a listed event - based on all attributes.
+     * @param o - Object to check equality with.
+     * @return true if equal and false otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EventListing that = (EventListing) o;
+        return inviteCode == that.inviteCode
+                && participantCount == that.participantCount
+                && expenseCount == that.expenseCount
+                && Objects.equals(title, that.title)
+                && Objects.equals(creationDate, that.creationDate)
+                && Objects.equals(lastActivity, that.lastActivity);
+    }
+
+    /**
+     * Function to hash a listed event
+     * @return returns a hashcode of a listed event
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(inviteCode, title, creationDate, lastActivity,
+                participantCount, expenseCount);
+    }
+
+    /**
+     * A toString method to display a listed event in the same columns as an event
+     * @return returns a human-readable format of a listed event
+     */
+    @Override
+    public String toString() {
+        return inviteCode + "\t\t\t\t" +
+                title + "\t\t\t" +
+                participantCount + "\t\t\t\t\t\t" +
+                expenseCount + "\t\t\t\t\t" +
+                lastActivity + "\n";
+    }
+}
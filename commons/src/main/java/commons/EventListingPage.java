@@ -0,0 +1,125 @@
+package commons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public class EventListingPage {
+
+    private List<EventListing> events;
+    private String next;
+
+    /**
+     * Empty constructor for object mapper
+     */
+    @SuppressWarnings("unused")
+    public EventListingPage() {
+        this.events = new ArrayList<>();
+    }
+
+    /**
+     * Constructor for a page of the admin list of events
+     * @param events the events on this page
+     * @param next the cursor of the next page, or null if this is the last page
+     */
+    public EventListingPage(List<EventListing> events, String next) {
+        this.events = events;
+        this.next = next;
+    }
+
+    /**
+     * Creates the cursor that points just past an event. The invite code comes last,
+     * so a title containing the separator still gives a readable cursor.
+     * @param listing the last event of a page
+     * @param sort the key the events are sorted by
+     * @return the cursor of the page after it
+     */
+    public static String cursorOf(EventListing listing, EventSort sort) {
+        return sort.format(listing) + "_" + listing.getInviteCode();
+    }
+
+    /**
+     * Gets the value of the sort key of the last event before a cursor
+     * @param cursor the cursor
+     * @param sort the key the events are sorted by
+     * @return the value of the sort key in the cursor
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static Comparable<?> cursorKey(String cursor, EventSort sort) {
+        return sort.parse(cursor.substring(0, separator(cursor)));
+    }
+
+    /**
+     * Gets the invite code of the last event before a cursor
+     * @param cursor the cursor
+     * @return the invite code in the cursor
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static int cursorCode(String cursor) {
+        return Integer.parseInt(cursor.substring(separator(cursor) + 1));
+    }
+
+    /**
+     * Finds the separator between the sort key and the invite code of a cursor
+     * @param cursor the cursor
+     * @return the position of the separator
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    private static int separator(String cursor) {
+        int separator = cursor.lastIndexOf('_');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Malformed cursor " + cursor);
+        }
+        return separator;
+    }
+
+    /**
+     * @return the events on this page
+     */
+    public List<EventListing> getEvents() {
+        return events;
+    }
+
+    /**
+     * @param events sets the events on this page
+     */
+    public void setEvents(List<EventListing> events) {
+        this.events = events;
+    }
+
+    /**
+     * @return the cursor of the next page, or null if this is the last page
+     */
+    public String getNext() {
+        return next;
+    }
+
+    /**
+     * @param next sets the cursor of the next page
+     */
+    public void setNext(String next) {
+        this.next = next;
+    }
+
+    /**
+     * Equals method of a page - based on all attributes.
+     * @param o - Object to check equality with.
+     * @return true if equal and false otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EventListingPage that = (EventListingPage) o;
+        return Objects.equals(events, that.events) && Objects.equals(next, that.next);
+    }
+
+    /**
+     * Function to hash a page
+     * @return returns a hashcode of a page
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(events, next);
+    }
+}
@@ -0,0 +1,128 @@
+package commons;
+
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Locale;
+
+/**
+ * The keys the admin can sort the list of events by. Every key is backed by an indexed
+ * column, and ties are broken by the invite code so that the order is always the same.
+ * Events imported from old dumps can lack a title or dates, they are sorted before all
+ * other events.
+ */
+public enum EventSort {
+    CODE("inviteCode"),
+    TITLE("title"),
+    CREATED("creationDate"),
+    ACTIVITY("lastActivity");
+
+    /**
+     * The date that stands in for a missing date, which is before every real date
+     */
+    public static final Date MISSING_DATE = new Date(-2208988800000L);
+
+    private final String attribute;
+
+    /**
+     * Constructor for a sort key
+     * @param attribute the attribute of the event that is sorted by
+     */
+    EventSort(String attribute) {
+        this.attribute = attribute;
+    }
+
+    /**
+     * @return the attribute of the event that is sorted by
+     */
+    public String getAttribute() {
+        return attribute;
+    }
+
+    /**
+     * @return the name of the sort key as used in requests
+     */
+    public String getParam() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Finds the sort key with the given name, ignoring case
+     * @param param the name of the sort key
+     * @return the sort key
+     * @throws IllegalArgumentException if there is no sort key with that name
+     */
+    public static EventSort fromParam(String param) {
+        if (param == null) {
+            throw new IllegalArgumentException("No sort key given");
+        }
+        return valueOf(param.toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Gets the value that stands in for a missing value of this sort key
+     * @return the lowest value of the sort key
+     */
+    public Comparable<?> missingKey() {
+        return switch (this) {
+            case CODE -> 0;
+            case TITLE -> "";
+            case CREATED, ACTIVITY -> MISSING_DATE;
+        };
+    }
+
+    /**
+     * Gets the value of an event that is sorted by
+     * @param listing the listed event
+     * @return the value of the sort key, or {@link #missingKey()} if the event has none
+     */
+    public Comparable<?> keyOf(EventListing listing) {
+        Comparable<?> key = switch (this) {
+            case CODE -> listing.getInviteCode();
+            case TITLE -> listing.getTitle();
+            case CREATED -> listing.getCreationDate();
+            case ACTIVITY -> listing.getLastActivity();
+        };
+        return key == null ? missingKey() : key;
+    }
+
+    /**
+     * Writes the value of an event that is sorted by, for use in a cursor
+     * @param listing the listed event
+     * @return the value of the sort key as text
+     */
+    public String format(EventListing listing) {
+        Comparable<?> key = keyOf(listing);
+        return key instanceof Date date ? String.valueOf(date.getTime()) : key.toString();
+    }
+
+    /**
+     * Reads a value of the sort key that was written by {@link #format(EventListing)}
+     * @param value the value as text
+     * @return the value of the sort key
+     * @throws IllegalArgumentException if the value is malformed
+     */
+    public Comparable<?> parse(String value) {
+        return switch (this) {
+            case CODE -> Integer.parseInt(value);
+            case TITLE -> value;
+            case CREATED, ACTIVITY -> new Date(Long.parseLong(value));
+        };
+    }
+
+    /**
+     * Gets the order of this sort key, with ties broken by invite code
+     * @param ascending whether the order is ascending
+     * @return the order of the listed events
+     */
+    public Comparator<EventListing> comparator(boolean ascending) {
+        Comparator<EventListing> order = switch (this) {
+            case CODE -> Comparator.comparingInt(EventListing::getInviteCode);
+            case TITLE -> Comparator.comparing((EventListing l) -> (String) keyOf(l),
+                    Comparator.nullsFirst(Comparator.naturalOrder()));
+            case CREATED, ACTIVITY -> Comparator.comparing((EventListing l) -> (Date) keyOf(l),
+                    Comparator.nullsFirst(Comparator.naturalOrder()));
+        };
+        order = order.thenComparingInt(EventListing::getInviteCode);
+        return ascending ? order : order.reversed();
+    }
+}
@@ -0,0 +1,156 @@
+package commons;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+public class EventStatistics {
+
+    private String currency;
+    private double total;
+    private Map<Long, Double> tags;
+    private double untagged;
+    private Map<Long, Double> participants;
+
+    /**
+     * Empty constructor for object mapper
+     */
+    @SuppressWarnings("unused")
+    public EventStatistics() {
+        this.tags = new HashMap<>();
+        this.participants = new HashMap<>();
+    }
+
+    /**
+     * Constructor for the statistics of an event, with nothing spent yet
+     * @param currency The currency all amounts are expressed in
+     */
+    public EventStatistics(String currency) {
+        this();
+        this.currency = currency;
+    }
+
+    /**
+     * Adds an amount that was spent to the totals
+     * @param tag The id of the tag it was spent on, or null if it has no tag
+     * @param payee The id of the participant that paid it, or null if unknown
+     * @param amount The amount that was spent, in the currency of the statistics
+     */
+    public void add(Long tag, Long payee, double amount) {
+        total += amount;
+        if (tag == null) untagged += amount;
+        else tags.merge(tag, amount, Double::sum);
+        if (payee != null) participants.merge(payee, amount, Double::sum);
+    }
+
+    /**
+     * @return the currency all amounts are expressed in
+     */
+    public String getCurrency() {
+        return currency;
+    }
+
+    /**
+     * @param currency sets the currency all amounts are expressed in
+     */
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    /**
+     * @return the total amount spent in the event
+     */
+    public double getTotal() {
+        return total;
+    }
+
+    /**
+     * @param total sets the total amount spent in the event
+     */
+    public void setTotal(double total) {
+        this.total = total;
+    }
+
+    /**
+     * @return the amount spent per tag, by the id of the tag
+     */
+    public Map<Long, Double> getTags() {
+        return tags;
+    }
+
+    /**
+     * @param tags sets the amount spent per tag
+     */
+    public void setTags(Map<Long, Double> tags) {
+        this.tags = tags;
+    }
+
+    /**
+     * @return the amount spent on expenses without a tag
+     */
+    public double getUntagged() {
+        return untagged;
+    }
+
+    /**
+     * @param untagged sets the amount spent on expenses without a tag
+     */
+    public void setUntagged(double untagged) {
+        this.untagged = untagged;
+    }
+
+    /**
+     * @return the amount paid per participant, by the id of the participant
+     */
+    public Map<Long, Double> getParticipants() {
+        return participants;
+    }
+
+    /**
+     * @param participants sets the amount paid per participant
+     */
+    public void setParticipants(Map<Long, Double> participants) {
+        this.participants = participants;
+    }
+
+    /**
+     * Equals method of statistics - based on all attributes.
+     * @param o - Object to check equality with.
+     * @return true if equal and false otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EventStatistics that = (EventStatistics) o;
+        return Double.compare(total, that.total) == 0
+                && Double.compare(untagged, that.untagged) == 0
+                && Objects.equals(currency, that.currency)
+                && Objects.equals(tags, that.tags)
+                && Objects.equals(participants, that.participants);
+    }
+
+    /**
+     * Function to hash statistics
+     * @return returns a hashcode of the statistics
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(currency, total, tags, untagged, participants);
+    }
+
+    /**
+     * A toString method to display statistics in a human-readable format
+     * @return returns a human-readable format of the statistics
+     */
+    @Override
+    public String toString() {
+        return "EventStatistics{" +
+                "currency='" + currency + '\'' +
+                ", total=" + total +
+                ", tags=" + tags +
+                ", untagged=" + untagged +
+                ", participants=" + participants +
+                '}';
+    }
+}
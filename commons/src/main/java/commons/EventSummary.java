@@ -0,0 +1,159 @@
+package commons;
+
+import java.util.Date;
+import java.util.Objects;
+
+public class EventSummary {
+
+    private int inviteCode;
+    private String title;
+    private Date lastActivity;
+    private int participantCount;
+    private double total;
+
+    /**
+     * Empty constructor for object mapper
+     */
+    @SuppressWarnings("unused")
+    public EventSummary() {
+    }
+
+    /**
+     * Constructor for the summary of an event
+     * @param inviteCode The invite code of the event
+     * @param title The title of the event
+     * @param lastActivity The last activity of the event
+     * @param participantCount The number of participants in the event
+     * @param total The sum of the amounts of all expenses in the event
+     */
+    public EventSummary(int inviteCode, String title, Date lastActivity,
+                        int participantCount, double total) {
+        this.inviteCode = inviteCode;
+        this.title = title;
+        this.lastActivity = lastActivity;
+        this.participantCount = participantCount;
+        this.total = total;
+    }
+
+    /**
+     * @return the invite code of the event
+     */
+    public int getInviteCode() {
+        return inviteCode;
+    }
+
+    /**
+     * @param inviteCode sets the invite code of the event
+     */
+    public void setInviteCode(int inviteCode) {
+        this.inviteCode = inviteCode;
+    }
+
+    /**
+     * @return the title of the event
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * @param title sets the title of the event
+     */
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    /**
+     * @return the last time the event was managed
+     */
+    public Date getLastActivity() {
+        return lastActivity;
+    }
+
+    /**
+     * @param lastActivity sets the last time the event was managed
+     */
+    public void setLastActivity(Date lastActivity) {
+        this.lastActivity = lastActivity;
+    }
+
+    /**
+     * @return the number of participants in the event
+     */
+    public int getParticipantCount() {
+        return participantCount;
+    }
+
+    /**
+     * @param participantCount sets the number of participants in the event
+     */
+    public void setParticipantCount(int participantCount) {
+        this.participantCount = participantCount;
+    }
+
+    /**
+     * @return the sum of the amounts of all expenses in the event
+     */
+    public double getTotal() {
+        return total;
+    }
+
+    /**
+     * @param total sets the sum of the amounts of all expenses in the event
+     */
+    public void setTotal(double total) {
+        this.total = total;
+    }
+
+    /**
+     * Creates an event with the information of this summary, without any
+     * participants, expenses or tags, to show in places that only need the summary
+     * @return an event with the invite code, title and last activity of the summary
+     */
+    public Event toEvent() {
+        Event event = new Event(title, null, lastActivity);
+        event.setInviteCode(inviteCode);
+        return event;
+    }
+
+    /**
+     * Equals method of a summary - based on all attributes.
+     * @param o - Object to check equality with.
+     * @return true if equal and false otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EventSummary that = (EventSummary) o;
+        return inviteCode == that.inviteCode
+                && participantCount == that.participantCount
+                && Double.compare(total, that.total) == 0
+                && Objects.equals(title, that.title)
+                && Objects.equals(lastActivity, that.lastActivity);
+    }
+
+    /**
+     * Function to hash a summary
+     * @return returns a hashcode of a summary
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(inviteCode, title, lastActivity, participantCount, total);
+    }
+
+    /**
+     * A toString method to display a summary in a human-readable format
+     * @return returns a human-readable format of a summary
+     */
+    @Override
+    public String toString() {
+        return "EventSummary{" +
+                "inviteCode=" + inviteCode +
+                ", title='" + title + '\'' +
+                ", lastActivity=" + lastActivity +
+                ", participantCount=" + participantCount +
+                ", total=" + total +
+                '}';
+    }
+}
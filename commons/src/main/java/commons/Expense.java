@@ -8,6 +8,10 @@ import java.util.List;
 import java.util.Objects;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_expense_date_id", columnList = "date, id"),
+    @Index(name = "idx_expense_payee", columnList = "payee_id")
+})
 public class Expense {
 
     @Id
@@ -19,6 +23,7 @@ public class Expense {
     private String description;
     private Date date;
     @OneToMany(cascade = CascadeType.ALL)
+    @JoinColumn(name = "expense_id", nullable = false, updatable = false)
     private List<ParticipantPayment> split;
     @ManyToOne
     private Tag tag;
@@ -231,6 +236,15 @@ public class Expense {
                 participantPaymentEquals(split,expense.split);
     }
 
+    /**
+     * Hash of a expense that is consistent with fullEquals,
+     * so that fully equal expenses can be found in hash based collections
+     * @return the hashcode of the attributes compared by fullEquals
+     */
+    public int fullHashCode() {
+        return Objects.hash(id, amount, currency, title, description);
+    }
+
     /**
      * Manual way to check if ParticipantPayments are truly equal
      * @param split list1 with ParticipantPayments
@@ -239,49 +253,8 @@ public class Expense {
      */
     public boolean participantPaymentEquals(List<ParticipantPayment> split,
                                             List<ParticipantPayment> participantPayments) {
-        if (split == null && participantPayments == null) {
-            return true;
-        }
-        if (split == null || participantPayments == null) {
-            return false;
-        }
-        if (split.size() == participantPayments.size()) {
-            for (ParticipantPayment p : split) {
-                boolean isThere = false;
-                for (ParticipantPayment p2 : participantPayments) {
-                    if (p.fullEquals(p2)) {
-                        isThere = true;
-                    }
-                }
-                if (!isThere) {
-                    return false;
-                }
-            }
-            if (otherWayAroundCheck(split, participantPayments)) return false;
-        } else return false;
-        return true;
-    }
-
-    /**
-     * to Really check equivalents and check both sides the other way around
-     * @param split split list from one Expense
-     * @param participantPayments split list from other Expense
-     * @return if they are equal
-     */
-    private static boolean otherWayAroundCheck(List<ParticipantPayment> split,
-                                               List<ParticipantPayment> participantPayments) {
-        for (ParticipantPayment p : participantPayments) {
-            boolean isThere = false;
-            for (ParticipantPayment p2 : split) {
-                if (p2.fullEquals(p)) {
-                    isThere = true;
-                }
-            }
-            if (!isThere) {
-                return true;
-            }
-        }
-        return false;
+        return FullEquality.sameElements(split, participantPayments,
+                ParticipantPayment::fullEquals, ParticipantPayment::fullHashCode);
     }
 
 
@@ -0,0 +1,147 @@
+package commons;
+
+import java.util.Date;
+import java.util.Objects;
+
+public class ExpenseFilter {
+
+    private Long payee;
+    private Long participant;
+    private Long tag;
+    private Date from;
+    private Date to;
+
+    /**
+     * Constructor for a filter that lets all expenses through
+     */
+    public ExpenseFilter() {
+    }
+
+    /**
+     * Constructor for a filter on expenses, where every criterion that is null is ignored
+     * @param payee the id of the participant that paid the expense
+     * @param participant the id of a participant that is part of the split of the expense
+     * @param tag the id of the tag of the expense
+     * @param from the earliest date of the expense
+     * @param to the latest date of the expense
+     */
+    public ExpenseFilter(Long payee, Long participant, Long tag, Date from, Date to) {
+        this.payee = payee;
+        this.participant = participant;
+        this.tag = tag;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * @return the id of the participant that paid the expense, or null
+     */
+    public Long getPayee() {
+        return payee;
+    }
+
+    /**
+     * @param payee sets the id of the participant that paid the expense
+     */
+    public void setPayee(Long payee) {
+        this.payee = payee;
+    }
+
+    /**
+     * @return the id of a participant that is part of the split of the expense, or null
+     */
+    public Long getParticipant() {
+        return participant;
+    }
+
+    /**
+     * @param participant sets the id of a participant that is part of the split of the expense
+     */
+    public void setParticipant(Long participant) {
+        this.participant = participant;
+    }
+
+    /**
+     * @return the id of the tag of the expense, or null
+     */
+    public Long getTag() {
+        return tag;
+    }
+
+    /**
+     * @param tag sets the id of the tag of the expense
+     */
+    public void setTag(Long tag) {
+        this.tag = tag;
+    }
+
+    /**
+     * @return the earliest date of the expense, or null
+     */
+    public Date getFrom() {
+        return from;
+    }
+
+    /**
+     * @param from sets the earliest date of the expense
+     */
+    public void setFrom(Date from) {
+        this.from = from;
+    }
+
+    /**
+     * @return the latest date of the expense, or null
+     */
+    public Date getTo() {
+        return to;
+    }
+
+    /**
+     * @param to sets the latest date of the expense
+     */
+    public void setTo(Date to) {
+        this.to = to;
+    }
+
+    /**
+     * Checks whether an expense passes this filter
+     * @param expense the expense to check
+     * @return true if the expense meets every criterion that is set
+     */
+    public boolean matches(Expense expense) {
+        return (payee == null || expense.getPayee() != null
+                    && expense.getPayee().getId() == payee)
+                && (participant == null || expense.getSplit() != null
+                    && expense.getSplit().stream().anyMatch(pp -> pp.getParticipant() != null
+                        && pp.getParticipant().getId() == participant))
+                && (tag == null || expense.getTag() != null && expense.getTag().getId() == tag)
+                && (from == null || !expense.getDate().before(from))
+                && (to == null || !expense.getDate().after(to));
+    }
+
+    /**
+     * Equals method of a filter - based on all attributes.
+     * @param o - Object to check equality with.
+     * @return true if equal and false otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ExpenseFilter that = (ExpenseFilter) o;
+        return Objects.equals(payee, that.payee)
+                && Objects.equals(participant, that.participant)
+                && Objects.equals(tag, that.tag)
+                && Objects.equals(from, that.from)
+                && Objects.equals(to, that.to);
+    }
+
+    /**
+     * Function to hash a filter
+     * @return returns a hashcode of a filter
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(payee, participant, tag, from, to);
+    }
+}
@@ -0,0 +1,132 @@
+package commons;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+
+public class ExpensePage {
+
+    /**
+     * The order of the expenses in the pages: newest first, and by id for the same date
+     */
+    public static final Comparator<Expense> ORDER = Comparator
+            .comparing(Expense::getDate, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(Comparator.comparingLong(Expense::getId).reversed());
+
+    private List<Expense> expenses;
+    private String next;
+
+    /**
+     * Empty constructor for object mapper
+     */
+    @SuppressWarnings("unused")
+    public ExpensePage() {
+        this.expenses = new ArrayList<>();
+    }
+
+    /**
+     * Constructor for a page of expenses
+     * @param expenses the expenses on this page
+     * @param next the cursor of the next page, or null if this is the last page
+     */
+    public ExpensePage(List<Expense> expenses, String next) {
+        this.expenses = expenses;
+        this.next = next;
+    }
+
+    /**
+     * Creates the cursor that points just past an expense
+     * @param expense the last expense of a page
+     * @return the cursor of the page after it
+     */
+    public static String cursorOf(Expense expense) {
+        return expense.getDate().getTime() + "_" + expense.getId();
+    }
+
+    /**
+     * Gets the date of the last expense before a cursor
+     * @param cursor the cursor
+     * @return the date in the cursor
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static Date cursorDate(String cursor) {
+        return new Date(Long.parseLong(cursorPart(cursor, 0)));
+    }
+
+    /**
+     * Gets the id of the last expense before a cursor
+     * @param cursor the cursor
+     * @return the id in the cursor
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static long cursorId(String cursor) {
+        return Long.parseLong(cursorPart(cursor, 1));
+    }
+
+    /**
+     * Gets one of the two parts of a cursor
+     * @param cursor the cursor
+     * @param index 0 for the date and 1 for the id
+     * @return the part of the cursor
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    private static String cursorPart(String cursor, int index) {
+        String[] parts = cursor.split("_");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Malformed cursor " + cursor);
+        }
+        return parts[index];
+    }
+
+    /**
+     * @return the expenses on this page
+     */
+    public List<Expense> getExpenses() {
+        return expenses;
+    }
+
+    /**
+     * @param expenses sets the expenses on this page
+     */
+    public void setExpenses(List<Expense> expenses) {
+        this.expenses = expenses;
+    }
+
+    /**
+     * @return the cursor of the next page, or null if this is the last page
+     */
+    public String getNext() {
+        return next;
+    }
+
+    /**
+     * @param next sets the cursor of the next page
+     */
+    public void setNext(String next) {
+        this.next = next;
+    }
+
+    /**
+     * Equals method of a page - based on all attributes.
+     * @param o - Object to check equality with.
+     * @return true if equal and false otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ExpensePage that = (ExpensePage) o;
+        return Objects.equals(expenses, that.expenses) && Objects.equals(next, that.next);
+    }
+
+    /**
+     * Function to hash a page
+     * @return returns a hashcode of a page
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(expenses, next);
+    }
+}
@@ -0,0 +1,98 @@
+package commons;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.ToIntFunction;
+
+public final class FullEquality {
+
+    /**
+     * Utility class, not meant to be instantiated
+     */
+    private FullEquality() {
+    }
+
+    /**
+     * Checks whether two lists contain the same elements according to a fullEquals method:
+     * both lists have the same size, every element of the first list has an equal element
+     * in the second list and the other way around. This is done with hash buckets instead of
+     * nested loops, so it takes linear instead of quadratic time. The fullEquals method is
+     * always called on the element of the first list, like the nested loops did.
+     * @param list the first list, can be null
+     * @param other the second list, can be null
+     * @param equals the fullEquals method of the elements
+     * @param hash a hash function that is consistent with the fullEquals method
+     * @param <T> the type of the elements
+     * @return true if both lists are null or contain the same elements
+     */
+    public static <T> boolean sameElements(List<T> list, List<T> other,
+                                           BiPredicate<T, T> equals, ToIntFunction<T> hash) {
+        if (list == null && other == null) {
+            return true;
+        }
+        if (list == null || other == null || list.size() != other.size()) {
+            return false;
+        }
+        Map<Integer, List<T>> buckets = buckets(other, hash);
+        for (T element : list) {
+            if (!contains(buckets.get(hashOf(element, hash)), element, equals)) {
+                return false;
+            }
+        }
+        buckets = buckets(list, hash);
+        for (T element : other) {
+            List<T> bucket = buckets.get(hashOf(element, hash));
+            if (!contains(bucket, element, (a, b) -> equals.test(b, a))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Groups the elements of a list by their hash
+     * @param list the list
+     * @param hash the hash function of the elements
+     * @param <T> the type of the elements
+     * @return the elements of the list grouped by hash
+     */
+    private static <T> Map<Integer, List<T>> buckets(List<T> list, ToIntFunction<T> hash) {
+        Map<Integer, List<T>> buckets = new HashMap<>();
+        for (T element : list) {
+            buckets.computeIfAbsent(hashOf(element, hash), h -> new ArrayList<>()).add(element);
+        }
+        return buckets;
+    }
+
+    /**
+     * Checks whether a bucket contains an element that is equal to the given element
+     * @param bucket the bucket, can be null if no element had the same hash
+     * @param element the element to look for
+     * @param equals the fullEquals method, called on the element that is looked for
+     * @param <T> the type of the elements
+     * @return true if the bucket contains an equal element
+     */
+    private static <T> boolean contains(List<T> bucket, T element, BiPredicate<T, T> equals) {
+        if (bucket == null) return false;
+        for (T candidate : bucket) {
+            if (equals.test(element, candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Hashes an element, null elements go in the bucket of hash 0
+     * @param element the element, can be null
+     * @param hash the hash function of the elements
+     * @param <T> the type of the elements
+     * @return the hash of the element
+     */
+    private static <T> int hashOf(T element, ToIntFunction<T> hash) {
+        return element == null ? 0 : hash.applyAsInt(element);
+    }
+}
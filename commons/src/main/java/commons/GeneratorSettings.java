@@ -0,0 +1,216 @@
+package commons;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+public class GeneratorSettings {
+
+    private long seed = 42;
+    private int events = 1;
+    private int participants = 10;
+    private int expenses = 100;
+    private int tags = 3;
+    private List<String> currencies = new ArrayList<>(List.of("EUR", "USD", "CHF"));
+    private Date from = new Date(1_672_531_200_000L);
+    private Date to = new Date(1_704_067_199_000L);
+    private double skew = 1.0;
+
+    /**
+     * Empty constructor for object mapper, with the default settings:
+     * one event of 10 participants and 100 expenses in 2023
+     */
+    public GeneratorSettings() {
+    }
+
+    /**
+     * Constructor for the settings of the generator
+     * @param seed the seed of the generator, the same seed gives the same events
+     * @param events the number of events
+     * @param participants the number of participants of every event
+     * @param expenses the number of expenses of every event
+     * @param tags the number of tags of every event
+     */
+    public GeneratorSettings(long seed, int events, int participants, int expenses, int tags) {
+        this.seed = seed;
+        this.events = events;
+        this.participants = participants;
+        this.expenses = expenses;
+        this.tags = tags;
+    }
+
+    /**
+     * Checks whether the generator can make events with these settings
+     * @return true if the numbers are not negative, there is at least one participant
+     *      and one currency, and the date range is not empty
+     */
+    public boolean isValid() {
+        return hasValidCounts() && hasValidRanges();
+    }
+
+    /**
+     * Checks the numbers of events, participants, expenses and tags
+     * @return true if none is negative and there is at least one participant
+     */
+    private boolean hasValidCounts() {
+        return events >= 0 && participants > 0 && expenses >= 0 && tags >= 0;
+    }
+
+    /**
+     * Checks the currencies, dates and skew
+     * @return true if there is a currency, the date range is not empty
+     *      and the skew is not negative
+     */
+    private boolean hasValidRanges() {
+        return currencies != null && !currencies.isEmpty()
+                && from != null && to != null && !to.before(from) && skew >= 0;
+    }
+
+    /**
+     * @return the seed of the generator
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @param seed sets the seed of the generator
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * @return the number of events
+     */
+    public int getEvents() {
+        return events;
+    }
+
+    /**
+     * @param events sets the number of events
+     */
+    public void setEvents(int events) {
+        this.events = events;
+    }
+
+    /**
+     * @return the number of participants of every event
+     */
+    public int getParticipants() {
+        return participants;
+    }
+
+    /**
+     * @param participants sets the number of participants of every event
+     */
+    public void setParticipants(int participants) {
+        this.participants = participants;
+    }
+
+    /**
+     * @return the number of expenses of every event
+     */
+    public int getExpenses() {
+        return expenses;
+    }
+
+    /**
+     * @param expenses sets the number of expenses of every event
+     */
+    public void setExpenses(int expenses) {
+        this.expenses = expenses;
+    }
+
+    /**
+     * @return the number of tags of every event
+     */
+    public int getTags() {
+        return tags;
+    }
+
+    /**
+     * @param tags sets the number of tags of every event
+     */
+    public void setTags(int tags) {
+        this.tags = tags;
+    }
+
+    /**
+     * @return the currencies of the expenses, the first ones are used the most
+     */
+    public List<String> getCurrencies() {
+        return currencies;
+    }
+
+    /**
+     * @param currencies sets the currencies of the expenses
+     */
+    public void setCurrencies(List<String> currencies) {
+        this.currencies = currencies;
+    }
+
+    /**
+     * @return the earliest date of the expenses
+     */
+    public Date getFrom() {
+        return from;
+    }
+
+    /**
+     * @param from sets the earliest date of the expenses
+     */
+    public void setFrom(Date from) {
+        this.from = from;
+    }
+
+    /**
+     * @return the latest date of the expenses
+     */
+    public Date getTo() {
+        return to;
+    }
+
+    /**
+     * @param to sets the latest date of the expenses
+     */
+    public void setTo(Date to) {
+        this.to = to;
+    }
+
+    /**
+     * @return how skewed the payees, splits and currencies are, 0 for uniform
+     */
+    public double getSkew() {
+        return skew;
+    }
+
+    /**
+     * @param skew sets how skewed the payees, splits and currencies are
+     */
+    public void setSkew(double skew) {
+        this.skew = skew;
+    }
+
+    /**
+     * Equals method of the settings - based on all attributes.
+     * @param o - Object to check equality with.
+     * @return true if equal and false otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        return EqualsBuilder.reflectionEquals(this, o);
+    }
+
+    /**
+     * Function to hash the settings
+     * @return returns a hashcode of the settings
+     */
+    @Override
+    public int hashCode() {
+        return HashCodeBuilder.reflectionHashCode(this);
+    }
+}
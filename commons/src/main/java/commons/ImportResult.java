@@ -0,0 +1,117 @@
+package commons;
+
+import java.util.Objects;
+
+public class ImportResult {
+
+    private int imported;
+    private int duplicates;
+    private int invalid;
+
+    /**
+     * Empty constructor for object mapper
+     */
+    public ImportResult() {
+    }
+
+    /**
+     * Constructor for the result of a bulk import
+     * @param imported the number of events that were imported
+     * @param duplicates the number of events that already existed
+     * @param invalid the number of events that could not be imported
+     */
+    public ImportResult(int imported, int duplicates, int invalid) {
+        this.imported = imported;
+        this.duplicates = duplicates;
+        this.invalid = invalid;
+    }
+
+    /**
+     * @return the number of events that were imported
+     */
+    public int getImported() {
+        return imported;
+    }
+
+    /**
+     * @param imported sets the number of events that were imported
+     */
+    public void setImported(int imported) {
+        this.imported = imported;
+    }
+
+    /**
+     * @return the number of events that already existed
+     */
+    public int getDuplicates() {
+        return duplicates;
+    }
+
+    /**
+     * @param duplicates sets the number of events that already existed
+     */
+    public void setDuplicates(int duplicates) {
+        this.duplicates = duplicates;
+    }
+
+    /**
+     * @return the number of events that could not be imported
+     */
+    public int getInvalid() {
+        return invalid;
+    }
+
+    /**
+     * @param invalid sets the number of events that could not be imported
+     */
+    public void setInvalid(int invalid) {
+        this.invalid = invalid;
+    }
+
+    /**
+     * Adds the counts of another result to this result
+     * @param other the other result
+     */
+    public void add(ImportResult other) {
+        imported += other.imported;
+        duplicates += other.duplicates;
+        invalid += other.invalid;
+    }
+
+    /**
+     * Equals method of an import result - based on all attributes.
+     * @param o - Object to check equality with.
+     * @return true if equal and false otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ImportResult that = (ImportResult) o;
+        return imported == that.imported
+                && duplicates == that.duplicates
+                && invalid == that.invalid;
+    }
+
+    /**
+     * Function to hash an import result
+     * @return returns a hashcode of an import result
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(imported, duplicates, invalid);
+    }
+
+    /**
+     * A toString method to display an import result in a human-readable format
+     * @return returns a human-readable format of an import result
+     */
+    @Override
+    public String toString() {
+        return "ImportResult{" +
+                "imported=" + imported +
+                ", duplicates=" + duplicates +
+                ", invalid=" + invalid +
+                '}';
+    }
+}
@@ -150,6 +150,15 @@ public class Participant {
                 Objects.equals(bic, that.bic);
     }
 
+    /**
+     * Hash of a participant that is consistent with fullEquals,
+     * so that fully equal participants can be found in hash based collections
+     * @return the hashcode of the attributes compared by fullEquals
+     */
+    public int fullHashCode() {
+        return Objects.hash(name, email, iban, bic);
+    }
+
 
     /**
      * Function to hash a participant
@@ -5,6 +5,8 @@ import jakarta.persistence.*;
 import java.util.Objects;
 
 @Entity
+@Table(indexes = @Index(name = "idx_participant_payment_participant",
+        columnList = "participant_id"))
 public class ParticipantPayment {
 
     @Id
@@ -115,6 +117,16 @@ public class ParticipantPayment {
         return  participantEqual && valueEqual;
     }
 
+    /**
+     * Hash of a participant payment that is consistent with fullEquals,
+     * so that fully equal participant payments can be found in hash based collections
+     * @return the hashcode of the attributes compared by fullEquals
+     */
+    public int fullHashCode() {
+        int participantHash = participant == null ? 0 : Long.hashCode(participant.getId());
+        return 31 * participantHash + Double.hashCode(paymentAmount + 0.0);
+    }
+
     /**
      * Generates unique hashcode for this object
      * @return int hashcode
@@ -0,0 +1,167 @@
+package commons;
+
+import java.util.Objects;
+
+public class ParticipantSummary {
+
+    private long participantId;
+    private double share;
+    private double debt;
+    private double owed;
+    private int paidCount;
+    private int involvedCount;
+
+    /**
+     * Empty constructor for object mapper
+     */
+    @SuppressWarnings("unused")
+    public ParticipantSummary() {
+    }
+
+    /**
+     * Constructor for the summary of a participant that has no expenses yet
+     * @param participantId The id of the participant
+     */
+    public ParticipantSummary(long participantId) {
+        this.participantId = participantId;
+    }
+
+    /**
+     * Adds the part of an expense that is split to a participant,
+     * to the summary of the participant that paid it or the one it is split to
+     * @param payer Whether this participant paid the expense
+     * @param amount The part of the expense that is split to the other participant
+     */
+    public void addPart(boolean payer, double amount) {
+        if (payer) owed += amount;
+        else debt += amount;
+        share = owed - debt;
+    }
+
+    /**
+     * @return the id of the participant
+     */
+    public long getParticipantId() {
+        return participantId;
+    }
+
+    /**
+     * @param participantId sets the id of the participant
+     */
+    public void setParticipantId(long participantId) {
+        this.participantId = participantId;
+    }
+
+    /**
+     * @return how much the participant is owed minus how much they owe
+     */
+    public double getShare() {
+        return share;
+    }
+
+    /**
+     * @param share sets how much the participant is owed minus how much they owe
+     */
+    public void setShare(double share) {
+        this.share = share;
+    }
+
+    /**
+     * @return how much the participant owes to others
+     */
+    public double getDebt() {
+        return debt;
+    }
+
+    /**
+     * @param debt sets how much the participant owes to others
+     */
+    public void setDebt(double debt) {
+        this.debt = debt;
+    }
+
+    /**
+     * @return how much others owe to the participant
+     */
+    public double getOwed() {
+        return owed;
+    }
+
+    /**
+     * @param owed sets how much others owe to the participant
+     */
+    public void setOwed(double owed) {
+        this.owed = owed;
+    }
+
+    /**
+     * @return the number of expenses the participant paid
+     */
+    public int getPaidCount() {
+        return paidCount;
+    }
+
+    /**
+     * @param paidCount sets the number of expenses the participant paid
+     */
+    public void setPaidCount(int paidCount) {
+        this.paidCount = paidCount;
+    }
+
+    /**
+     * @return the number of expenses that are split to the participant
+     */
+    public int getInvolvedCount() {
+        return involvedCount;
+    }
+
+    /**
+     * @param involvedCount sets the number of expenses that are split to the participant
+     */
+    public void setInvolvedCount(int involvedCount) {
+        this.involvedCount = involvedCount;
+    }
+
+    /**
+     * Equals method of a summary - based on all attributes.
+     * @param o - Object to check equality with.
+     * @return true if equal and false otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ParticipantSummary that = (ParticipantSummary) o;
+        return participantId == that.participantId
+                && Double.compare(share, that.share) == 0
+                && Double.compare(debt, that.debt) == 0
+                && Double.compare(owed, that.owed) == 0
+                && paidCount == that.paidCount
+                && involvedCount == that.involvedCount;
+    }
+
+    /**
+     * Function to hash a summary
+     * @return returns a hashcode of a summary
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(participantId, share, debt, owed, paidCount, involvedCount);
+    }
+
+    /**
+     * A toString method to display a summary in a human-readable format
+     * @return returns a human-readable format of a summary
+     */
+    @Override
+    public String toString() {
+        return "ParticipantSummary{" +
+                "participantId=" + participantId +
+                ", share=" + share +
+                ", debt=" + debt +
+                ", owed=" + owed +
+                ", paidCount=" + paidCount +
+                ", involvedCount=" + involvedCount +
+                '}';
+    }
+}
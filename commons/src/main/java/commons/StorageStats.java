@@ -0,0 +1,153 @@
+package commons;
+
+import java.util.Date;
+import java.util.Objects;
+
+public class StorageStats {
+
+    private long fileSize;
+    private int fillRate;
+    private int chunksFillRate;
+    private long lastCompactionMillis;
+    private Date lastCompaction;
+    private Date lastSnapshot;
+
+    /**
+     * Empty constructor for object mapper
+     */
+    @SuppressWarnings("unused")
+    public StorageStats() {
+    }
+
+    /**
+     * Constructor for the statistics of the database file
+     * @param fileSize the size of the database file in bytes
+     * @param fillRate the percentage of the database file that is in use
+     * @param chunksFillRate the percentage of the chunks of the database file that is in use
+     * @param lastCompactionMillis how long the last compaction took in milliseconds,
+     *                             -1 if there was none yet
+     * @param lastCompaction when the last compaction finished, or null
+     * @param lastSnapshot when the last snapshot was taken, or null
+     */
+    public StorageStats(long fileSize, int fillRate, int chunksFillRate,
+                        long lastCompactionMillis, Date lastCompaction, Date lastSnapshot) {
+        this.fileSize = fileSize;
+        this.fillRate = fillRate;
+        this.chunksFillRate = chunksFillRate;
+        this.lastCompactionMillis = lastCompactionMillis;
+        this.lastCompaction = lastCompaction;
+        this.lastSnapshot = lastSnapshot;
+    }
+
+    /**
+     * @return the size of the database file in bytes
+     */
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    /**
+     * @param fileSize sets the size of the database file in bytes
+     */
+    public void setFileSize(long fileSize) {
+        this.fileSize = fileSize;
+    }
+
+    /**
+     * @return the percentage of the database file that is in use
+     */
+    public int getFillRate() {
+        return fillRate;
+    }
+
+    /**
+     * @param fillRate sets the percentage of the database file that is in use
+     */
+    public void setFillRate(int fillRate) {
+        this.fillRate = fillRate;
+    }
+
+    /**
+     * @return the percentage of the chunks of the database file that is in use
+     */
+    public int getChunksFillRate() {
+        return chunksFillRate;
+    }
+
+    /**
+     * @param chunksFillRate sets the percentage of the chunks that is in use
+     */
+    public void setChunksFillRate(int chunksFillRate) {
+        this.chunksFillRate = chunksFillRate;
+    }
+
+    /**
+     * @return how long the last compaction took in milliseconds, -1 if there was none yet
+     */
+    public long getLastCompactionMillis() {
+        return lastCompactionMillis;
+    }
+
+    /**
+     * @param lastCompactionMillis sets how long the last compaction took in milliseconds
+     */
+    public void setLastCompactionMillis(long lastCompactionMillis) {
+        this.lastCompactionMillis = lastCompactionMillis;
+    }
+
+    /**
+     * @return when the last compaction finished, or null
+     */
+    public Date getLastCompaction() {
+        return lastCompaction;
+    }
+
+    /**
+     * @param lastCompaction sets when the last compaction finished
+     */
+    public void setLastCompaction(Date lastCompaction) {
+        this.lastCompaction = lastCompaction;
+    }
+
+    /**
+     * @return when the last snapshot was taken, or null
+     */
+    public Date getLastSnapshot() {
+        return lastSnapshot;
+    }
+
+    /**
+     * @param lastSnapshot sets when the last snapshot was taken
+     */
+    public void setLastSnapshot(Date lastSnapshot) {
+        this.lastSnapshot = lastSnapshot;
+    }
+
+    /**
+     * Equals method of the statistics - based on all attributes.
+     * @param o - Object to check equality with.
+     * @return true if equal and false otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        StorageStats that = (StorageStats) o;
+        return fileSize == that.fileSize
+                && fillRate == that.fillRate
+                && chunksFillRate == that.chunksFillRate
+                && lastCompactionMillis == that.lastCompactionMillis
+                && Objects.equals(lastCompaction, that.lastCompaction)
+                && Objects.equals(lastSnapshot, that.lastSnapshot);
+    }
+
+    /**
+     * Function to hash the statistics
+     * @return returns a hashcode of the statistics
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(fileSize, fillRate, chunksFillRate, lastCompactionMillis,
+                lastCompaction, lastSnapshot);
+    }
+}
@@ -119,6 +119,15 @@ public class Tag {
         return Objects.equals(name, tag.name) && Objects.equals(color, tag.color);
     }
 
+    /**
+     * Hash of a tag that is consistent with fullEquals,
+     * so that fully equal tags can be found in hash based collections
+     * @return the hashcode of the attributes compared by fullEquals
+     */
+    public int fullHashCode() {
+        return Objects.hash(name, color);
+    }
+
     /**
      * generate unique hashcode value for this tag
      * @return integer hashcode
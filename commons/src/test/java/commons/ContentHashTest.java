@@ -0,0 +1,72 @@
+package commons;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentHashTest {
+
+    private Event event;
+    private Participant alice;
+    private Participant bob;
+
+    @BeforeEach
+    void setUp() {
+        event = new Event("Trip", new Date(1000), new Date(2000));
+        alice = new Participant("alice", "alice@mail.com", null, null);
+        bob = new Participant("bob", "bob@mail.com", null, null);
+        event.setParticipantsList(new ArrayList<>(List.of(alice, bob)));
+        event.setTagsList(new ArrayList<>(List.of(new Tag("food", "red"))));
+        event.getExpensesList().add(new Expense(10, "EUR", "pizza", "", new Date(3000),
+                List.of(new ParticipantPayment(bob, 5)), null, alice));
+    }
+
+    @Test
+    void sameContentSameHash() {
+        Event copy = new Event("Trip", new Date(1000), new Date(2000));
+        copy.setParticipantsList(new ArrayList<>(List.of(bob, alice)));
+        copy.setTagsList(new ArrayList<>(List.of(new Tag("food", "red"))));
+        copy.getExpensesList().add(new Expense(10, "EUR", "pizza", "", new Date(3000),
+                List.of(new ParticipantPayment(bob, 5)), null, alice));
+        copy.setInviteCode(42);
+        assertEquals(ContentHash.of(event), ContentHash.of(copy));
+    }
+
+    @Test
+    void millisecondsIgnored() {
+        String hash = ContentHash.of(event);
+        event.setLastActivity(new Date(2999));
+        assertEquals(hash, ContentHash.of(event));
+    }
+
+    @Test
+    void differentContentDifferentHash() {
+        String hash = ContentHash.of(event);
+        event.getExpensesList().get(0).setAmount(11);
+        assertNotEquals(hash, ContentHash.of(event));
+        event.getExpensesList().get(0).setAmount(10);
+        assertEquals(hash, ContentHash.of(event));
+        event.setTitle("Other trip");
+        assertNotEquals(hash, ContentHash.of(event));
+    }
+
+    @Test
+    void nullValues() {
+        Event empty = new Event(null, null, null);
+        empty.setTagsList(null);
+        assertEquals(64, ContentHash.of(empty).length());
+    }
+
+    @Test
+    void updateContentHash() {
+        assertNull(event.getContentHash());
+        String hash = event.updateContentHash();
+        assertEquals(ContentHash.of(event), hash);
+        assertEquals(hash, event.getContentHash());
+    }
+}
@@ -0,0 +1,54 @@
+package commons;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventChangeTest {
+
+    private static final Date DATE = new Date(1000);
+    private static final String STATE = "{\"id\":3,\"paymentAmount\":5.0}";
+    private static final EventChange SOME_CHANGE =
+            new EventChange(7, "payment", "update", 3, 2L, STATE, DATE, "undo", 5L);
+
+    @Test
+    public void checkConstructor(){
+        assertEquals(7, SOME_CHANGE.getSequenceNumber());
+        assertEquals("payment", SOME_CHANGE.getType());
+        assertEquals("update", SOME_CHANGE.getOperation());
+        assertEquals(3, SOME_CHANGE.getEntityId());
+        assertEquals(2L, SOME_CHANGE.getParentId());
+        assertEquals(STATE, SOME_CHANGE.getState());
+        assertEquals(DATE, SOME_CHANGE.getDate());
+        assertEquals("undo", SOME_CHANGE.getAction());
+        assertEquals(5L, SOME_CHANGE.getReverts());
+    }
+
+    @Test
+    public void setters(){
+        EventChange change = new EventChange();
+        change.setSequenceNumber(7);
+        change.setType("payment");
+        change.setOperation("update");
+        change.setEntityId(3);
+        change.setParentId(2L);
+        change.setState(STATE);
+        change.setDate(DATE);
+        change.setAction("undo");
+        change.setReverts(5L);
+        assertEquals(SOME_CHANGE, change);
+        assertEquals(SOME_CHANGE.hashCode(), change.hashCode());
+    }
+
+    @Test
+    public void notEquals(){
+        assertNotEquals(new EventChange(8, "payment", "update", 3, 2L, STATE, DATE, "undo", 5L),
+                SOME_CHANGE);
+        assertNotEquals(new EventChange(7, "payment", "delete", 3, 2L, STATE, DATE, "undo", 5L),
+                SOME_CHANGE);
+        assertNotEquals(new EventChange(7, "payment", "update", 3, 2L, STATE, DATE, "redo", 5L),
+                SOME_CHANGE);
+    }
+}
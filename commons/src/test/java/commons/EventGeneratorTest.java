@@ -0,0 +1,90 @@
+package commons;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventGeneratorTest {
+
+    @Test
+    public void sameSeedSameEvents(){
+        List<Event> first = new EventGenerator(new GeneratorSettings(5, 3, 8, 50, 2)).generateAll();
+        List<Event> second = new EventGenerator(new GeneratorSettings(5, 3, 8, 50, 2)).generateAll();
+        assertEquals(3, first.size());
+        for (int i = 0; i < first.size(); i++) {
+            assertTrue(first.get(i).fullEquals(second.get(i)));
+            assertEquals(first.get(i).getContentHash(), second.get(i).getContentHash());
+        }
+    }
+
+    @Test
+    public void otherSeedOtherEvents(){
+        Event first = new EventGenerator(new GeneratorSettings(5, 1, 8, 50, 2)).next();
+        Event second = new EventGenerator(new GeneratorSettings(6, 1, 8, 50, 2)).next();
+        assertFalse(first.fullEquals(second));
+    }
+
+    @Test
+    public void counts(){
+        EventGenerator generator = new EventGenerator(new GeneratorSettings(1, 2, 4, 30, 3));
+        assertTrue(generator.hasNext());
+        Event event = generator.next();
+        assertEquals(4, event.getParticipantsList().size());
+        assertEquals(30, event.getExpensesList().size());
+        assertEquals(3, event.getTagsList().size());
+        generator.next();
+        assertFalse(generator.hasNext());
+    }
+
+    @Test
+    public void splitsAddUp(){
+        Event event = new EventGenerator(new GeneratorSettings(3, 1, 12, 200, 3)).next();
+        for (Expense expense : event.getExpensesList()) {
+            double total = expense.getSplit().stream()
+                    .mapToDouble(ParticipantPayment::getPaymentAmount).sum();
+            assertEquals(expense.getAmount(), total, 1e-6);
+            assertFalse(expense.getSplit().isEmpty());
+            assertTrue(expense.getAmount() > 0);
+            assertTrue(event.getParticipantsList().contains(expense.getPayee()));
+        }
+    }
+
+    @Test
+    public void datesAndCurrencies(){
+        GeneratorSettings settings = new GeneratorSettings(3, 1, 5, 200, 0);
+        settings.setCurrencies(List.of("EUR", "USD"));
+        Event event = new EventGenerator(settings).next();
+        for (Expense expense : event.getExpensesList()) {
+            assertFalse(expense.getDate().before(settings.getFrom()));
+            assertFalse(expense.getDate().after(settings.getTo()));
+            assertTrue(settings.getCurrencies().contains(expense.getCurrency()));
+            assertNull(expense.getTag());
+        }
+    }
+
+    @Test
+    public void skewedPayees(){
+        Event event = new EventGenerator(new GeneratorSettings(3, 1, 10, 1000, 0)).next();
+        long first = event.getExpensesList().stream()
+                .filter(e -> e.getPayee().getId() == 1).count();
+        long last = event.getExpensesList().stream()
+                .filter(e -> e.getPayee().getId() == 10).count();
+        assertTrue(first > 2 * last);
+    }
+
+    @Test
+    public void zipf(){
+        double[] uniform = EventGenerator.zipf(3, 0);
+        assertArrayEquals(new double[]{1, 2, 3}, uniform, 1e-9);
+        double[] skewed = EventGenerator.zipf(2, 1);
+        assertArrayEquals(new double[]{1, 1.5}, skewed, 1e-9);
+    }
+
+    @Test
+    public void invalidSettings(){
+        assertThrows(IllegalArgumentException.class,
+                () -> new EventGenerator(new GeneratorSettings(1, 1, 0, 1, 1)));
+    }
+}
@@ -0,0 +1,69 @@
+package commons;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventListingPageTest {
+
+    private static final Date DATE = new Date(1000);
+    private static final EventListing LISTING =
+            new EventListing(7, "a_b", DATE, DATE, 2, 5);
+
+    @Test
+    public void checkConstructor(){
+        EventListingPage page = new EventListingPage(List.of(LISTING), "next");
+        assertEquals(List.of(LISTING), page.getEvents());
+        assertEquals("next", page.getNext());
+        assertTrue(new EventListingPage().getEvents().isEmpty());
+    }
+
+    @Test
+    public void setters(){
+        EventListingPage page = new EventListingPage();
+        page.setEvents(List.of(LISTING));
+        page.setNext("next");
+        assertEquals(new EventListingPage(List.of(LISTING), "next"), page);
+        assertEquals(new EventListingPage(List.of(LISTING), "next").hashCode(), page.hashCode());
+    }
+
+    @Test
+    public void listingSetters(){
+        EventListing listing = new EventListing();
+        listing.setInviteCode(7);
+        listing.setTitle("a_b");
+        listing.setCreationDate(DATE);
+        listing.setLastActivity(DATE);
+        listing.setParticipantCount(2);
+        listing.setExpenseCount(5);
+        assertEquals(LISTING, listing);
+        assertEquals(LISTING.hashCode(), listing.hashCode());
+        assertNotEquals(new EventListing(7, "a_b", DATE, DATE, 2, 4), LISTING);
+        assertTrue(LISTING.toString().contains("a_b"));
+    }
+
+    @Test
+    public void cursorWithSeparatorInTitle(){
+        String cursor = EventListingPage.cursorOf(LISTING, EventSort.TITLE);
+        assertEquals("a_b_7", cursor);
+        assertEquals("a_b", EventListingPage.cursorKey(cursor, EventSort.TITLE));
+        assertEquals(7, EventListingPage.cursorCode(cursor));
+    }
+
+    @Test
+    public void dateCursor(){
+        String cursor = EventListingPage.cursorOf(LISTING, EventSort.CREATED);
+        assertEquals(DATE, EventListingPage.cursorKey(cursor, EventSort.CREATED));
+    }
+
+    @Test
+    public void malformedCursor(){
+        assertThrows(IllegalArgumentException.class,
+                () -> EventListingPage.cursorCode("nothing"));
+        assertThrows(IllegalArgumentException.class,
+                () -> EventListingPage.cursorKey("x_1", EventSort.CREATED));
+    }
+}
@@ -0,0 +1,58 @@
+package commons;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventSortTest {
+
+    private static final EventListing LISTING =
+            new EventListing(3, "title", new Date(1000), new Date(2000), 2, 5);
+
+    @Test
+    public void fromParam(){
+        assertEquals(EventSort.TITLE, EventSort.fromParam("Title"));
+        assertEquals(EventSort.ACTIVITY, EventSort.fromParam("activity"));
+        assertEquals("created", EventSort.CREATED.getParam());
+        assertThrows(IllegalArgumentException.class, () -> EventSort.fromParam("size"));
+        assertThrows(IllegalArgumentException.class, () -> EventSort.fromParam(null));
+    }
+
+    @Test
+    public void formatAndParse(){
+        for (EventSort sort : EventSort.values()) {
+            assertEquals(sort.keyOf(LISTING), sort.parse(sort.format(LISTING)));
+        }
+        assertEquals("1000", EventSort.CREATED.format(LISTING));
+        assertThrows(IllegalArgumentException.class, () -> EventSort.ACTIVITY.parse("x"));
+    }
+
+    @Test
+    public void comparatorBreaksTiesByCode(){
+        EventListing same = new EventListing(1, "title", new Date(1000), new Date(500), 0, 0);
+        EventListing other = new EventListing(2, "other", new Date(3000), new Date(500), 0, 0);
+        List<EventListing> list = new ArrayList<>(List.of(LISTING, same, other));
+        list.sort(EventSort.TITLE.comparator(true));
+        assertEquals(List.of(other, same, LISTING), list);
+        list.sort(EventSort.ACTIVITY.comparator(false));
+        assertEquals(List.of(LISTING, other, same), list);
+    }
+
+    @Test
+    public void missingValues(){
+        EventListing legacy = new EventListing(7, null, null, null, 0, 0);
+        for (EventSort sort : EventSort.values()) {
+            assertEquals(sort.keyOf(legacy), sort.parse(sort.format(legacy)));
+        }
+        assertEquals(EventSort.MISSING_DATE, EventSort.CREATED.keyOf(legacy));
+        List<EventListing> list = new ArrayList<>(List.of(LISTING, legacy));
+        for (EventSort sort : List.of(EventSort.TITLE, EventSort.CREATED, EventSort.ACTIVITY)) {
+            list.sort(sort.comparator(true));
+            assertEquals(List.of(legacy, LISTING), list);
+        }
+    }
+}
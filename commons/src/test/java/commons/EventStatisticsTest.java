@@ -0,0 +1,57 @@
+package commons;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventStatisticsTest {
+
+    @Test
+    public void checkConstructor(){
+        EventStatistics statistics = new EventStatistics("EUR");
+        assertEquals("EUR", statistics.getCurrency());
+        assertEquals(0, statistics.getTotal());
+        assertTrue(statistics.getTags().isEmpty());
+        assertTrue(statistics.getParticipants().isEmpty());
+    }
+
+    @Test
+    public void add(){
+        EventStatistics statistics = new EventStatistics("EUR");
+        statistics.add(1L, 2L, 10);
+        statistics.add(1L, 3L, 5);
+        statistics.add(null, 2L, 2.5);
+        assertEquals(17.5, statistics.getTotal());
+        assertEquals(Map.of(1L, 15.0), statistics.getTags());
+        assertEquals(2.5, statistics.getUntagged());
+        assertEquals(Map.of(2L, 12.5, 3L, 5.0), statistics.getParticipants());
+    }
+
+    @Test
+    public void setters(){
+        EventStatistics statistics = new EventStatistics();
+        statistics.setCurrency("EUR");
+        statistics.setTotal(10);
+        statistics.setTags(Map.of(1L, 8.0));
+        statistics.setUntagged(2);
+        statistics.setParticipants(Map.of(2L, 10.0));
+        EventStatistics expected = new EventStatistics("EUR");
+        expected.add(1L, 2L, 8);
+        expected.add(null, 2L, 2);
+        assertEquals(expected, statistics);
+        assertEquals(expected.hashCode(), statistics.hashCode());
+    }
+
+    @Test
+    public void notEquals(){
+        EventStatistics statistics = new EventStatistics("EUR");
+        assertNotEquals(new EventStatistics("CHF"), statistics);
+    }
+
+    @Test
+    public void toStringTest(){
+        assertTrue(new EventStatistics("EUR").toString().contains("currency='EUR'"));
+    }
+}
@@ -0,0 +1,60 @@
+package commons;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventSummaryTest {
+
+    private static final Date DATE = new Date(1000);
+    private static final EventSummary SOME_SUMMARY = new EventSummary(1, "title", DATE, 2, 30.5);
+
+    @Test
+    public void checkConstructor(){
+        assertEquals(1, SOME_SUMMARY.getInviteCode());
+        assertEquals("title", SOME_SUMMARY.getTitle());
+        assertEquals(DATE, SOME_SUMMARY.getLastActivity());
+        assertEquals(2, SOME_SUMMARY.getParticipantCount());
+        assertEquals(30.5, SOME_SUMMARY.getTotal());
+    }
+
+    @Test
+    public void setters(){
+        EventSummary summary = new EventSummary();
+        summary.setInviteCode(1);
+        summary.setTitle("title");
+        summary.setLastActivity(DATE);
+        summary.setParticipantCount(2);
+        summary.setTotal(30.5);
+        assertEquals(SOME_SUMMARY, summary);
+    }
+
+    @Test
+    public void equalsHashcode(){
+        EventSummary equal = new EventSummary(1, "title", new Date(1000), 2, 30.5);
+        assertEquals(equal, SOME_SUMMARY);
+        assertEquals(equal.hashCode(), SOME_SUMMARY.hashCode());
+    }
+
+    @Test
+    public void notEquals(){
+        EventSummary other = new EventSummary(1, "title", DATE, 3, 30.5);
+        assertNotEquals(other, SOME_SUMMARY);
+    }
+
+    @Test
+    public void toEvent(){
+        Event event = SOME_SUMMARY.toEvent();
+        assertEquals(1, event.getInviteCode());
+        assertEquals("title", event.getTitle());
+        assertEquals(DATE, event.getLastActivity());
+        assertTrue(event.getExpensesList().isEmpty());
+    }
+
+    @Test
+    public void toStringTest(){
+        assertTrue(SOME_SUMMARY.toString().contains("title='title'"));
+    }
+}
@@ -0,0 +1,73 @@
+package commons;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpenseFilterTest {
+
+    private final Participant payee = new Participant("payee", null, null, null);
+    private final Participant other = new Participant("other", null, null, null);
+    private final Tag tag = new Tag("food", "#93c47d");
+    private Expense expense;
+
+    private Expense expense() {
+        payee.setId(1);
+        other.setId(2);
+        tag.setId(3);
+        return new Expense(10, "EUR", "title", "desc", new Date(2000),
+                List.of(new ParticipantPayment(other, 10)), tag, payee);
+    }
+
+    @Test
+    public void emptyMatchesAll(){
+        assertTrue(new ExpenseFilter().matches(expense()));
+    }
+
+    @Test
+    public void payee(){
+        expense = expense();
+        assertTrue(new ExpenseFilter(1L, null, null, null, null).matches(expense));
+        assertFalse(new ExpenseFilter(2L, null, null, null, null).matches(expense));
+    }
+
+    @Test
+    public void participant(){
+        expense = expense();
+        assertTrue(new ExpenseFilter(null, 2L, null, null, null).matches(expense));
+        assertFalse(new ExpenseFilter(null, 1L, null, null, null).matches(expense));
+    }
+
+    @Test
+    public void tag(){
+        expense = expense();
+        assertTrue(new ExpenseFilter(null, null, 3L, null, null).matches(expense));
+        assertFalse(new ExpenseFilter(null, null, 4L, null, null).matches(expense));
+    }
+
+    @Test
+    public void dates(){
+        expense = expense();
+        assertTrue(new ExpenseFilter(null, null, null, new Date(2000), new Date(2000))
+                .matches(expense));
+        assertFalse(new ExpenseFilter(null, null, null, new Date(2001), null).matches(expense));
+        assertFalse(new ExpenseFilter(null, null, null, null, new Date(1999)).matches(expense));
+    }
+
+    @Test
+    public void setters(){
+        ExpenseFilter filter = new ExpenseFilter();
+        filter.setPayee(1L);
+        filter.setParticipant(2L);
+        filter.setTag(3L);
+        filter.setFrom(new Date(1));
+        filter.setTo(new Date(2));
+        assertEquals(new ExpenseFilter(1L, 2L, 3L, new Date(1), new Date(2)), filter);
+        assertEquals(new ExpenseFilter(1L, 2L, 3L, new Date(1), new Date(2)).hashCode(),
+                filter.hashCode());
+        assertNotEquals(new ExpenseFilter(), filter);
+    }
+}
@@ -0,0 +1,66 @@
+package commons;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpensePageTest {
+
+    private Expense expense(int id, long date) {
+        Expense expense = new Expense(10, "EUR", "title", "desc", new Date(date),
+                new ArrayList<>(), null, null);
+        expense.setId(id);
+        return expense;
+    }
+
+    @Test
+    public void checkConstructor(){
+        Expense expense = expense(1, 1000);
+        ExpensePage page = new ExpensePage(List.of(expense), "next");
+        assertEquals(List.of(expense), page.getExpenses());
+        assertEquals("next", page.getNext());
+    }
+
+    @Test
+    public void emptyConstructor(){
+        ExpensePage page = new ExpensePage();
+        assertTrue(page.getExpenses().isEmpty());
+        assertNull(page.getNext());
+    }
+
+    @Test
+    public void cursor(){
+        String cursor = ExpensePage.cursorOf(expense(7, 1000));
+        assertEquals(new Date(1000), ExpensePage.cursorDate(cursor));
+        assertEquals(7, ExpensePage.cursorId(cursor));
+    }
+
+    @Test
+    public void malformedCursor(){
+        assertThrows(IllegalArgumentException.class, () -> ExpensePage.cursorId("12"));
+        assertThrows(IllegalArgumentException.class, () -> ExpensePage.cursorDate("a_1"));
+    }
+
+    @Test
+    public void order(){
+        Expense newest = expense(1, 3000);
+        Expense sameDateHigherId = expense(3, 2000);
+        Expense sameDateLowerId = expense(2, 2000);
+        List<Expense> expenses = new ArrayList<>(List.of(sameDateLowerId, newest, sameDateHigherId));
+        expenses.sort(ExpensePage.ORDER);
+        assertEquals(List.of(newest, sameDateHigherId, sameDateLowerId), expenses);
+    }
+
+    @Test
+    public void equalsHashcode(){
+        ExpensePage page = new ExpensePage(List.of(), "next");
+        ExpensePage equal = new ExpensePage(new ArrayList<>(), "next");
+        assertEquals(page, equal);
+        assertEquals(page.hashCode(), equal.hashCode());
+        assertNotEquals(page, new ExpensePage(List.of(), null));
+    }
+}
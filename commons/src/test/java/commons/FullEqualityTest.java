@@ -0,0 +1,73 @@
+package commons;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiPredicate;
+import java.util.function.ToIntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FullEqualityTest {
+
+    private static final BiPredicate<String, String> EQUALS = String::equals;
+    private static final ToIntFunction<String> HASH = String::hashCode;
+
+    @Test
+    void nullLists() {
+        assertTrue(FullEquality.sameElements(null, null, EQUALS, HASH));
+        assertFalse(FullEquality.sameElements(List.of("a"), null, EQUALS, HASH));
+        assertFalse(FullEquality.sameElements(null, List.of("a"), EQUALS, HASH));
+    }
+
+    @Test
+    void differentSize() {
+        assertFalse(FullEquality.sameElements(List.of("a"), List.of("a", "a"), EQUALS, HASH));
+    }
+
+    @Test
+    void reordered() {
+        assertTrue(FullEquality.sameElements(List.of("a", "b", "c"),
+                List.of("c", "a", "b"), EQUALS, HASH));
+        assertFalse(FullEquality.sameElements(List.of("a", "b", "c"),
+                List.of("c", "a", "d"), EQUALS, HASH));
+    }
+
+    @Test
+    void duplicatesLikeNestedLoops() {
+        assertTrue(FullEquality.sameElements(List.of("a", "a", "b"),
+                List.of("a", "b", "b"), EQUALS, HASH));
+    }
+
+    @Test
+    void collidingHashes() {
+        assertTrue(FullEquality.sameElements(List.of("a", "b"), List.of("b", "a"),
+                EQUALS, s -> 0));
+        assertFalse(FullEquality.sameElements(List.of("a", "b"), List.of("b", "c"),
+                EQUALS, s -> 0));
+    }
+
+    @Test
+    void calledOnFirstList() {
+        List<String> called = new ArrayList<>();
+        BiPredicate<String, String> equals = (a, b) -> {
+            called.add(a);
+            return a.equalsIgnoreCase(b);
+        };
+        assertTrue(FullEquality.sameElements(List.of("x"), List.of("X"),
+                equals, s -> s.toLowerCase().hashCode()));
+        assertEquals(List.of("x", "x"), called);
+    }
+
+    @Test
+    void eventLists() {
+        Participant a = new Participant("a", "a@mail.com", null, null);
+        Participant b = new Participant("b", "b@mail.com", null, null);
+        Event event = new Event("title", null, null);
+        assertTrue(event.participantsEquals(List.of(a, b),
+                List.of(new Participant("b", "b@mail.com", null, null), a)));
+        assertFalse(event.participantsEquals(List.of(a, b), List.of(a, a)));
+        assertTrue(event.tagsEquals(List.of(new Tag("x", "red")), List.of(new Tag("x", "red"))));
+    }
+}
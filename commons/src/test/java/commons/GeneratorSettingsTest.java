@@ -0,0 +1,83 @@
+package commons;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeneratorSettingsTest {
+
+    @Test
+    public void checkDefaults(){
+        GeneratorSettings settings = new GeneratorSettings();
+        assertEquals(42, settings.getSeed());
+        assertEquals(1, settings.getEvents());
+        assertEquals(10, settings.getParticipants());
+        assertEquals(100, settings.getExpenses());
+        assertEquals(3, settings.getTags());
+        assertEquals(List.of("EUR", "USD", "CHF"), settings.getCurrencies());
+        assertEquals(1.0, settings.getSkew());
+        assertTrue(settings.isValid());
+    }
+
+    @Test
+    public void checkConstructor(){
+        GeneratorSettings settings = new GeneratorSettings(7, 2, 3, 4, 5);
+        assertEquals(7, settings.getSeed());
+        assertEquals(2, settings.getEvents());
+        assertEquals(3, settings.getParticipants());
+        assertEquals(4, settings.getExpenses());
+        assertEquals(5, settings.getTags());
+    }
+
+    @Test
+    public void setters(){
+        GeneratorSettings settings = new GeneratorSettings();
+        settings.setSeed(7);
+        settings.setEvents(2);
+        settings.setParticipants(3);
+        settings.setExpenses(4);
+        settings.setTags(5);
+        assertEquals(new GeneratorSettings(7, 2, 3, 4, 5), settings);
+        settings.setCurrencies(List.of("EUR"));
+        settings.setFrom(new Date(0));
+        settings.setTo(new Date(1000));
+        settings.setSkew(2);
+        assertEquals(List.of("EUR"), settings.getCurrencies());
+        assertEquals(new Date(0), settings.getFrom());
+        assertEquals(new Date(1000), settings.getTo());
+        assertEquals(2, settings.getSkew());
+    }
+
+    @Test
+    public void invalidCounts(){
+        assertFalse(new GeneratorSettings(1, -1, 3, 4, 5).isValid());
+        assertFalse(new GeneratorSettings(1, 2, 0, 4, 5).isValid());
+        assertFalse(new GeneratorSettings(1, 2, 3, -1, 5).isValid());
+        assertFalse(new GeneratorSettings(1, 2, 3, 4, -1).isValid());
+        assertTrue(new GeneratorSettings(1, 0, 1, 0, 0).isValid());
+    }
+
+    @Test
+    public void invalidRanges(){
+        GeneratorSettings settings = new GeneratorSettings();
+        settings.setCurrencies(List.of());
+        assertFalse(settings.isValid());
+        settings = new GeneratorSettings();
+        settings.setTo(new Date(settings.getFrom().getTime() - 1));
+        assertFalse(settings.isValid());
+        settings = new GeneratorSettings();
+        settings.setSkew(-1);
+        assertFalse(settings.isValid());
+    }
+
+    @Test
+    public void equalsHashcode(){
+        assertEquals(new GeneratorSettings(1, 2, 3, 4, 5).hashCode(),
+                new GeneratorSettings(1, 2, 3, 4, 5).hashCode());
+        assertNotEquals(new GeneratorSettings(1, 2, 3, 4, 5),
+                new GeneratorSettings(2, 2, 3, 4, 5));
+    }
+}
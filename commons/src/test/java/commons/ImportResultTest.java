@@ -0,0 +1,43 @@
+package commons;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImportResultTest {
+
+    @Test
+    public void checkConstructor(){
+        ImportResult result = new ImportResult(1, 2, 3);
+        assertEquals(1, result.getImported());
+        assertEquals(2, result.getDuplicates());
+        assertEquals(3, result.getInvalid());
+    }
+
+    @Test
+    public void setters(){
+        ImportResult result = new ImportResult();
+        result.setImported(1);
+        result.setDuplicates(2);
+        result.setInvalid(3);
+        assertEquals(new ImportResult(1, 2, 3), result);
+    }
+
+    @Test
+    public void add(){
+        ImportResult result = new ImportResult(1, 2, 3);
+        result.add(new ImportResult(10, 20, 30));
+        assertEquals(new ImportResult(11, 22, 33), result);
+    }
+
+    @Test
+    public void equalsHashcode(){
+        assertEquals(new ImportResult(1, 2, 3).hashCode(), new ImportResult(1, 2, 3).hashCode());
+        assertNotEquals(new ImportResult(1, 2, 3), new ImportResult(1, 2, 4));
+    }
+
+    @Test
+    public void toStringTest(){
+        assertTrue(new ImportResult(1, 2, 3).toString().contains("duplicates=2"));
+    }
+}
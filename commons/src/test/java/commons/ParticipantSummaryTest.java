@@ -0,0 +1,50 @@
+package commons;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParticipantSummaryTest {
+
+    @Test
+    public void checkConstructor(){
+        ParticipantSummary summary = new ParticipantSummary(3);
+        assertEquals(3, summary.getParticipantId());
+        assertEquals(0, summary.getShare());
+        assertEquals(0, summary.getPaidCount());
+    }
+
+    @Test
+    public void addPart(){
+        ParticipantSummary summary = new ParticipantSummary(3);
+        summary.addPart(true, 10);
+        summary.addPart(false, 4);
+        assertEquals(10, summary.getOwed());
+        assertEquals(4, summary.getDebt());
+        assertEquals(6, summary.getShare());
+    }
+
+    @Test
+    public void setters(){
+        ParticipantSummary summary = new ParticipantSummary();
+        summary.setParticipantId(3);
+        summary.setShare(6);
+        summary.setDebt(4);
+        summary.setOwed(10);
+        summary.setPaidCount(1);
+        summary.setInvolvedCount(2);
+        ParticipantSummary expected = new ParticipantSummary(3);
+        expected.addPart(true, 10);
+        expected.addPart(false, 4);
+        expected.setPaidCount(1);
+        expected.setInvolvedCount(2);
+        assertEquals(expected, summary);
+        assertEquals(expected.hashCode(), summary.hashCode());
+        assertNotEquals(new ParticipantSummary(3), summary);
+    }
+
+    @Test
+    public void toStringTest(){
+        assertTrue(new ParticipantSummary(3).toString().contains("participantId=3"));
+    }
+}
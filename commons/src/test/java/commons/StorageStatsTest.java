@@ -0,0 +1,42 @@
+package commons;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StorageStatsTest {
+
+    private static final Date DATE = new Date(1000);
+    private static final StorageStats SOME_STATS =
+            new StorageStats(4096, 80, 70, 15, DATE, DATE);
+
+    @Test
+    public void checkConstructor(){
+        assertEquals(4096, SOME_STATS.getFileSize());
+        assertEquals(80, SOME_STATS.getFillRate());
+        assertEquals(70, SOME_STATS.getChunksFillRate());
+        assertEquals(15, SOME_STATS.getLastCompactionMillis());
+        assertEquals(DATE, SOME_STATS.getLastCompaction());
+        assertEquals(DATE, SOME_STATS.getLastSnapshot());
+    }
+
+    @Test
+    public void setters(){
+        StorageStats stats = new StorageStats();
+        stats.setFileSize(4096);
+        stats.setFillRate(80);
+        stats.setChunksFillRate(70);
+        stats.setLastCompactionMillis(15);
+        stats.setLastCompaction(DATE);
+        stats.setLastSnapshot(DATE);
+        assertEquals(SOME_STATS, stats);
+        assertEquals(SOME_STATS.hashCode(), stats.hashCode());
+    }
+
+    @Test
+    public void notEquals(){
+        assertNotEquals(new StorageStats(4096, 80, 70, 16, DATE, DATE), SOME_STATS);
+    }
+}
@@ -0,0 +1,61 @@
+package loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Collects the latencies of one kind of request from many threads,
+ * and computes their percentiles afterwards
+ */
+public class Latencies {
+
+    private long[] nanos = new long[1024];
+    private int count;
+    private int errors;
+
+    /**
+     * Records the latency of a request that succeeded
+     * @param latency the latency in nanoseconds
+     */
+    public synchronized void record(long latency) {
+        if (count == nanos.length) {
+            nanos = Arrays.copyOf(nanos, count * 2);
+        }
+        nanos[count++] = latency;
+    }
+
+    /**
+     * Records a request that failed
+     */
+    public synchronized void error() {
+        errors++;
+    }
+
+    /**
+     * @return the number of requests that succeeded
+     */
+    public synchronized int getCount() {
+        return count;
+    }
+
+    /**
+     * @return the number of requests that failed
+     */
+    public synchronized int getErrors() {
+        return errors;
+    }
+
+    /**
+     * Computes a percentile of the recorded latencies, by nearest rank
+     * @param percentile the percentile, between 0 and 100
+     * @return the latency in milliseconds, or 0 if nothing was recorded
+     */
+    public synchronized double percentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(nanos, count);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100 * count);
+        return sorted[Math.max(0, Math.min(count, rank) - 1)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,228 @@
+package loadtest;
+
+import client.utils.ServerUtils;
+import commons.Event;
+import commons.Expense;
+import commons.Participant;
+import commons.ParticipantPayment;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.core.Response;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
+
+/**
+ * A simulated user of the application. It talks to the server through the same
+ * ServerUtils as the client, with its own websocket connection, and picks its
+ * requests at random from the configured mix.
+ */
+public class LoadClient implements Runnable {
+
+    private static final String TITLE_PREFIX = "load ";
+
+    private final int id;
+    private final LoadConfig config;
+    private final String address;
+    private final ServerUtils server;
+    private final Client http = ClientBuilder.newClient();
+    private final Random random;
+    private final Map<Operation, Latencies> latencies;
+    private final Latencies deliveryLag;
+    private final Map<String, Long> sentAt;
+    private final List<Participant> participants = new CopyOnWriteArrayList<>();
+    private long deadline;
+    private int inviteCode;
+    private Participant self;
+    private int sequence;
+
+    /**
+     * Constructor for a simulated client, which connects to the server right away
+     * @param id the number of the client
+     * @param config the settings of the load test
+     * @param address the address of the server
+     * @param latencies the latencies of every operation, shared by all clients
+     * @param deliveryLag the time from adding an expense until a websocket delivers it
+     * @param sentAt the time every expense was added, shared by all clients
+     */
+    public LoadClient(int id, LoadConfig config, String address,
+                      Map<Operation, Latencies> latencies, Latencies deliveryLag,
+                      Map<String, Long> sentAt) {
+        this.id = id;
+        this.config = config;
+        this.address = address;
+        this.latencies = latencies;
+        this.deliveryLag = deliveryLag;
+        this.sentAt = sentAt;
+        this.random = new Random(config.seed() + id);
+        MemoryConfig clientConfig = new MemoryConfig(address);
+        this.server = new ServerUtils(clientConfig, new NoEventCache(clientConfig));
+        server.connectToServer();
+    }
+
+    /**
+     * Creates a new event for this client and the other clients of its group
+     * @return the invite code of the event, or -1 if it could not be created
+     */
+    public int createEvent() {
+        Event event = timed(Operation.EVENT,
+                () -> server.addEvent(new Event("load " + id, null, null)));
+        return event == null ? -1 : event.getInviteCode();
+    }
+
+    /**
+     * Joins an event: loads it, adds this client as a participant and subscribes
+     * to the expenses and participants that are added to it
+     * @param code the invite code of the event
+     * @return true if the client joined the event
+     */
+    public boolean join(int code) {
+        Event event = timed(Operation.GET, () -> server.getEvent(code));
+        if (event == null) {
+            return false;
+        }
+        inviteCode = code;
+        participants.clear();
+        participants.addAll(event.getParticipantsList());
+        server.registerForMessages("/topic/events/" + code + "/participants",
+                Participant.class, participants::add);
+        server.registerForMessages("/topic/events/" + code + "/expenses",
+                Expense.class, this::delivered);
+        self = addParticipant("client " + id);
+        return self != null;
+    }
+
+    /**
+     * Makes requests until the end of the test
+     */
+    @Override
+    public void run() {
+        while (System.nanoTime() < deadline) {
+            perform(config.pick(random.nextInt(config.totalWeight())));
+            try {
+                Thread.sleep(config.thinkMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * @param deadline the value of System.nanoTime at which the client stops
+     */
+    public void setDeadline(long deadline) {
+        this.deadline = deadline;
+    }
+
+    /**
+     * Makes one request
+     * @param operation the request to make
+     */
+    private void perform(Operation operation) {
+        switch (operation) {
+            case EVENT -> createEvent();
+            case PARTICIPANT -> addParticipant("guest " + id + "-" + sequence++);
+            case EXPENSE -> addExpense();
+            case GET -> timed(operation, () -> server.getEvent(inviteCode));
+            case VERSION -> timed(operation, () -> server.getEventVersion(inviteCode));
+            case POLL -> timed(operation, this::poll);
+        }
+    }
+
+    /**
+     * Adds a participant to the event
+     * @param name the name of the participant
+     * @return the participant, or null if it could not be added
+     */
+    private Participant addParticipant(String name) {
+        return timed(Operation.PARTICIPANT, () -> server.addParticipant(inviteCode,
+                new Participant(name, "load@mail.com", "NL85RABO5253446745", "HBUKGB4B")));
+    }
+
+    /**
+     * Adds an expense paid by this client and split with another participant.
+     * Its title is remembered with the time it was sent, so that the clients
+     * that receive it through their websocket can measure the delivery lag.
+     */
+    private void addExpense() {
+        Participant other = participants.isEmpty()
+                ? self : participants.get(random.nextInt(participants.size()));
+        List<ParticipantPayment> split = new ArrayList<>();
+        split.add(new ParticipantPayment(self, 5));
+        if (!other.equals(self)) {
+            split.add(new ParticipantPayment(other, 5));
+        }
+        String title = TITLE_PREFIX + id + "-" + sequence++;
+        sentAt.put(title, System.nanoTime());
+        timed(Operation.EXPENSE, () -> server.addExpense(inviteCode,
+                new Expense(10, "EUR", title, "", new Date(), split, null, self)));
+    }
+
+    /**
+     * Long-polls the event, the way the start screen keeps its recent events up to date
+     * @return the status of the response
+     */
+    private Integer poll() {
+        try (Response response = http
+                .target(address).path("api/events/" + inviteCode + "/updates")
+                .request(APPLICATION_JSON)
+                .accept(APPLICATION_JSON)
+                .get()) {
+            if (response.getStatus() != 200) {
+                throw new IllegalStateException("Status " + response.getStatus());
+            }
+            return response.getStatus();
+        }
+    }
+
+    /**
+     * Measures the delivery lag of an expense that arrived through the websocket
+     * @param expense the expense
+     */
+    private void delivered(Expense expense) {
+        Long sent = expense.getTitle() == null ? null : sentAt.get(expense.getTitle());
+        if (sent != null) {
+            deliveryLag.record(System.nanoTime() - sent);
+        }
+    }
+
+    /**
+     * Makes a request and records its latency, or records an error if it fails
+     * @param operation the operation the request is reported under
+     * @param request the request
+     * @param <T> the type of the response
+     * @return the response, or null if the request failed
+     */
+    private <T> T timed(Operation operation, Supplier<T> request) {
+        long start = System.nanoTime();
+        try {
+            T result = request.get();
+            latencies.get(operation).record(System.nanoTime() - start);
+            return result;
+        } catch (RuntimeException e) {
+            latencies.get(operation).error();
+            return null;
+        }
+    }
+
+    /**
+     * Creates a latency recorder for every operation
+     * @return the recorders
+     */
+    public static Map<Operation, Latencies> recorders() {
+        Map<Operation, Latencies> recorders = new ConcurrentHashMap<>();
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Latencies());
+        }
+        return recorders;
+    }
+}
@@ -0,0 +1,103 @@
+package loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The settings of a load test, read from the command line as --name=value
+ * @param clients the number of simulated clients
+ * @param duration how long the clients keep making requests
+ * @param group the number of clients that share an event
+ * @param thinkMillis the pause of a client between two requests, in milliseconds
+ * @param seed the seed of the random choices of the clients, so that runs can be repeated
+ * @param mix the relative weight of every operation
+ */
+public record LoadConfig(int clients, Duration duration, int group, long thinkMillis,
+                         long seed, Map<Operation, Integer> mix) {
+
+    /**
+     * The mix of a client that mostly reads its event and sometimes adds an expense
+     */
+    public static final String DEFAULT_MIX =
+            "event:1,participant:1,expense:4,get:6,version:10,poll:1";
+
+    /**
+     * Reads the settings of a load test
+     * @param args the arguments, for example --clients=100 --duration=60 --mix=get:1,expense:1
+     * @return the settings
+     * @throws IllegalArgumentException if an argument is unknown or malformed
+     */
+    public static LoadConfig parse(String[] args) {
+        int clients = 20;
+        long seconds = 30;
+        int group = 4;
+        long think = 100;
+        long seed = 42;
+        String mix = DEFAULT_MIX;
+        for (String arg : args) {
+            String[] pair = arg.replaceFirst("^--", "").split("=", 2);
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            switch (pair[0]) {
+                case "clients" -> clients = Integer.parseInt(pair[1]);
+                case "duration" -> seconds = Long.parseLong(pair[1]);
+                case "group" -> group = Integer.parseInt(pair[1]);
+                case "think-ms" -> think = Long.parseLong(pair[1]);
+                case "seed" -> seed = Long.parseLong(pair[1]);
+                case "mix" -> mix = pair[1];
+                default -> throw new IllegalArgumentException("Unknown argument " + arg);
+            }
+        }
+        if (clients < 1 || seconds < 1 || group < 1 || think < 0) {
+            throw new IllegalArgumentException("clients, duration and group must be positive");
+        }
+        return new LoadConfig(clients, Duration.ofSeconds(seconds), group, think, seed,
+                parseMix(mix));
+    }
+
+    /**
+     * Reads a mix of operations written as name:weight pairs separated by commas
+     * @param mix the mix
+     * @return the weight of every operation in the mix
+     * @throws IllegalArgumentException if the mix is malformed or has no weight
+     */
+    public static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.split(":");
+            if (pair.length != 2 || Integer.parseInt(pair[1].trim()) < 0) {
+                throw new IllegalArgumentException("Malformed mix entry " + entry);
+            }
+            weights.put(Operation.fromName(pair[0]), Integer.parseInt(pair[1].trim()));
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("The mix has no operations");
+        }
+        return weights;
+    }
+
+    /**
+     * Picks an operation by its weight in the mix
+     * @param roll a random number from 0 up to the total weight of the mix
+     * @return the operation
+     */
+    public Operation pick(int roll) {
+        int remaining = roll;
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            remaining -= entry.getValue();
+            if (remaining < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalArgumentException("Roll " + roll + " is outside of the mix");
+    }
+
+    /**
+     * @return the total weight of the mix
+     */
+    public int totalWeight() {
+        return mix.values().stream().mapToInt(Integer::intValue).sum();
+    }
+}
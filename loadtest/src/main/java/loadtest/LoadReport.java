@@ -0,0 +1,60 @@
+package loadtest;
+
+import java.util.Map;
+
+/**
+ * Formats the results of a load test as a table
+ */
+public final class LoadReport {
+
+    private static final String ROW = "%-36s %8s %7s %9s %9s %9s %9s %9s%n";
+
+    /**
+     * Private constructor, this class only has static methods
+     */
+    private LoadReport() {
+    }
+
+    /**
+     * Formats the results of a load test
+     * @param config the settings of the load test
+     * @param clients the number of clients that joined an event
+     * @param seconds how long the test ran, including connecting the clients
+     * @param latencies the latencies of every operation
+     * @param deliveryLag the delivery lag of the websocket
+     * @return the report
+     */
+    public static String format(LoadConfig config, int clients, double seconds,
+                                Map<Operation, Latencies> latencies, Latencies deliveryLag) {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%d of %d clients, %d per event, mix %s, %.1f s%n%n",
+                clients, config.clients(), config.group(), config.mix(), seconds));
+        report.append(String.format(ROW, "endpoint", "count", "errors", "req/s",
+                "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        long total = 0;
+        for (Operation operation : Operation.values()) {
+            Latencies recorded = latencies.get(operation);
+            total += recorded.getCount();
+            report.append(row(operation.getEndpoint(), recorded, seconds));
+        }
+        report.append(row("websocket delivery lag", deliveryLag, seconds));
+        report.append(String.format("%nthroughput: %.1f requests/s%n", total / seconds));
+        return report.toString();
+    }
+
+    /**
+     * Formats one row of the table
+     * @param name the name of the row
+     * @param latencies the latencies of the row
+     * @param seconds how long the test ran
+     * @return the row
+     */
+    private static String row(String name, Latencies latencies, double seconds) {
+        return String.format(ROW, name, latencies.getCount(), latencies.getErrors(),
+                String.format("%.1f", latencies.getCount() / seconds),
+                String.format("%.2f", latencies.percentile(50)),
+                String.format("%.2f", latencies.percentile(90)),
+                String.format("%.2f", latencies.percentile(99)),
+                String.format("%.2f", latencies.percentile(100)));
+    }
+}
@@ -0,0 +1,95 @@
+package loadtest;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import server.Main;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts the server on an in-memory database and lets simulated clients use it
+ * for a while, then reports the latencies of the requests, the delivery lag of the
+ * websocket and the throughput. Run it with ./gradlew :loadtest:run --args="..."
+ */
+public class LoadTest {
+
+    /**
+     * Runs the load test
+     * @param args the settings, see {@link LoadConfig#parse(String[])}
+     * @throws InterruptedException if the test was interrupted
+     */
+    public static void main(String[] args) throws InterruptedException {
+        LoadConfig config = LoadConfig.parse(args);
+        ConfigurableApplicationContext context = startServer();
+        String address = "http://localhost:"
+                + context.getEnvironment().getProperty("local.server.port");
+        Map<Operation, Latencies> latencies = LoadClient.recorders();
+        Latencies deliveryLag = new Latencies();
+        Map<String, Long> sentAt = new ConcurrentHashMap<>();
+
+        long start = System.nanoTime();
+        List<LoadClient> clients = connect(config, address, latencies, deliveryLag, sentAt);
+        long deadline = System.nanoTime() + config.duration().toNanos();
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        for (LoadClient client : clients) {
+            client.setDeadline(deadline);
+            executor.submit(client);
+        }
+        executor.shutdown();
+        executor.awaitTermination(config.duration().toSeconds() + 60, TimeUnit.SECONDS);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.print(LoadReport.format(config, clients.size(), seconds,
+                latencies, deliveryLag));
+        context.close();
+        System.exit(0);
+    }
+
+    /**
+     * Starts the server on a free port with an empty in-memory database,
+     * without the background archiving
+     * @return the running server
+     */
+    private static ConfigurableApplicationContext startServer() {
+        return new SpringApplicationBuilder(Main.class)
+                .properties("spring.datasource.url=jdbc:h2:mem:loadtest",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "server.port=0",
+                        "archive.inactive-days=0")
+                .run();
+    }
+
+    /**
+     * Connects the clients and lets them join their events. The first client of every
+     * group creates the event of the group. Clients that could not join are left out.
+     * @param config the settings of the load test
+     * @param address the address of the server
+     * @param latencies the latencies of every operation
+     * @param deliveryLag the delivery lag of the websocket
+     * @param sentAt the time every expense was added
+     * @return the clients that joined an event
+     */
+    private static List<LoadClient> connect(LoadConfig config, String address,
+                                            Map<Operation, Latencies> latencies,
+                                            Latencies deliveryLag, Map<String, Long> sentAt) {
+        List<LoadClient> clients = new ArrayList<>();
+        int inviteCode = -1;
+        for (int i = 0; i < config.clients(); i++) {
+            LoadClient client = new LoadClient(i, config, address, latencies,
+                    deliveryLag, sentAt);
+            if (i % config.group() == 0) {
+                inviteCode = client.createEvent();
+            }
+            if (inviteCode >= 0 && client.join(inviteCode)) {
+                clients.add(client);
+            }
+        }
+        return clients;
+    }
+}
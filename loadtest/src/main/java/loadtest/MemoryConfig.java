@@ -0,0 +1,42 @@
+package loadtest;
+
+import client.utils.ConfigInterface;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The configuration of a simulated client, kept in memory instead of in a file
+ */
+public class MemoryConfig implements ConfigInterface {
+
+    private final Map<String, String> properties = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for the configuration of a client of a server
+     * @param server the address of the server
+     */
+    public MemoryConfig(String server) {
+        properties.put("server", server);
+    }
+
+    /**
+     * Gets a property
+     * @param key the name of the property
+     * @return the value of the property, or null if it is not set
+     */
+    @Override
+    public String getProperty(String key) {
+        return properties.get(key);
+    }
+
+    /**
+     * Sets a property
+     * @param key the name of the property
+     * @param value the value of the property
+     */
+    @Override
+    public void setProperty(String key, String value) {
+        properties.put(key, value);
+    }
+}
@@ -0,0 +1,41 @@
+package loadtest;
+
+import client.utils.EventCache;
+import commons.Event;
+
+import java.io.File;
+
+/**
+ * An event cache that stores nothing, so that the latencies of a simulated client
+ * are those of the server and not of writing snapshots to disk
+ */
+public class NoEventCache extends EventCache {
+
+    /**
+     * Constructor for the cache
+     * @param config the configuration of the client
+     */
+    public NoEventCache(MemoryConfig config) {
+        super(config, new File("."));
+    }
+
+    /**
+     * Stores nothing
+     * @param server the address of the server
+     * @param event the event
+     */
+    @Override
+    public void put(String server, Event event) {
+    }
+
+    /**
+     * Finds nothing
+     * @param server the address of the server
+     * @param inviteCode the invite code of the event
+     * @return null
+     */
+    @Override
+    public Event get(String server, int inviteCode) {
+        return null;
+    }
+}
@@ -0,0 +1,42 @@
+package loadtest;
+
+import java.util.Locale;
+
+/**
+ * The requests a simulated client can make, each with the endpoint it is reported under
+ */
+public enum Operation {
+    EVENT("POST /api/events"),
+    PARTICIPANT("POST /api/events/{id}/participants"),
+    EXPENSE("POST /api/events/{id}/expenses"),
+    GET("GET /api/events/{id}"),
+    VERSION("GET /api/events/{id}/version"),
+    POLL("GET /api/events/{id}/updates");
+
+    private final String endpoint;
+
+    /**
+     * Constructor for an operation
+     * @param endpoint the endpoint the operation calls
+     */
+    Operation(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * @return the endpoint the operation calls
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Finds the operation with the given name, ignoring case
+     * @param name the name of the operation
+     * @return the operation
+     * @throws IllegalArgumentException if there is no operation with that name
+     */
+    public static Operation fromName(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,30 @@
+package loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatenciesTest {
+
+    @Test
+    void percentiles() {
+        Latencies latencies = new Latencies();
+        for (int i = 100; i >= 1; i--) {
+            latencies.record(i * 1_000_000L);
+        }
+        assertEquals(100, latencies.getCount());
+        assertEquals(50.0, latencies.percentile(50));
+        assertEquals(99.0, latencies.percentile(99));
+        assertEquals(100.0, latencies.percentile(100));
+        assertEquals(1.0, latencies.percentile(0));
+    }
+
+    @Test
+    void empty() {
+        Latencies latencies = new Latencies();
+        latencies.error();
+        assertEquals(0, latencies.getCount());
+        assertEquals(1, latencies.getErrors());
+        assertEquals(0, latencies.percentile(99));
+    }
+}
@@ -0,0 +1,54 @@
+package loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadConfigTest {
+
+    @Test
+    void parseDefaults() {
+        LoadConfig config = LoadConfig.parse(new String[0]);
+        assertEquals(20, config.clients());
+        assertEquals(Duration.ofSeconds(30), config.duration());
+        assertEquals(LoadConfig.parseMix(LoadConfig.DEFAULT_MIX), config.mix());
+    }
+
+    @Test
+    void parseArguments() {
+        LoadConfig config = LoadConfig.parse(new String[] {"--clients=100", "--duration=5",
+            "--group=10", "--think-ms=0", "--seed=7", "--mix=get:3,expense:1"});
+        assertEquals(100, config.clients());
+        assertEquals(Duration.ofSeconds(5), config.duration());
+        assertEquals(10, config.group());
+        assertEquals(0, config.thinkMillis());
+        assertEquals(7, config.seed());
+        assertEquals(Map.of(Operation.GET, 3, Operation.EXPENSE, 1), config.mix());
+    }
+
+    @Test
+    void parseInvalid() {
+        assertThrows(IllegalArgumentException.class,
+                () -> LoadConfig.parse(new String[] {"--users=5"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> LoadConfig.parse(new String[] {"--clients"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> LoadConfig.parse(new String[] {"--clients=0"}));
+        assertThrows(IllegalArgumentException.class, () -> LoadConfig.parseMix("get:0"));
+        assertThrows(IllegalArgumentException.class, () -> LoadConfig.parseMix("sleep:1"));
+        assertThrows(IllegalArgumentException.class, () -> LoadConfig.parseMix("get"));
+    }
+
+    @Test
+    void pick() {
+        LoadConfig config = LoadConfig.parse(new String[] {"--mix=get:3,expense:1"});
+        assertEquals(4, config.totalWeight());
+        assertEquals(Operation.EXPENSE, config.pick(0));
+        assertEquals(Operation.GET, config.pick(1));
+        assertEquals(Operation.GET, config.pick(3));
+        assertThrows(IllegalArgumentException.class, () -> config.pick(4));
+    }
+}
@@ -0,0 +1,29 @@
+package server;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import server.api.ArchiveInterceptor;
+
+@Configuration
+public class ArchiveConfig implements WebMvcConfigurer {
+
+    private final ArchiveInterceptor archiveInterceptor;
+
+    /**
+     * Constructor for the archive configuration
+     * @param archiveInterceptor restores archived events when they are requested
+     */
+    public ArchiveConfig(ArchiveInterceptor archiveInterceptor) {
+        this.archiveInterceptor = archiveInterceptor;
+    }
+
+    /**
+     * Lets the archive interceptor see every request about an event
+     * @param registry the registry of the interceptors
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(archiveInterceptor).addPathPatterns("/api/events/*/**");
+    }
+}
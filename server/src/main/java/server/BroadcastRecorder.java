@@ -0,0 +1,53 @@
+package server;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+import server.jfr.BroadcastEvent;
+
+/**
+ * Records every message that is sent to the broker as a flight recorder event, from handing
+ * it to the broker until the broker has passed it on to the channels of the subscribers.
+ * The broker channel has no executor, so both ends happen on the same thread.
+ */
+@Component
+public class BroadcastRecorder implements ChannelInterceptor {
+
+    private final ThreadLocal<BroadcastEvent> current = new ThreadLocal<>();
+
+    /**
+     * Starts recording a message that is handed to the broker
+     * @param message the message
+     * @param channel the channel to the broker
+     * @return the message, unchanged
+     */
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        BroadcastEvent event = new BroadcastEvent();
+        event.begin();
+        current.set(event);
+        return message;
+    }
+
+    /**
+     * Records a message that the broker has passed on
+     * @param message the message
+     * @param channel the channel to the broker
+     * @param sent whether the message was sent
+     * @param ex the exception of the broker, or null if there was none
+     */
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent,
+                                    Exception ex) {
+        BroadcastEvent event = current.get();
+        current.remove();
+        if (event == null) {
+            return;
+        }
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        event.finish(destination == null ? null : WebsocketMetrics.topicOf(destination),
+                message.getPayload() instanceof byte[] bytes ? bytes.length : 0);
+    }
+}
@@ -0,0 +1,88 @@
+package server;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.DeferredResultProcessingInterceptor;
+import server.jfr.LongPollEvent;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts the long polls that are waiting for their result, and the long polls that timed out.
+ * Every long poll is also recorded as a flight recorder event.
+ */
+@Component
+public class LongPollMetrics implements DeferredResultProcessingInterceptor {
+
+    private static final String EVENT = LongPollMetrics.class.getName() + ".event";
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Counter timeouts;
+
+    /**
+     * Constructor for the long poll metrics
+     * @param registry the registry the metrics are reported to
+     */
+    public LongPollMetrics(MeterRegistry registry) {
+        Gauge.builder("splitty.longpoll.pending", pending, AtomicInteger::get)
+                .description("Long polls waiting for their result")
+                .register(registry);
+        this.timeouts = Counter.builder("splitty.longpoll.timeouts")
+                .description("Long polls that timed out")
+                .register(registry);
+    }
+
+    /**
+     * Counts a long poll that starts waiting
+     * @param request the request of the long poll
+     * @param deferredResult the result of the long poll
+     * @param <T> the type of the result
+     */
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request,
+                                             DeferredResult<T> deferredResult) {
+        pending.incrementAndGet();
+        LongPollEvent event = new LongPollEvent();
+        event.begin();
+        request.setAttribute(EVENT, event, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    /**
+     * Counts a long poll that timed out
+     * @param request the request of the long poll
+     * @param deferredResult the result of the long poll
+     * @param <T> the type of the result
+     * @return true to let the other interceptors handle the timeout as well
+     */
+    @Override
+    public <T> boolean handleTimeout(NativeWebRequest request,
+                                     DeferredResult<T> deferredResult) {
+        timeouts.increment();
+        if (request.getAttribute(EVENT, RequestAttributes.SCOPE_REQUEST)
+                instanceof LongPollEvent event) {
+            event.timeout();
+        }
+        return true;
+    }
+
+    /**
+     * Stops counting a long poll that is done, whether it got a result or not
+     * @param request the request of the long poll
+     * @param deferredResult the result of the long poll
+     * @param <T> the type of the result
+     */
+    @Override
+    public <T> void afterCompletion(NativeWebRequest request,
+                                    DeferredResult<T> deferredResult) {
+        pending.decrementAndGet();
+        if (request.getAttribute(EVENT, RequestAttributes.SCOPE_REQUEST)
+                instanceof LongPollEvent event) {
+            event.finish(request.getDescription(false));
+        }
+    }
+}
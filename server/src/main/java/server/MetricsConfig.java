@@ -0,0 +1,28 @@
+package server;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final LongPollMetrics longPollMetrics;
+
+    /**
+     * Constructor for the metrics configuration
+     * @param longPollMetrics counts the long polls
+     */
+    public MetricsConfig(LongPollMetrics longPollMetrics) {
+        this.longPollMetrics = longPollMetrics;
+    }
+
+    /**
+     * Lets the long poll metrics see every long poll
+     * @param configurer the configurer of asynchronous requests
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerDeferredResultInterceptors(longPollMetrics);
+    }
+}
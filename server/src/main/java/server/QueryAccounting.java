@@ -0,0 +1,81 @@
+package server;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import server.database.QueryStats;
+
+import java.io.IOException;
+
+/**
+ * Counts the statements, rows and entities every request loads from the database,
+ * and logs the requests that need more than the configured thresholds
+ */
+@Component
+public class QueryAccounting extends OncePerRequestFilter {
+
+    private final int maxStatements;
+    private final long maxRows;
+    private final int maxEntities;
+
+    /**
+     * Constructor for the query accounting
+     * @param maxStatements the number of statements above which a request is logged
+     * @param maxRows the number of rows above which a request is logged
+     * @param maxEntities the number of entities above which a request is logged
+     */
+    public QueryAccounting(@Value("${query-accounting.max-statements:20}") int maxStatements,
+                           @Value("${query-accounting.max-rows:5000}") long maxRows,
+                           @Value("${query-accounting.max-entities:5000}") int maxEntities) {
+        this.maxStatements = maxStatements;
+        this.maxRows = maxRows;
+        this.maxEntities = maxEntities;
+    }
+
+    /**
+     * Counts the queries of a request while passing it on
+     * @param request the request
+     * @param response the response
+     * @param filterChain the rest of the filters
+     * @throws ServletException if a later filter fails
+     * @throws IOException if a later filter fails
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryStats stats = QueryStats.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (stats != null) {
+                QueryStats.stop();
+                report(request, stats);
+            }
+        }
+    }
+
+    /**
+     * Logs a request if it needed more than one of the thresholds. The request is logged
+     * by the pattern of its endpoint, which groups the requests and leaves out the admin
+     * password.
+     * @param request the request
+     * @param stats the counts of the request
+     * @return true if the request was logged
+     */
+    boolean report(HttpServletRequest request, QueryStats stats) {
+        if (stats.getStatements() <= maxStatements && stats.getRows() <= maxRows
+                && stats.getEntities() <= maxEntities) {
+            return false;
+        }
+        Object endpoint = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        System.out.println("Expensive request " + request.getMethod() + " "
+                + (endpoint == null ? "without endpoint" : endpoint) + ": " + stats);
+        return true;
+    }
+}
@@ -0,0 +1,44 @@
+package server;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the requests to the server, so that maintenance can wait for a quiet moment
+ */
+@Component
+public class TrafficMonitor extends OncePerRequestFilter {
+
+    private final AtomicLong requests = new AtomicLong();
+
+    /**
+     * Counts a request and passes it on
+     * @param request the request
+     * @param response the response
+     * @param filterChain the rest of the filters
+     * @throws ServletException if a later filter fails
+     * @throws IOException if a later filter fails
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+        requests.incrementAndGet();
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Gets the number of requests since the last call and starts counting again
+     * @return the number of requests since the last call
+     */
+    public long getAndReset() {
+        return requests.getAndSet(0);
+    }
+}
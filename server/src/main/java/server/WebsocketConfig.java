@@ -1,6 +1,7 @@
 package server;
 
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
@@ -10,6 +11,19 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 @EnableWebSocketMessageBroker
 public class WebsocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final WebsocketMetrics metrics;
+    private final BroadcastRecorder broadcasts;
+
+    /**
+     * Constructor for the websocket configuration
+     * @param metrics counts the sessions, subscriptions and messages of the websocket
+     * @param broadcasts records the messages handed to the broker
+     */
+    public WebsocketConfig(WebsocketMetrics metrics, BroadcastRecorder broadcasts) {
+        this.metrics = metrics;
+        this.broadcasts = broadcasts;
+    }
+
     /**
      * register for the websocket
      * @param registry StompEndpointRegistry to register endpoint on
@@ -25,6 +39,15 @@ public class WebsocketConfig implements WebSocketMessageBrokerConfigurer {
     public void configureMessageBroker(MessageBrokerRegistry config) {
         config.enableSimpleBroker("/topic");
         config.setApplicationDestinationPrefixes("/app");
+        config.configureBrokerChannel().interceptors(broadcasts);
+    }
+
+    /**
+     * Lets the metrics count the messages that are sent to the clients
+     * @param registration the registration of the channel to the clients
+     */
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(metrics);
     }
 
 }
@@ -0,0 +1,157 @@
+package server;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.AbstractSubProtocolEvent;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps track of the open websocket sessions and their subscriptions, and counts the messages
+ * the broker sends to the clients per topic. The ids in the topics are left out, so that all
+ * events share the same counters.
+ */
+@Component
+public class WebsocketMetrics implements ChannelInterceptor {
+
+    private static final Pattern ID = Pattern.compile("/\\d+(?=/|$)");
+
+    private final MeterRegistry registry;
+    private final Map<String, AtomicInteger> subscriptions = new ConcurrentHashMap<>();
+    private final Map<String, Counter> messages = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for the websocket metrics
+     * @param registry the registry the metrics are reported to
+     */
+    public WebsocketMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        Gauge.builder("splitty.websocket.sessions", subscriptions, Map::size)
+                .description("Open websocket sessions")
+                .register(registry);
+        Gauge.builder("splitty.websocket.subscriptions", this, WebsocketMetrics::subscriptionCount)
+                .description("Subscriptions of the open websocket sessions")
+                .register(registry);
+    }
+
+    /**
+     * Starts keeping track of a new session
+     * @param event the event of the connected session
+     */
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        String sessionId = sessionId(event);
+        if (sessionId != null) subscriptions.putIfAbsent(sessionId, new AtomicInteger());
+    }
+
+    /**
+     * Stops keeping track of a closed session and its subscriptions
+     * @param event the event of the closed session
+     */
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        if (event.getSessionId() != null) subscriptions.remove(event.getSessionId());
+    }
+
+    /**
+     * Counts a new subscription of a session
+     * @param event the event of the subscription
+     */
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        AtomicInteger count = subscriptionsOf(event);
+        if (count != null) count.incrementAndGet();
+    }
+
+    /**
+     * Stops counting a subscription of a session
+     * @param event the event of the ended subscription
+     */
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        AtomicInteger count = subscriptionsOf(event);
+        if (count != null) count.updateAndGet(c -> Math.max(0, c - 1));
+    }
+
+    /**
+     * Counts a message the broker sends to a client
+     * @param message the message
+     * @param channel the channel to the clients
+     * @return the message, unchanged
+     */
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders())
+                == SimpMessageType.MESSAGE) {
+            String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+            if (destination != null) messageCounter(topicOf(destination)).increment();
+        }
+        return message;
+    }
+
+    /**
+     * Gets the counter of the messages sent to a topic
+     * @param topic the topic without ids
+     * @return the counter
+     */
+    private Counter messageCounter(String topic) {
+        Counter counter = messages.get(topic);
+        if (counter != null) {
+            return counter;
+        }
+        return messages.computeIfAbsent(topic, t -> Counter.builder("splitty.broker.messages")
+                .description("Messages sent by the broker to the clients")
+                .tag("topic", t)
+                .register(registry));
+    }
+
+    /**
+     * Gets the topic of a destination, with its numeric ids replaced
+     * @param destination the destination, like /topic/events/12/expenses/3
+     * @return the topic, like /topic/events/{id}/expenses/{id}
+     */
+    static String topicOf(String destination) {
+        return ID.matcher(destination).replaceAll("/{id}");
+    }
+
+    /**
+     * @return the number of subscriptions of all open sessions
+     */
+    private double subscriptionCount() {
+        return subscriptions.values().stream().mapToInt(AtomicInteger::get).sum();
+    }
+
+    /**
+     * Gets the number of subscriptions of the session of a websocket event
+     * @param event the event
+     * @return the number of subscriptions, or null if the session is not open
+     */
+    private AtomicInteger subscriptionsOf(AbstractSubProtocolEvent event) {
+        String sessionId = sessionId(event);
+        return sessionId == null ? null : subscriptions.get(sessionId);
+    }
+
+    /**
+     * Gets the session of a websocket event
+     * @param event the event
+     * @return the id of the session
+     */
+    private static String sessionId(AbstractSubProtocolEvent event) {
+        return SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+    }
+}
@@ -1,10 +1,18 @@
 package server.api;
 
 import commons.Event;
+import commons.EventListingPage;
+import commons.GeneratorSettings;
+import commons.ImportResult;
+import commons.StorageStats;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.sql.SQLException;
 import java.util.List;
 
 @RestController
@@ -12,14 +20,24 @@ import java.util.List;
 public class AdminController {
 
     private final AdminService adminService;
+    private final BulkImportService bulkImportService;
+    private final ExportService exportService;
+    private final MaintenanceService maintenanceService;
 
     /**
      * Constructor for the AdminController
      * @param adminService an instance of a adminService with all the required functions
+     * @param bulkImportService the service that imports many events at once
+     * @param exportService the service that streams all events
+     * @param maintenanceService the service that compacts and backs up the database
      */
     @Autowired
-    public AdminController(AdminService adminService) {
+    public AdminController(AdminService adminService, BulkImportService bulkImportService,
+                           ExportService exportService, MaintenanceService maintenanceService) {
         this.adminService = adminService;
+        this.bulkImportService = bulkImportService;
+        this.exportService = exportService;
+        this.maintenanceService = maintenanceService;
     }
 
     /**
@@ -35,6 +53,68 @@ public class AdminController {
         }
     }
 
+    /**
+     * Get method to browse the events on the server one page at a time
+     * @param password string password
+     * @param sort the key to sort by: code, title, created or activity
+     * @param direction asc or desc
+     * @param search text the titles should contain
+     * @param cursor the cursor of the page, the first page if not given
+     * @param size the maximum number of events on the page
+     * @return the page of event summaries
+     */
+    @GetMapping(path = { "/{password}/events" })
+    public ResponseEntity<EventListingPage> getPage(
+            @PathVariable("password") String password,
+            @RequestParam(name = "sort", defaultValue = "code") String sort,
+            @RequestParam(name = "dir", defaultValue = "asc") String direction,
+            @RequestParam(name = "search", required = false) String search,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "50") int size) {
+        if (PasswordService.getPassword().equals(password)) {
+            return adminService.getEventPage(sort, direction, search, cursor, size);
+        } else {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Get method to stream all the events on the server, for making a dump
+     * @param password string password
+     * @param format json for a JSON array or ndjson for one event per line
+     * @param gzip whether the response should be compressed with gzip
+     * @return the streamed events
+     */
+    @GetMapping(path = { "/{password}/export" })
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable("password") String password,
+            @RequestParam(name = "format", defaultValue = "json") String format,
+            @RequestParam(name = "gzip", defaultValue = "false") boolean gzip) {
+        if (PasswordService.getPassword().equals(password)) {
+            return exportService.exportEvents(format, gzip);
+        } else {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Get method for the size and fill rate of the database file,
+     * and how long the last compaction took
+     * @param password string password
+     * @return the statistics of the database file
+     */
+    @GetMapping(path = { "/{password}/storage" })
+    public ResponseEntity<StorageStats> getStorage(@PathVariable("password") String password) {
+        if (!PasswordService.getPassword().equals(password)) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(maintenanceService.getStats());
+        } catch (SQLException e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     /**
      * Post method to allow an admin to upload new events
      * @param password string password
@@ -50,4 +130,36 @@ public class AdminController {
             return ResponseEntity.badRequest().build();
         }
     }
+
+    /**
+     * Post method to allow an admin to upload many events at once
+     * @param password string password
+     * @param body the JSON array of events, read as a stream
+     * @return the number of imported, duplicate and invalid events
+     */
+    @PostMapping(path = {"/{password}/bulk"}, consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ImportResult> addBulkImport(@PathVariable("password") String password,
+                                                      InputStream body){
+        if (PasswordService.getPassword().equals(password)) {
+            return bulkImportService.importEvents(body);
+        }else{
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Post method to allow an admin to fill the server with synthetic events
+     * @param password string password
+     * @param settings the settings of the generator
+     * @return the number of imported, duplicate and invalid events
+     */
+    @PostMapping(path = {"/{password}/generate"})
+    public ResponseEntity<ImportResult> generate(@PathVariable("password") String password,
+                                                 @RequestBody GeneratorSettings settings) {
+        if (PasswordService.getPassword().equals(password)) {
+            return bulkImportService.importGenerated(settings);
+        }else{
+            return ResponseEntity.badRequest().build();
+        }
+    }
 }
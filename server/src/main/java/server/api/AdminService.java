@@ -16,6 +16,11 @@ import static org.springframework.http.HttpStatus.OK;
 @Service
 public class AdminService {
 
+    /**
+     * The maximum number of events on one page of the admin list of events
+     */
+    public static final int MAX_PAGE_SIZE = 200;
+
     private final EventRepository eventRepository;
     private final TagRepository tagRepository;
     private final ParticipantRepository participantRepository;
@@ -51,6 +56,45 @@ public class AdminService {
         return ResponseEntity.ok(eventRepository.findAll());
     }
 
+    /**
+     * Gets one page of the summaries of the events on the server, sorted and filtered
+     * by the database, so the admin can browse the events without downloading all of them
+     * @param sort the key to sort by: code, title, created or activity
+     * @param direction asc or desc
+     * @param search text the titles should contain, or null for all events
+     * @param cursor the cursor of the page, or null for the first page
+     * @param size the maximum number of events on the page
+     * @return the page of events, or bad request if a parameter is invalid
+     */
+    public ResponseEntity<EventListingPage> getEventPage(String sort, String direction,
+                                                         String search, String cursor,
+                                                         int size) {
+        if (size <= 0 || size > MAX_PAGE_SIZE
+                || !("asc".equalsIgnoreCase(direction) || "desc".equalsIgnoreCase(direction))) {
+            return ResponseEntity.badRequest().build();
+        }
+        EventSort eventSort;
+        Comparable<?> afterKey = null;
+        int afterCode = 0;
+        try {
+            eventSort = EventSort.fromParam(sort);
+            if (cursor != null) {
+                afterKey = EventListingPage.cursorKey(cursor, eventSort);
+                afterCode = EventListingPage.cursorCode(cursor);
+            }
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<EventListing> events = new ArrayList<>(eventRepository.findListing(eventSort,
+                "asc".equalsIgnoreCase(direction), search, afterKey, afterCode, size + 1));
+        String next = null;
+        if (events.size() > size) {
+            events = events.subList(0, size);
+            next = EventListingPage.cursorOf(events.getLast(), eventSort);
+        }
+        return ResponseEntity.ok(new EventListingPage(events, next));
+    }
+
     /**
      * Method to add an event to the repository from a JSON import
      * @param event event to be added to the eventRepository
@@ -59,37 +103,7 @@ public class AdminService {
     public ResponseEntity<Event> addCreatedEvent(Event event) {
         if(validateEvent(event).getStatusCode().equals(OK)){
             try {
-                Event eventToSave = new Event(event.getTitle(),
-                        event.getCreationDate(),event.getLastActivity());
-                eventRepository.save(eventToSave);
-                HashMap<Tag, Tag> tagTagHashMap = tagHashMapMaker(event,
-                        eventToSave);
-                HashMap<Participant, Participant> ppHashMap =
-                        participantHashMapMaker(event, eventToSave);
-                eventRepository.save(eventToSave);
-                for (Expense e : event.getExpensesList()) {
-                    Expense expenseToSave = new Expense(e.getAmount(),
-                            e.getCurrency(),
-                            e.getTitle(),
-                            e.getDescription(),
-                            e.getDate(),
-                            new ArrayList<>(),
-                            null,null);
-                    if (e.getPayee() != null) {
-                        expenseToSave.setPayee(ppHashMap.get(e.getPayee()));
-                    }if (e.getTag() != null) {
-                        expenseToSave.setTag(tagTagHashMap.get(e.getTag()));
-                    }
-                    for (ParticipantPayment pp : e.getSplit()) {
-                        ParticipantPayment ppToSave = new ParticipantPayment(
-                                ppHashMap.get(pp.getParticipant()),
-                                pp.getPaymentAmount());
-                        participantPaymentRepository.save(ppToSave);
-                        expenseToSave.getSplit().add(ppToSave);
-                    }
-                    expenseRepository.save(expenseToSave);
-                    eventToSave.getExpensesList().add(expenseToSave);
-                }
+                Event eventToSave = copyForImport(event);
                 eventRepository.save(eventToSave);
                 return ResponseEntity.ok(eventToSave);
             } catch (Exception e) {
@@ -104,6 +118,42 @@ public class AdminService {
         }
     }
 
+    /**
+     * Makes a new, unsaved copy of an imported event with all its tags, participants,
+     * expenses and splits, which can be stored with a single save through the cascades
+     * @param event the imported event
+     * @return the copy of the event, with its content hash set
+     */
+    public Event copyForImport(Event event) {
+        Event eventToSave = new Event(event.getTitle(),
+                event.getCreationDate(),event.getLastActivity());
+        HashMap<Tag, Tag> tagTagHashMap = tagHashMapMaker(event, eventToSave);
+        HashMap<Participant, Participant> ppHashMap =
+                participantHashMapMaker(event, eventToSave);
+        for (Expense e : event.getExpensesList()) {
+            Expense expenseToSave = new Expense(e.getAmount(),
+                    e.getCurrency(),
+                    e.getTitle(),
+                    e.getDescription(),
+                    e.getDate(),
+                    new ArrayList<>(),
+                    null,null);
+            if (e.getPayee() != null) {
+                expenseToSave.setPayee(ppHashMap.get(e.getPayee()));
+            }if (e.getTag() != null) {
+                expenseToSave.setTag(tagTagHashMap.get(e.getTag()));
+            }
+            for (ParticipantPayment pp : e.getSplit()) {
+                expenseToSave.getSplit().add(new ParticipantPayment(
+                        ppHashMap.get(pp.getParticipant()),
+                        pp.getPaymentAmount()));
+            }
+            eventToSave.getExpensesList().add(expenseToSave);
+        }
+        eventToSave.updateContentHash();
+        return eventToSave;
+    }
+
     /**
      * Genereate a Hashmap to keep reference to oldParticipant
      * @param event event were the participants are from
@@ -117,7 +167,6 @@ public class AdminService {
             Participant participantToSave = new Participant(p.getName(),
                     p.getEmail(), p.getIban(), p.getBic());
             ppHashMap.put(p,participantToSave);
-            participantRepository.save(participantToSave);
             eventToSave.getParticipantsList().add(participantToSave);
         }
         return ppHashMap;
@@ -134,7 +183,6 @@ public class AdminService {
         for (Tag tag : event.getTagsList()) {
             Tag tagToSave = new Tag(tag.getName(), tag.getColor());
             tagTagHashMap.put(tag,tagToSave);
-            tagRepository.save(tagToSave);
             eventToSave.getTagsList().add(tagToSave);
         }
         return tagTagHashMap;
@@ -151,8 +199,9 @@ public class AdminService {
                 || event.getTitle() == null){
             return ResponseEntity.badRequest().build();
         }
-        List<Event> allEvents = eventRepository.findAll();
-        for(Event e: allEvents){
+        eventRepository.hashUnhashed();
+        String hash = ContentHash.of(event);
+        for(Event e: eventRepository.findByContentHash(hash)){
             event.setInviteCode(e.getInviteCode());
             if(e.fullEquals(event)){
                 return ResponseEntity.badRequest().build();
@@ -0,0 +1,48 @@
+package server.api;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Restores an archived event before any request about it is handled, so that the version,
+ * the pages of expenses, the statistics and the balances are those of the full event and
+ * not of its empty tombstone
+ */
+@Component
+public class ArchiveInterceptor implements HandlerInterceptor {
+
+    private static final Pattern EVENT_PATH = Pattern.compile("^/api/events/(\\d{1,10})(/.*)?$");
+
+    private final ArchiveService archiveService;
+
+    /**
+     * Constructor for the ArchiveInterceptor
+     * @param archiveService the service that restores archived events
+     */
+    public ArchiveInterceptor(ArchiveService archiveService) {
+        this.archiveService = archiveService;
+    }
+
+    /**
+     * Restores the event of the request if it is archived
+     * @param request the request
+     * @param response the response
+     * @param handler the handler of the request
+     * @return true, the request is always handled
+     */
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+                             Object handler) {
+        Matcher matcher = EVENT_PATH.matcher(request.getRequestURI()
+                .substring(request.getContextPath().length()));
+        if (matcher.matches()) {
+            archiveService.rehydrate(Long.parseLong(matcher.group(1)));
+        }
+        return true;
+    }
+}
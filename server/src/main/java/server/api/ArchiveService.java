@@ -0,0 +1,246 @@
+package server.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import commons.Event;
+import commons.EventSummary;
+import commons.Expense;
+import commons.Participant;
+import commons.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+import server.database.ArchivedEvent;
+import server.database.ArchivedEventRepository;
+import server.database.EventRepository;
+import server.database.ExpenseRepository;
+import server.database.ParticipantRepository;
+import server.database.TagRepository;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class ArchiveService {
+
+    private static final int BATCH_SIZE = 50;
+
+    private final EventRepository eventRepository;
+    private final ArchivedEventRepository archivedEventRepository;
+    private final ExpenseRepository expenseRepository;
+    private final ParticipantRepository participantRepository;
+    private final TagRepository tagRepository;
+    private final AdminService adminService;
+    private final JournalService journal;
+    private final ObjectMapper mapper;
+    private final TransactionOperations transactions;
+    private final long inactiveDays;
+
+    /**
+     * Constructor for the ArchiveService
+     * @param eventRepository the event repository
+     * @param archivedEventRepository the repository of the archived events
+     * @param expenseRepository the expense repository
+     * @param participantRepository the participant repository
+     * @param tagRepository the tag repository
+     * @param adminService the service that rebuilds events for storing them again
+     * @param journal the journal that gets a barrier when an event is archived or restored
+     * @param mapper the object mapper that writes the archived events
+     * @param transactions runs every archived or restored event in its own transaction
+     * @param inactiveDays the number of days without activity after which an event
+     *                     is archived, 0 or less to never archive events
+     */
+    @Autowired
+    public ArchiveService(EventRepository eventRepository,
+                          ArchivedEventRepository archivedEventRepository,
+                          ExpenseRepository expenseRepository,
+                          ParticipantRepository participantRepository,
+                          TagRepository tagRepository,
+                          AdminService adminService,
+                          JournalService journal,
+                          ObjectMapper mapper,
+                          TransactionOperations transactions,
+                          @Value("${archive.inactive-days:180}") long inactiveDays) {
+        this.eventRepository = eventRepository;
+        this.archivedEventRepository = archivedEventRepository;
+        this.expenseRepository = expenseRepository;
+        this.participantRepository = participantRepository;
+        this.tagRepository = tagRepository;
+        this.adminService = adminService;
+        this.journal = journal;
+        this.mapper = mapper;
+        this.transactions = transactions;
+        this.inactiveDays = inactiveDays;
+    }
+
+    /**
+     * Archives all events without activity for longer than the configured number of days,
+     * a batch at a time. Runs in the background every archive.interval.
+     * @return the number of events that were archived
+     */
+    @Scheduled(fixedDelayString = "${archive.interval:PT1H}",
+            initialDelayString = "${archive.interval:PT1H}")
+    public int archiveInactiveEvents() {
+        if (inactiveDays <= 0) {
+            return 0;
+        }
+        Date before = new Date(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(inactiveDays));
+        int archived = 0;
+        List<Integer> batch;
+        int archivedInBatch;
+        do {
+            batch = eventRepository.findInactiveInviteCodes(before,
+                    PageRequest.of(0, BATCH_SIZE));
+            archivedInBatch = 0;
+            for (int inviteCode : batch) {
+                if (archive(inviteCode, before)) archivedInBatch++;
+            }
+            archived += archivedInBatch;
+        } while (batch.size() == BATCH_SIZE && archivedInBatch > 0);
+        return archived;
+    }
+
+    /**
+     * Archives one event: its content is compressed into the archive and its participants,
+     * expenses and tags are deleted, leaving the event behind as a tombstone. The changes
+     * from before can no longer be undone.
+     * @param inviteCode the invite code of the event
+     * @param before the date the last activity of the event should still be before
+     * @return true if the event was archived
+     */
+    public synchronized boolean archive(int inviteCode, Date before) {
+        Boolean archived = transactions.execute(status -> {
+            Optional<Event> found = eventRepository.findById((long) inviteCode);
+            if (found.isEmpty() || archivedEventRepository.existsById(inviteCode)
+                    || found.get().getLastActivity() == null
+                    || !found.get().getLastActivity().before(before)) {
+                return false;
+            }
+            Event event = found.get();
+            if (event.getContentHash() == null) event.updateContentHash();
+            archivedEventRepository.save(new ArchivedEvent(inviteCode,
+                    CompressedEvents.compress(mapper, event), event.getParticipantsList().size(),
+                    event.getExpensesList().stream().mapToDouble(Expense::getAmount).sum(),
+                    new Date()));
+            List<Expense> expenses = new ArrayList<>(event.getExpensesList());
+            List<Participant> participants = new ArrayList<>(event.getParticipantsList());
+            List<Tag> tags = new ArrayList<>(event.getTagsList());
+            event.getExpensesList().clear();
+            event.getParticipantsList().clear();
+            event.getTagsList().clear();
+            eventRepository.save(event);
+            expenseRepository.deleteAll(expenses);
+            participantRepository.deleteAll(participants);
+            tagRepository.deleteAll(tags);
+            journal.reset(List.of(event));
+            return true;
+        });
+        return Boolean.TRUE.equals(archived);
+    }
+
+    /**
+     * Restores an archived event, so that it can be opened as if it was never archived.
+     * The participants, expenses and tags are stored again with new ids, so the last activity
+     * is updated as well, which tells clients with a cached copy to load the event again.
+     * The changes from before it was archived can no longer be undone.
+     * Does nothing if the event is not archived.
+     * @param inviteCode the invite code of the event
+     * @return true if the event was restored
+     */
+    public boolean rehydrate(long inviteCode) {
+        if (inviteCode < 0 || inviteCode > Integer.MAX_VALUE
+                || !archivedEventRepository.existsById((int) inviteCode)) {
+            return false;
+        }
+        return restore((int) inviteCode);
+    }
+
+    /**
+     * Restores an archived event in a transaction, checking again whether it is archived
+     * so that an event opened by two clients at the same time is only restored once
+     * @param inviteCode the invite code of the event
+     * @return true if the event was restored
+     */
+    private synchronized boolean restore(int inviteCode) {
+        Boolean restored = transactions.execute(status -> {
+            Optional<ArchivedEvent> archived = archivedEventRepository.findById(inviteCode);
+            Optional<Event> tombstone = eventRepository.findById((long) inviteCode);
+            if (archived.isEmpty() || tombstone.isEmpty()) {
+                return false;
+            }
+            Event event = tombstone.get();
+            Event copy = adminService.copyForImport(
+                    CompressedEvents.decompress(mapper, archived.get().getContent()));
+            event.getTagsList().addAll(copy.getTagsList());
+            event.getParticipantsList().addAll(copy.getParticipantsList());
+            event.getExpensesList().addAll(copy.getExpensesList());
+            tagRepository.saveAll(copy.getTagsList());
+            participantRepository.saveAll(copy.getParticipantsList());
+            expenseRepository.saveAll(copy.getExpensesList());
+            event.setLastActivity(new Date());
+            event.clearContentHash();
+            eventRepository.save(event);
+            archivedEventRepository.delete(archived.get());
+            journal.reset(List.of(event));
+            return true;
+        });
+        return Boolean.TRUE.equals(restored);
+    }
+
+    /**
+     * Replaces the tombstones in a list of events by the full archived events,
+     * without restoring them, for reading them like an export does
+     * @param events the events, some of which can be tombstones
+     * @return the events with their participants, expenses and tags
+     */
+    public List<Event> withArchivedContent(List<Event> events) {
+        Map<Integer, ArchivedEvent> archived = findArchived(events.stream()
+                .map(Event::getInviteCode).toList());
+        if (archived.isEmpty()) {
+            return events;
+        }
+        return events.stream()
+                .map(e -> archived.containsKey(e.getInviteCode())
+                        ? CompressedEvents.decompress(mapper,
+                                archived.get(e.getInviteCode()).getContent()) : e)
+                .toList();
+    }
+
+    /**
+     * Fills in the number of participants and the total of archived events in their
+     * summaries, which would otherwise be those of the empty tombstone
+     * @param summaries the summaries of events, some of which can be archived
+     */
+    public void completeSummaries(List<EventSummary> summaries) {
+        Map<Integer, ArchivedEvent> archived = findArchived(summaries.stream()
+                .map(EventSummary::getInviteCode).toList());
+        for (EventSummary summary : summaries) {
+            ArchivedEvent event = archived.get(summary.getInviteCode());
+            if (event != null) {
+                summary.setParticipantCount(event.getParticipantCount());
+                summary.setTotal(event.getTotal());
+            }
+        }
+    }
+
+    /**
+     * Finds which of the given events are archived
+     * @param inviteCodes the invite codes of the events
+     * @return the archived events by invite code
+     */
+    private Map<Integer, ArchivedEvent> findArchived(List<Integer> inviteCodes) {
+        if (inviteCodes.isEmpty()) {
+            return Map.of();
+        }
+        return archivedEventRepository.findAllById(inviteCodes).stream()
+                .collect(Collectors.toMap(ArchivedEvent::getInviteCode, Function.identity()));
+    }
+}
@@ -0,0 +1,229 @@
+package server.api;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import commons.ContentHash;
+import commons.Event;
+import commons.EventGenerator;
+import commons.GeneratorSettings;
+import commons.ImportResult;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+import server.database.ArchiveExemption;
+import server.database.EventRepository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+
+@Service
+public class BulkImportService {
+
+    private final AdminService adminService;
+    private final EventRepository eventRepository;
+    private final ArchiveService archiveService;
+    private final JournalService journal;
+    private final TransactionOperations transactions;
+    private final EntityManager entityManager;
+    private final ObjectMapper mapper;
+    private final int chunkSize;
+
+    /**
+     * Constructor for the BulkImportService
+     * @param adminService the admin service that copies imported events
+     * @param eventRepository the event repository
+     * @param archiveService the service that reads archived events for finding duplicates
+     * @param journal the journal that gets a barrier for every stored event
+     * @param transactions the transactions each chunk is committed in
+     * @param entityManager the entity manager that is cleared after each chunk and stores
+     *                      the archive exemptions of generated events
+     * @param mapper the object mapper that reads the events
+     * @param chunkSize the number of events that are committed together
+     */
+    @Autowired
+    public BulkImportService(AdminService adminService,
+                             EventRepository eventRepository,
+                             ArchiveService archiveService,
+                             JournalService journal,
+                             TransactionOperations transactions,
+                             EntityManager entityManager,
+                             ObjectMapper mapper,
+                             @Value("${admin.import.chunk-size:500}") int chunkSize) {
+        this.adminService = adminService;
+        this.eventRepository = eventRepository;
+        this.archiveService = archiveService;
+        this.journal = journal;
+        this.transactions = transactions;
+        this.entityManager = entityManager;
+        this.mapper = mapper;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * Imports a JSON array of events, reading one event at a time so the whole array never
+     * has to be in memory. The events are stored in chunks, each in its own transaction,
+     * so that Hibernate can batch the inserts of a chunk.
+     * @param body the stream with the JSON array of events
+     * @return the number of imported, duplicate and invalid events, with bad request if
+     *      the JSON is malformed, in which case the chunks before the error are still stored
+     */
+    public ResponseEntity<ImportResult> importEvents(InputStream body) {
+        ImportResult result = new ImportResult();
+        try (JsonParser parser = mapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                return ResponseEntity.badRequest().body(result);
+            }
+            List<Event> chunk = new ArrayList<>(chunkSize);
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                chunk.add(mapper.readValue(parser, Event.class));
+                if (chunk.size() == chunkSize) {
+                    result.add(importChunk(chunk));
+                    chunk.clear();
+                }
+            }
+            result.add(importChunk(chunk));
+            return ResponseEntity.ok(result);
+        } catch (IOException e) {
+            return ResponseEntity.badRequest().body(result);
+        }
+    }
+
+    /**
+     * Generates synthetic events and stores them straight into the database, in the same
+     * chunks as an import, without writing them as JSON first. Generating with the same
+     * settings twice gives the same events, which the second time count as duplicates.
+     * The generated events keep the dates of the settings, so they are exempted from being
+     * archived as inactive while they are used for testing.
+     * @param settings the settings of the generator
+     * @return the number of imported, duplicate and invalid events, or bad request if
+     *      the settings are invalid
+     */
+    public ResponseEntity<ImportResult> importGenerated(GeneratorSettings settings) {
+        if (settings == null || !settings.isValid()) {
+            return ResponseEntity.badRequest().build();
+        }
+        ImportResult result = new ImportResult();
+        EventGenerator generator = new EventGenerator(settings);
+        List<Event> chunk = new ArrayList<>(chunkSize);
+        while (generator.hasNext()) {
+            chunk.add(generator.next());
+            if (chunk.size() == chunkSize) {
+                result.add(importChunk(chunk, true));
+                chunk.clear();
+            }
+        }
+        result.add(importChunk(chunk, true));
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Stores a chunk of imported events in one transaction, skipping invalid events and
+     * events that already exist on the server or earlier in the import
+     * @param chunk the imported events
+     * @return the number of imported, duplicate and invalid events of the chunk
+     */
+    public ImportResult importChunk(List<Event> chunk) {
+        return importChunk(chunk, false);
+    }
+
+    /**
+     * Stores a chunk of imported events in one transaction, skipping invalid events and
+     * events that already exist on the server or earlier in the import. The journals of the
+     * stored events start after a barrier, so nothing from before the import can be undone.
+     * @param chunk the imported events
+     * @param exempt whether the stored events are exempted from being archived as inactive
+     * @return the number of imported, duplicate and invalid events of the chunk
+     */
+    private ImportResult importChunk(List<Event> chunk, boolean exempt) {
+        ImportResult result = new ImportResult();
+        if (chunk.isEmpty()) return result;
+        Map<String, List<Event>> candidates = new HashMap<>();
+        for (Event event : chunk) {
+            if (isValid(event)) {
+                candidates.put(ContentHash.of(event), new ArrayList<>());
+            }
+        }
+        List<Event> toSave = new ArrayList<>();
+        transactions.executeWithoutResult(status -> {
+            eventRepository.hashUnhashed();
+            for (Event stored : archiveService.withArchivedContent(
+                    eventRepository.findByContentHashIn(candidates.keySet()))) {
+                candidates.get(stored.getContentHash()).add(stored);
+            }
+            for (Event event : chunk) {
+                Event copy = classify(event, candidates, result);
+                if (copy != null) toSave.add(copy);
+            }
+            eventRepository.saveAll(toSave);
+            journal.reset(toSave);
+            if (exempt) {
+                for (Event event : toSave) {
+                    entityManager.persist(new ArchiveExemption(event.getInviteCode()));
+                }
+            }
+            eventRepository.flush();
+            entityManager.clear();
+        });
+        result.setImported(toSave.size());
+        return result;
+    }
+
+    /**
+     * Decides whether an imported event should be stored, and counts it in the result
+     * if it is a duplicate or invalid
+     * @param event the imported event
+     * @param candidates the stored and earlier imported events by content hash,
+     *      the event is added to these if it should be stored
+     * @param result the result of the chunk
+     * @return the copy of the event to store, or null if it should not be stored
+     */
+    private Event classify(Event event, Map<String, List<Event>> candidates,
+                           ImportResult result) {
+        try {
+            if (isValid(event)) {
+                List<Event> sameHash = candidates.get(ContentHash.of(event));
+                if (isDuplicate(event, sameHash)) {
+                    result.setDuplicates(result.getDuplicates() + 1);
+                    return null;
+                }
+                Event copy = adminService.copyForImport(event);
+                sameHash.add(event);
+                return copy;
+            }
+        } catch (RuntimeException e) {
+            System.out.println("Skipping invalid event " + event.getTitle() + " in import");
+        }
+        result.setInvalid(result.getInvalid() + 1);
+        return null;
+    }
+
+    /**
+     * Checks whether an imported event has a title
+     * @param event the imported event
+     * @return true if the event can be imported
+     */
+    private static boolean isValid(Event event) {
+        return event != null && event.getTitle() != null && !event.getTitle().isEmpty();
+    }
+
+    /**
+     * Checks whether an imported event is fully equal to one of the events with the same hash
+     * @param event the imported event
+     * @param candidates the stored and earlier imported events with the same hash
+     * @return true if the event already exists
+     */
+    private static boolean isDuplicate(Event event, List<Event> candidates) {
+        for (Event candidate : candidates) {
+            event.setInviteCode(candidate.getInviteCode());
+            if (candidate.fullEquals(event)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,54 @@
+package server.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import commons.Event;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes events as gzip compressed JSON, the format of the archive and of the snapshots of
+ * the journal
+ */
+public final class CompressedEvents {
+
+    /**
+     * Utility class, not meant to be instantiated
+     */
+    private CompressedEvents() {
+    }
+
+    /**
+     * Writes an event with all its participants, expenses and tags as compressed JSON
+     * @param mapper the mapper that writes the JSON
+     * @param event the event
+     * @return the compressed event
+     */
+    public static byte[] compress(ObjectMapper mapper, Event event) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            mapper.writeValue(out, event);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads an event that was written by {@link #compress(ObjectMapper, Event)}
+     * @param mapper the mapper that reads the JSON
+     * @param content the compressed event
+     * @return the event
+     */
+    public static Event decompress(ObjectMapper mapper, byte[] content) {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(content))) {
+            return mapper.readValue(in, Event.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,8 +1,14 @@
 package server.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import server.jfr.RateLookupEvent;
 
 import java.io.*;
 import java.net.URI;
@@ -12,12 +18,43 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.NoSuchElementException;
 import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class CurrencyService {
 
     private final SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Counter hits;
+    private final Counter misses;
+    private final Timer upstream;
+
+    /**
+     * Constructor for a CurrencyService that keeps its metrics to itself
+     */
+    public CurrencyService() {
+        this(new SimpleMeterRegistry());
+    }
+
+    /**
+     * Constructor for the CurrencyService
+     * @param registry the registry the cache hits and misses and the latency of the
+     *                 currency API are reported to
+     */
+    @Autowired
+    public CurrencyService(MeterRegistry registry) {
+        this.hits = Counter.builder("splitty.currency.cache")
+                .description("Rates requested from the cached files")
+                .tag("result", "hit")
+                .register(registry);
+        this.misses = Counter.builder("splitty.currency.cache")
+                .description("Rates requested from the cached files")
+                .tag("result", "miss")
+                .register(registry);
+        this.upstream = Timer.builder("splitty.currency.upstream")
+                .description("Requests to the currency API")
+                .register(registry);
+    }
 
     /**
      * Method that gets the rate from the cached file or the currency API
@@ -28,6 +65,24 @@ public class CurrencyService {
      *           400 Bad Request if the date, from or to are not valid dates/currency codes
      */
     public ResponseEntity<Double> getCurrency(String date, String from, String to) {
+        RateLookupEvent event = new RateLookupEvent();
+        event.begin();
+        ResponseEntity<Double> rate = lookup(date, from, to, event);
+        event.finish(date, from, to, rate.getStatusCode().value());
+        return rate;
+    }
+
+    /**
+     * Gets the rate from the cached file or the currency API
+     * @param date - date of the payment
+     * @param from - currency of the payment
+     * @param to - desired currency
+     * @param event the flight recorder event of the lookup
+     * @return - 200 OK with the rate, 404 Not Found if currency codes are not found,
+     *           400 Bad Request if the date, from or to are not valid dates/currency codes
+     */
+    private ResponseEntity<Double> lookup(String date, String from, String to,
+                                          RateLookupEvent event) {
         if (from  == null || from.length() != 3 || to == null || to.length() != 3)
             return ResponseEntity.badRequest().build();
         try {
@@ -39,14 +94,14 @@ public class CurrencyService {
                 "main", "resources", "rates", date, from, to + ".txt")));
         try {
             if (file.equals(new File("null"))) throw new FileNotFoundException();
-            return ResponseEntity.ok(new Scanner(file).nextDouble());
+            double cached = new Scanner(file).nextDouble();
+            hits.increment();
+            event.hit();
+            return ResponseEntity.ok(cached);
         } catch (FileNotFoundException | NoSuchElementException e) {
+            misses.increment();
             try {
-                InputStream in = new URI(String.format(
-                        "https://api.fxratesapi.com/historical?date=%s&base=%s",
-                        date, from)).toURL().openStream();
-                var obj = objectMapper.readTree(in);
-                double rate = obj.get("rates").get(to).asDouble();
+                double rate = fetchRate(date, from, to, event);
                 new File(String.valueOf(Path.of("server", "src",
                         "main", "resources", "rates", date, from))).mkdirs();
                 PrintWriter pw = new PrintWriter(file);
@@ -60,4 +115,29 @@ public class CurrencyService {
             }
         }
     }
+
+    /**
+     * Gets a rate from the currency API, timing how long the API takes
+     * @param date - date of the payment
+     * @param from - currency of the payment
+     * @param to - desired currency
+     * @param event the flight recorder event of the lookup
+     * @return the rate
+     * @throws URISyntaxException if the currency codes don't fit in the address of the API
+     * @throws IOException if the API could not be reached
+     * @throws NullPointerException if the API does not know the currencies
+     */
+    private double fetchRate(String date, String from, String to, RateLookupEvent event)
+            throws URISyntaxException, IOException {
+        long start = System.nanoTime();
+        try (InputStream in = new URI(String.format(
+                "https://api.fxratesapi.com/historical?date=%s&base=%s",
+                date, from)).toURL().openStream()) {
+            return objectMapper.readTree(in).get("rates").get(to).asDouble();
+        } finally {
+            long duration = System.nanoTime() - start;
+            upstream.record(duration, TimeUnit.NANOSECONDS);
+            event.miss(duration);
+        }
+    }
 }
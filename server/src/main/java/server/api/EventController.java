@@ -1,6 +1,7 @@
 package server.api;
 
 import commons.Event;
+import commons.EventSummary;
 import commons.Expense;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatusCode;
@@ -10,6 +11,7 @@ import org.springframework.messaging.handler.annotation.SendTo;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.context.request.async.DeferredResult;
+import server.jfr.BalanceEvent;
 
 import java.util.List;
 import java.util.Objects;
@@ -22,6 +24,8 @@ public class EventController {
 
     private final EventService eventService;
 
+    private final ArchiveService archiveService;
+
     private final GerneralServerUtil serverUtil;
 
     private final SimpMessagingTemplate messagingTemplate;
@@ -30,11 +34,13 @@ public class EventController {
     /**
      * constructor for the EventController
      * @param eventService the service with all the necessary functions for the api
+     * @param archiveService the service that completes the summaries of archived events
      */
-    public EventController(EventService eventService,
+    public EventController(EventService eventService, ArchiveService archiveService,
                            @Qualifier("serverUtilImpl") GerneralServerUtil serverUtil,
                            SimpMessagingTemplate messagingTemplate) {
         this.eventService = eventService;
+        this.archiveService = archiveService;
         this.serverUtil = serverUtil;
         this.messagingTemplate = messagingTemplate;
     }
@@ -47,7 +53,6 @@ public class EventController {
     @GetMapping(path = { "/{inviteCode}/updates" })
     public DeferredResult<ResponseEntity<Event>> getPolling(
             @PathVariable("inviteCode") long inviteCode) {
-
         return eventService.getPolling(inviteCode);
     }
 
@@ -68,9 +73,34 @@ public class EventController {
      */
     @GetMapping(path = { "/{id}/total" })
     public ResponseEntity<Double> getTotal(@PathVariable("id") long id) {
-        return eventService.getTotal(id);
+        return BalanceEvent.record("total", id, () -> eventService.getTotal(id));
+    }
+
+
+    /**
+     * Get method to get the summaries of multiple events in one request
+     * @param inviteCodes the invite codes of the events
+     * @return the summaries of the events that exist
+     */
+    @GetMapping(path = { "/summaries" })
+    public ResponseEntity<List<EventSummary>> getSummaries(
+            @RequestParam("ids") List<Long> inviteCodes) {
+        ResponseEntity<List<EventSummary>> summaries = eventService.getSummaries(inviteCodes);
+        if (summaries.getBody() != null) {
+            archiveService.completeSummaries(summaries.getBody());
+        }
+        return summaries;
     }
 
+    /**
+     * Get method to get the version of a specific event
+     * @param inviteCode the invite code of that specific event
+     * @return the version of the event
+     */
+    @GetMapping(path = { "/{inviteCode}/version" })
+    public ResponseEntity<Long> getVersion(@PathVariable("inviteCode") long inviteCode) {
+        return eventService.getVersion(inviteCode);
+    }
 
     /**
      * Get method to get a specific event from the database
@@ -157,7 +187,8 @@ public class EventController {
     @GetMapping(path = {"/{invitecode}/share/{participantId}"})
     public ResponseEntity<Double> getShare(@PathVariable("invitecode") Long eventId,
                                            @PathVariable("participantId") Long participantId){
-        return eventService.getShare(eventId, participantId);
+        return BalanceEvent.record("share", eventId,
+                () -> eventService.getShare(eventId, participantId));
     }
 
     /**
@@ -168,7 +199,8 @@ public class EventController {
     @GetMapping(path = {"/{invitecode}/debt/{participantId}"})
     public ResponseEntity<Double> getDebt(@PathVariable("invitecode") Long eventId,
                                            @PathVariable("participantId") Long participantId){
-        return eventService.getDebt(eventId, participantId);
+        return BalanceEvent.record("debt", eventId,
+                () -> eventService.getDebt(eventId, participantId));
     }
 
     /**
@@ -179,7 +211,8 @@ public class EventController {
     @GetMapping(path = {"/{invitecode}/owed/{participantId}"})
     public ResponseEntity<Double> getOwed(@PathVariable("invitecode") Long eventId,
                                           @PathVariable("participantId") Long participantId){
-        return eventService.getOwed(eventId, participantId);
+        return BalanceEvent.record("owed", eventId,
+                () -> eventService.getOwed(eventId, participantId));
     }
 
 }
@@ -3,12 +3,15 @@ package server.api;
 import commons.*;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.context.request.async.DeferredResult;
+import server.database.ArchivedEventRepository;
 import server.database.EventRepository;
-import server.database.TagRepository;
+import server.database.ExpenseRepository;
 
 import java.sql.Timestamp;
 import java.util.*;
@@ -18,18 +21,28 @@ import static org.springframework.http.HttpStatus.*;
 
 @Service
 public class EventService {
+    /**
+     * The maximum number of events that can be summarised in one request
+     */
+    public static final int MAX_SUMMARIES = 100;
+
     private final EventRepository eventRepository;
-    private final TagRepository tagRepository;
+    private final ExpenseRepository expenseRepository;
+    private final ArchivedEventRepository archivedEventRepository;
 
     /**
      * Constructor for de EventService
      * @param eventRepository the event repository
-     * @param tagRepository the tag repository
+     * @param expenseRepository the expense repository
+     * @param archivedEventRepository the repository of the archived events
      */
     @Autowired
-    public EventService(EventRepository eventRepository, TagRepository tagRepository) {
+    public EventService(EventRepository eventRepository,
+                        ExpenseRepository expenseRepository,
+                        ArchivedEventRepository archivedEventRepository) {
         this.eventRepository = eventRepository;
-        this.tagRepository = tagRepository;
+        this.expenseRepository = expenseRepository;
+        this.archivedEventRepository = archivedEventRepository;
     }
 
     /**
@@ -71,6 +84,50 @@ public class EventService {
             return ResponseEntity.badRequest().build();
         }
     }
+    /**
+     * Get method to get the version of an event, which changes on every edit of the event.
+     * Lets clients check whether their cached copy is still up-to-date
+     * @param inviteCode the invite code of the event
+     * @return the version of the event, 0 if it was never active
+     */
+    public ResponseEntity<Long> getVersion(long inviteCode) {
+        if (inviteCode < 0) {
+            return ResponseEntity.badRequest().build();
+        } else if (!eventRepository.existsById(inviteCode)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(eventRepository.findLastActivity((int) inviteCode)
+                .map(Date::getTime)
+                .orElse(0L));
+    }
+
+    /**
+     * Get method to get the summaries of multiple events at once,
+     * for screens that only show the title and totals of events
+     * @param inviteCodes the invite codes of the events
+     * @return the summaries of the events that exist, in the order they were requested in
+     */
+    public ResponseEntity<List<EventSummary>> getSummaries(List<Long> inviteCodes) {
+        if (inviteCodes == null || inviteCodes.size() > MAX_SUMMARIES
+                || inviteCodes.stream().anyMatch(id -> id == null || id < 0
+                    || id > Integer.MAX_VALUE)) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (inviteCodes.isEmpty()) {
+            return ResponseEntity.ok(new ArrayList<>());
+        }
+        Map<Integer, EventSummary> found = new HashMap<>();
+        for (EventSummary summary : eventRepository.findSummaries(
+                inviteCodes.stream().map(Long::intValue).toList())) {
+            found.put(summary.getInviteCode(), summary);
+        }
+        return ResponseEntity.ok(inviteCodes.stream()
+                .map(id -> found.get(id.intValue()))
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList());
+    }
+
     /**
      * Get methode to get all the events on the server
      * @return returns a list of all events on the server
@@ -92,9 +149,6 @@ public class EventService {
         Tag tag1 = new Tag("food", "#93c47d");
         Tag tag2 = new Tag("entrance fees", "#4a86e8");
         Tag tag3 = new Tag("travel", "#e06666");
-        tagRepository.save(tag1);
-        tagRepository.save(tag2);
-        tagRepository.save(tag3);
 
         List<Tag> savedTags;
         savedTags = new ArrayList<>();
@@ -132,12 +186,13 @@ public class EventService {
         Event saved = eventRepository.findById(inviteCode).get();
         serverUtil.updateDate(eventRepository,inviteCode);
         saved.setTitle(event.getTitle());
+        saved.clearContentHash();
         eventRepository.save(saved);
         return ResponseEntity.ok(saved);
     }
 
     /**
-     * Delete an existing event
+     * Delete an existing event, together with its archived content if it is archived
      * @param inviteCode the invitecode of the event
      * @return the event that was deleted
      */
@@ -151,10 +206,24 @@ public class EventService {
         Event saved = eventRepository.findById(inviteCode).get();
         ResponseEntity<Event> response = ResponseEntity.ok(saved);
         eventRepository.deleteAllById(Collections.singleton(inviteCode));
+        if (archivedEventRepository.existsById((int) inviteCode)) {
+            archivedEventRepository.deleteById((int) inviteCode);
+        }
         return response;
     }
 
 
+    /**
+     * Gives every event without a content hash a content hash at startup, so that the first
+     * import doesn't have to hash the events that were stored before hashes existed
+     * @return the number of events that were hashed
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public int hashUnhashedEvents() {
+        return eventRepository.hashUnhashed();
+    }
+
     /**
      * Method to check if the imported event is valid
      * @param event event being imported
@@ -166,8 +235,9 @@ public class EventService {
                 || event.getTitle() == null){
             return ResponseEntity.badRequest().build();
         }
-        List<Event> allEvents = eventRepository.findAll();
-        for(Event e: allEvents){
+        eventRepository.hashUnhashed();
+        String hash = ContentHash.of(event);
+        for(Event e: eventRepository.findByContentHash(hash)){
             event.setInviteCode(e.getInviteCode());
             if(e.fullEquals(event)){
                 return ResponseEntity.badRequest().build();
@@ -324,19 +394,9 @@ public class EventService {
             return ResponseEntity.badRequest().build();
         }else if (!eventRepository.existsById(inviteCode)){
             return ResponseEntity.notFound().build();
-        } else if(!eventRepository.findById(inviteCode).isPresent()) {
-            return ResponseEntity.badRequest().build();
-        }
-
-        Event event = eventRepository.findById(inviteCode).get();
-
-        List<Expense> expensesInvolvingPayee = new ArrayList<>();
-        for (Expense expense : event.getExpensesList()) {
-            if (expense.getPayee().getId() == (payeeId)) {
-                expensesInvolvingPayee.add(expense);
-            }
         }
-        return ResponseEntity.ok(expensesInvolvingPayee);
+        return ResponseEntity.ok(expenseRepository.findInvolvingPayee((int) inviteCode,
+                payeeId));
     }
 
     /**
@@ -352,17 +412,7 @@ public class EventService {
         } else if (!eventRepository.existsById(inviteCode)){
             return ResponseEntity.notFound().build();
         }
-        Event event = eventRepository.findById(inviteCode).get();
-
-        List<Expense> expensesInvolvingPart = new ArrayList<>();
-        for (Expense expense : event.getExpensesList()) {
-            List<ParticipantPayment> split = expense.getSplit();
-            for (ParticipantPayment pay : split){
-                if (pay.getParticipant().getId() == partId){
-                    expensesInvolvingPart.add(expense);
-                }
-            }
-        }
-        return ResponseEntity.ok(expensesInvolvingPart);
+        return ResponseEntity.ok(expenseRepository.findInvolvingParticipant((int) inviteCode,
+                partId));
     }
 }
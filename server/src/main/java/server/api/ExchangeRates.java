@@ -0,0 +1,56 @@
+package server.api;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The exchange rates to one currency needed for a single computation,
+ * so that every date and currency pair is only looked up once.
+ */
+class ExchangeRates {
+    private final CurrencyService currencyService;
+    private final String to;
+    private final Map<String, Double> rates = new HashMap<>();
+    private final SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
+
+    /**
+     * Constructor for the exchange rates to a currency
+     * @param currencyService the service that provides exchange rates
+     * @param to the currency to convert to
+     */
+    ExchangeRates(CurrencyService currencyService, String to) {
+        this.currencyService = currencyService;
+        this.to = to;
+    }
+
+    /**
+     * Gets the exchange rate from a currency on a date, trying the previous day
+     * when there is no rate yet, like the client does
+     * @param date the date of the amount, or null for today
+     * @param from the currency of the amount
+     * @return the rate, or null if there is none
+     */
+    Double rate(Date date, String from) {
+        if (from == null || from.equalsIgnoreCase(to)) return 1.0;
+        if (date == null) date = new Date();
+        String day = dateFormat.format(date);
+        String key = day + from;
+        if (rates.containsKey(key)) return rates.get(key);
+        ResponseEntity<Double> rate = currencyService.getCurrency(day, from, to);
+        if (rate.getStatusCode() == HttpStatus.NOT_FOUND) {
+            String yesterday = LocalDate.ofInstant(date.toInstant(), ZoneId.systemDefault())
+                    .minusDays(1).toString();
+            rate = currencyService.getCurrency(yesterday, from, to);
+        }
+        Double result = rate.getStatusCode().is2xxSuccessful() ? rate.getBody() : null;
+        rates.put(key, result);
+        return result;
+    }
+}
@@ -1,13 +1,18 @@
 package server.api;
 
+import commons.EventChange;
 import commons.Expense;
+import commons.ExpenseFilter;
+import commons.ExpensePage;
 import commons.Participant;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.web.bind.annotation.*;
+import server.jfr.MutationEvent;
 
+import java.util.Date;
 import java.util.List;
 import java.util.Objects;
 
@@ -40,6 +45,32 @@ public class ExpenseController {
     public ResponseEntity<List<Expense>> getAllExpenses(@PathVariable("id") long id){
         return expenseService.getAllExpenses(id);
     }
+    /**
+     * @param id the id of the event to list the expenses from
+     * @param payee the id of the participant that paid the expenses
+     * @param participant the id of a participant in the split of the expenses
+     * @param tag the id of the tag of the expenses
+     * @param from the earliest date of the expenses, in milliseconds since the epoch
+     * @param to the latest date of the expenses, in milliseconds since the epoch
+     * @param cursor the cursor of the page, or nothing for the first page
+     * @param size the maximum number of expenses on the page
+     * @return one page of the expenses within an event, newest first
+     */
+    @GetMapping(path = { "/page" })
+    public ResponseEntity<ExpensePage> getExpensePage(
+            @PathVariable("id") long id,
+            @RequestParam(value = "payee", required = false) Long payee,
+            @RequestParam(value = "participant", required = false) Long participant,
+            @RequestParam(value = "tag", required = false) Long tag,
+            @RequestParam(value = "from", required = false) Long from,
+            @RequestParam(value = "to", required = false) Long to,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "50") int size) {
+        ExpenseFilter filter = new ExpenseFilter(payee, participant, tag,
+                from == null ? null : new Date(from), to == null ? null : new Date(to));
+        return expenseService.getExpensePage(id, filter, cursor, size);
+    }
+
     /**
      * @param id the id of the event to list all expenses from
      * @return the list of all expenses within an event
@@ -58,7 +89,8 @@ public class ExpenseController {
     @PostMapping(path = {""})
     public ResponseEntity<Expense> add(@PathVariable("id") long id,
                                        @RequestBody Expense expense) {
-        var resp = expenseService.add(id, expense, serverUtil);
+        var resp = MutationEvent.record("expense", "add", id,
+                () -> expenseService.add(id, expense, serverUtil));
         if (resp.getStatusCode().equals(HttpStatusCode.valueOf(200))) {
             messagingTemplate.convertAndSend("/topic/events/" + id + "/expenses",
                     Objects.requireNonNull(resp.getBody()));
@@ -70,13 +102,14 @@ public class ExpenseController {
      * @param expense the new contents of the expense
      * @param expenseId the id of the expense to be changed
      * @param id the id of the event which the expense is associated with
-     * @return whether the title could be changed
+     * @return the change as it was journaled, so that it can be undone
      */
     @PutMapping(path = {"/{expenseId}"})
-    public ResponseEntity<Void> changeExpense(@RequestBody Expense expense,
+    public ResponseEntity<EventChange> changeExpense(@RequestBody Expense expense,
                                             @PathVariable("expenseId") long expenseId,
                                             @PathVariable("id") long id){
-        var resp = expenseService.changeTitle(expense, expenseId, id,serverUtil);
+        var resp = MutationEvent.record("expense", "update", id,
+                () -> expenseService.changeTitle(expense, expenseId, id, serverUtil));
         if (resp.getStatusCode().equals(HttpStatusCode.valueOf(200))) {
             String dest = "/topic/events/" + id + "/expenses/" + expenseId;
             System.out.println(dest);
@@ -95,7 +128,8 @@ public class ExpenseController {
     public ResponseEntity<Void> changeAmount(@RequestBody double amount,
                                             @PathVariable("expenseId") long expenseId,
                                              @PathVariable("id") long id){
-        return expenseService.changeAmount(amount, expenseId, id,serverUtil);
+        return MutationEvent.record("expense", "amount", id,
+                () -> expenseService.changeAmount(amount, expenseId, id, serverUtil));
     }
 
     /**
@@ -108,7 +142,8 @@ public class ExpenseController {
     public ResponseEntity<Void> changePayee(@RequestBody Participant payee,
                                             @PathVariable("expenseId") long expenseId,
                                             @PathVariable("id") long id){
-        return expenseService.changePayee(payee, expenseId, id,serverUtil);
+        return MutationEvent.record("expense", "payee", id,
+                () -> expenseService.changePayee(payee, expenseId, id, serverUtil));
     }
 
     /**
@@ -121,7 +156,8 @@ public class ExpenseController {
     public ResponseEntity<Void> changeTitle(@RequestBody String title,
                                             @PathVariable("expenseId") long expenseId,
                                             @PathVariable("id") long id){
-        return expenseService.changeTitle(title, expenseId, id,serverUtil);
+        return MutationEvent.record("expense", "title", id,
+                () -> expenseService.changeTitle(title, expenseId, id, serverUtil));
     }
 
     /**
@@ -132,7 +168,8 @@ public class ExpenseController {
     @DeleteMapping(path = {"/{expenseId}"})
     public ResponseEntity<Expense> deleteExpense(@PathVariable("expenseId") long expenseId,
                                               @PathVariable("id") long id){
-        var resp = expenseService.deleteExpense(expenseId, id,serverUtil);
+        var resp = MutationEvent.record("expense", "delete", id,
+                () -> expenseService.deleteExpense(expenseId, id, serverUtil));
         if (resp.getStatusCode().equals(HttpStatusCode.valueOf(200))) {
             String dest = "/topic/events/" + id + "/expenses/" + expenseId;
             System.out.println(dest);
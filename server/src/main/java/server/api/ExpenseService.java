@@ -1,33 +1,47 @@
 package server.api;
 
 import commons.*;
+import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import server.database.EventRepository;
 import server.database.ExpenseRepository;
+import server.database.JournalEntry;
 import server.database.ParticipantPaymentRepository;
 
 import java.util.*;
 
 @Service
 public class ExpenseService {
+    /**
+     * The maximum number of expenses on one page
+     */
+    public static final int MAX_PAGE_SIZE = 200;
+    private static final Date EARLIEST = new Date(0);
+    private static final Date LATEST = new Date(253402300799999L);
+
     private final EventRepository eventRepo;
     private final ExpenseRepository expenseRepo;
     private final ParticipantPaymentRepository ppRepo;
+    private final JournalService journal;
 
     /**
      * Constructor for the ExpenseService
      * @param eventRepo the repo of events
      * @param expenseRepo the repo of expenses
+     * @param journal the journal the changes to expenses are appended to
      */
     @Autowired
     public ExpenseService(EventRepository eventRepo,
                           ExpenseRepository expenseRepo,
-                          ParticipantPaymentRepository ppRepo){
+                          ParticipantPaymentRepository ppRepo,
+                          JournalService journal){
         this.eventRepo = eventRepo;
         this.expenseRepo = expenseRepo;
         this.ppRepo = ppRepo;
+        this.journal = journal;
     }
 
     /**
@@ -47,6 +61,47 @@ public class ExpenseService {
         return ResponseEntity.ok(expenses);
     }
 
+    /**
+     * Lists one page of the expenses in a certain event, newest first.
+     * The next page is found by the date and id of the last expense of this page,
+     * so pages stay consistent while expenses are added and the database can use its index.
+     * @param id the id of the event to list the expenses of
+     * @param filter the criteria the expenses have to meet
+     * @param cursor the cursor of the page, or null for the first page
+     * @param size the maximum number of expenses on the page
+     * @return the page of expenses, with the cursor of the next page if there is one
+     */
+    public ResponseEntity<ExpensePage> getExpensePage(long id, ExpenseFilter filter,
+                                                      String cursor, int size) {
+        if (id < 0 || size <= 0 || size > MAX_PAGE_SIZE || filter == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (!eventRepo.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        Date beforeDate = LATEST;
+        long beforeId = Long.MAX_VALUE;
+        if (cursor != null) {
+            try {
+                beforeDate = ExpensePage.cursorDate(cursor);
+                beforeId = ExpensePage.cursorId(cursor);
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().build();
+            }
+        }
+        List<Expense> expenses = new ArrayList<>(expenseRepo.findPage((int) id,
+                filter.getPayee(), filter.getParticipant(), filter.getTag(),
+                filter.getFrom() == null ? EARLIEST : filter.getFrom(),
+                filter.getTo() == null ? LATEST : filter.getTo(),
+                beforeDate, beforeId, PageRequest.of(0, size + 1)));
+        String next = null;
+        if (expenses.size() > size) {
+            expenses = expenses.subList(0, size);
+            next = ExpensePage.cursorOf(expenses.getLast());
+        }
+        return ResponseEntity.ok(new ExpensePage(expenses, next));
+    }
+
     /**
      * Adds an expense to the event
      *
@@ -55,6 +110,7 @@ public class ExpenseService {
      * @param serverUtil
      * @return whether the expense could be added to the event
      */
+    @Transactional
     public ResponseEntity<Expense> add(long id, Expense expense, GerneralServerUtil serverUtil) {
         if (id < 0){
             return ResponseEntity.badRequest().build();
@@ -67,9 +123,6 @@ public class ExpenseService {
                 expense.getAmount() <= 0 || expense.getPayee() == null) {
             return ResponseEntity.badRequest().build();
         }
-        if (expense.getSplit() != null) {
-            ppRepo.saveAll(expense.getSplit());
-        }
         Event event = eventRepo.findById(id).get();
         List<Expense> expenseList = event.getExpensesList();
         expenseList.add(expense);
@@ -77,6 +130,8 @@ public class ExpenseService {
         expenseRepo.save(expense);
         serverUtil.updateDate(eventRepo,id);
         eventRepo.save(event);
+        journal.append(id, JournalEntry.Type.EXPENSE, JournalEntry.Operation.ADD,
+                expense.getId(), null, null, expense);
         return ResponseEntity.ok(expense);
     }
 
@@ -85,9 +140,10 @@ public class ExpenseService {
      * @param expenseId  the id of the expense to be edited
      * @param id         the id of the event which contains the expense
      * @param serverUtil
-     * @return whether the title could be changed
+     * @return the change as it was journaled, so that it can be undone
      */
-    public ResponseEntity<Void> changeTitle(Expense expense, long expenseId,
+    @Transactional
+    public ResponseEntity<EventChange> changeTitle(Expense expense, long expenseId,
                                             long id, GerneralServerUtil serverUtil) {
         if (id < 0 || expenseId < 0){
             return ResponseEntity.badRequest().build();
@@ -107,12 +163,13 @@ public class ExpenseService {
             return ResponseEntity.badRequest().build();
         }
         Expense change = expenseRepo.findById(expenseId).get();
+        String before = journal.capture(change);
         List<ParticipantPayment> split = new ArrayList<>(change.getSplit());
         change.getSplit().clear();
         if (expense.getSplit() != null) {
+            change.getSplit().addAll(expense.getSplit());
             ppRepo.saveAll(expense.getSplit());
         }
-        change.getSplit().addAll(expense.getSplit());
         change.setTitle(title);
         change.setAmount(amount);
         change.setPayee(payee);
@@ -126,7 +183,9 @@ public class ExpenseService {
         Event event = eventRepo.findById(id).get();
         serverUtil.updateDate(eventRepo,id);
         eventRepo.save(event);
-        return ResponseEntity.ok(null);
+        return ResponseEntity.ok(JournalService.toChange(journal.append(id,
+                JournalEntry.Type.EXPENSE, JournalEntry.Operation.UPDATE, expenseId, null,
+                before, change)));
     }
 
     /**
@@ -155,9 +214,12 @@ public class ExpenseService {
             return ResponseEntity.badRequest().build();
         }
         Expense change = expenseRepo.findById(expenseId).get();
+        String before = journal.capture(change);
         change.setAmount(amount);
         expenseRepo.save(change);
         serverUtil.updateDate(eventRepo,id);
+        journal.append(id, JournalEntry.Type.EXPENSE, JournalEntry.Operation.UPDATE,
+                expenseId, null, before, change);
         return ResponseEntity.ok(null);
     }
 
@@ -187,9 +249,12 @@ public class ExpenseService {
             return ResponseEntity.badRequest().build();
         }
         Expense change = expenseRepo.findById(expenseId).get();
+        String before = journal.capture(change);
         change.setPayee(payee);
         expenseRepo.save(change);
         serverUtil.updateDate(eventRepo,id);
+        journal.append(id, JournalEntry.Type.EXPENSE, JournalEntry.Operation.UPDATE,
+                expenseId, null, before, change);
         return ResponseEntity.ok(null);
     }
 
@@ -218,9 +283,12 @@ public class ExpenseService {
             return ResponseEntity.badRequest().build();
         }
         Expense change = expenseRepo.findById(expenseId).get();
+        String before = journal.capture(change);
         change.setTitle(title);
         expenseRepo.save(change);
         serverUtil.updateDate(eventRepo,id);
+        journal.append(id, JournalEntry.Type.EXPENSE, JournalEntry.Operation.UPDATE,
+                expenseId, null, before, change);
         return ResponseEntity.ok(null);
     }
 
@@ -240,12 +308,15 @@ public class ExpenseService {
         }
         Event event = eventRepo.findById(id).get();
         Expense expense = expenseRepo.findById(expenseId).get();
+        String before = journal.capture(expense);
         List<Expense> expenseList = event.getExpensesList();
         expenseList.remove(expense);
         event.setExpensesList(expenseList);
         serverUtil.updateDate(eventRepo,id);
         eventRepo.save(event);
         expenseRepo.deleteAllById(Collections.singleton(expenseId));
+        journal.append(id, JournalEntry.Type.EXPENSE, JournalEntry.Operation.DELETE,
+                expenseId, null, before, null);
         return ResponseEntity.ok(expense);
     }
 
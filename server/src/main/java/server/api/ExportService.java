@@ -0,0 +1,113 @@
+package server.api;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import commons.Event;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import server.database.EventRepository;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+@Service
+public class ExportService {
+
+    /**
+     * Media type of newline delimited JSON, one event per line
+     */
+    public static final String NDJSON = "application/x-ndjson";
+
+    private final EventRepository eventRepository;
+    private final ArchiveService archiveService;
+    private final EntityManager entityManager;
+    private final ObjectMapper mapper;
+    private final int pageSize;
+
+    /**
+     * Constructor for the ExportService
+     * @param eventRepository the event repository
+     * @param archiveService the service that reads the content of archived events
+     * @param entityManager the entity manager that is cleared after each page
+     * @param mapper the object mapper that writes the events
+     * @param pageSize the number of events that are loaded at once
+     */
+    @Autowired
+    public ExportService(EventRepository eventRepository,
+                         ArchiveService archiveService,
+                         EntityManager entityManager,
+                         ObjectMapper mapper,
+                         @Value("${admin.export.page-size:100}") int pageSize) {
+        this.eventRepository = eventRepository;
+        this.archiveService = archiveService;
+        this.entityManager = entityManager;
+        this.mapper = mapper;
+        this.pageSize = Math.max(1, pageSize);
+    }
+
+    /**
+     * Exports all events, streamed to the response page by page,
+     * so that the whole database never has to be in memory
+     * @param format either json for a JSON array or ndjson for one event per line
+     * @param gzip whether the response should be compressed with gzip
+     * @return the streamed events, or bad request if the format is unknown
+     */
+    public ResponseEntity<StreamingResponseBody> exportEvents(String format, boolean gzip) {
+        boolean ndjson = "ndjson".equalsIgnoreCase(format);
+        if (!ndjson && !"json".equalsIgnoreCase(format)) {
+            return ResponseEntity.badRequest().build();
+        }
+        var response = ResponseEntity.ok()
+                .contentType(ndjson ? MediaType.parseMediaType(NDJSON)
+                        : MediaType.APPLICATION_JSON);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(out -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out);
+                writeEvents(compressed, ndjson);
+                compressed.finish();
+            } else {
+                writeEvents(out, ndjson);
+            }
+        });
+    }
+
+    /**
+     * Writes all events to a stream, loading them in pages ordered by invite code.
+     * Archived events are written with their archived content.
+     * @param out the stream to write to, which is not closed
+     * @param ndjson whether to write one event per line instead of a JSON array
+     * @throws IOException if the events could not be written
+     */
+    public void writeEvents(OutputStream out, boolean ndjson) throws IOException {
+        JsonGenerator generator = mapper.createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        if (!ndjson) generator.writeStartArray();
+        int after = Integer.MIN_VALUE;
+        List<Event> page;
+        do {
+            page = eventRepository.findByInviteCodeGreaterThanOrderByInviteCodeAsc(after,
+                    PageRequest.of(0, pageSize));
+            for (Event event : archiveService.withArchivedContent(page)) {
+                generator.writeObject(event);
+                if (ndjson) generator.writeRaw('\n');
+                after = event.getInviteCode();
+            }
+            generator.flush();
+            entityManager.clear();
+        } while (page.size() == pageSize);
+        if (!ndjson) generator.writeEndArray();
+        generator.close();
+    }
+}
@@ -0,0 +1,33 @@
+package server.api;
+
+import commons.EventChange;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/events/{id}/journal")
+public class JournalController {
+    private final JournalService journalService;
+
+    /**
+     * Constructor for the JournalController
+     * @param journalService the service that keeps the journals of the events
+     */
+    public JournalController(JournalService journalService) {
+        this.journalService = journalService;
+    }
+
+    /**
+     * @param id the id of the event to get the changes of
+     * @param after the number of the last change that is already known, 0 for all changes
+     * @return the changes to the participants, expenses, tags and payments after it, in order
+     */
+    @GetMapping(path = { "" })
+    public ResponseEntity<List<EventChange>> getChanges(
+            @PathVariable("id") long id,
+            @RequestParam(value = "after", defaultValue = "0") long after) {
+        return journalService.getChanges(id, after);
+    }
+}
@@ -0,0 +1,442 @@
+package server.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import commons.ContentHash;
+import commons.Event;
+import commons.EventChange;
+import commons.Expense;
+import commons.Participant;
+import commons.ParticipantPayment;
+import commons.Tag;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+import server.database.EventRepository;
+import server.database.JournalEntry;
+import server.database.JournalEntryRepository;
+import server.database.JournalSnapshot;
+import server.database.JournalSnapshotRepository;
+import server.database.UndoBarrier;
+import server.database.UndoBarrierRepository;
+
+import java.io.UncheckedIOException;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps an append-only journal of the changes to the participants, expenses, tags and
+ * payments of every event, next to the tables that keep their current state. The journal
+ * of an event can be replayed from its latest snapshot to rebuild the event, and is the
+ * source of its change feed.
+ */
+@Service
+public class JournalService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JournalService.class);
+
+    private final JournalEntryRepository entryRepository;
+    private final JournalSnapshotRepository snapshotRepository;
+    private final UndoBarrierRepository barrierRepository;
+    private final EventRepository eventRepository;
+    private final ObjectMapper mapper;
+    private final TransactionOperations transactions;
+    private final long snapshotInterval;
+    private final Counter mismatches;
+
+    /**
+     * Constructor for the JournalService
+     * @param entryRepository the repository of the journal entries
+     * @param snapshotRepository the repository of the snapshots
+     * @param barrierRepository the repository of the barriers the undo history starts after
+     * @param eventRepository the event repository
+     * @param mapper the object mapper that writes the states and snapshots
+     * @param transactions runs the recovery of every event in its own transaction
+     * @param snapshotInterval the number of entries after which a new snapshot is taken
+     * @param registry the registry the journals that did not match the tables are counted in
+     */
+    @Autowired
+    public JournalService(JournalEntryRepository entryRepository,
+                          JournalSnapshotRepository snapshotRepository,
+                          UndoBarrierRepository barrierRepository,
+                          EventRepository eventRepository,
+                          ObjectMapper mapper,
+                          TransactionOperations transactions,
+                          @Value("${journal.snapshot-interval:100}") long snapshotInterval,
+                          MeterRegistry registry) {
+        this.entryRepository = entryRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.barrierRepository = barrierRepository;
+        this.eventRepository = eventRepository;
+        this.mapper = mapper;
+        this.transactions = transactions;
+        this.snapshotInterval = Math.max(1, snapshotInterval);
+        this.mismatches = Counter.builder("splitty.journal.mismatches")
+                .description("Journals that did not match the tables when the server started")
+                .register(registry);
+    }
+
+    /**
+     * Writes what is about to be changed as JSON, so that it can be journaled
+     * after the change
+     * @param state the participant, expense, tag or payment
+     * @return the state as JSON
+     */
+    public String capture(Object state) {
+        try {
+            return mapper.writeValueAsString(state);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Appends a change to the journal of an event, after the change was made. The first
+     * change to an event also takes a snapshot of it, which its journal is replayed from.
+     * @param inviteCode the invite code of the event
+     * @param type what was changed
+     * @param operation how it was changed
+     * @param entityId the id of what was changed
+     * @param parentId the id of the expense of a changed payment, null for the other types
+     * @param before what was changed as captured before the change, null when it was added
+     * @param after what was changed after the change, null when it was deleted
+     * @return the entry that was appended
+     */
+    public synchronized JournalEntry append(long inviteCode, JournalEntry.Type type,
+                                            JournalEntry.Operation operation, long entityId,
+                                            Long parentId, String before, Object after) {
+        int code = (int) inviteCode;
+        long sequenceNumber = entryRepository.findLastSequenceNumber(code).orElse(0L) + 1;
+        return save(new JournalEntry(code, sequenceNumber, type, operation, entityId, parentId,
+                before, after == null ? null : capture(after), new Date()));
+    }
+
+    /**
+     * Appends the undo or redo of an earlier entry to the journal of its event,
+     * after the earlier change was reverted
+     * @param reverted the entry that was undone or redone
+     * @param action whether it was undone or redone
+     * @param operation how what was changed by the reverted entry was changed back
+     * @param entityId the id of what was changed, which is new if it was added again
+     * @param parentId the id of the expense of a changed payment, null for the other types
+     * @param before what was changed as captured before it was reverted, null when it was added
+     * @param after what was changed after it was reverted, null when it was deleted
+     * @return the entry that was appended
+     */
+    public synchronized JournalEntry appendReversal(JournalEntry reverted,
+                                                    JournalEntry.Action action,
+                                                    JournalEntry.Operation operation,
+                                                    long entityId, Long parentId,
+                                                    String before, Object after) {
+        int code = reverted.getInviteCode();
+        long sequenceNumber = entryRepository.findLastSequenceNumber(code).orElse(0L) + 1;
+        return save(new JournalEntry(code, sequenceNumber, reverted.getType(), operation,
+                entityId, parentId, before, after == null ? null : capture(after), new Date(),
+                action, reverted.getSequenceNumber()));
+    }
+
+    /**
+     * Puts a barrier at the end of the journals of events that were changed without their
+     * journal, such as by archiving, restoring or importing them. The changes before the
+     * barrier can no longer be undone or redone, and the journal continues from a new
+     * snapshot of the tables. Events without a journal have no changes to undo.
+     * @param events the events that were changed
+     */
+    public synchronized void reset(List<Event> events) {
+        Map<Integer, Event> byInviteCode = events.stream()
+                .collect(Collectors.toMap(Event::getInviteCode, Function.identity(),
+                        (a, b) -> a));
+        for (JournalSnapshot journaled : snapshotRepository.findAllById(byInviteCode.keySet())) {
+            int code = journaled.getInviteCode();
+            long last = entryRepository.findLastSequenceNumber(code).orElse(0L);
+            barrierRepository.save(new UndoBarrier(code, last));
+            snapshot(byInviteCode.get(code), last);
+        }
+    }
+
+    /**
+     * Lists the entries of the journal of an event that can still be undone or redone,
+     * which are the entries after its barrier
+     * @param inviteCode the invite code of the event
+     * @return the entries, in order
+     */
+    public List<JournalEntry> undoHistory(int inviteCode) {
+        long start = barrierRepository.findById(inviteCode)
+                .map(UndoBarrier::getSequenceNumber).orElse(0L);
+        return entryRepository.findByInviteCodeAndSequenceNumberGreaterThanOrderBySequenceNumber(
+                inviteCode, start);
+    }
+
+    /**
+     * Stores a new entry. The first entry of an event also takes a snapshot of it.
+     * @param entry the entry
+     * @return the stored entry
+     */
+    private JournalEntry save(JournalEntry entry) {
+        JournalEntry saved = entryRepository.save(entry);
+        int code = entry.getInviteCode();
+        if (!snapshotRepository.existsById(code)) {
+            eventRepository.findById((long) code)
+                    .ifPresent(event -> snapshot(event, entry.getSequenceNumber()));
+        }
+        return saved;
+    }
+
+    /**
+     * Lists the changes to an event after the given one, for clients and projections
+     * that follow the event
+     * @param inviteCode the invite code of the event
+     * @param after the number of the last change that is already known, 0 for all changes
+     * @return the changes after it, in order
+     */
+    public ResponseEntity<List<EventChange>> getChanges(long inviteCode, long after) {
+        if (inviteCode < 0 || inviteCode > Integer.MAX_VALUE || after < 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (!eventRepository.existsById(inviteCode)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(entryRepository
+                .findByInviteCodeAndSequenceNumberGreaterThanOrderBySequenceNumber(
+                        (int) inviteCode, after)
+                .stream()
+                .map(JournalService::toChange)
+                .toList());
+    }
+
+    /**
+     * Rebuilds an event from its latest snapshot and the journal entries after it
+     * @param inviteCode the invite code of the event
+     * @return the participants, expenses and tags of the event, empty if it has no journal
+     */
+    public Optional<Event> replay(int inviteCode) {
+        return snapshotRepository.findById(inviteCode).map(snapshot -> {
+            Event event = CompressedEvents.decompress(mapper, snapshot.getContent());
+            for (JournalEntry entry : entryRepository
+                    .findByInviteCodeAndSequenceNumberGreaterThanOrderBySequenceNumber(
+                            inviteCode, snapshot.getSequenceNumber())) {
+                apply(event, entry);
+            }
+            return event;
+        });
+    }
+
+    /**
+     * Takes a new snapshot of every event with at least the configured number of journal
+     * entries since its latest snapshot, so that replaying it stays short.
+     * Runs in the background every journal.interval.
+     * @return the number of snapshots that were taken
+     */
+    @Scheduled(fixedDelayString = "${journal.interval:PT1H}",
+            initialDelayString = "${journal.interval:PT1H}")
+    public synchronized int takeSnapshots() {
+        int taken = 0;
+        for (JournalSnapshot snapshot : snapshotRepository.findAll()) {
+            int inviteCode = snapshot.getInviteCode();
+            if (entryRepository.countByInviteCodeAndSequenceNumberGreaterThan(inviteCode,
+                    snapshot.getSequenceNumber()) < snapshotInterval) {
+                continue;
+            }
+            long last = entryRepository.findLastSequenceNumber(inviteCode).orElse(0L);
+            replay(inviteCode).ifPresent(event -> snapshot(event, last));
+            taken++;
+        }
+        return taken;
+    }
+
+    /**
+     * Replays the journal of every event when the server starts, and compares the result
+     * with the tables. An event that was changed without its journal and without a barrier,
+     * for example directly in the database, gets a new snapshot of the tables to continue from.
+     * The journal of an event that no longer exists is deleted. Every mismatch is logged
+     * and counted in the splitty.journal.mismatches metric.
+     * @return the number of events whose journal did not match the tables
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized int recover() {
+        int mismatched = 0;
+        for (int inviteCode : entryRepository.findInviteCodes()) {
+            if (Boolean.FALSE.equals(transactions.execute(status -> verify(inviteCode)))) {
+                mismatched++;
+            }
+        }
+        return mismatched;
+    }
+
+    /**
+     * Replays the journal of one event and compares the result with the tables
+     * @param inviteCode the invite code of the event
+     * @return true if the replayed event matches the tables
+     */
+    private boolean verify(int inviteCode) {
+        Optional<Event> stored = eventRepository.findById((long) inviteCode);
+        if (stored.isEmpty()) {
+            entryRepository.deleteByInviteCode(inviteCode);
+            snapshotRepository.deleteById(inviteCode);
+            barrierRepository.deleteById(inviteCode);
+            return true;
+        }
+        Event event = stored.get();
+        Optional<Event> replayed = replay(inviteCode);
+        replayed.ifPresent(e -> {
+            e.setTitle(event.getTitle());
+            e.setCreationDate(event.getCreationDate());
+            e.setLastActivity(event.getLastActivity());
+        });
+        if (replayed.isPresent()
+                && ContentHash.of(replayed.get()).equals(ContentHash.of(event))) {
+            return true;
+        }
+        LOGGER.warn("The journal of event {} does not match the database, "
+                + "continuing from a new snapshot", inviteCode);
+        mismatches.increment();
+        snapshot(event, entryRepository.findLastSequenceNumber(inviteCode).orElse(0L));
+        return false;
+    }
+
+    /**
+     * Stores a snapshot of an event, replacing its previous one
+     * @param event the event
+     * @param sequenceNumber the number of the last journal entry included in the event
+     */
+    private void snapshot(Event event, long sequenceNumber) {
+        snapshotRepository.save(new JournalSnapshot(event.getInviteCode(), sequenceNumber,
+                CompressedEvents.compress(mapper, event), new Date()));
+    }
+
+    /**
+     * Applies a journal entry to a replayed event
+     * @param event the event
+     * @param entry the entry
+     */
+    private void apply(Event event, JournalEntry entry) {
+        long id = entry.getEntityId();
+        switch (entry.getType()) {
+            case EXPENSE -> replace(event.getExpensesList(), Expense::getId, id,
+                    read(entry, Expense.class));
+            case PARTICIPANT -> applyParticipant(event, id, read(entry, Participant.class));
+            case TAG -> applyTag(event, id, read(entry, Tag.class));
+            case PAYMENT -> event.getExpensesList().stream()
+                    .filter(e -> e.getSplit() != null
+                            && Objects.equals(e.getId(), entry.getParentId()))
+                    .findFirst()
+                    .ifPresent(e -> replace(e.getSplit(), ParticipantPayment::getId, id,
+                            read(entry, ParticipantPayment.class)));
+        }
+    }
+
+    /**
+     * Applies a change to a participant, which is also the payee or part of the split
+     * of some expenses
+     * @param event the replayed event
+     * @param id the id of the participant
+     * @param participant the participant after the change, null if it was deleted
+     */
+    private static void applyParticipant(Event event, long id, Participant participant) {
+        replace(event.getParticipantsList(), Participant::getId, id, participant);
+        if (participant == null) {
+            return;
+        }
+        for (Expense expense : event.getExpensesList()) {
+            if (expense.getPayee() != null && expense.getPayee().getId() == id) {
+                expense.setPayee(participant);
+            }
+            if (expense.getSplit() == null) {
+                continue;
+            }
+            for (ParticipantPayment payment : expense.getSplit()) {
+                if (payment.getParticipant() != null && payment.getParticipant().getId() == id) {
+                    payment.setParticipant(participant);
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies a change to a tag, which is also the tag of some expenses.
+     * Deleting a tag removes it from its expenses, like the tag service does.
+     * @param event the replayed event
+     * @param id the id of the tag
+     * @param tag the tag after the change, null if it was deleted
+     */
+    private static void applyTag(Event event, long id, Tag tag) {
+        replace(event.getTagsList(), Tag::getId, id, tag);
+        for (Expense expense : event.getExpensesList()) {
+            if (expense.getTag() != null && expense.getTag().getId() == id) {
+                expense.setTag(tag);
+            }
+        }
+    }
+
+    /**
+     * Replaces the element with the given id in a list, keeping its position.
+     * The element is added if it is not in the list, and removed if there is no replacement.
+     * @param list the list
+     * @param idOf gives the id of an element
+     * @param id the id of the element to replace
+     * @param replacement the new element, or null to remove it
+     * @param <T> the type of the elements
+     */
+    private static <T> void replace(List<T> list, ToLongFunction<T> idOf, long id,
+                                    T replacement) {
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i) != null && idOf.applyAsLong(list.get(i)) == id) {
+                if (replacement == null) {
+                    list.remove(i);
+                } else {
+                    list.set(i, replacement);
+                }
+                return;
+            }
+        }
+        if (replacement != null) {
+            list.add(replacement);
+        }
+    }
+
+    /**
+     * Reads the state after the change of a journal entry
+     * @param entry the entry
+     * @param type the class of what was changed
+     * @param <T> the type of what was changed
+     * @return what was changed, or null if it was deleted
+     */
+    private <T> T read(JournalEntry entry, Class<T> type) {
+        if (entry.getAfterState() == null) {
+            return null;
+        }
+        try {
+            return mapper.readValue(entry.getAfterState(), type);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Converts a journal entry to the change that is listed in the change feed
+     * @param entry the entry
+     * @return the change
+     */
+    public static EventChange toChange(JournalEntry entry) {
+        return new EventChange(entry.getSequenceNumber(), entry.getType().getParam(),
+                entry.getOperation().getParam(), entry.getEntityId(), entry.getParentId(),
+                entry.getOperation() == JournalEntry.Operation.DELETE
+                        ? entry.getBeforeState() : entry.getAfterState(),
+                entry.getRecordedAt(), entry.getAction().getParam(), entry.getReverts());
+    }
+}
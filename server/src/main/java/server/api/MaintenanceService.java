@@ -0,0 +1,223 @@
+package server.api;
+
+import commons.StorageStats;
+import org.h2.engine.Session;
+import org.h2.engine.SessionLocal;
+import org.h2.jdbc.JdbcConnection;
+import org.h2.mvstore.db.Store;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import server.TrafficMonitor;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+public class MaintenanceService {
+
+    private static final String SNAPSHOT_PREFIX = "splitty-";
+    private static final String SNAPSHOT_SUFFIX = ".zip";
+
+    private final DataSource dataSource;
+    private final TrafficMonitor traffic;
+    private final long quietRequests;
+    private final int maxCompactTime;
+    private final Path snapshotDirectory;
+    private final int retention;
+
+    private long lastCompactionMillis = -1;
+    private Date lastCompaction;
+    private Date lastSnapshot;
+    private long snapshotVersion = -1;
+
+    /**
+     * Constructor for the MaintenanceService
+     * @param dataSource the data source of the H2 database
+     * @param traffic counts the requests, to only do maintenance when the server is quiet
+     * @param quietRequests the maximum number of requests since the last run
+     *                      for the server to count as quiet
+     * @param maxCompactTime the maximum time in milliseconds one compaction may take
+     * @param snapshotDirectory the directory the snapshots are written to
+     * @param retention the number of snapshots that are kept
+     */
+    @Autowired
+    public MaintenanceService(DataSource dataSource, TrafficMonitor traffic,
+                              @Value("${maintenance.quiet-requests:50}") long quietRequests,
+                              @Value("${maintenance.compact-time-ms:5000}") int maxCompactTime,
+                              @Value("${maintenance.snapshot-dir:./snapshots}")
+                              Path snapshotDirectory,
+                              @Value("${maintenance.snapshot-retention:24}") int retention) {
+        this.dataSource = dataSource;
+        this.traffic = traffic;
+        this.quietRequests = quietRequests;
+        this.maxCompactTime = maxCompactTime;
+        this.snapshotDirectory = snapshotDirectory;
+        this.retention = Math.max(1, retention);
+    }
+
+    /**
+     * Takes a snapshot and compacts the database when there were few requests since the
+     * last run. Runs in the background every maintenance.interval.
+     * @return true if the maintenance was done, false if the server was too busy
+     */
+    @Scheduled(fixedDelayString = "${maintenance.interval:PT1H}",
+            initialDelayString = "${maintenance.interval:PT1H}")
+    public boolean runMaintenance() {
+        if (traffic.getAndReset() > quietRequests) {
+            return false;
+        }
+        try {
+            snapshot();
+            compact();
+            return true;
+        } catch (SQLException | IOException e) {
+            System.out.println("Database maintenance failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Compacts the database file while the server keeps running: chunks with a low fill rate
+     * are rewritten and moved together, so the file can shrink. Compaction writes a new
+     * version of the store without changing any data, so it does not need a new snapshot.
+     * @return true if the database was compacted, false if it is not a file database
+     * @throws SQLException if the database could not be reached
+     */
+    public synchronized boolean compact() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            Store store = store(connection);
+            if (store == null || store.getMvStore().getFileStore() == null) {
+                return false;
+            }
+            boolean snapshotUpToDate = store.getMvStore().getCurrentVersion() == snapshotVersion;
+            long start = System.nanoTime();
+            store.compactFile(maxCompactTime);
+            lastCompactionMillis = (System.nanoTime() - start) / 1_000_000;
+            lastCompaction = new Date();
+            if (snapshotUpToDate) {
+                snapshotVersion = store.getMvStore().getCurrentVersion();
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Writes a consistent snapshot of the database to the snapshot directory, while the
+     * server keeps running. No snapshot is taken when nothing changed since the last one,
+     * and only the newest snapshots are kept.
+     * @return the snapshot, or null if nothing changed or it is not a file database
+     * @throws SQLException if the snapshot could not be written
+     * @throws IOException if the snapshot directory could not be used
+     */
+    public synchronized Path snapshot() throws SQLException, IOException {
+        try (Connection connection = dataSource.getConnection()) {
+            Store store = store(connection);
+            if (store == null || store.getMvStore().getFileStore() == null
+                    || store.getMvStore().getCurrentVersion() == snapshotVersion) {
+                return null;
+            }
+            Files.createDirectories(snapshotDirectory);
+            Date now = new Date();
+            Path snapshot = snapshotDirectory.resolve(SNAPSHOT_PREFIX
+                    + new SimpleDateFormat("yyyyMMdd-HHmmss-SSS").format(now) + SNAPSHOT_SUFFIX);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("BACKUP TO '"
+                        + snapshot.toAbsolutePath().toString().replace("'", "''") + "'");
+            }
+            snapshotVersion = store.getMvStore().getCurrentVersion();
+            lastSnapshot = now;
+            pruneSnapshots();
+            return snapshot;
+        }
+    }
+
+    /**
+     * Deletes the oldest snapshots, keeping the configured number of snapshots
+     * @throws IOException if the snapshots could not be listed or deleted
+     */
+    private void pruneSnapshots() throws IOException {
+        List<Path> snapshots;
+        try (Stream<Path> files = Files.list(snapshotDirectory)) {
+            snapshots = files.filter(MaintenanceService::isSnapshot).sorted().toList();
+        }
+        for (int i = 0; i < snapshots.size() - retention; i++) {
+            Files.delete(snapshots.get(i));
+        }
+    }
+
+    /**
+     * Checks whether a file is a snapshot written by this service
+     * @param file the file
+     * @return true if the file is a snapshot
+     */
+    private static boolean isSnapshot(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(SNAPSHOT_SUFFIX);
+    }
+
+    /**
+     * Gets the size and fill rate of the database file, and when the last compaction
+     * and snapshot were done
+     * @return the statistics of the database file
+     * @throws SQLException if the database could not be reached
+     */
+    public synchronized StorageStats getStats() throws SQLException {
+        long fileSize = 0;
+        int fillRate = 0;
+        int chunksFillRate = 0;
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            try (ResultSet path = statement.executeQuery("SELECT DATABASE_PATH()")) {
+                if (path.next() && path.getString(1) != null) {
+                    Path file = Path.of(path.getString(1) + ".mv.db");
+                    fileSize = Files.exists(file) ? Files.size(file) : 0;
+                }
+            } catch (IOException e) {
+                fileSize = -1;
+            }
+            try (ResultSet settings = statement.executeQuery("SELECT SETTING_NAME, "
+                    + "SETTING_VALUE FROM INFORMATION_SCHEMA.SETTINGS WHERE SETTING_NAME "
+                    + "IN ('info.FILL_RATE', 'info.CHUNKS_FILL_RATE')")) {
+                while (settings.next()) {
+                    int value = Integer.parseInt(settings.getString(2));
+                    if (settings.getString(1).equals("info.FILL_RATE")) {
+                        fillRate = value;
+                    } else {
+                        chunksFillRate = value;
+                    }
+                }
+            }
+        }
+        return new StorageStats(fileSize, fillRate, chunksFillRate,
+                lastCompactionMillis, lastCompaction, lastSnapshot);
+    }
+
+    /**
+     * Gets the store of an embedded H2 database
+     * @param connection a connection to the database
+     * @return the store, or null if the database is not an embedded H2 database
+     * @throws SQLException if the connection could not be unwrapped
+     */
+    private static Store store(Connection connection) throws SQLException {
+        if (!connection.isWrapperFor(JdbcConnection.class)) {
+            return null;
+        }
+        Session session = connection.unwrap(JdbcConnection.class).getSession();
+        if (session instanceof SessionLocal local) {
+            return local.getDatabase().getStore();
+        }
+        return null;
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import server.jfr.MutationEvent;
 
 import java.util.List;
 import java.util.Objects;
@@ -73,7 +74,8 @@ public class ParticipantController {
     public ResponseEntity<Participant> addParticipant(
             @PathVariable("eventId") long eventId,
             @RequestBody Participant participant){
-        var resp =  participantService.addParticipant(eventId, participant,serverUtil);
+        var resp = MutationEvent.record("participant", "add", eventId,
+                () -> participantService.addParticipant(eventId, participant, serverUtil));
         if (resp.getStatusCode().equals(HttpStatusCode.valueOf(200))) {
             messagingTemplate.convertAndSend("/topic/events/" + eventId + "/participants",
                     Objects.requireNonNull(resp.getBody()));
@@ -93,7 +95,9 @@ public class ParticipantController {
             @PathVariable("eventId") long eventId,
             @PathVariable("id") long id,
             @RequestBody Participant participant){
-        var resp = participantService.updateParticipant(eventId, id,participant,serverUtil);
+        var resp = MutationEvent.record("participant", "update", eventId,
+                () -> participantService.updateParticipant(eventId, id, participant,
+                        serverUtil));
         if (resp.getStatusCode().equals(HttpStatusCode.valueOf(200))) {
             messagingTemplate.convertAndSend("/topic/events/" + eventId + "/participants/" + id,
                     Objects.requireNonNull(resp.getBody()));
@@ -110,7 +114,8 @@ public class ParticipantController {
     public ResponseEntity<Participant> deleteParticipant(
             @PathVariable("eventId") long eventId,
             @PathVariable("id") long id){
-        var resp = participantService.deleteParticipant(eventId, id,serverUtil);
+        var resp = MutationEvent.record("participant", "delete", eventId,
+                () -> participantService.deleteParticipant(eventId, id, serverUtil));
         if (resp.getStatusCode().equals(HttpStatusCode.valueOf(200))) {
             Participant temp = new Participant("", "", "deleted", "");
             temp.setId(id);
@@ -5,10 +5,12 @@ import commons.Expense;
 import commons.Participant;
 import commons.ParticipantPayment;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import server.database.EventRepository;
+import server.database.JournalEntry;
 import server.database.ParticipantPaymentRepository;
 import server.database.ParticipantRepository;
 
@@ -23,20 +25,24 @@ public class ParticipantPaymentService {
     private final ParticipantRepository participantRepository;
     private final ParticipantPaymentRepository participantPaymentRepository;
     private final EventRepository eventRepository;
+    private final JournalService journal;
 
     /**
      * Constructor for the participantpayment service
      * @param participantRepository repository for participants
      * @param participantPaymentRepository repository for the participantPayments
      * @param eventRepository repository for events
+     * @param journal the journal the changes to participant payments are appended to
      */
     @Autowired
     public ParticipantPaymentService(ParticipantRepository participantRepository,
                                      ParticipantPaymentRepository participantPaymentRepository,
-                                     EventRepository eventRepository) {
+                                     EventRepository eventRepository,
+                                     JournalService journal) {
         this.participantRepository = participantRepository;
         this.participantPaymentRepository = participantPaymentRepository;
         this.eventRepository = eventRepository;
+        this.journal = journal;
     }
 
     /**
@@ -94,6 +100,7 @@ public class ParticipantPaymentService {
      * @param serverUtil
      * @return the participantpayment if successfully added
      */
+    @Transactional
     public ResponseEntity<ParticipantPayment> createParticipantPayment(
             long eventId, long expenseId, ParticipantPayment participantPayment,
             GerneralServerUtil serverUtil) {
@@ -111,11 +118,13 @@ public class ParticipantPaymentService {
         if(participantPayment.getPaymentAmount() < 0) return ResponseEntity.badRequest().build();
         List<ParticipantPayment> participantPaymentList =
                 getAllParticipantPayment(eventId,expenseId).getBody();
-        participantPaymentRepository.save(participantPayment);
         participantPaymentList.add(participantPayment);
+        participantPaymentRepository.save(participantPayment);
         Event event = eventRepository.findById(eventId).get();
         serverUtil.updateDate(eventRepository,eventId);
         eventRepository.save(event);
+        journal.append(eventId, JournalEntry.Type.PAYMENT, JournalEntry.Operation.ADD,
+                participantPayment.getId(), expenseId, null, participantPayment);
         return ResponseEntity.ok(participantPayment);
     }
 
@@ -147,9 +156,12 @@ public class ParticipantPaymentService {
         ParticipantPayment old = searchResult.getBody();
         if(old == null || participantPayment.getPaymentAmount() < 0)
             return ResponseEntity.badRequest().build();
+        String before = journal.capture(old);
         old.setParticipant(participantPayment.getParticipant());
         old.setPaymentAmount(participantPayment.getPaymentAmount());
         serverUtil.updateDate(eventRepository,eventId);
+        journal.append(eventId, JournalEntry.Type.PAYMENT, JournalEntry.Operation.UPDATE,
+                id, expenseId, before, old);
         return ResponseEntity.ok(old);
     }
 
@@ -174,11 +186,14 @@ public class ParticipantPaymentService {
         if(resultFindAll.getBody() == null || resultFindSpec.getBody() == null)
             return ResponseEntity.badRequest().build();
         List<ParticipantPayment> listForAll = resultFindAll.getBody();
+        String before = journal.capture(resultFindSpec.getBody());
+        listForAll.remove(resultFindSpec.getBody());
+        participantPaymentRepository.deleteById(id);
         Event event = eventRepository.findById(eventId).get();
         serverUtil.updateDate(eventRepository,eventId);
         eventRepository.save(event);
-        listForAll.remove(resultFindSpec.getBody());
-        participantPaymentRepository.deleteById(id);
+        journal.append(eventId, JournalEntry.Type.PAYMENT, JournalEntry.Operation.DELETE,
+                id, expenseId, before, null);
         return ResponseEntity.ok(resultFindSpec.getBody());
     }
 
@@ -7,6 +7,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import server.database.EventRepository;
+import server.database.JournalEntry;
 import server.database.ParticipantRepository;
 
 import java.util.List;
@@ -18,16 +19,20 @@ import static org.springframework.http.HttpStatus.*;
 public class ParticipantService {
     private final EventRepository eventRepository;
     private final ParticipantRepository participantRepository;
+    private final JournalService journal;
 
     /**
      * ParticipantService Constructor
      * @param eventRepository the event repository to retrieve events from
+     * @param journal the journal the changes to participants are appended to
      */
     @Autowired
     public ParticipantService(EventRepository eventRepository,
-                              ParticipantRepository participantRepository){
+                              ParticipantRepository participantRepository,
+                              JournalService journal){
         this.eventRepository = eventRepository;
         this.participantRepository = participantRepository;
+        this.journal = journal;
     }
 
     /**
@@ -78,6 +83,7 @@ public class ParticipantService {
      * @param serverUtil
      * @return participant if successfully added to event
      */
+    @Transactional
     public ResponseEntity<Participant> addParticipant(long eventId, Participant participant,
                                                       GerneralServerUtil serverUtil) {
         if(getAllParticipants(eventId).getStatusCode().equals(BAD_REQUEST)){
@@ -97,11 +103,13 @@ public class ParticipantService {
             return ResponseEntity.badRequest().build();
         }
 
-        participantRepository.save(participant);
         currentParticipants.add(participant);
+        participantRepository.save(participant);
         Event event = eventRepository.findById(eventId).get();
         serverUtil.updateDate(eventRepository,eventId);
         eventRepository.save(event);
+        journal.append(eventId, JournalEntry.Type.PARTICIPANT, JournalEntry.Operation.ADD,
+                participant.getId(), null, null, participant);
         return ResponseEntity.ok(participant);
     }
 
@@ -126,11 +134,14 @@ public class ParticipantService {
                 || !validateBankInfo(participant)){
             return ResponseEntity.badRequest().build();
         }
+        String before = journal.capture(old);
         old.setName(participant.getName());
         old.setBic(participant.getBic());
         old.setIban(participant.getIban());
         old.setEmail(participant.getEmail());
         serverUtil.updateDate(eventRepository,eventId);
+        journal.append(eventId, JournalEntry.Type.PARTICIPANT, JournalEntry.Operation.UPDATE,
+                id, null, before, old);
         return ResponseEntity.ok(participant);
     }
 
@@ -153,12 +164,15 @@ public class ParticipantService {
         if(participant == null || participantList == null){
             return ResponseEntity.badRequest().build();
         }
+        String before = journal.capture(participant);
         participantList.remove(participant);
         participantRepository.deleteById(id);
         Event event = eventRepository.findById(eventId).get();
         serverUtil.updateDate(eventRepository,eventId);
         eventRepository.save(event);
         eventRepository.getReferenceById(eventId).setParticipantsList(participantList);
+        journal.append(eventId, JournalEntry.Type.PARTICIPANT, JournalEntry.Operation.DELETE,
+                id, null, before, null);
         return ResponseEntity.ok(participant);
     }
 
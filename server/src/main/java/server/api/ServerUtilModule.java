@@ -21,6 +21,7 @@ public class ServerUtilModule implements GerneralServerUtil{
         Date date = new Date();
         Timestamp timestamp2 = new Timestamp(date.getTime());
         event.setLastActivity(timestamp2);
+        event.clearContentHash();
         eventRepo.save(event);
     }
 }
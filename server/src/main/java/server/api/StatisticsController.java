@@ -0,0 +1,56 @@
+package server.api;
+
+import commons.EventStatistics;
+import commons.ParticipantSummary;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import server.jfr.BalanceEvent;
+
+import java.util.Date;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/events/{id}/statistics")
+public class StatisticsController {
+    private final StatisticsService statisticsService;
+
+    /**
+     * Constructor for the StatisticsController
+     * @param statisticsService the associated service for statistics
+     */
+    public StatisticsController(StatisticsService statisticsService) {
+        this.statisticsService = statisticsService;
+    }
+
+    /**
+     * @param id the id of the event to get the statistics of
+     * @param currency the currency to express the amounts in
+     * @param from the earliest date of the expenses, in milliseconds since the epoch
+     * @param to the latest date of the expenses, in milliseconds since the epoch
+     * @return the amount spent per tag, per participant and in total
+     */
+    @GetMapping(path = { "" })
+    public ResponseEntity<EventStatistics> getStatistics(
+            @PathVariable("id") long id,
+            @RequestParam(value = "currency", defaultValue = "EUR") String currency,
+            @RequestParam(value = "from", required = false) Long from,
+            @RequestParam(value = "to", required = false) Long to) {
+        return BalanceEvent.record("statistics", id, () -> statisticsService.getStatistics(id,
+                currency, from == null ? null : new Date(from), to == null ? null : new Date(to)));
+    }
+
+    /**
+     * @param id the id of the event to get the participant summaries of
+     * @param participant the id of the participant, or nothing for all participants
+     * @param currency the currency to express the amounts in
+     * @return the share, debt, owed and expense counts of the participants
+     */
+    @GetMapping(path = { "/participants" })
+    public ResponseEntity<List<ParticipantSummary>> getParticipantSummaries(
+            @PathVariable("id") long id,
+            @RequestParam(value = "participant", required = false) Long participant,
+            @RequestParam(value = "currency", defaultValue = "EUR") String currency) {
+        return BalanceEvent.record("participant summaries", id,
+                () -> statisticsService.getParticipantSummaries(id, participant, currency));
+    }
+}
@@ -0,0 +1,184 @@
+package server.api;
+
+import commons.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import server.database.EventRepository;
+import server.database.ExpenseAggregate;
+import server.database.ExpenseRepository;
+
+import java.util.*;
+
+@Service
+public class StatisticsService {
+    /**
+     * The maximum number of statistics that are kept in the cache
+     */
+    public static final int MAX_CACHED = 256;
+    private static final Date EARLIEST = new Date(0);
+    private static final Date LATEST = new Date(253402300799999L);
+
+    private final EventRepository eventRepo;
+    private final ExpenseRepository expenseRepo;
+    private final CurrencyService currencyService;
+    private final Map<Key, Cached> cache = Collections.synchronizedMap(new LruMap());
+
+    /**
+     * The request that statistics were computed for
+     * @param id the id of the event
+     * @param currency the currency of the statistics
+     * @param from the earliest date of the expenses
+     * @param to the latest date of the expenses
+     */
+    private record Key(long id, String currency, Date from, Date to) {
+    }
+
+    /**
+     * Statistics together with the version of the event they were computed from
+     * @param version the last activity of the event
+     * @param statistics the statistics
+     */
+    private record Cached(long version, EventStatistics statistics) {
+    }
+
+    /**
+     * Map that forgets the statistics that were least recently asked for
+     */
+    private static class LruMap extends LinkedHashMap<Key, Cached> {
+        /**
+         * Constructor for a map in access order
+         */
+        LruMap() {
+            super(16, 0.75f, true);
+        }
+
+        /**
+         * @param eldest the least recently used entry
+         * @return whether the map is over its maximum size
+         */
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Cached> eldest) {
+            return size() > MAX_CACHED;
+        }
+    }
+
+    /**
+     * Constructor for the StatisticsService
+     * @param eventRepo the repo of events
+     * @param expenseRepo the repo of expenses
+     * @param currencyService the service that provides exchange rates
+     */
+    @Autowired
+    public StatisticsService(EventRepository eventRepo,
+                             ExpenseRepository expenseRepo,
+                             CurrencyService currencyService) {
+        this.eventRepo = eventRepo;
+        this.expenseRepo = expenseRepo;
+        this.currencyService = currencyService;
+    }
+
+    /**
+     * Gets the amount spent per tag, per payee and in total in an event.
+     * The sums are computed by the database per tag, payee, currency and date,
+     * so only those groups have to be converted. The result is cached until the
+     * last activity of the event changes, which happens on every change to the event.
+     * @param id the id of the event
+     * @param currency the currency to express the amounts in
+     * @param from the earliest date of the expenses, or null
+     * @param to the latest date of the expenses, or null
+     * @return the statistics of the event
+     */
+    public ResponseEntity<EventStatistics> getStatistics(long id, String currency,
+                                                         Date from, Date to) {
+        if (id < 0 || currency == null || currency.length() != 3) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (!eventRepo.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        long version = eventRepo.findLastActivity((int) id).map(Date::getTime).orElse(0L);
+        Key key = new Key(id, currency, from, to);
+        Cached cached = cache.get(key);
+        if (cached != null && cached.version() == version) {
+            return ResponseEntity.ok(cached.statistics());
+        }
+        EventStatistics statistics = new EventStatistics(currency);
+        ExchangeRates rates = new ExchangeRates(currencyService, currency);
+        for (ExpenseAggregate aggregate : expenseRepo.aggregate((int) id,
+                from == null ? EARLIEST : from, to == null ? LATEST : to)) {
+            Double rate = rates.rate(aggregate.date(), aggregate.currency());
+            if (rate == null) {
+                return ResponseEntity.status(HttpStatus.BAD_GATEWAY).build();
+            }
+            statistics.add(aggregate.tag(), aggregate.payee(), aggregate.amount() * rate);
+        }
+        cache.put(key, new Cached(version, statistics));
+        return ResponseEntity.ok(statistics);
+    }
+
+    /**
+     * Gets how much participants of an event owe, are owed, and how many expenses they
+     * paid or take part in, for one participant or all of them, in one pass over the expenses.
+     * @param id the id of the event
+     * @param participantId the id of the participant, or null for all participants
+     * @param currency the currency to express the amounts in
+     * @return the summaries of the participants, in the order of the event
+     */
+    public ResponseEntity<List<ParticipantSummary>> getParticipantSummaries(
+            long id, Long participantId, String currency) {
+        if (id < 0 || participantId != null && participantId < 0
+                || currency == null || currency.length() != 3) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (!eventRepo.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        Event event = eventRepo.findById(id).get();
+        Map<Long, ParticipantSummary> summaries = new LinkedHashMap<>();
+        for (Participant participant : event.getParticipantsList()) {
+            summaries.put(participant.getId(), new ParticipantSummary(participant.getId()));
+        }
+        if (participantId != null && !summaries.containsKey(participantId)) {
+            return ResponseEntity.notFound().build();
+        }
+        ExchangeRates rates = new ExchangeRates(currencyService, currency);
+        for (Expense expense : event.getExpensesList()) {
+            Double rate = rates.rate(expense.getDate(), expense.getCurrency());
+            if (rate == null) {
+                return ResponseEntity.status(HttpStatus.BAD_GATEWAY).build();
+            }
+            addExpense(summaries, expense, rate);
+        }
+        if (participantId != null) {
+            return ResponseEntity.ok(List.of(summaries.get(participantId)));
+        }
+        return ResponseEntity.ok(new ArrayList<>(summaries.values()));
+    }
+
+    /**
+     * Adds an expense to the summaries of the participant that paid it
+     * and the participants it is split to
+     * @param summaries the summaries of the participants, by their id
+     * @param expense the expense
+     * @param rate the exchange rate of the expense to the currency of the summaries
+     */
+    private void addExpense(Map<Long, ParticipantSummary> summaries, Expense expense,
+                            double rate) {
+        Long payee = expense.getPayee() == null ? null : expense.getPayee().getId();
+        ParticipantSummary payer = summaries.get(payee);
+        if (payer != null) payer.setPaidCount(payer.getPaidCount() + 1);
+        if (expense.getSplit() == null) return;
+        for (ParticipantPayment payment : expense.getSplit()) {
+            if (payment.getParticipant() == null) continue;
+            long part = payment.getParticipant().getId();
+            ParticipantSummary summary = summaries.get(part);
+            if (summary != null) summary.setInvolvedCount(summary.getInvolvedCount() + 1);
+            if (payee != null && part == payee) continue;
+            double amount = payment.getPaymentAmount() * rate;
+            if (summary != null) summary.addPart(false, amount);
+            if (payer != null) payer.addPart(true, amount);
+        }
+    }
+}
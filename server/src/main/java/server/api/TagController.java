@@ -7,6 +7,7 @@ import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.web.bind.annotation.*;
+import server.jfr.MutationEvent;
 
 import java.util.List;
 import java.util.Objects;
@@ -70,7 +71,8 @@ public class TagController {
     @PostMapping(path = {"/{inviteCode}/tags"})
     public ResponseEntity<Tag> addNewToEvent(@PathVariable("inviteCode") long inviteCode,
                                       @RequestBody Tag tag){
-        var resp = tagService.addNewToEvent(inviteCode, tag,serverUtil);
+        var resp = MutationEvent.record("tag", "add", inviteCode,
+                () -> tagService.addNewToEvent(inviteCode, tag, serverUtil));
         if (resp.getStatusCode().equals(HttpStatusCode.valueOf(200))) {
             messagingTemplate.convertAndSend("/topic/events/" + inviteCode + "/tags",
                     Objects.requireNonNull(resp.getBody()));
@@ -89,7 +91,8 @@ public class TagController {
     public ResponseEntity<Tag> changeTag(@PathVariable("inviteCode") long inviteCode,
                                           @PathVariable("tagId") long tagId,
                                           @RequestBody Tag tag){
-        var resp = tagService.changeTag(inviteCode, tagId, tag,serverUtil);
+        var resp = MutationEvent.record("tag", "update", inviteCode,
+                () -> tagService.changeTag(inviteCode, tagId, tag, serverUtil));
         if (resp.getStatusCode().equals(HttpStatusCode.valueOf(200))) {
             messagingTemplate.convertAndSend("/topic/events/" + inviteCode + "/tags/" + tagId,
                     Objects.requireNonNull(resp.getBody()));
@@ -106,7 +109,8 @@ public class TagController {
     @DeleteMapping(path = {"/{inviteCode}/tags/{tagId}"})
     public ResponseEntity<Tag> deleteTagFromEvent(@PathVariable("inviteCode") long inviteCode,
                                                   @PathVariable("tagId") long tagId){
-        var resp = tagService.deleteTagFromEvent(inviteCode, tagId,serverUtil);
+        var resp = MutationEvent.record("tag", "delete", inviteCode,
+                () -> tagService.deleteTagFromEvent(inviteCode, tagId, serverUtil));
         if (resp.getStatusCode().equals(HttpStatusCode.valueOf(200))) {
             Tag toSend = new Tag(resp.getBody().getName(),"deleted");
             toSend.setId(tagId);
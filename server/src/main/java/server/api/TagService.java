@@ -3,10 +3,13 @@ package server.api;
 import commons.Event;
 import commons.Expense;
 import commons.Tag;
+import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import server.database.EventRepository;
+import server.database.ExpenseRepository;
+import server.database.JournalEntry;
 import server.database.TagRepository;
 
 import java.util.*;
@@ -15,39 +18,39 @@ import java.util.*;
 public class TagService {
     private final EventRepository eventRepo;
     private final TagRepository tagRepo;
+    private final ExpenseRepository expenseRepo;
+    private final JournalService journal;
 
     /**
      * Constructor of the tagservice
      *
      * @param eventRepo The repository in which the events are stored
+     * @param tagRepo The repository in which the tags are stored
+     * @param expenseRepo The repository in which the expenses are stored
+     * @param journal The journal the changes to tags are appended to
      */
     @Autowired
-    public TagService(EventRepository eventRepo, TagRepository tagRepo) {
+    public TagService(EventRepository eventRepo, TagRepository tagRepo,
+                      ExpenseRepository expenseRepo, JournalService journal) {
         this.eventRepo = eventRepo;
         this.tagRepo = tagRepo;
+        this.expenseRepo = expenseRepo;
+        this.journal = journal;
     }
 
     /**
      * Returns all expenses within an event which have been tagged with
-     * a certain tag
+     * a certain tag. Expenses without a tag are never included.
      *
      * @param inviteCode of the event which contains the expenses
      * @param tagName the name of the tag to search for
      * @return the list of all expenses with this tag
      */
     public ResponseEntity<List<Expense>> getAllExpensesWithTag(long inviteCode, String tagName) {
-        if (inviteCode < 0 || !eventRepo.existsById(inviteCode) ||
-                eventRepo.findById(inviteCode).get().getExpensesList() == null) {
+        if (inviteCode < 0 || !eventRepo.existsById(inviteCode)) {
             return ResponseEntity.notFound().build();
         }
-        Event tmpEvent = eventRepo.findById(inviteCode).get();
-        List<Expense> res = new ArrayList<>();
-        for (Expense expense : tmpEvent.getExpensesList()) {
-            if (expense.getTag().getName().equals(tagName)) {
-                res.add(expense);
-            }
-        }
-        return ResponseEntity.ok(res);
+        return ResponseEntity.ok(expenseRepo.findWithTag((int) inviteCode, tagName));
     }
 
     /**
@@ -72,6 +75,7 @@ public class TagService {
      * @param serverUtil
      * @return whether the tag could be added to the event
      */
+    @Transactional
     public ResponseEntity<Tag> addNewToEvent(long inviteCode, Tag tag,
                                              GerneralServerUtil serverUtil) {
         if (inviteCode < 0 || !eventRepo.existsById(inviteCode) ||
@@ -91,6 +95,8 @@ public class TagService {
         tagRepo.save(tag);
         serverUtil.updateDate(eventRepo,inviteCode);
         eventRepo.save(event);
+        journal.append(inviteCode, JournalEntry.Type.TAG, JournalEntry.Operation.ADD,
+                tag.getId(), null, null, tag);
 
         return ResponseEntity.ok(tag);
     }
@@ -117,11 +123,14 @@ public class TagService {
             return ResponseEntity.badRequest().build();
         }
         Event event = eventRepo.findById(inviteCode).get();
-        serverUtil.updateDate(eventRepo,inviteCode);
         Tag change = tagRepo.findById(tagId).get();
+        String before = journal.capture(change);
         change.setColor(tag.getColor());
         change.setName(tag.getName());
         tagRepo.save(change);
+        serverUtil.updateDate(eventRepo,inviteCode);
+        journal.append(inviteCode, JournalEntry.Type.TAG, JournalEntry.Operation.UPDATE,
+                tagId, null, before, change);
         return ResponseEntity.ok(change);
     }
 
@@ -145,14 +154,18 @@ public class TagService {
         Event event = eventRepo.findById(inviteCode).get();
         serverUtil.updateDate(eventRepo,inviteCode);
         Tag test = tagRepo.findById(tagId).get();
+        String before = journal.capture(test);
         for(Expense expense : event.getExpensesList()) {
             if (test.equals(expense.getTag())) {
                 expense.setTag(null);
             }
         }
         event.getTagsList().remove(test);
+        event.clearContentHash();
         eventRepo.save(event);
         tagRepo.deleteAllById(Collections.singleton(tagId));
+        journal.append(inviteCode, JournalEntry.Type.TAG, JournalEntry.Operation.DELETE,
+                tagId, null, before, null);
         return ResponseEntity.ok(test);
     }
 
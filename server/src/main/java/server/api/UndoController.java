@@ -0,0 +1,72 @@
+package server.api;
+
+import commons.EventChange;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.web.bind.annotation.*;
+import server.jfr.MutationEvent;
+
+import java.util.Objects;
+
+@RestController
+@RequestMapping("/api/events/{id}")
+public class UndoController {
+    private final UndoService undoService;
+
+    private final GerneralServerUtil serverUtil;
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    /**
+     * Constructor for the UndoController
+     * @param undoService the service that undoes and redoes changes
+     * @param serverUtil updates the last activity of the events
+     * @param messagingTemplate sends the undone and redone changes to the clients
+     */
+    public UndoController(UndoService undoService,
+                          @Qualifier("serverUtilImpl") GerneralServerUtil serverUtil,
+                          SimpMessagingTemplate messagingTemplate) {
+        this.undoService = undoService;
+        this.serverUtil = serverUtil;
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    /**
+     * @param id the id of the event to undo a change of
+     * @param entry the sequence number of the change to undo, the latest change if not given
+     * @return the undo, not found if there is nothing to undo, or conflict if what was
+     *         changed was changed again since
+     */
+    @PostMapping(path = {"/undo"})
+    public ResponseEntity<EventChange> undo(@PathVariable("id") long id,
+            @RequestParam(value = "entry", required = false) Long entry) {
+        return broadcast(id, MutationEvent.record("journal", "undo", id,
+                () -> undoService.undo(id, entry, serverUtil)));
+    }
+
+    /**
+     * @param id the id of the event to redo the latest undone change of
+     * @return the redo, or not found if there is nothing to redo
+     */
+    @PostMapping(path = {"/redo"})
+    public ResponseEntity<EventChange> redo(@PathVariable("id") long id) {
+        return broadcast(id, MutationEvent.record("journal", "redo", id,
+                () -> undoService.redo(id, serverUtil)));
+    }
+
+    /**
+     * Sends a successful undo or redo to the clients of the event
+     * @param id the id of the event
+     * @param resp the response of the undo or redo
+     * @return the response
+     */
+    private ResponseEntity<EventChange> broadcast(long id, ResponseEntity<EventChange> resp) {
+        if (resp.getStatusCode().equals(HttpStatusCode.valueOf(200))) {
+            messagingTemplate.convertAndSend("/topic/events/" + id + "/changes",
+                    Objects.requireNonNull(resp.getBody()));
+        }
+        return resp;
+    }
+}
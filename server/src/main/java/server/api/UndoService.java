@@ -0,0 +1,569 @@
+package server.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import commons.Event;
+import commons.EventChange;
+import commons.Expense;
+import commons.Participant;
+import commons.ParticipantPayment;
+import commons.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+import server.database.EventRepository;
+import server.database.ExpenseRepository;
+import server.database.JournalEntry;
+import server.database.ParticipantPaymentRepository;
+import server.database.ParticipantRepository;
+import server.database.TagRepository;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Undoes and redoes the changes to the participants, expenses, tags and payments of an event,
+ * using the journal of the event. Every entry of the journal holds what was changed as it was
+ * before the change, so undoing a change restores that state, and redoing it restores the
+ * state from before the undo. Undo and redo are shared by everyone working on the event.
+ */
+@Service
+public class UndoService {
+
+    private final JournalService journal;
+    private final EventRepository eventRepository;
+    private final ExpenseRepository expenseRepository;
+    private final ParticipantRepository participantRepository;
+    private final TagRepository tagRepository;
+    private final ParticipantPaymentRepository paymentRepository;
+    private final ObjectMapper mapper;
+    private final TransactionOperations transactions;
+
+    /**
+     * Constructor for the UndoService
+     * @param journal the journal the undone and redone changes are appended to
+     * @param eventRepository the event repository
+     * @param expenseRepository the expense repository
+     * @param participantRepository the participant repository
+     * @param tagRepository the tag repository
+     * @param paymentRepository the participant payment repository
+     * @param mapper the object mapper that reads the states in the journal
+     * @param transactions runs every undo and redo in one transaction
+     */
+    @Autowired
+    public UndoService(JournalService journal,
+                       EventRepository eventRepository,
+                       ExpenseRepository expenseRepository,
+                       ParticipantRepository participantRepository,
+                       TagRepository tagRepository,
+                       ParticipantPaymentRepository paymentRepository,
+                       ObjectMapper mapper,
+                       TransactionOperations transactions) {
+        this.journal = journal;
+        this.eventRepository = eventRepository;
+        this.expenseRepository = expenseRepository;
+        this.participantRepository = participantRepository;
+        this.tagRepository = tagRepository;
+        this.paymentRepository = paymentRepository;
+        this.mapper = mapper;
+        this.transactions = transactions;
+    }
+
+    /**
+     * Undoes a change to an event that is not undone yet. A client that undoes its own change
+     * names the entry of that change, which can only be undone as long as what it changed
+     * was not changed again since.
+     * @param inviteCode the invite code of the event
+     * @param entry the sequence number of the entry to undo, null for the latest change
+     * @param serverUtil updates the last activity of the event
+     * @return the undo as a change, not found if there is nothing to undo, or conflict if
+     *         what was changed was changed again since or in a way the journal cannot revert
+     */
+    public ResponseEntity<EventChange> undo(long inviteCode, Long entry,
+                                            GerneralServerUtil serverUtil) {
+        return revert(inviteCode, JournalEntry.Action.UNDO, entry, serverUtil);
+    }
+
+    /**
+     * Redoes the latest undone change to an event, as long as no other change was made since
+     * @param inviteCode the invite code of the event
+     * @param serverUtil updates the last activity of the event
+     * @return the redo as a change, not found if there is nothing to redo, or conflict if
+     *         what was changed was changed in a way the journal cannot revert
+     */
+    public ResponseEntity<EventChange> redo(long inviteCode, GerneralServerUtil serverUtil) {
+        return revert(inviteCode, JournalEntry.Action.REDO, null, serverUtil);
+    }
+
+    /**
+     * Reverts an entry that can be undone or redone in one transaction,
+     * while no other change can be journaled
+     * @param inviteCode the invite code of the event
+     * @param action whether to undo or redo
+     * @param entry the sequence number of the entry to revert, null for the latest one
+     * @param serverUtil updates the last activity of the event
+     * @return the entry that was appended as a change
+     */
+    private ResponseEntity<EventChange> revert(long inviteCode, JournalEntry.Action action,
+                                               Long entry, GerneralServerUtil serverUtil) {
+        if (inviteCode < 0 || inviteCode > Integer.MAX_VALUE) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (!eventRepository.existsById(inviteCode)) {
+            return ResponseEntity.notFound().build();
+        }
+        synchronized (journal) {
+            return transactions.execute(status -> {
+                History history = new History(journal.undoHistory((int) inviteCode));
+                JournalEntry target = action == JournalEntry.Action.UNDO
+                        ? history.undoable(entry) : history.redoable.peek();
+                if (target == null) {
+                    return ResponseEntity.notFound().build();
+                }
+                Event event = eventRepository.findById(inviteCode).get();
+                JournalEntry reverted = history.changedSince(target) ? null
+                        : restore(event, target, action, history);
+                if (reverted == null) {
+                    status.setRollbackOnly();
+                    return ResponseEntity.status(HttpStatus.CONFLICT).build();
+                }
+                serverUtil.updateDate(eventRepository, inviteCode);
+                return ResponseEntity.ok(JournalService.toChange(reverted));
+            });
+        }
+    }
+
+    /**
+     * Restores what an entry changed to the state from before the entry
+     * @param event the event
+     * @param target the entry to revert
+     * @param action whether it is undone or redone
+     * @param history the journal of the event
+     * @return the entry that was appended, or null if it could not be reverted
+     */
+    private JournalEntry restore(Event event, JournalEntry target, JournalEntry.Action action,
+                                 History history) {
+        long id = history.resolve(target.getType(), target.getEntityId());
+        String state = target.getBeforeState();
+        return switch (target.getType()) {
+            case EXPENSE -> restoreExpense(event, target, action, history, id,
+                    read(state, Expense.class));
+            case PARTICIPANT -> restoreParticipant(event, target, action, id,
+                    read(state, Participant.class));
+            case TAG -> restoreTag(event, target, action, id, read(state, Tag.class));
+            case PAYMENT -> restorePayment(event, target, action, history, id,
+                    read(state, ParticipantPayment.class));
+        };
+    }
+
+    /**
+     * Restores an expense: deletes it, changes it back or adds it again
+     * @param event the event
+     * @param target the entry to revert
+     * @param action whether it is undone or redone
+     * @param history the journal of the event
+     * @param id the current id of the expense
+     * @param state the expense to restore, null to delete it
+     * @return the entry that was appended, or null if it could not be reverted
+     */
+    private JournalEntry restoreExpense(Event event, JournalEntry target,
+                                        JournalEntry.Action action, History history, long id,
+                                        Expense state) {
+        Optional<Expense> current = findById(event.getExpensesList(), id, Expense::getId);
+        String before = current.map(journal::capture).orElse(null);
+        if (state == null) {
+            if (current.isEmpty()) return null;
+            event.getExpensesList().remove(current.get());
+            eventRepository.save(event);
+            expenseRepository.delete(current.get());
+            return journal.appendReversal(target, action, JournalEntry.Operation.DELETE, id,
+                    null, before, null);
+        }
+        Participant payee = state.getPayee() == null ? null : findById(
+                event.getParticipantsList(), history.resolve(JournalEntry.Type.PARTICIPANT,
+                        state.getPayee().getId()), Participant::getId).orElse(null);
+        if (payee == null || isMissing(current, target)) return null;
+        Expense expense = current.orElseGet(() -> new Expense(state.getAmount(),
+                state.getCurrency(), state.getTitle(), state.getDescription(), state.getDate(),
+                new ArrayList<>(), null, payee));
+        expense.setAmount(state.getAmount());
+        expense.setCurrency(state.getCurrency());
+        expense.setTitle(state.getTitle());
+        expense.setDescription(state.getDescription());
+        expense.setDate(state.getDate());
+        expense.setPayee(payee);
+        expense.setTag(state.getTag() == null ? null : findById(event.getTagsList(),
+                history.resolve(JournalEntry.Type.TAG, state.getTag().getId()), Tag::getId)
+                .orElse(null));
+        if (!restoreSplit(event, history, expense, state.getSplit())) return null;
+        if (current.isEmpty()) event.getExpensesList().add(expense);
+        expenseRepository.save(expense);
+        return journal.appendReversal(target, action, current.isEmpty()
+                        ? JournalEntry.Operation.ADD : JournalEntry.Operation.UPDATE,
+                expense.getId(), null, before, expense);
+    }
+
+    /**
+     * Changes the split of an expense back: payments that still exist are changed back,
+     * the others are added again, and payments that were not in the split are deleted.
+     * The added payments of a new expense are stored together with the expense.
+     * @param event the event
+     * @param history the journal of the event
+     * @param expense the expense
+     * @param split the split to restore, can be null
+     * @return false if a participant of the split no longer exists
+     */
+    private boolean restoreSplit(Event event, History history, Expense expense,
+                                 List<ParticipantPayment> split) {
+        List<ParticipantPayment> restored = new ArrayList<>();
+        List<ParticipantPayment> added = new ArrayList<>();
+        for (ParticipantPayment payment : split == null
+                ? List.<ParticipantPayment>of() : split) {
+            Optional<Participant> participant = participantOf(event, history, payment);
+            if (participant.isEmpty()) return false;
+            ParticipantPayment current = expense.getSplit() == null ? null : findById(
+                    expense.getSplit(), history.resolve(JournalEntry.Type.PAYMENT,
+                            payment.getId()), ParticipantPayment::getId).orElse(null);
+            if (current == null) {
+                current = new ParticipantPayment(participant.get(), payment.getPaymentAmount());
+                added.add(current);
+            }
+            current.setParticipant(participant.get());
+            current.setPaymentAmount(payment.getPaymentAmount());
+            restored.add(current);
+        }
+        List<ParticipantPayment> removed = expense.getSplit() == null
+                ? new ArrayList<>() : new ArrayList<>(expense.getSplit());
+        removed.removeAll(restored);
+        if (expense.getSplit() == null) {
+            expense.setSplit(restored);
+        } else {
+            expense.getSplit().clear();
+            expense.getSplit().addAll(restored);
+        }
+        if (expense.getId() != 0) paymentRepository.saveAll(added);
+        paymentRepository.deleteAll(removed);
+        return true;
+    }
+
+    /**
+     * Restores a participant: deletes it, changes it back or adds it again.
+     * A participant that still pays or owes for an expense is not deleted.
+     * @param event the event
+     * @param target the entry to revert
+     * @param action whether it is undone or redone
+     * @param id the current id of the participant
+     * @param state the participant to restore, null to delete it
+     * @return the entry that was appended, or null if it could not be reverted
+     */
+    private JournalEntry restoreParticipant(Event event, JournalEntry target,
+                                            JournalEntry.Action action, long id,
+                                            Participant state) {
+        Optional<Participant> current = findById(event.getParticipantsList(), id,
+                Participant::getId);
+        String before = current.map(journal::capture).orElse(null);
+        if (state == null) {
+            if (current.isEmpty() || isInvolved(event, id)) return null;
+            event.getParticipantsList().remove(current.get());
+            eventRepository.save(event);
+            participantRepository.delete(current.get());
+            return journal.appendReversal(target, action, JournalEntry.Operation.DELETE, id,
+                    null, before, null);
+        }
+        if (isMissing(current, target)) return null;
+        Participant participant = current.orElseGet(() -> new Participant(state.getName(),
+                state.getEmail(), state.getIban(), state.getBic()));
+        participant.setName(state.getName());
+        participant.setEmail(state.getEmail());
+        participant.setIban(state.getIban());
+        participant.setBic(state.getBic());
+        if (current.isEmpty()) event.getParticipantsList().add(participant);
+        participantRepository.save(participant);
+        return journal.appendReversal(target, action, current.isEmpty()
+                        ? JournalEntry.Operation.ADD : JournalEntry.Operation.UPDATE,
+                participant.getId(), null, before, participant);
+    }
+
+    /**
+     * Restores a tag: deletes it, changes it back or adds it again.
+     * Deleting a tag removes it from its expenses, like the tag service does.
+     * @param event the event
+     * @param target the entry to revert
+     * @param action whether it is undone or redone
+     * @param id the current id of the tag
+     * @param state the tag to restore, null to delete it
+     * @return the entry that was appended, or null if it could not be reverted
+     */
+    private JournalEntry restoreTag(Event event, JournalEntry target,
+                                    JournalEntry.Action action, long id, Tag state) {
+        Optional<Tag> current = findById(event.getTagsList(), id, Tag::getId);
+        String before = current.map(journal::capture).orElse(null);
+        if (state == null) {
+            if (current.isEmpty()) return null;
+            for (Expense expense : event.getExpensesList()) {
+                if (current.get().equals(expense.getTag())) expense.setTag(null);
+            }
+            event.getTagsList().remove(current.get());
+            eventRepository.save(event);
+            tagRepository.delete(current.get());
+            return journal.appendReversal(target, action, JournalEntry.Operation.DELETE, id,
+                    null, before, null);
+        }
+        if (isMissing(current, target)) return null;
+        Tag tag = current.orElseGet(() -> new Tag(state.getName(), state.getColor()));
+        tag.setName(state.getName());
+        tag.setColor(state.getColor());
+        if (current.isEmpty()) event.getTagsList().add(tag);
+        tagRepository.save(tag);
+        return journal.appendReversal(target, action, current.isEmpty()
+                        ? JournalEntry.Operation.ADD : JournalEntry.Operation.UPDATE,
+                tag.getId(), null, before, tag);
+    }
+
+    /**
+     * Restores a payment of an expense: deletes it, changes it back or adds it again
+     * @param event the event
+     * @param target the entry to revert
+     * @param action whether it is undone or redone
+     * @param history the journal of the event
+     * @param id the current id of the payment
+     * @param state the payment to restore, null to delete it
+     * @return the entry that was appended, or null if it could not be reverted
+     */
+    private JournalEntry restorePayment(Event event, JournalEntry target,
+                                        JournalEntry.Action action, History history, long id,
+                                        ParticipantPayment state) {
+        Optional<Expense> expense = expenseOf(event, history, target);
+        if (expense.isEmpty()) return null;
+        long expenseId = expense.get().getId();
+        List<ParticipantPayment> split = expense.get().getSplit();
+        Optional<ParticipantPayment> current = findById(split, id, ParticipantPayment::getId);
+        String before = current.map(journal::capture).orElse(null);
+        if (state == null) {
+            if (current.isEmpty()) return null;
+            split.remove(current.get());
+            expenseRepository.save(expense.get());
+            paymentRepository.delete(current.get());
+            return journal.appendReversal(target, action, JournalEntry.Operation.DELETE, id,
+                    expenseId, before, null);
+        }
+        Optional<Participant> participant = participantOf(event, history, state);
+        if (participant.isEmpty() || isMissing(current, target)) return null;
+        ParticipantPayment payment = current.orElseGet(() ->
+                new ParticipantPayment(participant.get(), state.getPaymentAmount()));
+        payment.setParticipant(participant.get());
+        payment.setPaymentAmount(state.getPaymentAmount());
+        if (current.isEmpty()) {
+            split.add(payment);
+            paymentRepository.save(payment);
+        }
+        expenseRepository.save(expense.get());
+        return journal.appendReversal(target, action, current.isEmpty()
+                        ? JournalEntry.Operation.ADD : JournalEntry.Operation.UPDATE,
+                payment.getId(), expenseId, before, payment);
+    }
+
+    /**
+     * Finds the expense of a payment that was changed by a journal entry
+     * @param event the event
+     * @param history the journal of the event
+     * @param target the journal entry that changed the payment
+     * @return the expense, empty if it no longer exists
+     */
+    private static Optional<Expense> expenseOf(Event event, History history,
+                                               JournalEntry target) {
+        if (target.getParentId() == null) return Optional.empty();
+        return findById(event.getExpensesList(), history.resolve(JournalEntry.Type.EXPENSE,
+                target.getParentId()), Expense::getId).filter(e -> e.getSplit() != null);
+    }
+
+    /**
+     * Finds the participant of a payment among the participants of the event
+     * @param event the event
+     * @param history the journal of the event
+     * @param payment the payment as it was journaled
+     * @return the participant, empty if it no longer exists
+     */
+    private static Optional<Participant> participantOf(Event event, History history,
+                                                       ParticipantPayment payment) {
+        if (payment.getParticipant() == null) return Optional.empty();
+        return findById(event.getParticipantsList(), history.resolve(
+                JournalEntry.Type.PARTICIPANT, payment.getParticipant().getId()),
+                Participant::getId);
+    }
+
+    /**
+     * Checks whether what an entry changed no longer exists, while reverting the entry should
+     * change it back. Only what an entry deleted is added again.
+     * @param current what the entry changed as it is now
+     * @param target the entry to revert
+     * @return true if the entry cannot be reverted
+     */
+    private static boolean isMissing(Optional<?> current, JournalEntry target) {
+        return current.isEmpty() && target.getOperation() != JournalEntry.Operation.DELETE;
+    }
+
+    /**
+     * Checks whether a participant pays or owes for an expense
+     * @param event the event
+     * @param id the id of the participant
+     * @return true if an expense refers to the participant
+     */
+    private static boolean isInvolved(Event event, long id) {
+        return event.getExpensesList().stream().anyMatch(e ->
+                e.getPayee() != null && e.getPayee().getId() == id
+                || e.getSplit() != null && e.getSplit().stream().anyMatch(p ->
+                        p.getParticipant() != null && p.getParticipant().getId() == id));
+    }
+
+    /**
+     * Finds the element with the given id in a list
+     * @param list the list
+     * @param id the id
+     * @param idOf gives the id of an element
+     * @param <T> the type of the elements
+     * @return the element, empty if it is not in the list
+     */
+    private static <T> Optional<T> findById(List<T> list, long id,
+                                            Function<T, Long> idOf) {
+        return list.stream()
+                .filter(e -> e != null && Objects.equals(idOf.apply(e), id))
+                .findFirst();
+    }
+
+    /**
+     * Reads a state from the journal
+     * @param json the state as JSON, can be null
+     * @param type the class of what was changed
+     * @param <T> the type of what was changed
+     * @return what was changed, or null if there is no state
+     */
+    private <T> T read(String json, Class<T> type) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return mapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The entries of a journal that can be undone and redone, and the new ids of what was
+     * deleted and added again by an undo or redo
+     */
+    private static final class History {
+
+        private final Deque<JournalEntry> undoable = new ArrayDeque<>();
+        private final Deque<JournalEntry> redoable = new ArrayDeque<>();
+        private final Map<JournalEntry.Type, Map<Long, Long>> renamed =
+                new EnumMap<>(JournalEntry.Type.class);
+
+        /**
+         * Goes through a journal in order. A change can be undone and makes the undone
+         * changes before it impossible to redo, an undo can be redone,
+         * and a redo can be undone again.
+         * @param entries the entries of the journal
+         */
+        History(List<JournalEntry> entries) {
+            Map<Long, JournalEntry> bySequenceNumber = new HashMap<>();
+            for (JournalEntry entry : entries) {
+                bySequenceNumber.put(entry.getSequenceNumber(), entry);
+                switch (entry.getAction()) {
+                    case CHANGE -> {
+                        undoable.push(entry);
+                        redoable.clear();
+                    }
+                    case UNDO -> {
+                        undoable.removeIf(e -> e.getSequenceNumber() == entry.getReverts());
+                        redoable.push(entry);
+                    }
+                    case REDO -> {
+                        redoable.removeIf(e -> e.getSequenceNumber() == entry.getReverts());
+                        undoable.push(entry);
+                    }
+                }
+                JournalEntry reverted = entry.getReverts() == null ? null
+                        : bySequenceNumber.get(entry.getReverts());
+                if (reverted != null && entry.getOperation() == JournalEntry.Operation.ADD) {
+                    renamed.computeIfAbsent(entry.getType(), t -> new HashMap<>())
+                            .put(reverted.getEntityId(), entry.getEntityId());
+                }
+            }
+        }
+
+        /**
+         * Finds an entry that can be undone
+         * @param sequenceNumber the sequence number of the entry, null for the latest one
+         * @return the entry, or null if there is no such entry that is not undone yet
+         */
+        JournalEntry undoable(Long sequenceNumber) {
+            if (sequenceNumber == null) {
+                return undoable.peek();
+            }
+            return undoable.stream()
+                    .filter(e -> e.getSequenceNumber() == sequenceNumber)
+                    .findFirst().orElse(null);
+        }
+
+        /**
+         * Checks whether what an entry changed was changed again by an entry after it that is
+         * not undone, so that reverting it would also revert that later change. Changing an
+         * expense also changes its payments, and the other way around.
+         * @param target the entry
+         * @return true if a later entry that is not undone changed the same thing
+         */
+        boolean changedSince(JournalEntry target) {
+            return undoable.stream()
+                    .filter(e -> e.getSequenceNumber() > target.getSequenceNumber())
+                    .anyMatch(e -> same(e.getType(), e.getEntityId(),
+                            target.getType(), target.getEntityId())
+                            || e.getParentId() != null && same(JournalEntry.Type.EXPENSE,
+                                    e.getParentId(), target.getType(), target.getEntityId())
+                            || target.getParentId() != null && same(e.getType(),
+                                    e.getEntityId(), JournalEntry.Type.EXPENSE,
+                                    target.getParentId()));
+        }
+
+        /**
+         * Checks whether two ids in the journal are of the same thing
+         * @param type what the first id is of
+         * @param id the first id
+         * @param otherType what the second id is of
+         * @param otherId the second id
+         * @return true if both are of the same type and have the same current id
+         */
+        private boolean same(JournalEntry.Type type, long id, JournalEntry.Type otherType,
+                             long otherId) {
+            return type == otherType && resolve(type, id) == resolve(otherType, otherId);
+        }
+
+        /**
+         * Finds the current id of what a journal entry changed, which is different
+         * if it was deleted and added again since
+         * @param type what was changed
+         * @param id the id in the journal entry
+         * @return the current id
+         */
+        long resolve(JournalEntry.Type type, long id) {
+            Map<Long, Long> ids = renamed.getOrDefault(type, Map.of());
+            long current = id;
+            while (ids.containsKey(current) && ids.get(current) != current) {
+                current = ids.get(current);
+            }
+            return current;
+        }
+    }
+}
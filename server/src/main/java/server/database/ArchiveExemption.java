@@ -0,0 +1,37 @@
+package server.database;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+/**
+ * Marks an event that is never archived for being inactive, such as a generated event whose
+ * dates lie in the past but that is still used for testing.
+ */
+@Entity
+public class ArchiveExemption {
+
+    @Id
+    private int inviteCode;
+
+    /**
+     * Empty constructor for JPA
+     */
+    @SuppressWarnings("unused")
+    protected ArchiveExemption() {
+    }
+
+    /**
+     * Constructor for an archive exemption
+     * @param inviteCode the invite code of the exempted event
+     */
+    public ArchiveExemption(int inviteCode) {
+        this.inviteCode = inviteCode;
+    }
+
+    /**
+     * @return the invite code of the exempted event
+     */
+    public int getInviteCode() {
+        return inviteCode;
+    }
+}
@@ -0,0 +1,85 @@
+package server.database;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+
+import java.util.Date;
+
+/**
+ * The compressed content of an archived event. The event itself stays behind as a tombstone
+ * with its invite code, title and dates, but without its participants, expenses and tags.
+ */
+@Entity
+public class ArchivedEvent {
+
+    @Id
+    private int inviteCode;
+    @Lob
+    @Column(nullable = false)
+    private byte[] content;
+    private int participantCount;
+    private double total;
+    private Date archivedAt;
+
+    /**
+     * Empty constructor for JPA
+     */
+    @SuppressWarnings("unused")
+    protected ArchivedEvent() {
+    }
+
+    /**
+     * Constructor for an archived event
+     * @param inviteCode the invite code of the event
+     * @param content the event with all its participants, expenses and tags
+     *                as JSON compressed with gzip
+     * @param participantCount the number of participants of the event
+     * @param total the sum of the amounts of all expenses of the event
+     * @param archivedAt when the event was archived
+     */
+    public ArchivedEvent(int inviteCode, byte[] content, int participantCount,
+                         double total, Date archivedAt) {
+        this.inviteCode = inviteCode;
+        this.content = content;
+        this.participantCount = participantCount;
+        this.total = total;
+        this.archivedAt = archivedAt;
+    }
+
+    /**
+     * @return the invite code of the event
+     */
+    public int getInviteCode() {
+        return inviteCode;
+    }
+
+    /**
+     * @return the event as JSON compressed with gzip
+     */
+    public byte[] getContent() {
+        return content;
+    }
+
+    /**
+     * @return the number of participants of the event
+     */
+    public int getParticipantCount() {
+        return participantCount;
+    }
+
+    /**
+     * @return the sum of the amounts of all expenses of the event
+     */
+    public double getTotal() {
+        return total;
+    }
+
+    /**
+     * @return when the event was archived
+     */
+    public Date getArchivedAt() {
+        return archivedAt;
+    }
+}
@@ -0,0 +1,100 @@
+package server.database;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Wraps the data source, so that every statement sent to the database and every row read
+ * from its results is counted in the {@link QueryStats} of the thread. The connections,
+ * statements and results are wrapped by proxies that pass every call on unchanged.
+ */
+@Component
+public class CountingDataSource implements BeanPostProcessor {
+
+    /**
+     * Wraps the data source when it is created
+     * @param bean the bean that was created
+     * @param beanName the name of the bean
+     * @return the wrapped data source, or the bean itself if it is something else
+     */
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !Proxy.isProxyClass(bean.getClass())) {
+            return wrap(dataSource, DataSource.class);
+        }
+        return bean;
+    }
+
+    /**
+     * Wraps a JDBC object in a proxy that counts its statements and rows
+     * @param target the object
+     * @param type the interface of the object
+     * @param <T> the type of the object
+     * @return the proxy
+     */
+    static <T> T wrap(T target, Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(CountingDataSource.class.getClassLoader(),
+                new Class<?>[]{type}, new Counting(target)));
+    }
+
+    /**
+     * Passes calls on to a JDBC object, counting executed statements and read rows,
+     * and wrapping the connections, statements and results it returns
+     * @param target the wrapped JDBC object
+     */
+    private record Counting(Object target) implements InvocationHandler {
+
+        /**
+         * Passes a call on to the JDBC object
+         * @param proxy the proxy
+         * @param method the called method
+         * @param args the arguments of the call
+         * @return the result of the call, wrapped if it is a JDBC object that is counted
+         * @throws Throwable what the JDBC object throws
+         */
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if (target instanceof Statement && method.getName().startsWith("execute")) {
+                QueryStats.countStatement();
+            } else if (target instanceof ResultSet && method.getName().equals("next")
+                    && Boolean.TRUE.equals(result)) {
+                QueryStats.countRow();
+            }
+            return wrapResult(method, result);
+        }
+
+        /**
+         * Wraps the connections, statements and results returned by a call
+         * @param method the called method
+         * @param result the result of the call
+         * @return the wrapped result, or the result itself if it is not counted
+         */
+        @SuppressWarnings("unchecked")
+        private static Object wrapResult(Method method, Object result) {
+            Class<?> type = method.getReturnType();
+            if (result == null || !type.isInterface()) {
+                return result;
+            }
+            if (Connection.class.isAssignableFrom(type) || Statement.class.isAssignableFrom(type)
+                    || ResultSet.class.isAssignableFrom(type)) {
+                return wrap(result, (Class<Object>) type);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package server.database;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counts every entity Hibernate loads from the database in the {@link QueryStats}
+ * of the thread, by listening to the loads of the session factory
+ */
+@Component
+public class EntityLoadCounter implements HibernatePropertiesCustomizer, Integrator,
+        PostLoadEventListener {
+
+    /**
+     * Registers this counter when the session factory is built
+     * @param hibernateProperties the properties of the session factory
+     */
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(JpaSettings.INTEGRATOR_PROVIDER,
+                (IntegratorProvider) () -> List.of(this));
+    }
+
+    /**
+     * Listens to the loads of the session factory
+     * @param metadata the mapping of the entities
+     * @param bootstrapContext the context the session factory is built in
+     * @param sessionFactory the session factory
+     */
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                          SessionFactoryImplementor sessionFactory) {
+        sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, this);
+    }
+
+    /**
+     * Nothing has to be undone when the session factory closes
+     * @param sessionFactory the session factory
+     * @param serviceRegistry the services of the session factory
+     */
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory,
+                             SessionFactoryServiceRegistry serviceRegistry) {
+    }
+
+    /**
+     * Counts a loaded entity
+     * @param event the load of the entity
+     */
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        QueryStats.countEntity();
+    }
+}
@@ -0,0 +1,25 @@
+package server.database;
+
+import commons.EventListing;
+import commons.EventSort;
+
+import java.util.List;
+
+public interface EventListingRepository {
+
+    /**
+     * Finds one page of the admin list of events, without loading the events themselves.
+     * The page starts after the given sort key and invite code, so that every page is read
+     * from the index on the sort key instead of skipping all the pages before it.
+     * @param sort the key the events are sorted by
+     * @param ascending whether the events are sorted in ascending order
+     * @param search text the titles should contain, ignoring case, or null for all events
+     * @param afterKey the sort key of the last event of the page before, or null
+     *                 for the first page
+     * @param afterCode the invite code of the last event of the page before
+     * @param limit the maximum number of events on the page
+     * @return the events of the page
+     */
+    List<EventListing> findListing(EventSort sort, boolean ascending, String search,
+                                   Comparable<?> afterKey, int afterCode, int limit);
+}
@@ -0,0 +1,76 @@
+package server.database;
+
+import commons.Event;
+import commons.EventListing;
+import commons.EventSort;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public class EventListingRepositoryImpl implements EventListingRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Finds one page of the admin list of events, see {@link EventListingRepository}
+     * @param sort the key the events are sorted by
+     * @param ascending whether the events are sorted in ascending order
+     * @param search text the titles should contain, ignoring case, or null for all events
+     * @param afterKey the sort key of the last event of the page before, or null
+     *                 for the first page
+     * @param afterCode the invite code of the last event of the page before
+     * @param limit the maximum number of events on the page
+     * @return the events of the page
+     */
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public List<EventListing> findListing(EventSort sort, boolean ascending, String search,
+                                          Comparable<?> afterKey, int afterCode, int limit) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EventListing> query = builder.createQuery(EventListing.class);
+        Root<Event> event = query.from(Event.class);
+        Expression<Comparable> key = builder.coalesce(event.<Comparable>get(
+                sort.getAttribute()), (Comparable) sort.missingKey());
+        Expression<Integer> code = event.get("inviteCode");
+        List<Predicate> where = new ArrayList<>();
+        if (search != null && !search.isBlank()) {
+            where.add(builder.like(builder.lower(event.get("title")),
+                    "%" + escape(search.toLowerCase(Locale.ROOT)) + "%", '\\'));
+        }
+        if (afterKey != null) {
+            Comparable after = afterKey;
+            where.add(ascending
+                    ? builder.or(builder.greaterThan(key, after), builder.and(
+                            builder.equal(key, after), builder.greaterThan(code, afterCode)))
+                    : builder.or(builder.lessThan(key, after), builder.and(
+                            builder.equal(key, after), builder.lessThan(code, afterCode))));
+        }
+        query.select(builder.construct(EventListing.class, code, event.get("title"),
+                        event.get("creationDate"), event.get("lastActivity"),
+                        builder.size(event.get("participantsList")),
+                        builder.size(event.get("expensesList"))))
+                .where(where.toArray(new Predicate[0]))
+                .orderBy(ascending
+                        ? List.of(builder.asc(key), builder.asc(code))
+                        : List.of(builder.desc(key), builder.desc(code)));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    /**
+     * Escapes the wildcards of a like pattern, so that the search text is matched literally
+     * @param text the search text
+     * @return the text with its wildcards escaped
+     */
+    private static String escape(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
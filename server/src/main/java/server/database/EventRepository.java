@@ -16,7 +16,99 @@
 package server.database;
 
 import commons.Event;
+import commons.EventSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
 
-public interface EventRepository extends JpaRepository<Event, Long> {}
\ No newline at end of file
+
+public interface EventRepository extends JpaRepository<Event, Long>, EventListingRepository {
+
+    /**
+     * Finds the last activity of an event without loading the event itself
+     * @param inviteCode the invite code of the event
+     * @return the last activity of the event, empty if it has none
+     */
+    @Query("select e.lastActivity from Event e where e.inviteCode = :inviteCode")
+    Optional<Date> findLastActivity(@Param("inviteCode") int inviteCode);
+
+    /**
+     * Finds the summaries of the events with the given invite codes,
+     * without loading their participants, expenses or tags
+     * @param inviteCodes the invite codes of the events
+     * @return the summaries of the events that exist, in no particular order
+     */
+    @Query("select new commons.EventSummary(e.inviteCode, e.title, e.lastActivity, "
+            + "size(e.participantsList), coalesce(sum(x.amount), 0.0)) "
+            + "from Event e left join e.expensesList x "
+            + "where e.inviteCode in :inviteCodes "
+            + "group by e.inviteCode, e.title, e.lastActivity")
+    List<EventSummary> findSummaries(@Param("inviteCodes") Collection<Integer> inviteCodes);
+
+    /**
+     * Finds the events with the given content hash, using the index on the hash
+     * @param contentHash the content hash of the events
+     * @return the events with that content hash
+     */
+    List<Event> findByContentHash(String contentHash);
+
+    /**
+     * Finds the events with any of the given content hashes, using the index on the hash
+     * @param contentHashes the content hashes
+     * @return the events with one of those content hashes
+     */
+    List<Event> findByContentHashIn(Collection<String> contentHashes);
+
+    /**
+     * Finds the events that have not been given a content hash yet
+     * @return the events without a content hash
+     */
+    List<Event> findByContentHashIsNull();
+
+    /**
+     * Gives the events without a content hash a content hash. Writes only clear the hash, as
+     * hashing the whole event on every change is expensive, so this is called before events
+     * are compared by their hash.
+     * @return the number of events that were hashed
+     */
+    @Transactional
+    default int hashUnhashed() {
+        List<Event> unhashed = findByContentHashIsNull();
+        for (Event event : unhashed) {
+            event.updateContentHash();
+        }
+        saveAll(unhashed);
+        return unhashed.size();
+    }
+
+    /**
+     * Finds a page of events with an invite code after the given one, in order of invite code,
+     * so that all events can be read page by page without skipping or repeating any
+     * @param inviteCode the invite code to start after
+     * @param pageable the size of the page
+     * @return the events of the page
+     */
+    List<Event> findByInviteCodeGreaterThanOrderByInviteCodeAsc(int inviteCode,
+                                                              Pageable pageable);
+
+    /**
+     * Finds the invite codes of the events without activity since the given date
+     * that have not been archived yet and are not exempted from archiving,
+     * least recently active first
+     * @param before the date the last activity should be before
+     * @param pageable the number of invite codes to find
+     * @return the invite codes of the inactive events
+     */
+    @Query("select e.inviteCode from Event e where e.lastActivity < :before "
+            + "and not exists (select a from ArchivedEvent a where a.inviteCode = e.inviteCode) "
+            + "and not exists (select x from ArchiveExemption x where x.inviteCode = e.inviteCode) "
+            + "order by e.lastActivity")
+    List<Integer> findInactiveInviteCodes(@Param("before") Date before, Pageable pageable);
+}
@@ -0,0 +1,31 @@
+package server.database;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+
+/**
+ * The sum of the amounts of a group of expenses that share a tag, payee, currency and day,
+ * which is the finest grouping needed to convert the amounts and total them per tag or payee.
+ * @param tag the id of the tag of the expenses, or null if they have no tag
+ * @param payee the id of the participant that paid the expenses
+ * @param currency the currency of the expenses
+ * @param date the start of the day of the expenses
+ * @param amount the sum of the amounts of the expenses
+ */
+public record ExpenseAggregate(Long tag, Long payee, String currency, Date date, Double amount) {
+
+    /**
+     * Creates the sum of a group of expenses from the day they were made on,
+     * as the database groups them
+     * @param tag the id of the tag of the expenses, or null if they have no tag
+     * @param payee the id of the participant that paid the expenses
+     * @param currency the currency of the expenses
+     * @param day the day of the expenses
+     * @param amount the sum of the amounts of the expenses
+     */
+    public ExpenseAggregate(Long tag, Long payee, String currency, LocalDate day, Double amount) {
+        this(tag, payee, currency,
+                Date.from(day.atStartOfDay(ZoneId.systemDefault()).toInstant()), amount);
+    }
+}
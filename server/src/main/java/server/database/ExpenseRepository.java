@@ -16,7 +16,108 @@
 package server.database;
 
 import commons.Expense;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Date;
+import java.util.List;
 
-public interface ExpenseRepository extends JpaRepository<Expense, Long> {}
\ No newline at end of file
+
+public interface ExpenseRepository extends JpaRepository<Expense, Long> {
+
+    /**
+     * Finds a page of the expenses of an event, newest first, that come after the
+     * expense with the given date and id in that order. Filters that are null are ignored.
+     * @param inviteCode the invite code of the event
+     * @param payee the id of the participant that paid the expenses, or null
+     * @param participant the id of a participant in the split of the expenses, or null
+     * @param tag the id of the tag of the expenses, or null
+     * @param from the earliest date of the expenses
+     * @param to the latest date of the expenses
+     * @param beforeDate the date of the last expense of the previous page
+     * @param beforeId the id of the last expense of the previous page
+     * @param pageable the size of the page
+     * @return the expenses on the page
+     */
+    @Query("select x from Event e join e.expensesList x "
+            + "where e.inviteCode = :inviteCode "
+            + "and (:payee is null or x.payee.id = :payee) "
+            + "and (:tag is null or x.tag.id = :tag) "
+            + "and (:participant is null or exists (select pp.id from Expense y "
+            + "join y.split pp where y = x and pp.participant.id = :participant)) "
+            + "and x.date >= :from and x.date <= :to "
+            + "and (x.date < :beforeDate or (x.date = :beforeDate and x.id < :beforeId)) "
+            + "order by x.date desc, x.id desc")
+    List<Expense> findPage(@Param("inviteCode") int inviteCode,
+                           @Param("payee") Long payee,
+                           @Param("participant") Long participant,
+                           @Param("tag") Long tag,
+                           @Param("from") Date from,
+                           @Param("to") Date to,
+                           @Param("beforeDate") Date beforeDate,
+                           @Param("beforeId") long beforeId,
+                           Pageable pageable);
+
+    /**
+     * Finds the expenses of an event that were paid by a participant, using the indexes
+     * on the event and the payee of the expenses instead of loading the whole event
+     * @param inviteCode the invite code of the event
+     * @param payee the id of the participant that paid the expenses
+     * @return the expenses paid by the participant, in the order they were added
+     */
+    @Query("select x from Event e join e.expensesList x "
+            + "where e.inviteCode = :inviteCode and x.payee.id = :payee "
+            + "order by x.id")
+    List<Expense> findInvolvingPayee(@Param("inviteCode") int inviteCode,
+                                     @Param("payee") long payee);
+
+    /**
+     * Finds the expenses of an event that a participant is in the split of, using the
+     * indexes on the event of the expenses and on the participant of the split
+     * @param inviteCode the invite code of the event
+     * @param participant the id of the participant
+     * @return the expenses the participant is involved in, in the order they were added
+     */
+    @Query("select x from Event e join e.expensesList x "
+            + "where e.inviteCode = :inviteCode "
+            + "and exists (select pp.id from Expense y join y.split pp "
+            + "where y = x and pp.participant.id = :participant) "
+            + "order by x.id")
+    List<Expense> findInvolvingParticipant(@Param("inviteCode") int inviteCode,
+                                           @Param("participant") long participant);
+
+    /**
+     * Finds the expenses of an event with a tag of the given name.
+     * Expenses without a tag are left out.
+     * @param inviteCode the invite code of the event
+     * @param tagName the name of the tag
+     * @return the expenses with the tag, in the order they were added
+     */
+    @Query("select x from Event e join e.expensesList x join x.tag t "
+            + "where e.inviteCode = :inviteCode and t.name = :tagName "
+            + "order by x.id")
+    List<Expense> findWithTag(@Param("inviteCode") int inviteCode,
+                              @Param("tagName") String tagName);
+
+    /**
+     * Sums the amounts of the expenses of an event between two dates, grouped by tag, payee,
+     * currency and day, as the exchange rates change per day. Transfers and settlements are
+     * left out, as they are not spending.
+     * @param inviteCode the invite code of the event
+     * @param from the earliest date of the expenses
+     * @param to the latest date of the expenses
+     * @return the sums of the groups of expenses
+     */
+    @Query("select new server.database.ExpenseAggregate(t.id, p.id, x.currency, "
+            + "cast(x.date as LocalDate), sum(x.amount)) "
+            + "from Event e join e.expensesList x left join x.tag t left join x.payee p "
+            + "where e.inviteCode = :inviteCode "
+            + "and (x.description is null or x.description not in ('transfer', 'settlement')) "
+            + "and x.date >= :from and x.date <= :to "
+            + "group by t.id, p.id, x.currency, cast(x.date as LocalDate)")
+    List<ExpenseAggregate> aggregate(@Param("inviteCode") int inviteCode,
+                                     @Param("from") Date from,
+                                     @Param("to") Date to);
+}
\ No newline at end of file
@@ -0,0 +1,117 @@
+package server.database;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+
+/**
+ * Moves the collections of events and expenses from the join tables of older databases
+ * to the foreign key columns on the child tables, and creates the indexes on those columns.
+ * Runs once at startup, after Hibernate has updated the schema. The foreign keys are mapped
+ * as not null, which Hibernate cannot add to a table that already has rows, so the column
+ * is added here as nullable if it is still missing.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class ForeignKeyMigration {
+
+    /**
+     * A join table of an older database
+     * @param name the name of the join table
+     * @param child the table of the elements of the collection
+     * @param foreignKey the new foreign key column on the child table
+     * @param type the SQL type of the foreign key column
+     * @param ownerColumn the column of the join table with the owner of the collection
+     * @param childColumn the column of the join table with the element of the collection
+     */
+    private record JoinTable(String name, String child, String foreignKey, String type,
+                             String ownerColumn, String childColumn) {
+    }
+
+    private static final List<JoinTable> JOIN_TABLES = List.of(
+            new JoinTable("EVENT_EXPENSES_LIST", "EXPENSE", "EVENT_ID", "INT",
+                    "EVENT_INVITE_CODE", "EXPENSES_LIST_ID"),
+            new JoinTable("EVENT_PARTICIPANTS_LIST", "PARTICIPANT", "EVENT_ID", "INT",
+                    "EVENT_INVITE_CODE", "PARTICIPANTS_LIST_ID"),
+            new JoinTable("EVENT_TAGS_LIST", "TAG", "EVENT_ID", "INT",
+                    "EVENT_INVITE_CODE", "TAGS_LIST_ID"),
+            new JoinTable("EXPENSE_SPLIT", "PARTICIPANT_PAYMENT", "EXPENSE_ID", "BIGINT",
+                    "EXPENSE_ID", "SPLIT_ID"));
+
+    /**
+     * The indexes on the foreign keys of the collections. These columns are not fields
+     * of the child entities, so the indexes are created here instead of in their mapping.
+     */
+    private static final List<String> INDEXES = List.of(
+            "CREATE INDEX IF NOT EXISTS idx_expense_event ON expense(event_id)",
+            "CREATE INDEX IF NOT EXISTS idx_participant_event ON participant(event_id)",
+            "CREATE INDEX IF NOT EXISTS idx_tag_event ON tag(event_id)",
+            "CREATE INDEX IF NOT EXISTS idx_participant_payment_expense "
+                    + "ON participant_payment(expense_id)");
+
+    private final JdbcTemplate jdbc;
+    private final TransactionOperations transactions;
+
+    /**
+     * Constructor for the migration
+     * @param jdbc the template to run the statements with
+     * @param transactions the transaction the rows are moved in
+     */
+    @Autowired
+    public ForeignKeyMigration(JdbcTemplate jdbc, TransactionOperations transactions) {
+        this.jdbc = jdbc;
+        this.transactions = transactions;
+    }
+
+    /**
+     * Fills the foreign keys from the join tables that still exist and drops those
+     * join tables, all in one transaction, then makes sure the indexes exist
+     * @return the number of join tables that were migrated
+     */
+    @PostConstruct
+    public int migrate() {
+        Integer migrated = transactions.execute(status -> {
+            int tables = 0;
+            for (JoinTable table : JOIN_TABLES) {
+                if (exists(table.name())) {
+                    moveRows(table);
+                    tables++;
+                }
+            }
+            return tables;
+        });
+        INDEXES.forEach(jdbc::execute);
+        return migrated == null ? 0 : migrated;
+    }
+
+    /**
+     * Checks whether a table exists
+     * @param table the name of the table
+     * @return true if the table exists
+     */
+    private boolean exists(String table) {
+        Integer count = jdbc.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES "
+                + "WHERE TABLE_NAME = ?", Integer.class, table);
+        return count != null && count > 0;
+    }
+
+    /**
+     * Copies the owners of the rows of a join table to the foreign key of the children,
+     * then drops the join table
+     * @param table the join table
+     */
+    private void moveRows(JoinTable table) {
+        jdbc.execute("ALTER TABLE " + table.child() + " ADD COLUMN IF NOT EXISTS "
+                + table.foreignKey() + " " + table.type());
+        jdbc.update("UPDATE " + table.child() + " c SET " + table.foreignKey()
+                + " = (SELECT j." + table.ownerColumn() + " FROM " + table.name()
+                + " j WHERE j." + table.childColumn() + " = c.id) WHERE c.id IN (SELECT "
+                + table.childColumn() + " FROM " + table.name() + ")");
+        jdbc.execute("DROP TABLE " + table.name());
+    }
+}
@@ -0,0 +1,230 @@
+package server.database;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+
+import java.util.Date;
+import java.util.Locale;
+
+/**
+ * One change to the participants, expenses, tags or payments of an event. The entries of an
+ * event are numbered in the order they were made and are never changed afterwards.
+ * Undoing or redoing a change is journaled as a new entry that reverts an earlier one.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_journal_event_sequence",
+        columnList = "invite_code, sequence_number", unique = true))
+public class JournalEntry {
+
+    /**
+     * What was changed
+     */
+    public enum Type {
+        EXPENSE, PARTICIPANT, TAG, PAYMENT;
+
+        /**
+         * @return the name of the type as used in change feeds
+         */
+        public String getParam() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * How it was changed
+     */
+    public enum Operation {
+        ADD, UPDATE, DELETE;
+
+        /**
+         * @return the name of the operation as used in change feeds
+         */
+        public String getParam() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * Why the change was made
+     */
+    public enum Action {
+        CHANGE, UNDO, REDO;
+
+        /**
+         * @return the name of the action as used in change feeds
+         */
+        public String getParam() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private long id;
+    private int inviteCode;
+    private long sequenceNumber;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Type type;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Operation operation;
+    private long entityId;
+    private Long parentId;
+    @Lob
+    private String beforeState;
+    @Lob
+    private String afterState;
+    private Date recordedAt;
+    @Enumerated(EnumType.STRING)
+    private Action action;
+    private Long reverts;
+
+    /**
+     * Empty constructor for JPA
+     */
+    @SuppressWarnings("unused")
+    protected JournalEntry() {
+    }
+
+    /**
+     * Constructor for an entry of the journal
+     * @param inviteCode the invite code of the event
+     * @param sequenceNumber the number of the entry within the journal of the event
+     * @param type what was changed
+     * @param operation how it was changed
+     * @param entityId the id of what was changed
+     * @param parentId the id of the expense of a changed payment, null for the other types
+     * @param beforeState what was changed as JSON before the change, null when it was added
+     * @param afterState what was changed as JSON after the change, null when it was deleted
+     * @param recordedAt when the change was made
+     */
+    public JournalEntry(int inviteCode, long sequenceNumber, Type type, Operation operation,
+                        long entityId, Long parentId, String beforeState, String afterState,
+                        Date recordedAt) {
+        this(inviteCode, sequenceNumber, type, operation, entityId, parentId, beforeState,
+                afterState, recordedAt, Action.CHANGE, null);
+    }
+
+    /**
+     * Constructor for an entry of the journal that undoes or redoes an earlier entry
+     * @param inviteCode the invite code of the event
+     * @param sequenceNumber the number of the entry within the journal of the event
+     * @param type what was changed
+     * @param operation how it was changed
+     * @param entityId the id of what was changed
+     * @param parentId the id of the expense of a changed payment, null for the other types
+     * @param beforeState what was changed as JSON before the change, null when it was added
+     * @param afterState what was changed as JSON after the change, null when it was deleted
+     * @param recordedAt when the change was made
+     * @param action why the change was made
+     * @param reverts the number of the entry that is undone or redone, null for a change
+     */
+    public JournalEntry(int inviteCode, long sequenceNumber, Type type, Operation operation,
+                        long entityId, Long parentId, String beforeState, String afterState,
+                        Date recordedAt, Action action, Long reverts) {
+        this.inviteCode = inviteCode;
+        this.sequenceNumber = sequenceNumber;
+        this.type = type;
+        this.operation = operation;
+        this.entityId = entityId;
+        this.parentId = parentId;
+        this.beforeState = beforeState;
+        this.afterState = afterState;
+        this.recordedAt = recordedAt;
+        this.action = action;
+        this.reverts = reverts;
+    }
+
+    /**
+     * @return the id of the entry
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * @return the invite code of the event
+     */
+    public int getInviteCode() {
+        return inviteCode;
+    }
+
+    /**
+     * @return the number of the entry within the journal of the event
+     */
+    public long getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    /**
+     * @return what was changed
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * @return how it was changed
+     */
+    public Operation getOperation() {
+        return operation;
+    }
+
+    /**
+     * @return the id of what was changed
+     */
+    public long getEntityId() {
+        return entityId;
+    }
+
+    /**
+     * @return the id of the expense of a changed payment, null for the other types
+     */
+    public Long getParentId() {
+        return parentId;
+    }
+
+    /**
+     * @return what was changed as JSON before the change, null when it was added
+     */
+    public String getBeforeState() {
+        return beforeState;
+    }
+
+    /**
+     * @return what was changed as JSON after the change, null when it was deleted
+     */
+    public String getAfterState() {
+        return afterState;
+    }
+
+    /**
+     * @return when the change was made
+     */
+    public Date getRecordedAt() {
+        return recordedAt;
+    }
+
+    /**
+     * @return why the change was made, a change for entries from before undo was journaled
+     */
+    public Action getAction() {
+        return action == null ? Action.CHANGE : action;
+    }
+
+    /**
+     * @return the number of the entry that is undone or redone, null for a change
+     */
+    public Long getReverts() {
+        return reverts;
+    }
+}
@@ -0,0 +1,49 @@
+package server.database;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface JournalEntryRepository extends JpaRepository<JournalEntry, Long> {
+
+    /**
+     * Finds the number of the last entry in the journal of an event, using the index
+     * @param inviteCode the invite code of the event
+     * @return the number of the last entry, empty if the journal is empty
+     */
+    @Query("select max(j.sequenceNumber) from JournalEntry j where j.inviteCode = :inviteCode")
+    Optional<Long> findLastSequenceNumber(@Param("inviteCode") int inviteCode);
+
+    /**
+     * Finds the entries in the journal of an event after the given one, in order
+     * @param inviteCode the invite code of the event
+     * @param sequenceNumber the number of the entry to start after
+     * @return the entries after it
+     */
+    List<JournalEntry> findByInviteCodeAndSequenceNumberGreaterThanOrderBySequenceNumber(
+            int inviteCode, long sequenceNumber);
+
+    /**
+     * Finds the events that have a journal
+     * @return the invite codes of the events
+     */
+    @Query("select distinct j.inviteCode from JournalEntry j")
+    List<Integer> findInviteCodes();
+
+    /**
+     * Counts the entries in the journal of an event after the given one
+     * @param inviteCode the invite code of the event
+     * @param sequenceNumber the number of the entry to start after
+     * @return the number of entries after it
+     */
+    long countByInviteCodeAndSequenceNumberGreaterThan(int inviteCode, long sequenceNumber);
+
+    /**
+     * Deletes the journal of an event
+     * @param inviteCode the invite code of the event
+     */
+    void deleteByInviteCode(int inviteCode);
+}
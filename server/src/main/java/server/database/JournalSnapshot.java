@@ -0,0 +1,75 @@
+package server.database;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+
+import java.util.Date;
+
+/**
+ * The participants, expenses and tags of an event as they were after an entry of its journal,
+ * so that the event can be rebuilt without replaying the journal from the start.
+ * Only the latest snapshot of every event is kept.
+ */
+@Entity
+public class JournalSnapshot {
+
+    @Id
+    private int inviteCode;
+    private long sequenceNumber;
+    @Lob
+    @Column(nullable = false)
+    private byte[] content;
+    private Date takenAt;
+
+    /**
+     * Empty constructor for JPA
+     */
+    @SuppressWarnings("unused")
+    protected JournalSnapshot() {
+    }
+
+    /**
+     * Constructor for a snapshot
+     * @param inviteCode the invite code of the event
+     * @param sequenceNumber the number of the last journal entry included in the snapshot
+     * @param content the event with all its participants, expenses and tags
+     *                as JSON compressed with gzip
+     * @param takenAt when the snapshot was taken
+     */
+    public JournalSnapshot(int inviteCode, long sequenceNumber, byte[] content, Date takenAt) {
+        this.inviteCode = inviteCode;
+        this.sequenceNumber = sequenceNumber;
+        this.content = content;
+        this.takenAt = takenAt;
+    }
+
+    /**
+     * @return the invite code of the event
+     */
+    public int getInviteCode() {
+        return inviteCode;
+    }
+
+    /**
+     * @return the number of the last journal entry included in the snapshot
+     */
+    public long getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    /**
+     * @return the event as JSON compressed with gzip
+     */
+    public byte[] getContent() {
+        return content;
+    }
+
+    /**
+     * @return when the snapshot was taken
+     */
+    public Date getTakenAt() {
+        return takenAt;
+    }
+}
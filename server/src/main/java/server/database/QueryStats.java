@@ -0,0 +1,98 @@
+package server.database;
+
+/**
+ * Counts the statements, loaded rows and loaded entities of the work done on one thread,
+ * usually one request. Counting only happens between {@link #start()} and {@link #stop()},
+ * so work outside a request, like the scheduled maintenance, is not counted.
+ */
+public final class QueryStats {
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long rows;
+    private int entities;
+
+    /**
+     * Starts counting on this thread
+     * @return the counts, or null if this thread is already counting for an outer caller,
+     *      in which case the outer caller stops counting
+     */
+    public static QueryStats start() {
+        if (CURRENT.get() != null) {
+            return null;
+        }
+        QueryStats stats = new QueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * Gets the counts of this thread
+     * @return the counts, or null if this thread is not counting
+     */
+    public static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Stops counting on this thread
+     */
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Counts a statement sent to the database, a batch counts as one statement
+     */
+    static void countStatement() {
+        QueryStats stats = CURRENT.get();
+        if (stats != null) stats.statements++;
+    }
+
+    /**
+     * Counts a row read from a result
+     */
+    static void countRow() {
+        QueryStats stats = CURRENT.get();
+        if (stats != null) stats.rows++;
+    }
+
+    /**
+     * Counts an entity that was loaded from the database
+     */
+    static void countEntity() {
+        QueryStats stats = CURRENT.get();
+        if (stats != null) stats.entities++;
+    }
+
+    /**
+     * @return the number of statements sent to the database
+     */
+    public int getStatements() {
+        return statements;
+    }
+
+    /**
+     * @return the number of rows read from the results of the statements
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * @return the number of entities loaded from the database
+     */
+    public int getEntities() {
+        return entities;
+    }
+
+    /**
+     * A toString method to log the counts
+     * @return the counts in a human-readable format
+     */
+    @Override
+    public String toString() {
+        return statements + " statements, " + rows + " rows, " + entities + " entities";
+    }
+}
@@ -0,0 +1,48 @@
+package server.database;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+/**
+ * The last journal entry of an event before the event was changed without its journal,
+ * such as by archiving or restoring it. The entries up to it can no longer be undone
+ * or redone, because what they changed may no longer exist.
+ */
+@Entity
+public class UndoBarrier {
+
+    @Id
+    private int inviteCode;
+    private long sequenceNumber;
+
+    /**
+     * Empty constructor for JPA
+     */
+    @SuppressWarnings("unused")
+    protected UndoBarrier() {
+    }
+
+    /**
+     * Constructor for a barrier
+     * @param inviteCode the invite code of the event
+     * @param sequenceNumber the number of the last journal entry that can no longer be undone
+     */
+    public UndoBarrier(int inviteCode, long sequenceNumber) {
+        this.inviteCode = inviteCode;
+        this.sequenceNumber = sequenceNumber;
+    }
+
+    /**
+     * @return the invite code of the event
+     */
+    public int getInviteCode() {
+        return inviteCode;
+    }
+
+    /**
+     * @return the number of the last journal entry that can no longer be undone
+     */
+    public long getSequenceNumber() {
+        return sequenceNumber;
+    }
+}
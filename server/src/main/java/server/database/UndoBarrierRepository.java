@@ -0,0 +1,6 @@
+package server.database;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+
+public interface UndoBarrierRepository extends JpaRepository<UndoBarrier, Integer> {}
@@ -0,0 +1,32 @@
+package server.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.springframework.http.ResponseEntity;
+
+import java.util.function.Supplier;
+
+@Name("splitty.Balance")
+@Label("Balance Computation")
+@Description("A computation of the shares, debts, totals or statistics of an event")
+public class BalanceEvent extends RequestEvent {
+
+    @Label("Kind")
+    String kind;
+
+    /**
+     * Records a computation over the expenses of an event
+     * @param kind what is computed, like share, debt or statistics
+     * @param inviteCode the invite code of the event
+     * @param computation the computation
+     * @param <T> the type of the response
+     * @return the response of the computation
+     */
+    public static <T> ResponseEntity<T> record(String kind, long inviteCode,
+                                               Supplier<ResponseEntity<T>> computation) {
+        BalanceEvent event = new BalanceEvent();
+        event.kind = kind;
+        return event.time(inviteCode, computation);
+    }
+}
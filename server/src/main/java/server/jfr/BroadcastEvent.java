@@ -0,0 +1,38 @@
+package server.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("splitty.Broadcast")
+@Label("Websocket Broadcast")
+@Description("A message the broker hands to the subscribers of a topic")
+@Category({"Splitty", "Server"})
+@StackTrace(false)
+public class BroadcastEvent extends Event {
+
+    @Label("Topic")
+    String topic;
+
+    @Label("Payload Size")
+    @DataAmount
+    long payload;
+
+    /**
+     * Ends the broadcast and commits this event if it is enabled
+     * @param topic the topic, without ids
+     * @param payload the size of the message in bytes
+     */
+    public void finish(String topic, long payload) {
+        end();
+        if (shouldCommit()) {
+            this.topic = topic;
+            this.payload = payload;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package server.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("splitty.LongPoll")
+@Label("Long Poll")
+@Description("A long poll, from the start of waiting until its result is sent")
+@Category({"Splitty", "Server"})
+@StackTrace(false)
+public class LongPollEvent extends Event {
+
+    @Label("Path")
+    String path;
+
+    @Label("Timed Out")
+    boolean timedOut;
+
+    /**
+     * Notes that the long poll timed out
+     */
+    public void timeout() {
+        timedOut = true;
+    }
+
+    /**
+     * Ends the long poll and commits this event if it is enabled
+     * @param path the path of the long poll
+     */
+    public void finish(String path) {
+        end();
+        if (shouldCommit()) {
+            this.path = path;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package server.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.springframework.http.ResponseEntity;
+
+import java.util.function.Supplier;
+
+@Name("splitty.Mutation")
+@Label("Mutation")
+@Description("A change to the expenses, participants or tags of an event")
+public class MutationEvent extends RequestEvent {
+
+    @Label("Entity")
+    String entity;
+
+    @Label("Action")
+    String action;
+
+    /**
+     * Records a change to an event
+     * @param entity what is changed, like expense, participant or tag
+     * @param action how it is changed, like add, update or delete
+     * @param inviteCode the invite code of the event
+     * @param mutation the change
+     * @param <T> the type of the response
+     * @return the response of the change
+     */
+    public static <T> ResponseEntity<T> record(String entity, String action, long inviteCode,
+                                               Supplier<ResponseEntity<T>> mutation) {
+        MutationEvent event = new MutationEvent();
+        event.entity = entity;
+        event.action = action;
+        return event.time(inviteCode, mutation);
+    }
+}
@@ -0,0 +1,69 @@
+package server.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("splitty.RateLookup")
+@Label("Exchange Rate Lookup")
+@Description("A lookup of an exchange rate, in the cached files or at the currency API")
+@Category({"Splitty", "Server"})
+@StackTrace(false)
+public class RateLookupEvent extends Event {
+
+    @Label("Date")
+    String date;
+
+    @Label("From")
+    String from;
+
+    @Label("To")
+    String to;
+
+    @Label("Cached")
+    boolean cached;
+
+    @Label("Upstream Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long upstream;
+
+    @Label("Status")
+    int status;
+
+    /**
+     * Notes that the rate was found in the cached files
+     */
+    public void hit() {
+        cached = true;
+    }
+
+    /**
+     * Notes how long the currency API took for a rate that was not cached
+     * @param nanos the duration of the request to the currency API in nanoseconds
+     */
+    public void miss(long nanos) {
+        upstream = nanos;
+    }
+
+    /**
+     * Ends the lookup and commits this event if it is enabled
+     * @param date the date of the rate
+     * @param from the currency that is converted from
+     * @param to the currency that is converted to
+     * @param status the status of the response
+     */
+    public void finish(String date, String from, String to, int status) {
+        end();
+        if (shouldCommit()) {
+            this.date = date;
+            this.from = from;
+            this.to = to;
+            this.status = status;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package server.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import org.springframework.http.ResponseEntity;
+import server.database.QueryStats;
+
+import java.util.function.Supplier;
+
+/**
+ * A flight recorder event of work done for an event, with the status of the response and
+ * the number of statements and entities the work needed from the database
+ */
+@Category({"Splitty", "Server"})
+@StackTrace(false)
+abstract class RequestEvent extends Event {
+
+    @Label("Invite Code")
+    long inviteCode;
+
+    @Label("Status")
+    int status;
+
+    @Label("Statements")
+    int statements;
+
+    @Label("Entities")
+    int entities;
+
+    /**
+     * Times some work and commits this event if it is enabled
+     * @param inviteCode the invite code of the event the work is done for
+     * @param work the work
+     * @param <T> the type of the response
+     * @return the response of the work
+     */
+    <T> ResponseEntity<T> time(long inviteCode, Supplier<ResponseEntity<T>> work) {
+        QueryStats stats = QueryStats.current();
+        int statementsBefore = stats == null ? 0 : stats.getStatements();
+        int entitiesBefore = stats == null ? 0 : stats.getEntities();
+        begin();
+        ResponseEntity<T> response = work.get();
+        end();
+        if (shouldCommit()) {
+            this.inviteCode = inviteCode;
+            this.status = response.getStatusCode().value();
+            if (stats != null) {
+                this.statements = stats.getStatements() - statementsBefore;
+                this.entities = stats.getEntities() - entitiesBefore;
+            }
+            commit();
+        }
+        return response;
+    }
+}
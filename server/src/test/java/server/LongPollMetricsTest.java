@@ -0,0 +1,34 @@
+package server;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongPollMetricsTest {
+
+    @Test
+    public void pendingAndTimeouts() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        LongPollMetrics sut = new LongPollMetrics(registry);
+        DeferredResult<String> first = new DeferredResult<>();
+        DeferredResult<String> second = new DeferredResult<>();
+        NativeWebRequest firstRequest = new ServletWebRequest(new MockHttpServletRequest());
+        NativeWebRequest secondRequest = new ServletWebRequest(new MockHttpServletRequest());
+        sut.beforeConcurrentHandling(firstRequest, first);
+        sut.beforeConcurrentHandling(secondRequest, second);
+        assertEquals(2, registry.get("splitty.longpoll.pending").gauge().value());
+
+        assertTrue(sut.handleTimeout(firstRequest, first));
+        sut.afterCompletion(firstRequest, first);
+        assertEquals(1, registry.get("splitty.longpoll.pending").gauge().value());
+        assertEquals(1, registry.get("splitty.longpoll.timeouts").counter().count());
+
+        sut.afterCompletion(secondRequest, second);
+        assertEquals(0, registry.get("splitty.longpoll.pending").gauge().value());
+    }
+}
@@ -0,0 +1,56 @@
+package server;
+
+import server.database.QueryStats;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Counts the statements, rows and entities that some work loads from the database,
+ * so that tests can put an upper bound on them
+ */
+public final class QueryBudget {
+
+    /**
+     * Work that is counted
+     */
+    @FunctionalInterface
+    public interface Work {
+        void run() throws Exception;
+    }
+
+    private QueryBudget() {
+    }
+
+    /**
+     * Counts what some work loads from the database
+     * @param work the work
+     * @return the counts
+     * @throws Exception what the work throws
+     */
+    public static QueryStats measure(Work work) throws Exception {
+        QueryStats stats = QueryStats.start();
+        if (stats == null) {
+            throw new IllegalStateException("Already counting on this thread");
+        }
+        try {
+            work.run();
+        } finally {
+            QueryStats.stop();
+        }
+        return stats;
+    }
+
+    /**
+     * Checks that some work sends at most a number of statements to the database
+     * @param statements the maximum number of statements
+     * @param work the work
+     * @return the counts
+     * @throws Exception what the work throws
+     */
+    public static QueryStats assertAtMost(int statements, Work work) throws Exception {
+        QueryStats stats = measure(work);
+        assertTrue(stats.getStatements() <= statements,
+                "Expected at most " + statements + " statements, but got " + stats);
+        return stats;
+    }
+}
@@ -0,0 +1,279 @@
+package server;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import commons.Event;
+import commons.Expense;
+import commons.GeneratorSettings;
+import commons.ImportResult;
+import commons.Participant;
+import commons.ParticipantPayment;
+import commons.Tag;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import server.api.BulkImportService;
+import server.api.PasswordService;
+import server.database.EventRepository;
+import server.database.QueryStats;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Puts an upper bound on the statements every endpoint sends to the database. Every endpoint
+ * is called on a small and on a large event, and may not need more statements for the large
+ * one, so that loading the expenses one at a time fails the build. The writes add, change
+ * and delete their own expense, participant or tag, so the events stay the same for the
+ * other tests.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:budget;DB_CLOSE_DELAY=-1",
+    "archive.inactive-days=0"
+})
+@AutoConfigureMockMvc
+public class QueryBudgetTest {
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private BulkImportService bulkImportService;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private ObjectMapper mapper;
+
+    private Event small;
+    private Event large;
+    private String response;
+
+    @BeforeEach
+    public void setup() {
+        PasswordService.setPassword("budget");
+        if (eventRepository.count() == 0) {
+            bulkImportService.importGenerated(settings(1, 5));
+            bulkImportService.importGenerated(settings(2, 40));
+        }
+        List<Event> events = eventRepository.findAll();
+        small = events.stream().filter(e -> e.getExpensesList().size() == 5).findFirst()
+                .orElseThrow();
+        large = events.stream().filter(e -> e.getExpensesList().size() == 40).findFirst()
+                .orElseThrow();
+    }
+
+    private static GeneratorSettings settings(long seed, int expenses) {
+        GeneratorSettings settings = new GeneratorSettings(seed, 1, 6, expenses, 3);
+        settings.setCurrencies(List.of("EUR"));
+        return settings;
+    }
+
+    @Test
+    public void getEvent() throws Exception {
+        assertBudget("/api/events/%d", 8);
+    }
+
+    @Test
+    public void getVersion() throws Exception {
+        assertBudget("/api/events/%d/version", 3);
+    }
+
+    @Test
+    public void getTotal() throws Exception {
+        assertBudget("/api/events/%d/total", 8);
+    }
+
+    @Test
+    public void getSummaries() throws Exception {
+        assertBudget("/api/events/summaries?ids=%d", 3);
+    }
+
+    @Test
+    public void getExpenses() throws Exception {
+        assertBudget("/api/events/%d/expenses", 8);
+    }
+
+    @Test
+    public void getExpensePage() throws Exception {
+        assertBudget("/api/events/%d/expenses/page", 8);
+    }
+
+    @Test
+    public void getParticipants() throws Exception {
+        assertBudget("/api/events/%d/participants", 8);
+    }
+
+    @Test
+    public void getTags() throws Exception {
+        assertBudget("/api/events/%d/tags", 8);
+    }
+
+    @Test
+    public void getStatistics() throws Exception {
+        assertBudget("/api/events/%d/statistics", 8);
+    }
+
+    @Test
+    public void getParticipantSummaries() throws Exception {
+        assertBudget("/api/events/%d/statistics/participants", 8);
+    }
+
+    @Test
+    public void getInvolvingPayee() throws Exception {
+        assertParticipantBudget("/api/events/%d/payee/%d", 8);
+    }
+
+    @Test
+    public void getInvolvingParticipant() throws Exception {
+        assertParticipantBudget("/api/events/%d/participant/%d", 8);
+    }
+
+    @Test
+    public void getShare() throws Exception {
+        assertParticipantBudget("/api/events/%d/share/%d", 8);
+    }
+
+    @Test
+    public void getDebt() throws Exception {
+        assertParticipantBudget("/api/events/%d/debt/%d", 8);
+    }
+
+    @Test
+    public void getOwed() throws Exception {
+        assertParticipantBudget("/api/events/%d/owed/%d", 8);
+    }
+
+    @Test
+    public void getExpensesWithTag() throws Exception {
+        QueryStats smallStats = call("/api/events/" + small.getInviteCode() + "/tags/"
+                + small.getTagsList().get(0).getName() + "/expenses", 8);
+        QueryStats largeStats = call("/api/events/" + large.getInviteCode() + "/tags/"
+                + large.getTagsList().get(0).getName() + "/expenses", 8);
+        assertSameStatements(smallStats, largeStats);
+    }
+
+    @Test
+    public void writeExpense() throws Exception {
+        assertSameStatements(writeExpense(small), writeExpense(large));
+    }
+
+    @Test
+    public void writeParticipant() throws Exception {
+        assertSameStatements(writeParticipant(small), writeParticipant(large));
+    }
+
+    @Test
+    public void writeTag() throws Exception {
+        assertSameStatements(writeTag(small), writeTag(large));
+    }
+
+    @Test
+    public void bulkImportDuplicates() throws Exception {
+        String path = "/api/admin/" + PasswordService.getPassword() + "/bulk";
+        QueryStats one = write(post(path), List.of(small), 12);
+        QueryStats both = write(post(path), List.of(small, large), 12);
+        assertEquals(new ImportResult(0, 2, 0), mapper.readValue(response, ImportResult.class));
+        assertSameStatements(one, both);
+    }
+
+    @Test
+    public void bulkImport() throws Exception {
+        String path = "/api/admin/" + PasswordService.getPassword() + "/bulk";
+        List<Event> events = List.of(small, large);
+        for (Event event : events) {
+            event.setTitle(event.getTitle() + " " + System.nanoTime());
+        }
+        write(post(path), events, 30);
+        assertEquals(new ImportResult(2, 0, 0), mapper.readValue(response, ImportResult.class));
+    }
+
+    private List<QueryStats> writeExpense(Event event) throws Exception {
+        String path = "/api/events/" + event.getInviteCode() + "/expenses";
+        Participant payee = event.getParticipantsList().get(0);
+        Expense expense = new Expense(10, "EUR", "Budget", "", new Date(),
+                new ArrayList<>(List.of(new ParticipantPayment(payee, 10))), null, payee);
+        List<QueryStats> stats = new ArrayList<>();
+        stats.add(write(post(path), expense, 24));
+        Expense added = mapper.readValue(response, Expense.class);
+        added.setTitle("Changed budget");
+        added.setSplit(new ArrayList<>(List.of(new ParticipantPayment(payee, 10))));
+        stats.add(write(put(path + "/" + added.getId()), added, 24));
+        stats.add(write(delete(path + "/" + added.getId()), null, 24));
+        return stats;
+    }
+
+    private List<QueryStats> writeParticipant(Event event) throws Exception {
+        String path = "/api/events/" + event.getInviteCode() + "/participants";
+        List<QueryStats> stats = new ArrayList<>();
+        stats.add(write(post(path), new Participant("Budget", "budget@mail.com", null, null),
+                24));
+        Participant added = mapper.readValue(response, Participant.class);
+        added.setName("Changed budget");
+        stats.add(write(put(path + "/" + added.getId()), added, 24));
+        stats.add(write(delete(path + "/" + added.getId()), null, 24));
+        return stats;
+    }
+
+    private List<QueryStats> writeTag(Event event) throws Exception {
+        String path = "/api/events/" + event.getInviteCode() + "/tags";
+        List<QueryStats> stats = new ArrayList<>();
+        stats.add(write(post(path), new Tag("budget", "blue"), 20));
+        Tag added = mapper.readValue(response, Tag.class);
+        added.setColor("green");
+        stats.add(write(put(path + "/" + added.getId()), added, 20));
+        stats.add(write(delete(path + "/" + added.getId()), null, 20));
+        return stats;
+    }
+
+    private void assertBudget(String path, int statements) throws Exception {
+        QueryStats smallStats = call(String.format(path, small.getInviteCode()), statements);
+        QueryStats largeStats = call(String.format(path, large.getInviteCode()), statements);
+        assertSameStatements(smallStats, largeStats);
+    }
+
+    private void assertParticipantBudget(String path, int statements) throws Exception {
+        QueryStats smallStats = call(String.format(path, small.getInviteCode(),
+                small.getParticipantsList().get(0).getId()), statements);
+        QueryStats largeStats = call(String.format(path, large.getInviteCode(),
+                large.getParticipantsList().get(0).getId()), statements);
+        assertSameStatements(smallStats, largeStats);
+    }
+
+    private QueryStats call(String path, int statements) throws Exception {
+        return QueryBudget.assertAtMost(statements,
+                () -> mvc.perform(get(path)).andExpect(status().isOk()));
+    }
+
+    private QueryStats write(MockHttpServletRequestBuilder request, Object body,
+                             int statements) throws Exception {
+        if (body != null) {
+            request.contentType(MediaType.APPLICATION_JSON)
+                    .content(mapper.writeValueAsString(body));
+        }
+        return QueryBudget.assertAtMost(statements, () -> response = mvc.perform(request)
+                .andExpect(status().isOk()).andReturn().getResponse().getContentAsString());
+    }
+
+    private static void assertSameStatements(List<QueryStats> small, List<QueryStats> large) {
+        for (int i = 0; i < small.size(); i++) {
+            assertSameStatements(small.get(i), large.get(i));
+        }
+    }
+
+    private static void assertSameStatements(QueryStats small, QueryStats large) {
+        assertTrue(large.getStatements() <= small.getStatements(),
+                "The large event needs more statements: " + large + " instead of " + small);
+    }
+}
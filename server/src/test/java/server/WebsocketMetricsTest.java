@@ -0,0 +1,93 @@
+package server;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WebsocketMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private WebsocketMetrics sut;
+
+    @BeforeEach
+    public void setup() {
+        registry = new SimpleMeterRegistry();
+        sut = new WebsocketMetrics(registry);
+    }
+
+    @Test
+    public void sessionsAndSubscriptions() {
+        sut.onConnected(new SessionConnectedEvent(this, message(SimpMessageType.CONNECT_ACK,
+                "a", null)));
+        sut.onConnected(new SessionConnectedEvent(this, message(SimpMessageType.CONNECT_ACK,
+                "b", null)));
+        sut.onSubscribe(new SessionSubscribeEvent(this, message(SimpMessageType.SUBSCRIBE,
+                "a", "/topic/events/1")));
+        sut.onSubscribe(new SessionSubscribeEvent(this, message(SimpMessageType.SUBSCRIBE,
+                "a", "/topic/events/1/expenses")));
+        sut.onSubscribe(new SessionSubscribeEvent(this, message(SimpMessageType.SUBSCRIBE,
+                "b", "/topic/events/2")));
+        assertEquals(2, gauge("splitty.websocket.sessions"));
+        assertEquals(3, gauge("splitty.websocket.subscriptions"));
+
+        sut.onUnsubscribe(new SessionUnsubscribeEvent(this, message(SimpMessageType.UNSUBSCRIBE,
+                "a", null)));
+        assertEquals(2, gauge("splitty.websocket.subscriptions"));
+
+        sut.onDisconnect(new SessionDisconnectEvent(this, message(SimpMessageType.DISCONNECT,
+                "a", null), "a", CloseStatus.NORMAL));
+        assertEquals(1, gauge("splitty.websocket.sessions"));
+        assertEquals(1, gauge("splitty.websocket.subscriptions"));
+    }
+
+    @Test
+    public void subscribeUnknownSession() {
+        sut.onSubscribe(new SessionSubscribeEvent(this, message(SimpMessageType.SUBSCRIBE,
+                "a", "/topic/events/1")));
+        assertEquals(0, gauge("splitty.websocket.sessions"));
+        assertEquals(0, gauge("splitty.websocket.subscriptions"));
+    }
+
+    @Test
+    public void countMessagesPerTopic() {
+        sut.preSend(message(SimpMessageType.MESSAGE, "a", "/topic/events/1/expenses/3"), null);
+        sut.preSend(message(SimpMessageType.MESSAGE, "b", "/topic/events/2/expenses/4"), null);
+        sut.preSend(message(SimpMessageType.MESSAGE, "a", "/topic/events/1"), null);
+        sut.preSend(message(SimpMessageType.HEARTBEAT, "a", null), null);
+        assertEquals(2, registry.get("splitty.broker.messages")
+                .tag("topic", "/topic/events/{id}/expenses/{id}").counter().count());
+        assertEquals(1, registry.get("splitty.broker.messages")
+                .tag("topic", "/topic/events/{id}").counter().count());
+    }
+
+    @Test
+    public void topicOf() {
+        assertEquals("/topic/events/{id}/participants/{id}",
+                WebsocketMetrics.topicOf("/topic/events/12/participants/345"));
+        assertEquals("/topic/events", WebsocketMetrics.topicOf("/topic/events"));
+        assertEquals("/topic/events/a1", WebsocketMetrics.topicOf("/topic/events/a1"));
+    }
+
+    private double gauge(String name) {
+        return registry.get(name).gauge().value();
+    }
+
+    private static Message<byte[]> message(SimpMessageType type, String session,
+                                           String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setSessionId(session);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -1,14 +1,27 @@
 package server.api;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import commons.Event;
+import commons.GeneratorSettings;
+import commons.ImportResult;
+import commons.StorageStats;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.support.TransactionOperations;
 import server.database.*;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Date;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 import static server.api.PasswordService.setPassword;
 
 public class AdminControllerTest {
@@ -16,6 +29,7 @@ public class AdminControllerTest {
     private AdminService serviceStub;
     private AdminController sutStubbed;
     private PasswordService ps;
+    private MaintenanceService maintenanceService;
 
     public class AdminServiceStub extends AdminService {
 
@@ -50,7 +64,18 @@ public class AdminControllerTest {
         TestExpenseRepository expRepo = new TestExpenseRepository();
 
         serviceStub = new AdminServiceStub(eventRepo, tagRepo,partRepo,ppRepo,expRepo);
-        sutStubbed = new AdminController(serviceStub);
+        ArchiveService archiveService = new ArchiveService(eventRepo,
+                new TestArchivedEventRepository(), expRepo, partRepo, tagRepo, serviceStub,
+                mock(JournalService.class), new ObjectMapper(),
+                TransactionOperations.withoutTransaction(), 180);
+        BulkImportService bulkImportService = new BulkImportService(serviceStub, eventRepo,
+                archiveService, mock(JournalService.class),
+                TransactionOperations.withoutTransaction(), mock(EntityManager.class), new ObjectMapper(), 10);
+        ExportService exportService = new ExportService(eventRepo, archiveService,
+                mock(EntityManager.class), new ObjectMapper(), 10);
+        maintenanceService = mock(MaintenanceService.class);
+        sutStubbed = new AdminController(serviceStub, bulkImportService, exportService,
+                maintenanceService);
 
         ps = new PasswordService();
         setPassword("password");
@@ -76,4 +101,64 @@ public class AdminControllerTest {
         assertEquals(ResponseEntity.ok().build(), sutStubbed.addJsonImport("password",null));
     }
 
+    @Test
+    public void addBulkImportPasswordTestWrong() {
+        assertEquals(ResponseEntity.badRequest().build(),
+                sutStubbed.addBulkImport("kip", new ByteArrayInputStream(new byte[0])));
+    }
+
+    @Test
+    public void addBulkImportPasswordTestCorrect() {
+        String json = "[{\"title\":\"a\",\"expensesList\":[],"
+                + "\"participantsList\":[],\"tagsList\":[]}]";
+        var body = new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+        assertEquals(ResponseEntity.ok(new ImportResult(1, 0, 0)),
+                sutStubbed.addBulkImport("password", body));
+    }
+
+    @Test
+    public void generatePasswordTestWrong() {
+        assertEquals(ResponseEntity.badRequest().build(),
+                sutStubbed.generate("kip", new GeneratorSettings()));
+    }
+
+    @Test
+    public void generatePasswordTestCorrect() {
+        assertEquals(ResponseEntity.ok(new ImportResult(2, 0, 0)),
+                sutStubbed.generate("password", new GeneratorSettings(1, 2, 3, 4, 1)));
+    }
+
+    @Test
+    public void getPagePasswordTestWrong() {
+        assertEquals(ResponseEntity.badRequest().build(),
+                sutStubbed.getPage("kip", "code", "asc", null, null, 10));
+    }
+
+    @Test
+    public void getPagePasswordTestCorrect() {
+        assertEquals(HttpStatus.OK,
+                sutStubbed.getPage("password", "code", "asc", null, null, 10).getStatusCode());
+    }
+
+    @Test
+    public void getStoragePasswordTestWrong() {
+        assertEquals(ResponseEntity.badRequest().build(), sutStubbed.getStorage("kip"));
+    }
+
+    @Test
+    public void getStoragePasswordTestCorrect() throws SQLException {
+        StorageStats stats = new StorageStats(1024, 80, 75, 12, new Date(1000), null);
+        when(maintenanceService.getStats()).thenReturn(stats);
+        assertEquals(ResponseEntity.ok(stats), sutStubbed.getStorage("password"));
+    }
+
+    @Test
+    public void exportPasswordTestWrong() {
+        assertEquals(ResponseEntity.badRequest().build(), sutStubbed.export("kip", "json", false));
+    }
+
+    @Test
+    public void exportPasswordTestCorrect() {
+        assertEquals(HttpStatus.OK, sutStubbed.export("password", "json", false).getStatusCode());
+    }
 }
@@ -5,9 +5,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import server.database.*;
 
+import java.util.Date;
 import java.util.List;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.http.HttpStatus.*;
 
 public class AdminServiceTest {
@@ -40,6 +41,64 @@ public class AdminServiceTest {
         assertEquals(NOT_FOUND, adminService.addCreatedEvent(event1).getStatusCode());
     }
 
+    @Test
+    public void addImportDuplicateReordered(){
+        Event stored = new Event("Trip", new Date(1000), new Date(2000));
+        Participant a = new Participant("a", "a@mail.com", null, null);
+        Participant b = new Participant("b", "b@mail.com", null, null);
+        stored.getParticipantsList().addAll(List.of(a, b));
+        eventRepository.save(stored);
+
+        Event imported = new Event("Trip", new Date(1000), new Date(2000));
+        imported.getParticipantsList().addAll(List.of(b, a));
+        assertEquals(BAD_REQUEST, adminService.validateEvent(imported).getStatusCode());
+        assertTrue(((TestEventRepository) eventRepository).calledMethods
+                .contains("findByContentHash"));
+        assertFalse(((TestEventRepository) eventRepository).calledMethods.contains("findAll"));
+    }
+
+    @Test
+    public void eventPageSortedAndPaged(){
+        eventRepository.save(new Event("Title3", null, null));
+        eventRepository.save(new Event("Title2", null, null));
+        var first = adminService.getEventPage("title", "desc", null, null, 2);
+        assertEquals(OK, first.getStatusCode());
+        assertEquals(List.of("Title3", "Title2"), first.getBody().getEvents().stream()
+                .map(EventListing::getTitle).toList());
+        assertEquals("Title2_2", first.getBody().getNext());
+
+        var second = adminService.getEventPage("title", "desc", null,
+                first.getBody().getNext(), 2);
+        assertEquals(List.of("Title1"), second.getBody().getEvents().stream()
+                .map(EventListing::getTitle).toList());
+        assertNull(second.getBody().getNext());
+        assertTrue(((TestEventRepository) eventRepository).calledMethods
+                .contains("findListing"));
+        assertFalse(((TestEventRepository) eventRepository).calledMethods.contains("findAll"));
+    }
+
+    @Test
+    public void eventPageSearch(){
+        eventRepository.save(new Event("Trip to Rome", null, null));
+        var page = adminService.getEventPage("code", "asc", "rome", null, 10);
+        assertEquals(1, page.getBody().getEvents().size());
+        assertEquals("Trip to Rome", page.getBody().getEvents().getFirst().getTitle());
+    }
+
+    @Test
+    public void eventPageInvalid(){
+        assertEquals(BAD_REQUEST,
+                adminService.getEventPage("size", "asc", null, null, 10).getStatusCode());
+        assertEquals(BAD_REQUEST,
+                adminService.getEventPage("title", "up", null, null, 10).getStatusCode());
+        assertEquals(BAD_REQUEST,
+                adminService.getEventPage("code", "asc", null, "x", 10).getStatusCode());
+        assertEquals(BAD_REQUEST,
+                adminService.getEventPage("code", "asc", null, null, 0).getStatusCode());
+        assertEquals(BAD_REQUEST, adminService.getEventPage("code", "asc", null, null,
+                AdminService.MAX_PAGE_SIZE + 1).getStatusCode());
+    }
+
     @Test
     public void addImportInvalidFormat(){
         Event e = new Event("", null, null);
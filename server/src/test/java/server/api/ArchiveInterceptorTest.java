@@ -0,0 +1,71 @@
+package server.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import commons.Event;
+import commons.Participant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class ArchiveInterceptorTest {
+
+    private TestEventRepository repo;
+    private TestArchivedEventRepository archivedRepo;
+    private ArchiveService archiveService;
+    private ArchiveInterceptor sut;
+    private Event event;
+
+    @BeforeEach
+    public void setup() {
+        repo = new TestEventRepository();
+        archivedRepo = new TestArchivedEventRepository();
+        TestTagRepository tagRepo = new TestTagRepository();
+        AdminService adminService = new AdminService(repo, tagRepo,
+                new TestParticipantRepository(), new TestParticipantPaymentRepository(),
+                new TestExpenseRepository());
+        archiveService = new ArchiveService(repo, archivedRepo, new TestExpenseRepository(),
+                new TestParticipantRepository(), tagRepo, adminService,
+                mock(JournalService.class), new ObjectMapper(),
+                TransactionOperations.withoutTransaction(), 180);
+        sut = new ArchiveInterceptor(archiveService);
+        event = new Event("old", new Date(1000), new Date(2000));
+        event.getParticipantsList().add(new Participant("a", "a@mail.com", null, null));
+        repo.save(event);
+        assertTrue(archiveService.archive(event.getInviteCode(), new Date(3000)));
+    }
+
+    private boolean request(String uri) {
+        return sut.preHandle(new MockHttpServletRequest("GET", uri),
+                new MockHttpServletResponse(), new Object());
+    }
+
+    @Test
+    public void restoresTheEventOfAnyRequest() {
+        assertTrue(request("/api/events/" + event.getInviteCode() + "/expenses/page"));
+        Event restored = repo.getById((long) event.getInviteCode());
+        assertEquals(1, restored.getParticipantsList().size());
+        assertTrue(restored.getLastActivity().after(new Date(2000)));
+        assertTrue(archivedRepo.archived.isEmpty());
+    }
+
+    @Test
+    public void restoresOnVersion() {
+        assertTrue(request("/api/events/" + event.getInviteCode() + "/version"));
+        assertTrue(archivedRepo.archived.isEmpty());
+    }
+
+    @Test
+    public void ignoresOtherRequests() {
+        assertTrue(request("/api/events/summaries"));
+        assertTrue(request("/api/events/99999999999/version"));
+        assertTrue(request("/api/admin/pw/events"));
+        assertFalse(archivedRepo.archived.isEmpty());
+    }
+}
@@ -0,0 +1,134 @@
+package server.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import commons.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class ArchiveServiceTest {
+
+    private TestEventRepository eventRepository;
+    private TestArchivedEventRepository archivedRepository;
+    private AdminService adminService;
+    private JournalService journal;
+    private ArchiveService archiveService;
+    private Event old;
+    private Event recent;
+
+    @BeforeEach
+    public void setup() {
+        eventRepository = new TestEventRepository();
+        archivedRepository = new TestArchivedEventRepository();
+        adminService = new AdminService(eventRepository, new TestTagRepository(),
+                new TestParticipantRepository(), new TestParticipantPaymentRepository(),
+                new TestExpenseRepository());
+        journal = mock(JournalService.class);
+        archiveService = service(30);
+        old = event("old", new Date(1000));
+        recent = event("recent", new Date());
+        eventRepository.save(old);
+        eventRepository.save(recent);
+    }
+
+    private ArchiveService service(long inactiveDays) {
+        return new ArchiveService(eventRepository, archivedRepository,
+                new TestExpenseRepository(), new TestParticipantRepository(),
+                new TestTagRepository(), adminService, journal, new ObjectMapper(),
+                TransactionOperations.withoutTransaction(), inactiveDays);
+    }
+
+    private Event event(String title, Date lastActivity) {
+        Event event = new Event(title, new Date(500), lastActivity);
+        Participant p = new Participant("a", "a@mail.com", null, null);
+        Tag tag = new Tag("food", "red");
+        event.getParticipantsList().add(p);
+        event.getTagsList().add(tag);
+        event.getExpensesList().add(new Expense(10, "EUR", "pizza", "", new Date(600),
+                new ArrayList<>(List.of(new ParticipantPayment(p, 10))), tag, p));
+        return event;
+    }
+
+    @Test
+    public void archivesOnlyInactiveEvents() {
+        assertEquals(1, archiveService.archiveInactiveEvents());
+        assertTrue(archivedRepository.archived.containsKey(old.getInviteCode()));
+        assertFalse(archivedRepository.archived.containsKey(recent.getInviteCode()));
+        assertTrue(old.getExpensesList().isEmpty());
+        assertTrue(old.getParticipantsList().isEmpty());
+        assertTrue(old.getTagsList().isEmpty());
+        assertEquals("old", old.getTitle());
+        assertEquals(1, recent.getExpensesList().size());
+        verify(journal).reset(List.of(old));
+        verify(journal, never()).reset(List.of(recent));
+    }
+
+    @Test
+    public void archiveHashesContent() {
+        String hash = ContentHash.of(old);
+        archiveService.archiveInactiveEvents();
+        assertEquals(hash, old.getContentHash());
+    }
+
+    @Test
+    public void archivesOnlyOnce() {
+        archiveService.archiveInactiveEvents();
+        assertEquals(0, archiveService.archiveInactiveEvents());
+        assertEquals(1, archivedRepository.archived.size());
+    }
+
+    @Test
+    public void disabled() {
+        assertEquals(0, service(0).archiveInactiveEvents());
+        assertTrue(archivedRepository.archived.isEmpty());
+    }
+
+    @Test
+    public void rehydrate() {
+        String hash = ContentHash.of(old);
+        archiveService.archiveInactiveEvents();
+        assertTrue(archiveService.rehydrate(old.getInviteCode()));
+        assertTrue(archivedRepository.archived.isEmpty());
+        assertEquals(1, old.getParticipantsList().size());
+        assertEquals(1, old.getTagsList().size());
+        Expense expense = old.getExpensesList().getFirst();
+        assertSame(old.getParticipantsList().getFirst(), expense.getPayee());
+        assertSame(old.getTagsList().getFirst(), expense.getTag());
+        assertNotEquals(hash, old.getContentHash());
+        assertTrue(old.getLastActivity().after(new Date(1000)));
+        verify(journal, times(2)).reset(List.of(old));
+    }
+
+    @Test
+    public void rehydrateNotArchived() {
+        assertFalse(archiveService.rehydrate(recent.getInviteCode()));
+        assertFalse(archiveService.rehydrate(-1));
+        assertEquals(1, recent.getParticipantsList().size());
+    }
+
+    @Test
+    public void withArchivedContent() {
+        archiveService.archiveInactiveEvents();
+        List<Event> events = archiveService.withArchivedContent(List.of(old, recent));
+        assertEquals(1, events.getFirst().getExpensesList().size());
+        assertEquals("old", events.getFirst().getTitle());
+        assertSame(recent, events.get(1));
+        assertTrue(old.getExpensesList().isEmpty());
+    }
+
+    @Test
+    public void completeSummaries() {
+        archiveService.archiveInactiveEvents();
+        EventSummary summary = new EventSummary(old.getInviteCode(), "old", null, 0, 0);
+        archiveService.completeSummaries(List.of(summary));
+        assertEquals(1, summary.getParticipantCount());
+        assertEquals(10, summary.getTotal());
+    }
+}
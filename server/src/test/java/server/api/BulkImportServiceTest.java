@@ -0,0 +1,162 @@
+package server.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import commons.*;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+import server.database.ArchiveExemption;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.OK;
+
+public class BulkImportServiceTest {
+
+    private TestEventRepository eventRepository;
+    private EntityManager entityManager;
+    private JournalService journal;
+    private BulkImportService bulkImportService;
+    private ObjectMapper mapper;
+
+    @BeforeEach
+    public void setup() {
+        eventRepository = new TestEventRepository();
+        AdminService adminService = new AdminService(eventRepository, new TestTagRepository(),
+                new TestParticipantRepository(), new TestParticipantPaymentRepository(),
+                new TestExpenseRepository());
+        entityManager = mock(EntityManager.class);
+        journal = mock(JournalService.class);
+        mapper = new ObjectMapper();
+        ArchiveService archiveService = new ArchiveService(eventRepository,
+                new TestArchivedEventRepository(), new TestExpenseRepository(),
+                new TestParticipantRepository(), new TestTagRepository(), adminService,
+                mock(JournalService.class), mapper, TransactionOperations.withoutTransaction(),
+                180);
+        bulkImportService = new BulkImportService(adminService, eventRepository,
+                archiveService, journal, TransactionOperations.withoutTransaction(),
+                entityManager, mapper, 2);
+    }
+
+    private Event event(String title) {
+        Event event = new Event(title, new Date(1000), new Date(2000));
+        Participant p = new Participant("a", "a@mail.com", null, null);
+        event.getParticipantsList().add(p);
+        event.getTagsList().add(new Tag("food", "red"));
+        event.getExpensesList().add(new Expense(10, "EUR", "pizza", "", new Date(3000),
+                new ArrayList<>(List.of(new ParticipantPayment(p, 10))), null, p));
+        return event;
+    }
+
+    private InputStream json(List<Event> events) throws Exception {
+        return new ByteArrayInputStream(mapper.writeValueAsBytes(events));
+    }
+
+    @Test
+    public void importInChunks() throws Exception {
+        var response = bulkImportService.importEvents(json(
+                List.of(event("a"), event("b"), event("c"))));
+        assertEquals(OK, response.getStatusCode());
+        assertEquals(new ImportResult(3, 0, 0), response.getBody());
+        assertEquals(3, eventRepository.events.size());
+        verify(entityManager, times(2)).clear();
+        Event stored = eventRepository.events.get(0);
+        assertEquals(ContentHash.of(stored), stored.getContentHash());
+        assertEquals(1, stored.getExpensesList().get(0).getSplit().size());
+        assertSame(stored.getParticipantsList().get(0),
+                stored.getExpensesList().get(0).getPayee());
+    }
+
+    @Test
+    public void importResetsJournals() throws Exception {
+        bulkImportService.importEvents(json(List.of(event("a"), event("b"), event("c"))));
+        verify(journal).reset(eventRepository.events.subList(0, 2));
+        verify(journal).reset(eventRepository.events.subList(2, 3));
+    }
+
+    @Test
+    public void skipDuplicates() throws Exception {
+        bulkImportService.importEvents(json(List.of(event("a"))));
+        var response = bulkImportService.importEvents(json(
+                List.of(event("a"), event("b"), event("b"))));
+        assertEquals(new ImportResult(1, 2, 0), response.getBody());
+        assertEquals(2, eventRepository.events.size());
+    }
+
+    @Test
+    public void skipInvalid() throws Exception {
+        Event noLists = new Event("x", null, null);
+        noLists.setExpensesList(null);
+        var response = bulkImportService.importEvents(json(
+                List.of(event(""), noLists, event("a"))));
+        assertEquals(new ImportResult(1, 0, 2), response.getBody());
+    }
+
+    @Test
+    public void malformed() {
+        String json = "[{\"title\":\"a\",\"expensesList\":[],\"participantsList\":[],"
+                + "\"tagsList\":[]}, {\"title\":";
+        var response = bulkImportService.importEvents(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(BAD_REQUEST, response.getStatusCode());
+        assertEquals(0, response.getBody().getImported());
+    }
+
+    @Test
+    public void notAnArray() {
+        var response = bulkImportService.importEvents(
+                new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    public void importGenerated() {
+        GeneratorSettings settings = new GeneratorSettings(7, 3, 5, 20, 2);
+        var response = bulkImportService.importGenerated(settings);
+        assertEquals(OK, response.getStatusCode());
+        assertEquals(new ImportResult(3, 0, 0), response.getBody());
+        assertEquals(3, eventRepository.events.size());
+        assertEquals(20, eventRepository.events.get(0).getExpensesList().size());
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    public void importGeneratedTwice() {
+        GeneratorSettings settings = new GeneratorSettings(7, 2, 5, 20, 2);
+        bulkImportService.importGenerated(settings);
+        var response = bulkImportService.importGenerated(settings);
+        assertEquals(new ImportResult(0, 2, 0), response.getBody());
+    }
+
+    @Test
+    public void importGeneratedIsExempt() {
+        GeneratorSettings settings = new GeneratorSettings(7, 2, 5, 20, 2);
+        bulkImportService.importGenerated(settings);
+        for (Event event : eventRepository.events) {
+            assertEquals(settings.getTo(), event.getLastActivity());
+        }
+        verify(entityManager, times(2)).persist(any(ArchiveExemption.class));
+    }
+
+    @Test
+    public void importEventsIsNotExempt() throws Exception {
+        bulkImportService.importEvents(json(List.of(event("a"), event("b"))));
+        verify(entityManager, never()).persist(any());
+    }
+
+    @Test
+    public void importGeneratedInvalid() {
+        GeneratorSettings settings = new GeneratorSettings(7, 2, 0, 20, 2);
+        assertEquals(BAD_REQUEST, bulkImportService.importGenerated(settings).getStatusCode());
+        assertEquals(BAD_REQUEST, bulkImportService.importGenerated(null).getStatusCode());
+    }
+}
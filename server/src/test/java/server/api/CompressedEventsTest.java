@@ -0,0 +1,32 @@
+package server.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import commons.Event;
+import commons.Participant;
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompressedEventsTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void roundTrip() {
+        Event event = new Event("trip", new Date(1000), new Date(2000));
+        event.getParticipantsList().add(new Participant("a", "a@mail.com", null, null));
+        Event read = CompressedEvents.decompress(mapper, CompressedEvents.compress(mapper, event));
+        assertEquals("trip", read.getTitle());
+        assertEquals(new Date(2000), read.getLastActivity());
+        assertEquals(1, read.getParticipantsList().size());
+    }
+
+    @Test
+    public void rejectsUncompressedContent() {
+        assertThrows(UncheckedIOException.class,
+                () -> CompressedEvents.decompress(mapper, "{}".getBytes()));
+    }
+}
@@ -1,9 +1,12 @@
 package server.api;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatusCode;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -79,4 +82,21 @@ class CurrencyServiceTest {
 
         assertEquals(HttpStatusCode.valueOf(500), response.getStatusCode());
     }
-}
\ No newline at end of file
+    @Test
+    void countCacheHits() throws IOException {
+        Path cached = Path.of("server", "src", "main", "resources", "rates",
+                "2024-04-01", "EUR", "EUR.txt");
+        Files.createDirectories(cached.getParent());
+        Files.writeString(cached, "1.0");
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CurrencyService service = new CurrencyService(registry);
+        service.getCurrency("2024-04-01", "EUR", "EUR");
+        service.getCurrency("2024-04-01", "AAA", "AAA");
+
+        assertEquals(1, registry.get("splitty.currency.cache")
+                .tag("result", "hit").counter().count());
+        assertEquals(1, registry.get("splitty.currency.cache")
+                .tag("result", "miss").counter().count());
+        assertEquals(1, registry.get("splitty.currency.upstream").timer().count());
+    }
+}
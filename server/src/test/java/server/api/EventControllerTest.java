@@ -15,15 +15,17 @@
  */
 package server.api;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import commons.Event;
 import commons.Expense;
+import commons.Participant;
 import commons.Tag;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.support.TransactionOperations;
 import server.database.EventRepository;
-import server.database.TagRepository;
 
 import java.sql.Timestamp;
 import java.util.ArrayList;
@@ -31,6 +33,7 @@ import java.util.Date;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.springframework.http.HttpStatus.*;
 
@@ -50,10 +53,10 @@ public class EventControllerTest {
          * Constructor for de EventService
          *
          * @param eventRepository the event repository
-         * @param tagRepository   the tag repository
          */
-        public EventServiceStub(EventRepository eventRepository, TagRepository tagRepository) {
-            super(eventRepository, tagRepository);
+        public EventServiceStub(EventRepository eventRepository) {
+            super(eventRepository, new TestExpenseRepository(),
+                    new TestArchivedEventRepository());
             eventsList = new ArrayList<>();
             eventValid = true;
         }
@@ -176,16 +179,27 @@ public class EventControllerTest {
     }
 
     public TestEventRepository repo = new TestEventRepository();
+    public TestArchivedEventRepository archivedRepo;
+    public ArchiveService archiveService;
 
     @BeforeEach
     public void setup() {
         GerneralServerUtil test = new ServerUtilModule();
         TestTagRepository tagRepo = new TestTagRepository();
-        EventService ev = new EventService(repo, tagRepo);
-        sut = new EventController(ev, test, mock(SimpMessagingTemplate.class));
-
-        serviceStub = new EventServiceStub(repo, tagRepo);
-        sutStubbed = new EventController(serviceStub, test, mock(SimpMessagingTemplate.class));
+        archivedRepo = new TestArchivedEventRepository();
+        EventService ev = new EventService(repo, new TestExpenseRepository(), archivedRepo);
+        AdminService adminService = new AdminService(repo, tagRepo,
+                new TestParticipantRepository(), new TestParticipantPaymentRepository(),
+                new TestExpenseRepository());
+        archiveService = new ArchiveService(repo, archivedRepo, new TestExpenseRepository(),
+                new TestParticipantRepository(), tagRepo, adminService,
+                mock(JournalService.class), new ObjectMapper(),
+                TransactionOperations.withoutTransaction(), 180);
+        sut = new EventController(ev, archiveService, test, mock(SimpMessagingTemplate.class));
+
+        serviceStub = new EventServiceStub(repo);
+        sutStubbed = new EventController(serviceStub, archiveService, test,
+                mock(SimpMessagingTemplate.class));
     }
 
 //    @Test
@@ -366,4 +380,4 @@ public class EventControllerTest {
         event = repo.getById(0L);
         assertEquals(event.getLastActivity(),tmpdate);
     }
-}
\ No newline at end of file
+}
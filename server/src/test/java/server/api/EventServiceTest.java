@@ -4,6 +4,7 @@ import commons.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.ResponseEntity;
+import server.database.ArchivedEvent;
 import server.database.ParticipantRepository;
 
 
@@ -18,10 +19,11 @@ import static org.springframework.http.HttpStatus.*;
 class EventServiceTest {
 
     public TestEventRepository eventRepository;
-    public TestTagRepository tagRepository;
+    public TestExpenseRepository expenseRepository;
 
     public EventService eventService;
     public GerneralServerUtil serverUtil;
+    public TestArchivedEventRepository archivedRepository;
 
     public Event event1;
     public Event event2;
@@ -41,8 +43,9 @@ class EventServiceTest {
     public void setup(){
         serverUtil = new ServerUtilModule();
         eventRepository = new TestEventRepository();
-        tagRepository = new TestTagRepository();
-        eventService = new EventService(eventRepository, tagRepository);
+        expenseRepository = new TestExpenseRepository();
+        archivedRepository = new TestArchivedEventRepository();
+        eventService = new EventService(eventRepository, expenseRepository, archivedRepository);
 
         event1 = new Event("Title1",null,null);
         event2 = new Event("Title2",null,null);
@@ -81,6 +84,8 @@ class EventServiceTest {
         Tag three = new Tag("travel", "#e06666");
         event4.setTagsList(List.of(one, two, three));
         eventRepository.save(event4);
+        expenseRepository.save(exp1);
+        expenseRepository.save(exp2);
         participantRepo.save(p);
         participantRepo.save(other);
         participantRepo.save(uninvolved);
@@ -111,6 +116,8 @@ class EventServiceTest {
         Tag three = new Tag("travel", "#e06666");
         event4.setTagsList(List.of(one, two, three));
         eventRepository.save(event4);
+        expenseRepository.save(exp1);
+        expenseRepository.save(exp2);
         participantRepo.save(p);
         participantRepo.save(other);
         participantRepo.save(uninvolved);
@@ -302,6 +309,13 @@ class EventServiceTest {
         assertEquals(3, eventService.getAllEvents().getBody().size());
     }
 
+    @Test
+    public void deleteArchivedEvent(){
+        archivedRepository.save(new ArchivedEvent(0, new byte[0], 2, 10, new Date()));
+        assertEquals(event1, eventService.deleteEvent(0).getBody());
+        assertTrue(archivedRepository.archived.isEmpty());
+    }
+
     @Test
     public void deleteEventNotFound(){
         assertEquals(NOT_FOUND, eventService.deleteEvent(12).getStatusCode());
@@ -311,6 +325,32 @@ class EventServiceTest {
         assertEquals(BAD_REQUEST, eventService.deleteEvent(-12).getStatusCode());
     }
 
+    @Test
+    public void addEventHashedLazily(){
+        assertNull(event1.getContentHash());
+        eventService.hashUnhashedEvents();
+        assertEquals(ContentHash.of(event1), event1.getContentHash());
+    }
+
+    @Test
+    public void changeEventClearsHash(){
+        eventService.hashUnhashedEvents();
+        eventService.changeEvent(event1.getInviteCode(), new Event("asd",null,null), serverUtil);
+        assertNull(event1.getContentHash());
+        assertEquals(1, eventService.hashUnhashedEvents());
+        assertEquals(ContentHash.of(event1), event1.getContentHash());
+    }
+
+    @Test
+    public void hashUnhashedEvents(){
+        eventService.hashUnhashedEvents();
+        eventRepository.save(event4);
+        assertNull(event4.getContentHash());
+        assertEquals(1, eventService.hashUnhashedEvents());
+        assertEquals(ContentHash.of(event4), event4.getContentHash());
+        assertEquals(0, eventService.hashUnhashedEvents());
+    }
+
     @Test
     public void changeEvent(){
         assertEquals("asd", eventService.changeEvent(0,new Event("asd",null,null),serverUtil).getBody().getTitle());
@@ -328,6 +368,48 @@ class EventServiceTest {
         assertEquals(BAD_REQUEST, eventService.changeEvent(-100,new Event("asd",null,null),serverUtil).getStatusCode());
     }
 
+    @Test
+    public void getSummariesTest(){
+        event2.getParticipantsList().add(p);
+        event2.getExpensesList().add(exp1);
+        event2.getExpensesList().add(exp2);
+        List<EventSummary> res = eventService.getSummaries(List.of(1L, 0L, 12L)).getBody();
+        assertEquals(2, res.size());
+        assertEquals("Title2", res.get(0).getTitle());
+        assertEquals(1, res.get(0).getParticipantCount());
+        assertEquals(30.0, res.get(0).getTotal());
+        assertEquals("Title1", res.get(1).getTitle());
+        assertEquals(0.0, res.get(1).getTotal());
+        assertFalse(eventRepository.calledMethods.contains("findById"));
+    }
+
+    @Test
+    public void getSummariesEmpty(){
+        assertEquals(List.of(), eventService.getSummaries(List.of()).getBody());
+    }
+
+    @Test
+    public void getSummariesBad(){
+        assertEquals(BAD_REQUEST, eventService.getSummaries(List.of(-1L)).getStatusCode());
+        assertEquals(BAD_REQUEST, eventService.getSummaries(null).getStatusCode());
+    }
+
+    @Test
+    public void getVersionTest(){
+        Event event = eventRepository.getById(0L);
+        assertEquals(event.getLastActivity().getTime(), eventService.getVersion(0).getBody());
+    }
+
+    @Test
+    public void getVersionNotFound(){
+        assertEquals(NOT_FOUND, eventService.getVersion(12).getStatusCode());
+    }
+
+    @Test
+    public void getVersionBad(){
+        assertEquals(BAD_REQUEST, eventService.getVersion(-12).getStatusCode());
+    }
+
     @Test
     public void lastActivityNotChange2Test(){
         Event event = eventRepository.getById(0L);
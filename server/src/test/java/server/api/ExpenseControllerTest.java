@@ -41,7 +41,7 @@ public class ExpenseControllerTest {
          * @param ppRepo
          */
         public ExpenseServiceStub(EventRepository eventRepo, ExpenseRepository expenseRepo, ParticipantPaymentRepository ppRepo) {
-            super(eventRepo, expenseRepo, ppRepo);
+            super(eventRepo, expenseRepo, ppRepo, mock(JournalService.class));
             titleChanged = false;
             amountChanged = false;
             payeeChanged = false;
@@ -67,7 +67,7 @@ public class ExpenseControllerTest {
             titleChanged = true;
             return ResponseEntity.ok(null);
         }
-        public ResponseEntity<Void> changeTitle(Expense e, long expId, long id, GerneralServerUtil sum){
+        public ResponseEntity<EventChange> changeTitle(Expense e, long expId, long id, GerneralServerUtil sum){
             if(expId < 0 || id < 0 || e == null || e.getTitle() == null || e.getTitle().isEmpty()) {
                 titleChanged = false;
                 return ResponseEntity.badRequest().build();
@@ -171,7 +171,8 @@ public class ExpenseControllerTest {
         TestExpenseRepository expenseRepo = new TestExpenseRepository();
         ParticipantPaymentRepository ppRepo = new TestParticipantPaymentRepository();
 
-        ExpenseService serv = new ExpenseService(eventRepo, expenseRepo, ppRepo);
+        ExpenseService serv = new ExpenseService(eventRepo, expenseRepo, ppRepo,
+                mock(JournalService.class));
         ctrl = new ExpenseController(serv,serverUtil, smt);
 
 
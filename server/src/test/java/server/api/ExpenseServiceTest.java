@@ -6,7 +6,6 @@ import org.junit.jupiter.api.Test;
 import org.springframework.http.ResponseEntity;
 import server.database.EventRepository;
 import server.database.ExpenseRepository;
-import server.database.TagRepository;
 
 import java.sql.Timestamp;
 import java.util.ArrayList;
@@ -14,13 +13,14 @@ import java.util.Date;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
 import static org.springframework.http.HttpStatus.*;
 
 public class ExpenseServiceTest {
     public EventRepository eventRepo;
     public ExpenseRepository expenseRepo;
-    public TagRepository tagRepo;
     public EventService eventService;
     public ExpenseService expenseService;
     public Event event;
@@ -38,10 +38,11 @@ public class ExpenseServiceTest {
         serverUtil = new ServerUtilModule();
         eventRepo = new TestEventRepository();
         expenseRepo = new TestExpenseRepository();
-        tagRepo = new TestTagRepository();
         ppRepo = new TestParticipantPaymentRepository();
-        expenseService = new ExpenseService(eventRepo, expenseRepo, ppRepo);
-        eventService = new EventService(eventRepo, tagRepo);
+        expenseService = new ExpenseService(eventRepo, expenseRepo, ppRepo,
+                mock(JournalService.class));
+        eventService = new EventService(eventRepo, expenseRepo,
+                new TestArchivedEventRepository());
         Date date = new Date();
         Timestamp timestamp2 = new Timestamp(date.getTime());
         event = new Event("main", timestamp2, timestamp2);
@@ -90,6 +91,49 @@ public class ExpenseServiceTest {
         assertEquals(replacement, expenseService.getExpense(0,3).getBody());
     }
 
+    @Test
+    public void getExpensePageTest(){
+        expense1.setDate(new Date(3000));
+        expense2.setDate(new Date(2000));
+        expense3.setDate(new Date(2000));
+        ExpensePage first = expenseService.getExpensePage(eventId, new ExpenseFilter(), null, 2)
+                .getBody();
+        assertEquals(List.of(expense1, expense3), first.getExpenses());
+        assertEquals(ExpensePage.cursorOf(expense3), first.getNext());
+        ExpensePage second = expenseService.getExpensePage(eventId, new ExpenseFilter(),
+                first.getNext(), 2).getBody();
+        assertEquals(List.of(expense2), second.getExpenses());
+        assertNull(second.getNext());
+    }
+
+    @Test
+    public void getExpensePageFiltered(){
+        Participant other = new Participant("other", null, null, null);
+        other.setId(5);
+        expense1.setDate(new Date(3000));
+        expense2.setDate(new Date(2000));
+        expense2.setPayee(other);
+        expense3.setDate(new Date(1000));
+        ExpenseFilter byPayee = new ExpenseFilter(5L, null, null, null, null);
+        assertEquals(List.of(expense2), expenseService.getExpensePage(eventId, byPayee, null, 10)
+                .getBody().getExpenses());
+        ExpenseFilter byDate = new ExpenseFilter(null, null, null, new Date(1500), new Date(3000));
+        assertEquals(List.of(expense1, expense2), expenseService.getExpensePage(eventId, byDate,
+                null, 10).getBody().getExpenses());
+    }
+
+    @Test
+    public void getExpensePageInvalid(){
+        ExpenseFilter filter = new ExpenseFilter();
+        assertEquals(BAD_REQUEST, expenseService.getExpensePage(-1, filter, null, 10).getStatusCode());
+        assertEquals(BAD_REQUEST, expenseService.getExpensePage(eventId, filter, null, 0).getStatusCode());
+        assertEquals(BAD_REQUEST, expenseService.getExpensePage(eventId, filter, null,
+                ExpenseService.MAX_PAGE_SIZE + 1).getStatusCode());
+        assertEquals(BAD_REQUEST, expenseService.getExpensePage(eventId, filter, "abc", 10)
+                .getStatusCode());
+        assertEquals(NOT_FOUND, expenseService.getExpensePage(1000, filter, null, 10).getStatusCode());
+    }
+
     @Test
     public void retrieveExpenseTest(){
         assertEquals(BAD_REQUEST, expenseService.getExpense(-1,0).getStatusCode());
@@ -0,0 +1,111 @@
+package server.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import commons.Event;
+import commons.Participant;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.OK;
+
+public class ExportServiceTest {
+
+    private TestEventRepository eventRepository;
+    private EntityManager entityManager;
+    private ExportService exportService;
+    private ArchiveService archiveService;
+    private ObjectMapper mapper;
+
+    @BeforeEach
+    public void setup() {
+        eventRepository = new TestEventRepository();
+        entityManager = mock(EntityManager.class);
+        mapper = new ObjectMapper();
+        archiveService = new ArchiveService(eventRepository,
+                new TestArchivedEventRepository(), new TestExpenseRepository(),
+                new TestParticipantRepository(), new TestTagRepository(),
+                new AdminService(eventRepository, new TestTagRepository(),
+                        new TestParticipantRepository(), new TestParticipantPaymentRepository(),
+                        new TestExpenseRepository()),
+                mock(JournalService.class), mapper, TransactionOperations.withoutTransaction(), 180);
+        exportService = new ExportService(eventRepository, archiveService, entityManager,
+                mapper, 2);
+        for (String title : List.of("a", "b", "c", "d", "e")) {
+            eventRepository.save(new Event(title, new Date(1000), new Date(2000)));
+        }
+    }
+
+    @Test
+    public void writeJsonArray() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.writeEvents(out, false);
+        List<Event> events = List.of(mapper.readValue(out.toByteArray(), Event[].class));
+        assertEquals(5, events.size());
+        assertEquals("e", events.get(4).getTitle());
+        verify(entityManager, times(3)).clear();
+    }
+
+    @Test
+    public void writeArchivedContent() throws Exception {
+        Event event = eventRepository.events.get(1);
+        event.getParticipantsList().add(new Participant("a", "a@mail.com", null, null));
+        assertTrue(archiveService.archive(event.getInviteCode(), new Date(3000)));
+        assertTrue(event.getParticipantsList().isEmpty());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.writeEvents(out, false);
+        List<Event> events = List.of(mapper.readValue(out.toByteArray(), Event[].class));
+        assertEquals(1, events.get(1).getParticipantsList().size());
+    }
+
+    @Test
+    public void writeNdjson() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.writeEvents(out, true);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(5, lines.length);
+        assertEquals("c", mapper.readValue(lines[2], Event.class).getTitle());
+    }
+
+    @Test
+    public void writeEmpty() throws Exception {
+        eventRepository.events.clear();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.writeEvents(out, false);
+        assertEquals("[]", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void exportGzip() throws Exception {
+        var response = exportService.exportEvents("json", true);
+        assertEquals(OK, response.getStatusCode());
+        assertEquals("gzip", response.getHeaders().getFirst("Content-Encoding"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        var in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(5, mapper.readValue(in, Event[].class).length);
+    }
+
+    @Test
+    public void exportNdjsonType() {
+        var response = exportService.exportEvents("ndjson", false);
+        assertEquals(ExportService.NDJSON, response.getHeaders().getContentType().toString());
+    }
+
+    @Test
+    public void exportUnknownFormat() {
+        assertEquals(BAD_REQUEST, exportService.exportEvents("xml", false).getStatusCode());
+    }
+}
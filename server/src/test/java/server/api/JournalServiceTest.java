@@ -0,0 +1,174 @@
+package server.api;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import commons.ContentHash;
+import commons.Event;
+import commons.EventChange;
+import commons.Expense;
+import commons.Participant;
+import commons.ParticipantPayment;
+import commons.Tag;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.support.TransactionOperations;
+import server.database.EventRepository;
+import server.database.JournalSnapshotRepository;
+import server.database.ParticipantRepository;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Changes an event through the REST endpoints and checks that replaying its journal
+ * gives the same event as the tables
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:journal;DB_CLOSE_DELAY=-1",
+    "archive.inactive-days=0",
+    "journal.snapshot-interval=3"
+})
+@AutoConfigureMockMvc
+public class JournalServiceTest {
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private ObjectMapper mapper;
+    @Autowired
+    private JournalService journal;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private ParticipantRepository participantRepository;
+    @Autowired
+    private JournalSnapshotRepository snapshotRepository;
+    @Autowired
+    private TransactionOperations transactions;
+    @Autowired
+    private MeterRegistry registry;
+
+    private int inviteCode;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        Date now = new Date();
+        inviteCode = eventRepository.save(new Event("Trip", now, now)).getInviteCode();
+        String base = "/api/events/" + inviteCode;
+        Participant joe = send(post(base + "/participants"),
+                new Participant("joe", null, null, null), Participant.class);
+        Participant ann = send(post(base + "/participants"),
+                new Participant("ann", null, null, null), Participant.class);
+        Tag food = send(post(base + "/tags"), new Tag("food", "#00ff00"), Tag.class);
+        List<ParticipantPayment> split = new ArrayList<>(List.of(
+                new ParticipantPayment(joe, 10), new ParticipantPayment(ann, 10)));
+        Expense dinner = send(post(base + "/expenses"),
+                new Expense(20, "EUR", "dinner", "", now, split, food, joe), Expense.class);
+        send(put(base + "/expenses/" + dinner.getId() + "/amount"), 30.0, null);
+        ann.setName("anna");
+        send(put(base + "/participants/" + ann.getId()), ann, Participant.class);
+        ParticipantPayment payment = dinner.getSplit().getFirst();
+        payment.setPaymentAmount(20);
+        send(put(base + "/expenses/" + dinner.getId() + "/participantpayment/"
+                + payment.getId()), payment, ParticipantPayment.class);
+        mvc.perform(delete(base + "/tags/" + food.getId())).andExpect(status().isOk());
+    }
+
+    private <T> T send(MockHttpServletRequestBuilder request, Object body, Class<T> type)
+            throws Exception {
+        String response = mvc.perform(request.contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(body)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return type == null ? null : mapper.readValue(response, type);
+    }
+
+    private List<EventChange> changes(long after) throws Exception {
+        String response = mvc.perform(get("/api/events/" + inviteCode + "/journal")
+                        .param("after", String.valueOf(after)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return mapper.readValue(response, new TypeReference<>() {});
+    }
+
+    private boolean replayMatchesTables() {
+        return Boolean.TRUE.equals(transactions.execute(status -> {
+            Event stored = eventRepository.findById((long) inviteCode).orElseThrow();
+            Event replayed = journal.replay(inviteCode).orElseThrow();
+            replayed.setLastActivity(stored.getLastActivity());
+            return ContentHash.of(replayed).equals(ContentHash.of(stored));
+        }));
+    }
+
+    @Test
+    public void journalsEveryChangeInOrder() throws Exception {
+        List<EventChange> changes = changes(0);
+        assertEquals(List.of("participant add", "participant add", "tag add", "expense add",
+                        "expense update", "participant update", "payment update", "tag delete"),
+                changes.stream().map(c -> c.getType() + " " + c.getOperation()).toList());
+        for (int i = 0; i < changes.size(); i++) {
+            assertEquals(i + 1, changes.get(i).getSequenceNumber());
+        }
+        assertTrue(changes.getLast().getState().contains("food"));
+        assertEquals(changes.get(3).getEntityId(), (long) changes.get(6).getParentId());
+    }
+
+    @Test
+    public void listsChangesAfterAGivenOne() throws Exception {
+        List<EventChange> changes = changes(6);
+        assertEquals(List.of(7L, 8L), changes.stream()
+                .map(EventChange::getSequenceNumber).toList());
+        mvc.perform(get("/api/events/" + inviteCode + "/journal").param("after", "-1"))
+                .andExpect(status().isBadRequest());
+        mvc.perform(get("/api/events/" + Integer.MAX_VALUE + "/journal"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void replayGivesTheTables() {
+        assertEquals(1, snapshotRepository.findById(inviteCode).orElseThrow()
+                .getSequenceNumber());
+        assertTrue(replayMatchesTables());
+    }
+
+    @Test
+    public void snapshotsLongJournals() {
+        assertTrue(journal.takeSnapshots() >= 1);
+        assertEquals(8, snapshotRepository.findById(inviteCode).orElseThrow()
+                .getSequenceNumber());
+        assertTrue(replayMatchesTables());
+    }
+
+    @Test
+    public void recoveryContinuesFromTheTablesWhenTheyDiffer() {
+        journal.recover();
+        assertEquals(0, journal.recover());
+        transactions.executeWithoutResult(status -> {
+            Event event = eventRepository.findById((long) inviteCode).orElseThrow();
+            event.getParticipantsList().add(participantRepository.save(
+                    new Participant("bob", null, null, null)));
+            eventRepository.save(event);
+        });
+        assertFalse(replayMatchesTables());
+        double counted = registry.counter("splitty.journal.mismatches").count();
+        assertEquals(1, journal.recover());
+        assertEquals(counted + 1, registry.counter("splitty.journal.mismatches").count());
+        assertTrue(replayMatchesTables());
+        assertEquals(0, journal.recover());
+    }
+}
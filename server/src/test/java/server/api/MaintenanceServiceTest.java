@@ -0,0 +1,115 @@
+package server.api;
+
+import commons.StorageStats;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import server.TrafficMonitor;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class MaintenanceServiceTest {
+
+    @TempDir
+    Path dir;
+
+    private Connection keepOpen;
+    private TrafficMonitor traffic;
+    private MaintenanceService maintenanceService;
+
+    @BeforeEach
+    public void setup() throws SQLException {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:file:" + dir.resolve("db").toAbsolutePath());
+        dataSource.setUser("sa");
+        keepOpen = dataSource.getConnection();
+        execute("CREATE TABLE item (id INT PRIMARY KEY, name VARCHAR(255))");
+        execute("INSERT INTO item VALUES (1, 'a')");
+        traffic = mock(TrafficMonitor.class);
+        maintenanceService = new MaintenanceService(dataSource, traffic, 10, 1000,
+                dir.resolve("snapshots"), 2);
+    }
+
+    @AfterEach
+    public void shutdown() throws SQLException {
+        execute("SHUTDOWN");
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Statement statement = keepOpen.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private long snapshots() throws Exception {
+        try (Stream<Path> files = Files.list(dir.resolve("snapshots"))) {
+            return files.count();
+        }
+    }
+
+    @Test
+    public void snapshotOnlyWhenChanged() throws Exception {
+        Path snapshot = maintenanceService.snapshot();
+        assertNotNull(snapshot);
+        assertTrue(Files.size(snapshot) > 0);
+        assertNull(maintenanceService.snapshot());
+
+        execute("INSERT INTO item VALUES (2, 'b')");
+        assertNotNull(maintenanceService.snapshot());
+        assertEquals(2, snapshots());
+    }
+
+    @Test
+    public void retention() throws Exception {
+        for (int i = 2; i < 6; i++) {
+            execute("INSERT INTO item VALUES (" + i + ", 'x')");
+            assertNotNull(maintenanceService.snapshot());
+            Thread.sleep(2);
+        }
+        assertEquals(2, snapshots());
+    }
+
+    @Test
+    public void compactRecordsDuration() throws Exception {
+        assertEquals(-1, maintenanceService.getStats().getLastCompactionMillis());
+        assertTrue(maintenanceService.compact());
+        StorageStats stats = maintenanceService.getStats();
+        assertTrue(stats.getLastCompactionMillis() >= 0);
+        assertNotNull(stats.getLastCompaction());
+        assertTrue(stats.getFileSize() > 0);
+        assertTrue(stats.getFillRate() >= 0 && stats.getFillRate() <= 100);
+    }
+
+    @Test
+    public void compactionNeedsNoSnapshot() throws Exception {
+        assertNotNull(maintenanceService.snapshot());
+        maintenanceService.compact();
+        assertNull(maintenanceService.snapshot());
+    }
+
+    @Test
+    public void skippedWhenBusy() throws Exception {
+        when(traffic.getAndReset()).thenReturn(100L);
+        assertFalse(maintenanceService.runMaintenance());
+        assertNull(maintenanceService.getStats().getLastSnapshot());
+    }
+
+    @Test
+    public void runWhenQuiet() throws Exception {
+        when(traffic.getAndReset()).thenReturn(0L);
+        assertTrue(maintenanceService.runMaintenance());
+        StorageStats stats = maintenanceService.getStats();
+        assertNotNull(stats.getLastSnapshot());
+        assertNotNull(stats.getLastCompaction());
+    }
+}
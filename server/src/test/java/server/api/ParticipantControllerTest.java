@@ -37,7 +37,7 @@ public class ParticipantControllerTest {
          * @param participantRepository
          */
         public ParticipantServiceStub(EventRepository eventRepository, ParticipantRepository participantRepository) {
-            super(eventRepository, participantRepository);
+            super(eventRepository, participantRepository, mock(JournalService.class));
             validName = false;
             validIban = false;
             validBic = false;
@@ -150,7 +150,7 @@ public class ParticipantControllerTest {
         eventRepository = new TestEventRepository();
         participantRepository = new TestParticipantRepository();
         participantService = new ParticipantService(
-                eventRepository, participantRepository);
+                eventRepository, participantRepository, mock(JournalService.class));
         participantController = new ParticipantController(participantService,serverUtil, mock(SimpMessagingTemplate.class));
         valid = new Participant("John Doe",
                 "jdoe@gmail.com","NL85RABO5253446745",
@@ -15,6 +15,7 @@ import java.util.Date;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
 import static org.springframework.http.HttpStatus.*;
 import static server.api.PasswordService.setPassword;
 
@@ -32,7 +33,8 @@ public class ParticipantPaymentControllerTest {
          * @param eventRepository              repository for events
          */
         public ParticipantPaymentServiceStub(ParticipantRepository participantRepository, ParticipantPaymentRepository participantPaymentRepository, EventRepository eventRepository) {
-            super(participantRepository, participantPaymentRepository, eventRepository);
+            super(participantRepository, participantPaymentRepository, eventRepository,
+                    mock(JournalService.class));
         }
 
         public ResponseEntity<List<ParticipantPayment>> getAllParticipantPayment(
@@ -126,9 +128,9 @@ public class ParticipantPaymentControllerTest {
         participantPaymentRepository = new TestParticipantPaymentRepository();
         participantRepository = new TestParticipantRepository();
         participantService = new ParticipantService(
-                eventRepository, participantRepository);
+                eventRepository, participantRepository, mock(JournalService.class));
         participantPaymentService = new ParticipantPaymentService(participantRepository,
-                participantPaymentRepository,eventRepository);
+                participantPaymentRepository,eventRepository, mock(JournalService.class));
         expenseRepository = new TestExpenseRepository();
         valid = new Participant("John Doe",
                 "jdoe@gmail.com","NL85RABO5253446745",
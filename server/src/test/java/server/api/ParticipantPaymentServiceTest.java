@@ -11,7 +11,9 @@ import java.util.Date;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
 import static org.springframework.http.HttpStatus.*;
 
 public class ParticipantPaymentServiceTest {
@@ -51,9 +53,9 @@ public class ParticipantPaymentServiceTest {
         participantPaymentRepository = new TestParticipantPaymentRepository();
         participantRepository = new TestParticipantRepository();
         participantService = new ParticipantService(
-                eventRepository, participantRepository);
+                eventRepository, participantRepository, mock(JournalService.class));
         participantPaymentService = new ParticipantPaymentService(participantRepository,
-                participantPaymentRepository,eventRepository);
+                participantPaymentRepository,eventRepository, mock(JournalService.class));
         expenseRepository = new TestExpenseRepository();
         valid = new Participant("John Doe",
                 "jdoe@gmail.com","NL85RABO5253446745",
@@ -204,6 +206,15 @@ public class ParticipantPaymentServiceTest {
         assertTrue(event.getLastActivity().after(tmpdate));
     }
 
+    @Test
+    public void contentHashAfterDeleteTest() {
+        participantPaymentService.deleteParticipantPayment(0L,0L,0L, serverUtil);
+        Event event = eventRepository.getById(0L);
+        assertNull(event.getContentHash());
+        eventRepository.hashUnhashed();
+        assertEquals(ContentHash.of(event), event.getContentHash());
+    }
+
     @Test
     public void lastActivityAfterChangeTest() throws InterruptedException {
         Event event = eventRepository.getById(0L);
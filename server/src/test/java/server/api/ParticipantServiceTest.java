@@ -41,7 +41,7 @@ class ParticipantServiceTest {
         eventRepository = new TestEventRepository();
         participantRepository = new TestParticipantRepository();
         participantService = new ParticipantService(
-                eventRepository, participantRepository);
+                eventRepository, participantRepository, mock(JournalService.class));
 
         valid = new Participant("John Doe",
                 "jdoe@gmail.com","NL85RABO5253446745",
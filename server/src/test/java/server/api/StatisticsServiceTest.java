@@ -0,0 +1,145 @@
+package server.api;
+
+import commons.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.http.HttpStatus.*;
+
+class StatisticsServiceTest {
+
+    private TestEventRepository eventRepo;
+    private TestExpenseRepository expenseRepo;
+    private StatisticsService sut;
+    private final List<String> rateRequests = new ArrayList<>();
+    private Event event;
+    private Tag food;
+    private Participant alice;
+    private Participant bob;
+
+    @BeforeEach
+    void setup() {
+        eventRepo = new TestEventRepository();
+        expenseRepo = new TestExpenseRepository();
+        CurrencyService currencyService = new CurrencyService() {
+            @Override
+            public ResponseEntity<Double> getCurrency(String date, String from, String to) {
+                rateRequests.add(date + from + to);
+                if ("XXX".equals(from)) return ResponseEntity.notFound().build();
+                return ResponseEntity.ok(2.0);
+            }
+        };
+        sut = new StatisticsService(eventRepo, expenseRepo, currencyService);
+
+        food = new Tag("food", "#93c47d");
+        food.setId(1);
+        alice = new Participant("alice", null, null, null);
+        alice.setId(1);
+        bob = new Participant("bob", null, null, null);
+        bob.setId(2);
+        event = new Event("event", new Date(1000), new Date(1000));
+        eventRepo.save(event);
+        add(new Expense(10, "EUR", "lunch", "desc", new Date(1000), List.of(), food, alice));
+        add(new Expense(5, "USD", "dinner", "desc", new Date(1000), List.of(), food, bob));
+        add(new Expense(3, "EUR", "taxi", "desc", new Date(2000), List.of(), null, alice));
+        add(new Expense(50, "EUR", "transfer", "transfer", new Date(2000), List.of(), null, bob));
+    }
+
+    private void add(Expense expense) {
+        event.getExpensesList().add(expense);
+        expenseRepo.save(expense);
+    }
+
+    @Test
+    void getStatistics() {
+        EventStatistics statistics = sut.getStatistics(0, "EUR", null, null).getBody();
+        assertEquals("EUR", statistics.getCurrency());
+        assertEquals(23.0, statistics.getTotal());
+        assertEquals(Map.of(1L, 20.0), statistics.getTags());
+        assertEquals(3.0, statistics.getUntagged());
+        assertEquals(Map.of(1L, 13.0, 2L, 10.0), statistics.getParticipants());
+        assertEquals(1, rateRequests.size());
+    }
+
+    @Test
+    void getStatisticsBetweenDates() {
+        EventStatistics statistics = sut.getStatistics(0, "EUR", new Date(1500), null).getBody();
+        assertEquals(3.0, statistics.getTotal());
+        assertTrue(statistics.getTags().isEmpty());
+    }
+
+    @Test
+    void getStatisticsCached() {
+        sut.getStatistics(0, "EUR", null, null);
+        sut.getStatistics(0, "EUR", null, null);
+        assertEquals(1, expenseRepo.calledMethods.stream().filter("aggregate"::equals).count());
+
+        event.setLastActivity(new Date(5000));
+        add(new Expense(7, "EUR", "snack", "desc", new Date(3000), List.of(), food, bob));
+
+        assertEquals(30.0, sut.getStatistics(0, "EUR", null, null).getBody().getTotal());
+        assertEquals(2, expenseRepo.calledMethods.stream().filter("aggregate"::equals).count());
+    }
+
+    @Test
+    void getStatisticsNoRate() {
+        add(new Expense(7, "XXX", "odd", "desc", new Date(3000), List.of(), food, bob));
+        assertEquals(BAD_GATEWAY, sut.getStatistics(0, "EUR", null, null).getStatusCode());
+        assertEquals(3, rateRequests.size());
+    }
+
+    @Test
+    void getParticipantSummaries() {
+        event.getParticipantsList().addAll(List.of(alice, bob));
+        add(new Expense(20, "EUR", "hotel", "desc", new Date(1000), List.of(
+                new ParticipantPayment(alice, 10), new ParticipantPayment(bob, 10)), null, alice));
+        add(new Expense(3, "USD", "ice", "desc", new Date(1000), List.of(
+                new ParticipantPayment(alice, 3)), null, bob));
+
+        List<ParticipantSummary> summaries = sut.getParticipantSummaries(0, null, "EUR").getBody();
+
+        assertEquals(2, summaries.size());
+        ParticipantSummary first = summaries.getFirst();
+        assertEquals(1, first.getParticipantId());
+        assertEquals(10.0, first.getOwed());
+        assertEquals(6.0, first.getDebt());
+        assertEquals(4.0, first.getShare());
+        assertEquals(3, first.getPaidCount());
+        assertEquals(2, first.getInvolvedCount());
+        ParticipantSummary second = summaries.get(1);
+        assertEquals(-4.0, second.getShare());
+        assertEquals(1, second.getInvolvedCount());
+    }
+
+    @Test
+    void getParticipantSummary() {
+        event.getParticipantsList().addAll(List.of(alice, bob));
+        List<ParticipantSummary> summaries = sut.getParticipantSummaries(0, 2L, "EUR").getBody();
+        assertEquals(1, summaries.size());
+        assertEquals(2, summaries.getFirst().getParticipantId());
+        assertEquals(NOT_FOUND, sut.getParticipantSummaries(0, 7L, "EUR").getStatusCode());
+    }
+
+    @Test
+    void getParticipantSummariesInvalid() {
+        assertEquals(BAD_REQUEST, sut.getParticipantSummaries(-1, null, "EUR").getStatusCode());
+        assertEquals(BAD_REQUEST, sut.getParticipantSummaries(0, -1L, "EUR").getStatusCode());
+        assertEquals(BAD_REQUEST, sut.getParticipantSummaries(0, null, "E").getStatusCode());
+        assertEquals(NOT_FOUND, sut.getParticipantSummaries(12, null, "EUR").getStatusCode());
+    }
+
+    @Test
+    void getStatisticsInvalid() {
+        assertEquals(BAD_REQUEST, sut.getStatistics(-1, "EUR", null, null).getStatusCode());
+        assertEquals(BAD_REQUEST, sut.getStatistics(0, "EURO", null, null).getStatusCode());
+        assertEquals(BAD_REQUEST, sut.getStatistics(0, null, null, null).getStatusCode());
+        assertEquals(NOT_FOUND, sut.getStatistics(12, "EUR", null, null).getStatusCode());
+    }
+}
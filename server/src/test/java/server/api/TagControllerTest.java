@@ -37,7 +37,8 @@ public class TagControllerTest {
          * @param tagRepo
          */
         public TagServiceStub(EventRepository eventRepo, TagRepository tagRepo) {
-            super(eventRepo, tagRepo);
+            super(eventRepo, tagRepo, new TestExpenseRepository(),
+                    mock(JournalService.class));
         }
 
         public ResponseEntity<List<Expense>> getAllExpensesWithTag(long inviteCode, String tagName){
@@ -114,7 +115,8 @@ public class TagControllerTest {
         eventRepo = new TestEventRepository();
         expenseRepo = new TestExpenseRepository();
         tagRepo = new TestTagRepository();
-        tagService = new TagService(eventRepo, tagRepo);
+        tagService = new TagService(eventRepo, tagRepo, expenseRepo,
+                mock(JournalService.class));
         ctrl = new TagController(tagService,serverUtil,smt);
 
         payee = new Participant("joe", null, null, null);
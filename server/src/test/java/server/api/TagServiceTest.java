@@ -13,6 +13,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
 import static org.springframework.http.HttpStatus.*;
 
 public class TagServiceTest {
@@ -38,7 +39,8 @@ public class TagServiceTest {
         eventRepo = new TestEventRepository();
         expenseRepo = new TestExpenseRepository();
         tagRepo = new TestTagRepository();
-        tagService = new TagService(eventRepo, tagRepo);
+        tagService = new TagService(eventRepo, tagRepo, expenseRepo,
+                mock(JournalService.class));
 
         payee = new Participant("joe", null, null, null);
         tag1 = new Tag("food", "#ffffff");
@@ -112,6 +114,15 @@ public class TagServiceTest {
         assertEquals(1, res.getBody().size());
     }
 
+    @Test
+    public void getAllExpensesWithTagUntagged(){
+        Expense untagged = new Expense(5.0, "eur", "taxi", "", null, null, null, payee);
+        event1.getExpensesList().add(untagged);
+        expenseRepo.save(untagged);
+        ResponseEntity<List<Expense>> res = tagService.getAllExpensesWithTag(0, "food");
+        assertEquals(List.of(expense1), res.getBody());
+    }
+
     @Test
     public void getAllExpensesWithTagTest2(){
         ResponseEntity<List<Expense>> res = tagService.getAllExpensesWithTag(0, "picnic");
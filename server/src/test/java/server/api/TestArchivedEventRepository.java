@@ -0,0 +1,341 @@
+/*
+ * Copyright 2021 Delft University of Technology
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package server.api;
+
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.query.FluentQuery.FetchableFluentQuery;
+import server.database.ArchivedEvent;
+import server.database.ArchivedEventRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+public class TestArchivedEventRepository implements ArchivedEventRepository {
+
+    public final Map<Integer, ArchivedEvent> archived = new HashMap<>();
+    public final List<String> calledMethods = new ArrayList<>();
+
+    /**
+     * @param name
+     */
+    private void call(String name) {
+        calledMethods.add(name);
+    }
+
+    /**
+     * @return
+     */
+    @Override
+    public List<ArchivedEvent> findAll() {
+        calledMethods.add("findAll");
+        return new ArrayList<>(archived.values());
+    }
+
+    /**
+     * @param sort
+     * @return
+     */
+    @Override
+    public List<ArchivedEvent> findAll(Sort sort) {
+        return null;
+    }
+
+    /**
+     * @param ids
+     * @return
+     */
+    @Override
+    public List<ArchivedEvent> findAllById(Iterable<Integer> ids) {
+        call("findAllById");
+        List<ArchivedEvent> found = new ArrayList<>();
+        ids.forEach(id -> {
+            if (archived.containsKey(id)) found.add(archived.get(id));
+        });
+        return found;
+    }
+
+    /**
+     * @param entities
+     * @param <S>
+     * @return
+     */
+    @Override
+    public <S extends ArchivedEvent> List<S> saveAll(Iterable<S> entities) {
+        return null;
+    }
+
+    /**
+     *
+     */
+    @Override
+    public void flush() {
+
+    }
+
+    /**
+     * @param entity
+     * @param <S>
+     * @return
+     */
+    @Override
+    public <S extends ArchivedEvent> S saveAndFlush(S entity) {
+        return null;
+    }
+
+    /**
+     * @param entities
+     * @param <S>
+     * @return
+     */
+    @Override
+    public <S extends ArchivedEvent> List<S> saveAllAndFlush(Iterable<S> entities) {
+        return null;
+    }
+
+    /**
+     * @param entities
+     */
+    @Override
+    public void deleteAllInBatch(Iterable<ArchivedEvent> entities) {
+
+    }
+
+    /**
+     * @param ids
+     */
+    @Override
+    public void deleteAllByIdInBatch(Iterable<Integer> ids) {
+
+    }
+
+    /**
+     *
+     */
+    @Override
+    public void deleteAllInBatch() {
+
+    }
+
+    /**
+     * @param id
+     * @return
+     */
+    @Override
+    public ArchivedEvent getOne(Integer id) {
+        return null;
+    }
+
+    /**
+     * @param id
+     * @return
+     */
+    @Override
+    public ArchivedEvent getById(Integer id) {
+        call("getById");
+        return find(id).get();
+    }
+
+    /**
+     * @param id
+     * @return
+     */
+    @Override
+    public ArchivedEvent getReferenceById(Integer id) {
+        call("getReferenceById");
+        return find(id).get();
+    }
+
+    /**
+     * @param id
+     * @return
+     */
+    private Optional<ArchivedEvent> find(Integer id) {
+        return Optional.ofNullable(archived.get(id));
+    }
+
+    /**
+     * @param example
+     * @param <S>
+     * @return
+     */
+    @Override
+    public <S extends ArchivedEvent> List<S> findAll(Example<S> example) {
+        return null;
+    }
+
+    /**
+     * @param example
+     * @param sort
+     * @param <S>
+     * @return
+     */
+    @Override
+    public <S extends ArchivedEvent> List<S> findAll(Example<S> example, Sort sort) {
+        return null;
+    }
+
+    /**
+     * @param pageable
+     * @return
+     */
+    @Override
+    public Page<ArchivedEvent> findAll(Pageable pageable) {
+        return null;
+    }
+
+    /**
+     * @param entity
+     * @param <S>
+     * @return
+     */
+    @Override
+    public <S extends ArchivedEvent> S save(S entity) {
+        call("save");
+        archived.put(entity.getInviteCode(), entity);
+        return entity;
+    }
+
+    /**
+     * @param id
+     * @return
+     */
+    @Override
+    public Optional<ArchivedEvent> findById(Integer id) {
+        call("findById");
+        return find(id);
+    }
+
+    /**
+     * @param id
+     * @return
+     */
+    @Override
+    public boolean existsById(Integer id) {
+        call("existsById");
+        return find(id).isPresent();
+    }
+
+    /**
+     * @return
+     */
+    @Override
+    public long count() {
+        return archived.size();
+    }
+
+    /**
+     * @param id
+     */
+    @Override
+    public void deleteById(Integer id) {
+        call("deleteById");
+        archived.remove(id);
+    }
+
+    /**
+     * @param entity
+     */
+    @Override
+    public void delete(ArchivedEvent entity) {
+        call("delete");
+        archived.remove(entity.getInviteCode());
+    }
+
+    /**
+     * @param ids
+     */
+    @Override
+    public void deleteAllById(Iterable<? extends Integer> ids) {
+
+    }
+
+    /**
+     * @param entities
+     */
+    @Override
+    public void deleteAll(Iterable<? extends ArchivedEvent> entities) {
+
+    }
+
+    /**
+     *
+     */
+    @Override
+    public void deleteAll() {
+
+    }
+
+    /**
+     * @param example
+     * @param <S>
+     * @return
+     */
+    @Override
+    public <S extends ArchivedEvent> Optional<S> findOne(Example<S> example) {
+        return null;
+    }
+
+    /**
+     * @param example
+     * @param pageable
+     * @param <S>
+     * @return
+     */
+    @Override
+    public <S extends ArchivedEvent> Page<S> findAll(Example<S> example, Pageable pageable) {
+        return null;
+    }
+
+    /**
+     * @param example
+     * @param <S>
+     * @return
+     */
+    @Override
+    public <S extends ArchivedEvent> long count(Example<S> example) {
+        return 0;
+    }
+
+    /**
+     * @param example
+     * @param <S>
+     * @return
+     */
+    @Override
+    public <S extends ArchivedEvent> boolean exists(Example<S> example) {
+        return false;
+    }
+
+    /**
+     * @param example
+     * @param queryFunction
+     * @param <S>
+     * @param <R>
+     * @return
+     */
+    @Override
+    public <S extends ArchivedEvent, R> R findBy(Example<S> example,
+                                       Function<FetchableFluentQuery<S>, R> queryFunction) {
+        return null;
+    }
+}
\ No newline at end of file
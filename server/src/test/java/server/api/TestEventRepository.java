@@ -16,6 +16,10 @@
 package server.api;
 
 import commons.Event;
+import commons.EventListing;
+import commons.EventSort;
+import commons.EventSummary;
+import commons.Expense;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -24,6 +28,9 @@ import org.springframework.data.repository.query.FluentQuery.FetchableFluentQuer
 import server.database.EventRepository;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
@@ -79,7 +86,12 @@ public class TestEventRepository implements EventRepository {
      */
     @Override
     public <S extends Event> List<S> saveAll(Iterable<S> entities) {
-        return null;
+        call("saveAll");
+        List<S> saved = new ArrayList<>();
+        for (S entity : entities) {
+            saved.add(save(entity));
+        }
+        return saved;
     }
 
     /**
@@ -371,4 +383,142 @@ public class TestEventRepository implements EventRepository {
                                          Function<FetchableFluentQuery<S>, R> queryFunction) {
         return null;
     }
-}
\ No newline at end of file
+
+    /**
+     * Finds the last activity of an event
+     * @param inviteCode the invite code of the event
+     * @return the last activity, or empty if the event doesn't exist
+     */
+    @Override
+    public Optional<Date> findLastActivity(int inviteCode) {
+        call("findLastActivity");
+        return find((long) inviteCode).map(Event::getLastActivity);
+    }
+
+    /**
+     * Summarizes the events with the given invite codes
+     * @param inviteCodes the invite codes of the events
+     * @return the summaries of the events that exist
+     */
+    @Override
+    public List<EventSummary> findSummaries(Collection<Integer> inviteCodes) {
+        call("findSummaries");
+        return events.stream()
+                .filter(e -> inviteCodes.contains(e.getInviteCode()))
+                .map(e -> new EventSummary(e.getInviteCode(), e.getTitle(),
+                        e.getLastActivity(), e.getParticipantsList().size(),
+                        e.getExpensesList().stream().mapToDouble(Expense::getAmount).sum()))
+                .toList();
+    }
+
+    /**
+     * Finds the events with the given stored content hash
+     * @param contentHash the content hash of the events
+     * @return the events with that content hash
+     */
+    @Override
+    public List<Event> findByContentHash(String contentHash) {
+        call("findByContentHash");
+        return events.stream()
+                .filter(e -> contentHash.equals(e.getContentHash()))
+                .toList();
+    }
+
+    /**
+     * Finds the events without a stored content hash
+     * @return the events without a content hash
+     */
+    @Override
+    public List<Event> findByContentHashIsNull() {
+        call("findByContentHashIsNull");
+        return events.stream()
+                .filter(e -> e.getContentHash() == null)
+                .toList();
+    }
+
+    /**
+     * Finds the events with any of the given stored content hashes
+     * @param contentHashes the content hashes
+     * @return the events with one of those content hashes
+     */
+    @Override
+    public List<Event> findByContentHashIn(Collection<String> contentHashes) {
+        call("findByContentHashIn");
+        return events.stream()
+                .filter(e -> e.getContentHash() != null
+                        && contentHashes.contains(e.getContentHash()))
+                .toList();
+    }
+
+    /**
+     * Finds a page of events after an invite code, in order of invite code
+     * @param inviteCode the invite code to start after
+     * @param pageable the size of the page
+     * @return the events of the page
+     */
+    @Override
+    public List<Event> findByInviteCodeGreaterThanOrderByInviteCodeAsc(int inviteCode,
+                                                                     Pageable pageable) {
+        call("findByInviteCodeGreaterThanOrderByInviteCodeAsc");
+        return events.stream()
+                .filter(e -> e.getInviteCode() > inviteCode)
+                .sorted(Comparator.comparingInt(Event::getInviteCode))
+                .limit(pageable.getPageSize())
+                .toList();
+    }
+
+    /**
+     * Lists the events in the given order, after the given position
+     * @param sort the column to sort on
+     * @param ascending whether to sort ascending
+     * @param search the text the titles should contain, or null for all events
+     * @param afterKey the sort key of the last listed event, or null to start at the top
+     * @param afterCode the invite code of the last listed event
+     * @param limit the number of events to list
+     * @return the listings of the events
+     */
+    @Override
+    public List<EventListing> findListing(EventSort sort, boolean ascending, String search,
+                                          Comparable<?> afterKey, int afterCode, int limit) {
+        call("findListing");
+        Comparator<EventListing> order = sort.comparator(ascending);
+        EventListing after = null;
+        if (afterKey != null) {
+            after = new EventListing(afterCode, null, null, null, 0, 0);
+            switch (sort) {
+                case TITLE -> after.setTitle((String) afterKey);
+                case CREATED -> after.setCreationDate((Date) afterKey);
+                case ACTIVITY -> after.setLastActivity((Date) afterKey);
+                default -> after.setInviteCode((Integer) afterKey);
+            }
+        }
+        EventListing start = after;
+        return events.stream()
+                .filter(e -> search == null
+                        || e.getTitle().toLowerCase().contains(search.toLowerCase()))
+                .map(e -> new EventListing(e.getInviteCode(), e.getTitle(),
+                        e.getCreationDate(), e.getLastActivity(),
+                        e.getParticipantsList().size(), e.getExpensesList().size()))
+                .filter(e -> start == null || order.compare(e, start) > 0)
+                .sorted(order)
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Finds the events without activity since a date, least recently active first
+     * @param before the date
+     * @param pageable the size of the page
+     * @return the invite codes of the events
+     */
+    @Override
+    public List<Integer> findInactiveInviteCodes(Date before, Pageable pageable) {
+        call("findInactiveInviteCodes");
+        return events.stream()
+                .filter(e -> e.getLastActivity() != null && e.getLastActivity().before(before))
+                .sorted(Comparator.comparing(Event::getLastActivity))
+                .map(Event::getInviteCode)
+                .limit(pageable.getPageSize())
+                .toList();
+    }
+}
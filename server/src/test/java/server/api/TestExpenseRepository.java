@@ -1,15 +1,24 @@
 package server.api;
 
 import commons.Expense;
+import commons.ExpenseFilter;
+import commons.ExpensePage;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.query.FluentQuery;
+import server.database.ExpenseAggregate;
 import server.database.ExpenseRepository;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -341,4 +350,104 @@ public class TestExpenseRepository implements ExpenseRepository {
     public Page<Expense> findAll(Pageable pageable) {
         return null;
     }
+
+    /**
+     *
+     * @param inviteCode
+     * @param payee
+     * @param participant
+     * @param tag
+     * @param from
+     * @param to
+     * @param beforeDate
+     * @param beforeId
+     * @param pageable
+     * @return
+     */
+    @Override
+    public List<Expense> findPage(int inviteCode, Long payee, Long participant, Long tag,
+                                  Date from, Date to, Date beforeDate, long beforeId,
+                                  Pageable pageable) {
+        call("findPage");
+        ExpenseFilter filter = new ExpenseFilter(payee, participant, tag, from, to);
+        return expenses.stream()
+                .filter(x -> x.getDate() != null && filter.matches(x))
+                .filter(x -> x.getDate().before(beforeDate)
+                        || x.getDate().equals(beforeDate) && x.getId() < beforeId)
+                .sorted(ExpensePage.ORDER)
+                .limit(pageable.getPageSize())
+                .toList();
+    }
+
+    /**
+     *
+     * @param inviteCode
+     * @param payee
+     * @return
+     */
+    @Override
+    public List<Expense> findInvolvingPayee(int inviteCode, long payee) {
+        call("findInvolvingPayee");
+        return expenses.stream()
+                .filter(x -> x.getPayee() != null && x.getPayee().getId() == payee)
+                .toList();
+    }
+
+    /**
+     *
+     * @param inviteCode
+     * @param participant
+     * @return
+     */
+    @Override
+    public List<Expense> findInvolvingParticipant(int inviteCode, long participant) {
+        call("findInvolvingParticipant");
+        return expenses.stream()
+                .filter(x -> x.getSplit() != null && x.getSplit().stream()
+                        .anyMatch(pp -> pp.getParticipant().getId() == participant))
+                .toList();
+    }
+
+    /**
+     *
+     * @param inviteCode
+     * @param tagName
+     * @return
+     */
+    @Override
+    public List<Expense> findWithTag(int inviteCode, String tagName) {
+        call("findWithTag");
+        return expenses.stream()
+                .filter(x -> x.getTag() != null && x.getTag().getName().equals(tagName))
+                .toList();
+    }
+
+    /**
+     * Sums the amounts of the expenses between two dates per tag, payee, currency and day,
+     * like the query of the database
+     * @param inviteCode the invite code of the event, which is ignored
+     * @param from the earliest date of the expenses
+     * @param to the latest date of the expenses
+     * @return the sums of the groups of expenses
+     */
+    @Override
+    public List<ExpenseAggregate> aggregate(int inviteCode, Date from, Date to) {
+        call("aggregate");
+        Map<List<Object>, ExpenseAggregate> groups = new LinkedHashMap<>();
+        for (Expense x : expenses) {
+            if (x.getDate() == null || x.getDate().before(from) || x.getDate().after(to)
+                    || "transfer".equals(x.getDescription())
+                    || "settlement".equals(x.getDescription())) {
+                continue;
+            }
+            Long tag = x.getTag() == null ? null : x.getTag().getId();
+            Long payee = x.getPayee() == null ? null : x.getPayee().getId();
+            LocalDate day = LocalDate.ofInstant(x.getDate().toInstant(), ZoneId.systemDefault());
+            groups.merge(Arrays.asList(tag, payee, x.getCurrency(), day),
+                    new ExpenseAggregate(tag, payee, x.getCurrency(), day, x.getAmount()),
+                    (a, b) -> new ExpenseAggregate(tag, payee, a.currency(), a.date(),
+                            a.amount() + b.amount()));
+        }
+        return new ArrayList<>(groups.values());
+    }
 }
@@ -0,0 +1,251 @@
+package server.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import commons.ContentHash;
+import commons.Event;
+import commons.EventChange;
+import commons.Expense;
+import commons.Participant;
+import commons.ParticipantPayment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.support.TransactionOperations;
+import server.database.EventRepository;
+import server.database.ExpenseRepository;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Undoes and redoes changes to an event through the REST endpoints, and checks the tables
+ * and the journal afterwards
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:undo;DB_CLOSE_DELAY=-1",
+    "archive.inactive-days=0"
+})
+@AutoConfigureMockMvc
+public class UndoServiceTest {
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private ObjectMapper mapper;
+    @Autowired
+    private JournalService journal;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private ExpenseRepository expenseRepository;
+    @Autowired
+    private TransactionOperations transactions;
+    @Autowired
+    private ArchiveService archiveService;
+
+    private String base;
+    private int inviteCode;
+    private Expense dinner;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        Date now = new Date();
+        inviteCode = eventRepository.save(new Event("Trip", now, now)).getInviteCode();
+        base = "/api/events/" + inviteCode;
+        Participant joe = send(post(base + "/participants"),
+                new Participant("joe", null, null, null), Participant.class);
+        Participant ann = send(post(base + "/participants"),
+                new Participant("ann", null, null, null), Participant.class);
+        List<ParticipantPayment> split = new ArrayList<>(List.of(
+                new ParticipantPayment(joe, 10), new ParticipantPayment(ann, 10)));
+        dinner = send(post(base + "/expenses"),
+                new Expense(20, "EUR", "dinner", "", now, split, null, joe), Expense.class);
+        send(put(base + "/expenses/" + dinner.getId() + "/amount"), 30.0, null);
+    }
+
+    private <T> T send(MockHttpServletRequestBuilder request, Object body, Class<T> type)
+            throws Exception {
+        String response = mvc.perform(request.contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(body)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return type == null ? null : mapper.readValue(response, type);
+    }
+
+    private EventChange revert(String action) throws Exception {
+        String response = mvc.perform(post(base + "/" + action))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return mapper.readValue(response, EventChange.class);
+    }
+
+    private List<Expense> expenses() {
+        return transactions.execute(status -> eventRepository.findById((long) inviteCode)
+                .orElseThrow().getExpensesList().stream()
+                .peek(e -> e.getSplit().size())
+                .toList());
+    }
+
+    private boolean replayMatchesTables() {
+        return Boolean.TRUE.equals(transactions.execute(status -> {
+            Event stored = eventRepository.findById((long) inviteCode).orElseThrow();
+            Event replayed = journal.replay(inviteCode).orElseThrow();
+            replayed.setLastActivity(stored.getLastActivity());
+            return ContentHash.of(replayed).equals(ContentHash.of(stored));
+        }));
+    }
+
+    @Test
+    public void undoAndRedoAnUpdate() throws Exception {
+        EventChange undo = revert("undo");
+        assertEquals("undo", undo.getAction());
+        assertEquals("expense", undo.getType());
+        assertEquals("update", undo.getOperation());
+        assertEquals(4L, (long) undo.getReverts());
+        assertEquals(20, expenses().getFirst().getAmount());
+
+        EventChange redo = revert("redo");
+        assertEquals("redo", redo.getAction());
+        assertEquals(undo.getSequenceNumber(), (long) redo.getReverts());
+        assertEquals(30, expenses().getFirst().getAmount());
+        assertTrue(replayMatchesTables());
+    }
+
+    @Test
+    public void undoesInOrderUntilNothingIsLeft() throws Exception {
+        revert("undo");
+        assertEquals("delete", revert("undo").getOperation());
+        assertTrue(expenses().isEmpty());
+        revert("undo");
+        revert("undo");
+        mvc.perform(post(base + "/undo")).andExpect(status().isNotFound());
+        assertTrue(replayMatchesTables());
+    }
+
+    @Test
+    public void aNewChangeCannotBeRedone() throws Exception {
+        revert("undo");
+        send(put(base + "/expenses/" + dinner.getId() + "/title"), "lunch", null);
+        mvc.perform(post(base + "/redo")).andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void undoingADeleteAddsTheExpenseAgain() throws Exception {
+        mvc.perform(delete(base + "/expenses/" + dinner.getId())).andExpect(status().isOk());
+        EventChange undo = revert("undo");
+        assertEquals("add", undo.getOperation());
+        assertNotEquals(dinner.getId(), undo.getEntityId());
+        assertEquals(List.of(30.0), expenses().stream().map(Expense::getAmount).toList());
+        assertEquals(2, expenses().getFirst().getSplit().size());
+
+        EventChange second = revert("undo");
+        assertEquals(undo.getEntityId(), second.getEntityId());
+        assertEquals(20, expenses().getFirst().getAmount());
+        assertTrue(replayMatchesTables());
+    }
+
+    private EventChange edit(String title) throws Exception {
+        List<ParticipantPayment> split = new ArrayList<>(dinner.getSplit().stream()
+                .map(p -> new ParticipantPayment(p.getParticipant(), 15)).toList());
+        return send(put(base + "/expenses/" + dinner.getId()), new Expense(30, "EUR", title,
+                "", dinner.getDate(), split, null, dinner.getPayee()), EventChange.class);
+    }
+
+    @Test
+    public void undoesTheNamedEntryOnly() throws Exception {
+        EventChange edit = edit("lunch");
+        send(post(base + "/participants"), new Participant("bob", null, null, null),
+                Participant.class);
+        EventChange undo = mapper.readValue(mvc.perform(post(base + "/undo")
+                        .param("entry", String.valueOf(edit.getSequenceNumber())))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(), EventChange.class);
+        assertEquals(edit.getSequenceNumber(), (long) undo.getReverts());
+        assertEquals("dinner", expenses().getFirst().getTitle());
+        assertEquals(3, transactions.execute(status -> eventRepository
+                .findById((long) inviteCode).orElseThrow().getParticipantsList().size()));
+        assertTrue(replayMatchesTables());
+    }
+
+    @Test
+    public void doesNotUndoANamedEntryThatWasChangedSince() throws Exception {
+        EventChange edit = edit("lunch");
+        send(put(base + "/expenses/" + dinner.getId() + "/amount"), 40.0, null);
+        mvc.perform(post(base + "/undo").param("entry", String.valueOf(edit.getSequenceNumber())))
+                .andExpect(status().isConflict());
+        assertEquals("lunch", expenses().getFirst().getTitle());
+    }
+
+    @Test
+    public void doesNotUndoANamedEntryTwice() throws Exception {
+        EventChange edit = edit("lunch");
+        String entry = String.valueOf(edit.getSequenceNumber());
+        mvc.perform(post(base + "/undo").param("entry", entry)).andExpect(status().isOk());
+        mvc.perform(post(base + "/undo").param("entry", entry))
+                .andExpect(status().isNotFound());
+        assertEquals(30, expenses().getFirst().getAmount());
+    }
+
+    @Test
+    public void doesNotDeleteAParticipantThatIsStillInvolved() throws Exception {
+        Participant bob = send(post(base + "/participants"),
+                new Participant("bob", null, null, null), Participant.class);
+        transactions.executeWithoutResult(status -> {
+            Event event = eventRepository.findById((long) inviteCode).orElseThrow();
+            Participant payee = event.getParticipantsList().stream()
+                    .filter(p -> p.getId() == bob.getId()).findFirst().orElseThrow();
+            event.getExpensesList().add(expenseRepository.save(new Expense(5, "EUR", "taxi",
+                    "", new Date(), new ArrayList<>(), null, payee)));
+            eventRepository.save(event);
+        });
+        mvc.perform(post(base + "/undo")).andExpect(status().isConflict());
+        assertEquals(2, expenses().size());
+    }
+
+    @Test
+    public void doesNotAddAnUpdatedExpenseThatWasDeletedSince() throws Exception {
+        transactions.executeWithoutResult(status -> {
+            Event event = eventRepository.findById((long) inviteCode).orElseThrow();
+            Expense expense = event.getExpensesList().getFirst();
+            event.getExpensesList().remove(expense);
+            expenseRepository.delete(expense);
+        });
+        mvc.perform(post(base + "/undo")).andExpect(status().isConflict());
+        assertTrue(expenses().isEmpty());
+    }
+
+    @Test
+    public void archivingAndRestoringStartANewUndoHistory() throws Exception {
+        Date later = new Date(System.currentTimeMillis() + 60_000);
+        assertTrue(archiveService.archive(inviteCode, later));
+        mvc.perform(post(base + "/undo")).andExpect(status().isNotFound());
+        assertTrue(archiveService.rehydrate(inviteCode));
+        mvc.perform(post(base + "/undo")).andExpect(status().isNotFound());
+        assertTrue(replayMatchesTables());
+
+        Expense restored = expenses().getFirst();
+        send(put(base + "/expenses/" + restored.getId() + "/amount"), 40.0, null);
+        assertEquals("update", revert("undo").getOperation());
+        assertEquals(30, expenses().getFirst().getAmount());
+        assertTrue(replayMatchesTables());
+    }
+
+    @Test
+    public void unknownEvents() throws Exception {
+        mvc.perform(post("/api/events/" + Integer.MAX_VALUE + "/undo"))
+                .andExpect(status().isNotFound());
+        mvc.perform(post("/api/events/-1/redo")).andExpect(status().isBadRequest());
+    }
+}
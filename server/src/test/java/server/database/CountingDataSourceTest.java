@@ -0,0 +1,92 @@
+package server.database;
+
+import org.h2.jdbc.JdbcConnection;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CountingDataSourceTest {
+
+    private DataSource dataSource;
+    private Connection connection;
+
+    @BeforeEach
+    public void setup() throws SQLException {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:counting");
+        h2.setUser("sa");
+        dataSource = (DataSource) new CountingDataSource()
+                .postProcessAfterInitialization(h2, "dataSource");
+        connection = dataSource.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE item (id INT PRIMARY KEY)");
+            statement.execute("INSERT INTO item VALUES (1), (2), (3)");
+        }
+    }
+
+    @AfterEach
+    public void shutdown() throws SQLException {
+        QueryStats.stop();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN");
+        }
+    }
+
+    @Test
+    public void countStatementsAndRows() throws SQLException {
+        QueryStats stats = QueryStats.start();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT id FROM item WHERE id > ?")) {
+            statement.setInt(1, 1);
+            try (ResultSet result = statement.executeQuery()) {
+                while (result.next()) {
+                    result.getInt(1);
+                }
+            }
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("UPDATE item SET id = id + 10 WHERE id = 1");
+        }
+        assertEquals(2, stats.getStatements());
+        assertEquals(2, stats.getRows());
+        assertEquals(0, stats.getEntities());
+    }
+
+    @Test
+    public void onlyCountWhileStarted() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeQuery("SELECT id FROM item").close();
+        }
+        QueryStats stats = QueryStats.start();
+        assertNull(QueryStats.start());
+        QueryStats.stop();
+        try (Statement statement = connection.createStatement()) {
+            statement.executeQuery("SELECT id FROM item").close();
+        }
+        assertEquals(0, stats.getStatements());
+    }
+
+    @Test
+    public void unwrapConnection() throws SQLException {
+        assertTrue(connection.isWrapperFor(JdbcConnection.class));
+        assertInstanceOf(JdbcConnection.class, connection.unwrap(JdbcConnection.class));
+    }
+
+    @Test
+    public void wrapOnlyDataSources() {
+        Object other = new Object();
+        assertSame(other, new CountingDataSource().postProcessAfterInitialization(other, "o"));
+        assertSame(dataSource, new CountingDataSource()
+                .postProcessAfterInitialization(dataSource, "dataSource"));
+    }
+}
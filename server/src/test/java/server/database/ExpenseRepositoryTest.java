@@ -0,0 +1,55 @@
+package server.database;
+
+import commons.Event;
+import commons.Expense;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:aggregate;DB_CLOSE_DELAY=-1",
+    "archive.inactive-days=0"
+})
+public class ExpenseRepositoryTest {
+
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    private static Date at(LocalDate day, int hour) {
+        return Date.from(day.atTime(hour, 0).atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    @Test
+    public void aggregateGroupsByDay() {
+        LocalDate day = LocalDate.of(2024, 3, 1);
+        Event event = new Event("Trip", new Date(), new Date());
+        event.addExpense(new Expense(10, "EUR", "lunch", "", at(day, 9),
+                new ArrayList<>(), null, null));
+        event.addExpense(new Expense(20, "EUR", "dinner", "", at(day, 20),
+                new ArrayList<>(), null, null));
+        event.addExpense(new Expense(5, "EUR", "coffee", "", at(day.plusDays(1), 9),
+                new ArrayList<>(), null, null));
+        int inviteCode = eventRepository.save(event).getInviteCode();
+
+        List<ExpenseAggregate> aggregates = expenseRepository.aggregate(inviteCode,
+                at(day, 0), at(day.plusDays(2), 0));
+
+        assertEquals(2, aggregates.size());
+        ExpenseAggregate first = aggregates.stream()
+                .filter(a -> a.date().equals(at(day, 0))).findFirst().orElseThrow();
+        assertEquals(30, first.amount());
+        ExpenseAggregate second = aggregates.stream()
+                .filter(a -> a.date().equals(at(day.plusDays(1), 0))).findFirst().orElseThrow();
+        assertEquals(5, second.amount());
+    }
+}
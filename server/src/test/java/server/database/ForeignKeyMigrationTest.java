@@ -0,0 +1,125 @@
+package server.database;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ForeignKeyMigrationTest {
+
+    private Connection keepOpen;
+    private JdbcTemplate jdbc;
+    private ForeignKeyMigration migration;
+
+    @BeforeEach
+    public void setup() throws SQLException {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:migration");
+        dataSource.setUser("sa");
+        keepOpen = dataSource.getConnection();
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE event (invite_code INT PRIMARY KEY)");
+        jdbc.execute("CREATE TABLE expense (id BIGINT PRIMARY KEY, event_id INT)");
+        jdbc.execute("CREATE TABLE participant (id BIGINT PRIMARY KEY, event_id INT)");
+        jdbc.execute("CREATE TABLE tag (id BIGINT PRIMARY KEY, event_id INT)");
+        jdbc.execute("CREATE TABLE participant_payment (id BIGINT PRIMARY KEY, "
+                + "expense_id BIGINT)");
+        migration = new ForeignKeyMigration(jdbc, TransactionOperations.withoutTransaction());
+    }
+
+    @AfterEach
+    public void shutdown() throws SQLException {
+        jdbc.execute("SHUTDOWN");
+        keepOpen.close();
+    }
+
+    private void createJoinTables() {
+        jdbc.execute("CREATE TABLE event_expenses_list (event_invite_code INT, "
+                + "expenses_list_id BIGINT)");
+        jdbc.execute("CREATE TABLE event_participants_list (event_invite_code INT, "
+                + "participants_list_id BIGINT)");
+        jdbc.execute("CREATE TABLE event_tags_list (event_invite_code INT, tags_list_id BIGINT)");
+        jdbc.execute("CREATE TABLE expense_split (expense_id BIGINT, split_id BIGINT)");
+    }
+
+    private List<String> indexes() {
+        return jdbc.queryForList("SELECT INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES",
+                String.class);
+    }
+
+    @Test
+    public void migrateMovesJoinTables() {
+        createJoinTables();
+        jdbc.execute("INSERT INTO event VALUES (1), (2)");
+        jdbc.execute("INSERT INTO expense (id) VALUES (10), (11)");
+        jdbc.execute("INSERT INTO participant (id) VALUES (20)");
+        jdbc.execute("INSERT INTO tag (id) VALUES (30)");
+        jdbc.execute("INSERT INTO participant_payment (id) VALUES (40), (41)");
+        jdbc.execute("INSERT INTO event_expenses_list VALUES (1, 10), (2, 11)");
+        jdbc.execute("INSERT INTO event_participants_list VALUES (2, 20)");
+        jdbc.execute("INSERT INTO event_tags_list VALUES (1, 30)");
+        jdbc.execute("INSERT INTO expense_split VALUES (11, 40), (10, 41)");
+
+        assertEquals(4, migration.migrate());
+
+        assertEquals(1, jdbc.queryForObject("SELECT event_id FROM expense WHERE id = 10",
+                Integer.class));
+        assertEquals(2, jdbc.queryForObject("SELECT event_id FROM expense WHERE id = 11",
+                Integer.class));
+        assertEquals(2, jdbc.queryForObject("SELECT event_id FROM participant", Integer.class));
+        assertEquals(1, jdbc.queryForObject("SELECT event_id FROM tag", Integer.class));
+        assertEquals(11, jdbc.queryForObject("SELECT expense_id FROM participant_payment "
+                + "WHERE id = 40", Integer.class));
+        assertEquals(10, jdbc.queryForObject("SELECT expense_id FROM participant_payment "
+                + "WHERE id = 41", Integer.class));
+        assertEquals(0, jdbc.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES "
+                + "WHERE TABLE_NAME LIKE '%_LIST' OR TABLE_NAME = 'EXPENSE_SPLIT'",
+                Integer.class));
+    }
+
+    @Test
+    public void migrateKeepsForeignKeys() {
+        createJoinTables();
+        jdbc.execute("INSERT INTO expense VALUES (10, 3)");
+
+        migration.migrate();
+
+        assertEquals(3, jdbc.queryForObject("SELECT event_id FROM expense", Integer.class));
+    }
+
+    @Test
+    public void migrateAddsMissingColumn() {
+        jdbc.execute("ALTER TABLE expense DROP COLUMN event_id");
+        createJoinTables();
+        jdbc.execute("INSERT INTO expense (id) VALUES (10)");
+        jdbc.execute("INSERT INTO event_expenses_list VALUES (1, 10)");
+
+        migration.migrate();
+
+        assertEquals(1, jdbc.queryForObject("SELECT event_id FROM expense", Integer.class));
+    }
+
+    @Test
+    public void migrateNewDatabase() {
+        assertEquals(0, migration.migrate());
+        assertEquals(0, migration.migrate());
+    }
+
+    @Test
+    public void migrateCreatesIndexes() {
+        migration.migrate();
+        List<String> indexes = indexes();
+        assertTrue(indexes.contains("IDX_EXPENSE_EVENT"));
+        assertTrue(indexes.contains("IDX_PARTICIPANT_EVENT"));
+        assertTrue(indexes.contains("IDX_TAG_EVENT"));
+        assertTrue(indexes.contains("IDX_PARTICIPANT_PAYMENT_EXPENSE"));
+    }
+}
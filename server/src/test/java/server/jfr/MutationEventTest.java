@@ -0,0 +1,69 @@
+package server.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.ResponseEntity;
+import server.database.QueryStats;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MutationEventTest {
+
+    @TempDir
+    Path folder;
+
+    @Test
+    public void recordMutation() throws IOException {
+        List<RecordedEvent> events = record("splitty.Mutation",
+                () -> MutationEvent.record("expense", "add", 42,
+                        () -> ResponseEntity.ok("added")));
+        assertEquals(1, events.size());
+        RecordedEvent event = events.getFirst();
+        assertEquals("expense", event.getString("entity"));
+        assertEquals("add", event.getString("action"));
+        assertEquals(42, event.getLong("inviteCode"));
+        assertEquals(200, event.getInt("status"));
+        assertEquals(0, event.getInt("statements"));
+    }
+
+    @Test
+    public void recordBalance() throws IOException {
+        List<RecordedEvent> events = record("splitty.Balance",
+                () -> BalanceEvent.record("share", 7, () -> ResponseEntity.notFound().build()));
+        assertEquals(1, events.size());
+        assertEquals("share", events.getFirst().getString("kind"));
+        assertEquals(404, events.getFirst().getInt("status"));
+    }
+
+    @Test
+    public void responseIsPassedOn() {
+        QueryStats.start();
+        try {
+            assertEquals(ResponseEntity.ok(1), MutationEvent.record("tag", "delete", 1,
+                    () -> ResponseEntity.ok(1)));
+        } finally {
+            QueryStats.stop();
+        }
+    }
+
+    private List<RecordedEvent> record(String name, Runnable work) throws IOException {
+        Path file = folder.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(name);
+            recording.start();
+            work.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals(name))
+                .toList();
+    }
+}